@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.benchmarks.jmh.cache;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 import org.apache.ignite.IgniteDataStreamer;
 import org.apache.ignite.cache.CacheAtomicityMode;
 import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.cache.affinity.Affinity;
 import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
 import org.apache.ignite.internal.benchmarks.model.IntValue;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -31,6 +33,9 @@ import org.openjdk.jmh.profile.GCProfiler;
  */
 @SuppressWarnings("unchecked")
 public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
+    /** Keys the local node is the primary for. */
+    private int[] primaryKeys;
+
     /** {@inheritDoc} */
     @Override public void setup() throws Exception {
         super.setup();
@@ -43,6 +48,10 @@ public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
         dataLdr.close();
 
         System.out.println("Cache populated.");
+
+        Affinity<Integer> aff = node.affinity(cache.getName());
+
+        primaryKeys = IntStream.range(0, CNT).filter(k -> aff.isPrimary(node.cluster().localNode(), k)).toArray();
     }
 
     /**
@@ -69,6 +78,19 @@ public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
         return cache.get(key);
     }
 
+    /**
+     * Test GET operation of a key the local node is the primary for, the allocation rate is reported by
+     * {@link GCProfiler}.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object getLocalPrimary() throws Exception {
+        int key = primaryKeys[ThreadLocalRandom.current().nextInt(primaryKeys.length)];
+
+        return cache.get(key);
+    }
+
     /**
      * Run benchmarks.
      *
@@ -80,6 +102,10 @@ public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
         run("get", CacheAtomicityMode.ATOMIC);
         run("put", CacheAtomicityMode.TRANSACTIONAL);
         run("get", CacheAtomicityMode.TRANSACTIONAL);
+
+        // Only the data node has keys to read locally.
+        run("getLocalPrimary", 4, false, CacheAtomicityMode.ATOMIC, CacheWriteSynchronizationMode.PRIMARY_SYNC);
+        run("getLocalPrimary", 4, false, CacheAtomicityMode.TRANSACTIONAL, CacheWriteSynchronizationMode.PRIMARY_SYNC);
     }
 
     /**
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.benchmarks.jmh.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.benchmarks.model.IntValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.profile.GCProfiler;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_ENTRY_LOCK_STRIPES;
+
+/**
+ * Footprint of the on-heap cache entries with own and striped locks. Prints the heap bytes per active entry
+ * after the cache is populated, the allocation rate per get and put is reported by the GC profiler.
+ */
+@SuppressWarnings("unchecked")
+public class JmhCacheEntryFootprintBenchmark extends JmhCacheAbstractBenchmark {
+    /** Number of entry lock stripes, {@code 0} for a lock per entry. */
+    @Param({"0", "1024"})
+    private int lockStripes;
+
+    /** {@inheritDoc} */
+    @Override public void setup() throws Exception {
+        System.setProperty(IGNITE_CACHE_ENTRY_LOCK_STRIPES, String.valueOf(lockStripes));
+
+        super.setup();
+
+        long before = usedHeap();
+
+        try (IgniteDataStreamer<Integer, IntValue> dataLdr = node.dataStreamer(cache.getName())) {
+            for (int i = 0; i < CNT; i++)
+                dataLdr.addData(i, new IntValue(i));
+        }
+
+        long after = usedHeap();
+
+        System.out.println("Cache populated [lockStripes=" + lockStripes + ", entries=" + CNT +
+            ", bytesPerEntry=" + (after - before) / CNT + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override public void tearDown() throws Exception {
+        super.tearDown();
+
+        System.clearProperty(IGNITE_CACHE_ENTRY_LOCK_STRIPES);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheConfiguration cacheConfiguration() {
+        return super.cacheConfiguration().setOnheapCacheEnabled(true);
+    }
+
+    /**
+     * Test PUT operation.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public void put() throws Exception {
+        int key = ThreadLocalRandom.current().nextInt(CNT);
+
+        cache.put(key, new IntValue(key));
+    }
+
+    /**
+     * Test GET operation.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object get() throws Exception {
+        int key = ThreadLocalRandom.current().nextInt(CNT);
+
+        return cache.get(key);
+    }
+
+    /**
+     * @return Used heap size after garbage collection.
+     */
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++)
+            System.gc();
+
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .forks(1)
+            .threads(4)
+            .warmupIterations(10)
+            .measurementIterations(20)
+            .benchmarks(JmhCacheEntryFootprintBenchmark.class.getSimpleName())
+            .profilers(GCProfiler.class)
+            .jvmArguments("-Xms4g", "-Xmx4g")
+            .run();
+    }
+}
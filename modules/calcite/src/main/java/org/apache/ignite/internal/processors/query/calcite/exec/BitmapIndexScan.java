@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.bitmap.BitmapIndex;
+import org.apache.ignite.internal.cache.query.index.bitmap.RoaringBitmap;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKeyFactory;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeCondition;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.lang.GridIteratorAdapter;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scan on bitmap indexes. Row IDs found by every index for all searched keys are united, results of different indexes
+ * are intersected, then rows are read by row IDs.
+ */
+public class BitmapIndexScan<Row> extends AbstractCacheColumnsScan<CacheDataRow, Row> {
+    /** Bitmap indexes of the table. */
+    private final List<BitmapIndex> idxs;
+
+    /** Table columns of every index. */
+    private final List<ImmutableIntList> idxCols;
+
+    /** Index scan bounds. */
+    private final RangeIterable<Row> ranges;
+
+    /** Types of key fields stored in index. */
+    private final Type[] fieldsStoreTypes;
+
+    /**
+     * @param ectx Execution context.
+     * @param desc Table descriptor.
+     * @param idxs Bitmap indexes of the table.
+     * @param idxCols Table columns of every index.
+     * @param parts Partitions.
+     * @param ranges Index scan bounds.
+     * @param requiredColumns Required columns.
+     */
+    public BitmapIndexScan(
+        ExecutionContext<Row> ectx,
+        CacheTableDescriptor desc,
+        List<BitmapIndex> idxs,
+        List<ImmutableIntList> idxCols,
+        int[] parts,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        super(ectx, desc, parts, requiredColumns);
+
+        this.idxs = idxs;
+        this.idxCols = idxCols;
+        this.ranges = ranges;
+
+        RelDataType srcRowType = desc.rowType(ectx.getTypeFactory(), null);
+        IgniteTypeFactory typeFactory = ectx.getTypeFactory();
+        fieldsStoreTypes = new Type[srcRowType.getFieldCount()];
+
+        for (int i = 0; i < srcRowType.getFieldCount(); i++)
+            fieldsStoreTypes[i] = typeFactory.getResultClass(srcRowType.getFieldList().get(i).getType());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Iterator<Row> createIterator() {
+        return F.iterator(createTableRowIterator(), row -> enrichRow(row, factory.create(), fieldColMapping), true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Iterator<CacheDataRow> createTableRowIterator() {
+        try {
+            int[] parts0 = parts.stream().toArray();
+
+            RoaringBitmap rowIds = null;
+            BitmapIndex scanIdx = null;
+
+            for (int i = 0; i < idxs.size(); i++) {
+                RoaringBitmap idxRowIds = find(idxs.get(i), idxCols.get(i), parts0);
+
+                if (idxRowIds == null)
+                    continue;
+
+                rowIds = rowIds == null ? idxRowIds : rowIds.and(idxRowIds);
+                scanIdx = idxs.get(i);
+            }
+
+            if (rowIds == null || rowIds.isEmpty())
+                return F.emptyIterator();
+
+            return new IteratorImpl(scanIdx.rows(rowIds, null));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public Row enrichRow(CacheDataRow cacheDataRow, Row row, int[] fieldColMapping) {
+        try {
+            return desc.toRow(ectx, cacheDataRow, row, fieldColMapping);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * @return Row IDs of rows matching any of the searched keys or {@code null} if bounds do not restrict all index
+     * columns.
+     */
+    private @Nullable RoaringBitmap find(BitmapIndex idx, ImmutableIntList cols, int[] parts)
+        throws IgniteCheckedException {
+        RowHandler<Row> rowHnd = ectx.rowHandler();
+
+        List<IndexKeyDefinition> keyDefs = new ArrayList<>(idx.indexDefinition().indexKeyDefinitions().values());
+
+        Set<List<Object>> searched = new HashSet<>();
+
+        RoaringBitmap res = null;
+
+        for (RangeCondition<Row> range : ranges) {
+            Row bound = range.lower();
+
+            if (bound == null)
+                return null;
+
+            List<Object> vals = new ArrayList<>(cols.size());
+
+            for (int col : cols) {
+                Object val = rowHnd.get(col, bound);
+
+                if (val == ectx.unspecifiedValue())
+                    return null;
+
+                vals.add(val);
+            }
+
+            // Ranges are a cartesian product of bounds of all indexes, skip duplicates of this index keys.
+            if (!searched.add(vals))
+                continue;
+
+            IndexKey[] keys = new IndexKey[cols.size()];
+
+            for (int i = 0; i < keys.length; i++) {
+                Object key = TypeUtils.fromInternal(ectx, vals.get(i), fieldsStoreTypes[cols.getInt(i)]);
+
+                keys[i] = IndexKeyFactory.wrap(key, keyDefs.get(i).indexKeyType(), cctx.cacheObjectContext(),
+                    idx.indexDefinition().keyTypeSettings());
+            }
+
+            RoaringBitmap found = idx.find(keys, parts);
+
+            res = res == null ? found : res.or(found);
+        }
+
+        return res;
+    }
+
+    /** Iterator over rows found by row IDs. */
+    private class IteratorImpl extends GridIteratorAdapter<CacheDataRow> {
+        /** */
+        private final GridCursor<IndexRow> cur;
+
+        /** */
+        private CacheDataRow next;
+
+        /** */
+        private IteratorImpl(GridCursor<IndexRow> cur) {
+            this.cur = cur;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNextX() throws IgniteCheckedException {
+            advance();
+
+            return next != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public CacheDataRow nextX() throws IgniteCheckedException {
+            advance();
+
+            if (next == null)
+                throw new NoSuchElementException();
+
+            CacheDataRow next = this.next;
+
+            this.next = null;
+
+            return next;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void removeX() {
+            throw new UnsupportedOperationException("Remove is not supported.");
+        }
+
+        /** */
+        private void advance() throws IgniteCheckedException {
+            while (next == null && cur.next()) {
+                CacheDataRow row = cur.get().cacheDataRow();
+
+                if (desc.match(row))
+                    next = row;
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKeyFactory;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeCondition;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.lang.GridIteratorAdapter;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.spi.indexing.IndexingQueryFilterImpl;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scan on hash index. Every searched key is looked up in the index, rows found for all the keys are concatenated.
+ */
+public class HashIndexScan<Row> extends AbstractCacheColumnsScan<CacheDataRow, Row> {
+    /** Hash index. */
+    private final HashIndex idx;
+
+    /** Table columns of the index. */
+    private final ImmutableIntList idxCols;
+
+    /** Index scan bounds. */
+    private final RangeIterable<Row> ranges;
+
+    /** Types of key fields stored in index. */
+    private final Type[] fieldsStoreTypes;
+
+    /**
+     * @param ectx Execution context.
+     * @param desc Table descriptor.
+     * @param idx Hash index.
+     * @param idxCols Table columns of the index.
+     * @param parts Partitions.
+     * @param ranges Index scan bounds.
+     * @param requiredColumns Required columns.
+     */
+    public HashIndexScan(
+        ExecutionContext<Row> ectx,
+        CacheTableDescriptor desc,
+        HashIndex idx,
+        ImmutableIntList idxCols,
+        int[] parts,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        super(ectx, desc, parts, requiredColumns);
+
+        this.idx = idx;
+        this.idxCols = idxCols;
+        this.ranges = ranges;
+
+        RelDataType srcRowType = desc.rowType(ectx.getTypeFactory(), null);
+        IgniteTypeFactory typeFactory = ectx.getTypeFactory();
+        fieldsStoreTypes = new Type[srcRowType.getFieldCount()];
+
+        for (int i = 0; i < srcRowType.getFieldCount(); i++)
+            fieldsStoreTypes[i] = typeFactory.getResultClass(srcRowType.getFieldList().get(i).getType());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Iterator<Row> createIterator() {
+        return F.iterator(createTableRowIterator(), row -> enrichRow(row, factory.create(), fieldColMapping), true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Iterator<CacheDataRow> createTableRowIterator() {
+        return new IteratorImpl(searchKeys().iterator());
+    }
+
+    /** {@inheritDoc} */
+    @Override public Row enrichRow(CacheDataRow cacheDataRow, Row row, int[] fieldColMapping) {
+        try {
+            return desc.toRow(ectx, cacheDataRow, row, fieldColMapping);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * @return Distinct index keys to look up.
+     */
+    private List<IndexKey[]> searchKeys() {
+        RowHandler<Row> rowHnd = ectx.rowHandler();
+
+        List<IndexKeyDefinition> keyDefs = new ArrayList<>(idx.indexDefinition().indexKeyDefinitions().values());
+
+        Set<List<Object>> searched = new HashSet<>();
+
+        List<IndexKey[]> res = new ArrayList<>();
+
+        for (RangeCondition<Row> range : ranges) {
+            Row bound = range.lower();
+
+            assert bound != null;
+
+            List<Object> vals = new ArrayList<>(idxCols.size());
+
+            for (int col : idxCols)
+                vals.add(rowHnd.get(col, bound));
+
+            // IN list may contain duplicates.
+            if (!searched.add(vals))
+                continue;
+
+            IndexKey[] keys = new IndexKey[idxCols.size()];
+
+            for (int i = 0; i < keys.length; i++) {
+                Object key = TypeUtils.fromInternal(ectx, vals.get(i), fieldsStoreTypes[idxCols.getInt(i)]);
+
+                keys[i] = IndexKeyFactory.wrap(key, keyDefs.get(i).indexKeyType(), cctx.cacheObjectContext(),
+                    idx.indexDefinition().keyTypeSettings());
+            }
+
+            res.add(keys);
+        }
+
+        return res;
+    }
+
+    /** Iterator over rows found for every searched key. */
+    private class IteratorImpl extends GridIteratorAdapter<CacheDataRow> {
+        /** */
+        private final Iterator<IndexKey[]> keys;
+
+        /** */
+        private final IndexQueryContext qryCtx;
+
+        /** */
+        private GridCursor<IndexRow> cur;
+
+        /** */
+        private CacheDataRow next;
+
+        /** */
+        private IteratorImpl(Iterator<IndexKey[]> keys) {
+            this.keys = keys;
+
+            qryCtx = new IndexQueryContext(new IndexingQueryFilterImpl(cctx.kernalContext(), topVer, parts), null);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNextX() throws IgniteCheckedException {
+            advance();
+
+            return next != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public CacheDataRow nextX() throws IgniteCheckedException {
+            advance();
+
+            if (next == null)
+                throw new NoSuchElementException();
+
+            CacheDataRow next = this.next;
+
+            this.next = null;
+
+            return next;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void removeX() {
+            throw new UnsupportedOperationException("Remove is not supported.");
+        }
+
+        /** */
+        private void advance() throws IgniteCheckedException {
+            while (next == null) {
+                if (cur == null || !cur.next()) {
+                    if (!keys.hasNext())
+                        return;
+
+                    cur = idx.find(keys.next(), qryCtx);
+
+                    continue;
+                }
+
+                CacheDataRow row = cur.get().cacheDataRow();
+
+                if (desc.match(row))
+                    next = row;
+            }
+        }
+    }
+}
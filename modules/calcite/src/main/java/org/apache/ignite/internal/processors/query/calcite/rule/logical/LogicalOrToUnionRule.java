@@ -37,6 +37,7 @@ import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.tools.RelBuilder;
 import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.internal.processors.query.calcite.rel.logical.IgniteLogicalTableScan;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheEqualityIndexImpl;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteIndex;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteTable;
 import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
@@ -115,6 +116,8 @@ public class LogicalOrToUnionRule extends RelRule<LogicalOrToUnionRule.Config> {
 
             if (!F.isEmpty(fieldCollations))
                 idxsFirstFields.set(fieldCollations.get(0).getFieldIndex());
+            else if (idx instanceof CacheEqualityIndexImpl)
+                ((CacheEqualityIndexImpl)idx).columns().forEach(idxsFirstFields::set);
         }
 
         Mappings.TargetMapping mapping = scan.requiredColumns() == null ? null :
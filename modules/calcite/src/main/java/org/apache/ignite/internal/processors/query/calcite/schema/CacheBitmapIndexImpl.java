@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.bitmap.BitmapIndex;
+import org.apache.ignite.internal.processors.query.calcite.exec.BitmapIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bitmap index. Supports equality search by all index columns only, rows are returned in no particular order.
+ * <p>
+ * Search bounds of a bitmap index also contain equality bounds of other bitmap indexes of the table, so scan of any
+ * of them intersects row sets found by all the bitmap indexes matching the condition.
+ */
+public class CacheBitmapIndexImpl extends CacheEqualityIndexImpl {
+    /** */
+    CacheBitmapIndexImpl(String idxName, Index idx, IgniteCacheTable tbl, List<String> cols) {
+        super(idxName, idx, tbl, cols);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        UUID locNodeId = execCtx.localNodeId();
+
+        if (!grp.nodeIds().contains(locNodeId) || idx == null)
+            return Collections.emptyList();
+
+        // Bitmaps do not reflect changes of the current transaction. Condition is checked by the scan node anyway.
+        if (ranges == null || !F.isEmpty(execCtx.getQryTxEntries()))
+            return tbl.scan(execCtx, grp, requiredColumns);
+
+        List<BitmapIndex> idxs = new ArrayList<>();
+        List<ImmutableIntList> idxCols = new ArrayList<>();
+
+        for (IgniteIndex other : tbl.indexes().values()) {
+            if (other instanceof CacheBitmapIndexImpl && ((CacheBitmapIndexImpl)other).idx != null) {
+                idxs.add(((CacheBitmapIndexImpl)other).idx.unwrap(BitmapIndex.class));
+                idxCols.add(((CacheBitmapIndexImpl)other).columns());
+            }
+        }
+
+        return new BitmapIndexScan<>(
+            execCtx,
+            tbl.descriptor(),
+            idxs,
+            idxCols,
+            grp.partitions(locNodeId),
+            ranges,
+            requiredColumns
+        );
+    }
+
+    /** */
+    @Override protected @Nullable List<SearchBounds> buildSearchBounds(
+        RelOptCluster cluster,
+        @Nullable RexNode cond,
+        RelDataType rowType,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        if (cond == null)
+            return null;
+
+        List<SearchBounds> bounds = equalityBounds(cluster, cond, rowType, requiredColumns);
+
+        if (bounds == null)
+            return null; // Empty index find predicate.
+
+        for (IgniteIndex other : tbl.indexes().values()) {
+            if (other == this || !(other instanceof CacheBitmapIndexImpl))
+                continue;
+
+            List<SearchBounds> otherBounds = ((CacheBitmapIndexImpl)other).equalityBounds(cluster, cond, rowType,
+                requiredColumns);
+
+            if (otherBounds == null)
+                continue;
+
+            for (int i = 0; i < bounds.size(); i++) {
+                if (bounds.get(i) == null)
+                    bounds.set(i, otherBounds.get(i));
+            }
+        }
+
+        return bounds;
+    }
+
+    /** */
+    @Override protected CacheIndexImpl copy(IgniteCacheTable newTbl) {
+        return new CacheBitmapIndexImpl(idxName, idx, newTbl, cols);
+    }
+
+    /** */
+    @Override protected CacheIndexImpl copy(IgniteCacheTable newTbl, RelCollation newCollation) {
+        // Columns are resolved by name, so the index is not affected by columns shift.
+        return new CacheBitmapIndexImpl(idxName, idx, newTbl, cols);
+    }
+}
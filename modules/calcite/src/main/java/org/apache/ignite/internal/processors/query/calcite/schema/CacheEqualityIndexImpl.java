@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.schema;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.IndexScan;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.ExactBounds;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.MultiBounds;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitUtils;
+import org.apache.ignite.internal.processors.query.calcite.util.RexUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index supporting equality search by all index columns only, rows are returned in no particular order.
+ */
+public abstract class CacheEqualityIndexImpl extends CacheIndexImpl {
+    /** Index columns. */
+    protected final List<String> cols;
+
+    /** */
+    CacheEqualityIndexImpl(String idxName, Index idx, IgniteCacheTable tbl, List<String> cols) {
+        super(RelCollations.EMPTY, idxName, idx, tbl);
+
+        this.cols = cols;
+    }
+
+    /**
+     * @return Table column indexes of the index columns.
+     */
+    public ImmutableIntList columns() {
+        int[] res = new int[cols.size()];
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = tbl.descriptor().columnDescriptor(cols.get(i)).fieldIndex();
+
+        return ImmutableIntList.of(res);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> count(ExecutionContext<Row> ectx, ColocationGroup grp, boolean notNull) {
+        throw new IgniteException("Count is not supported by index: " + idxName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isInlineScanPossible(@Nullable ImmutableBitSet requiredColumns) {
+        return false;
+    }
+
+    /** */
+    @Override protected @Nullable List<SearchBounds> buildSearchBounds(
+        RelOptCluster cluster,
+        @Nullable RexNode cond,
+        RelDataType rowType,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        if (cond == null)
+            return null;
+
+        return equalityBounds(cluster, cond, rowType, requiredColumns);
+    }
+
+    /**
+     * @return Bounds of the index columns if all of them are restricted by equality, {@code null} otherwise.
+     */
+    protected @Nullable List<SearchBounds> equalityBounds(
+        RelOptCluster cluster,
+        RexNode cond,
+        RelDataType rowType,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        ImmutableIntList keys = columns();
+
+        RelCollation collation = mapByRequireColumns(TraitUtils.createCollation(keys), rowType, requiredColumns);
+
+        if (collation.getFieldCollations().size() < keys.size())
+            return null;
+
+        List<SearchBounds> bounds = RexUtils.buildSortedSearchBounds(cluster, collation, cond, rowType,
+            requiredColumns);
+
+        if (bounds == null)
+            return null;
+
+        List<SearchBounds> res = Arrays.asList(new SearchBounds[bounds.size()]);
+
+        for (int key : keys) {
+            SearchBounds fldBounds = bounds.get(key);
+
+            if (!isEquality(fldBounds))
+                return null;
+
+            res.set(key, fldBounds);
+        }
+
+        return res;
+    }
+
+    /** */
+    private static boolean isEquality(@Nullable SearchBounds bounds) {
+        if (bounds instanceof ExactBounds)
+            return true;
+
+        return bounds instanceof MultiBounds
+            && ((MultiBounds)bounds).bounds().stream().allMatch(b -> b instanceof ExactBounds);
+    }
+
+    /** */
+    @Override protected <Row> IndexScan<Row> createIndexFirstLastScan(
+        boolean first,
+        ExecutionContext<Row> ectx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        throw new IgniteException("Should not be created for index: " + idxName);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.HashIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash index. Supports equality search ({@code =} and {@code IN}) by all index columns only, rows are returned in no
+ * particular order.
+ */
+public class CacheHashIndexImpl extends CacheEqualityIndexImpl {
+    /** */
+    CacheHashIndexImpl(String idxName, Index idx, IgniteCacheTable tbl, List<String> cols) {
+        super(idxName, idx, tbl, cols);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        UUID locNodeId = execCtx.localNodeId();
+
+        if (!grp.nodeIds().contains(locNodeId) || idx == null)
+            return Collections.emptyList();
+
+        // Hash index does not reflect changes of the current transaction. Condition is checked by the scan node anyway.
+        if (ranges == null || !F.isEmpty(execCtx.getQryTxEntries()))
+            return tbl.scan(execCtx, grp, requiredColumns);
+
+        return new HashIndexScan<>(
+            execCtx,
+            tbl.descriptor(),
+            idx.unwrap(HashIndex.class),
+            columns(),
+            grp.partitions(locNodeId),
+            ranges,
+            requiredColumns
+        );
+    }
+
+    /** */
+    @Override protected CacheIndexImpl copy(IgniteCacheTable newTbl) {
+        return new CacheHashIndexImpl(idxName, idx, newTbl, cols);
+    }
+
+    /** */
+    @Override protected CacheIndexImpl copy(IgniteCacheTable newTbl, RelCollation newCollation) {
+        // Columns are resolved by name, so the index is not affected by columns shift.
+        return new CacheHashIndexImpl(idxName, idx, newTbl, cols);
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.calcite.tools.Frameworks;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.cache.affinity.AffinityFunction;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -299,9 +300,27 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
         String idxName,
         IndexDescriptor idxDesc
     ) {
+        // Vector indexes are available for VectorQuery and the VECTOR_SEARCH table function only.
+        if (idxDesc.type() == QueryIndexType.VECTOR)
+            return;
+
         IgniteCacheTable tbl = table(schemaName, tblName);
         assert tbl != null : String.format("schemaName=%s, tableName=%s, idxName=%s", schemaName, tblName, idxName);
 
+        if (idxDesc.type() == QueryIndexType.BITMAP) {
+            tbl.addIndex(new CacheBitmapIndexImpl(idxName, idxDesc.index(), tbl,
+                new ArrayList<>(idxDesc.keyDefinitions().keySet())));
+
+            return;
+        }
+
+        if (idxDesc.type() == QueryIndexType.HASH) {
+            tbl.addIndex(new CacheHashIndexImpl(idxName, idxDesc.index(), tbl,
+                new ArrayList<>(idxDesc.keyDefinitions().keySet())));
+
+            return;
+        }
+
         RelCollation idxCollation = deriveSecondaryIndexCollation(idxDesc, tbl);
 
         IgniteIndex idx = new CacheIndexImpl(idxCollation, idxName, idxDesc.index(), tbl);
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.QueryEntity;
+import org.apache.ignite.cache.QueryIndex;
+import org.apache.ignite.cache.QueryIndexType;
+import org.apache.ignite.cache.query.IndexQuery;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.apache.ignite.cache.query.IndexQueryCriteriaBuilder.eq;
+import static org.apache.ignite.cache.query.IndexQueryCriteriaBuilder.in;
+
+/**
+ * Tests scans of hash indexes.
+ */
+public class HashIndexIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final String TBL = "HASH_TBL";
+
+    /** */
+    private static final String IDX = "HASH_IDX";
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        QueryEntity entity = new QueryEntity()
+            .setTableName(TBL)
+            .setKeyType(Integer.class.getName())
+            .setValueType("HashVal")
+            .setKeyFieldName("ID")
+            .addQueryField("ID", Integer.class.getName(), null)
+            .addQueryField("C1", Long.class.getName(), null)
+            .addQueryField("C2", String.class.getName(), null)
+            .setIndexes(singletonList(new QueryIndex(Arrays.asList("C1", "C2"), QueryIndexType.HASH).setName(IDX)));
+
+        client.getOrCreateCache(new CacheConfiguration<>(TBL)
+            .setQueryEntities(singletonList(entity))
+            .setSqlSchema("PUBLIC"));
+
+        for (int i = 0; i < 100; i++)
+            sql("INSERT INTO " + TBL + " (ID, C1, C2) VALUES (?, ?, ?)", i, (long)(i % 10), "val" + (i % 3));
+    }
+
+    /** */
+    @Test
+    public void testEquality() {
+        assertQuery("SELECT ID FROM " + TBL + " WHERE C1 = 1 AND C2 = 'val1'")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", TBL, IDX))
+            .returns(1).returns(31).returns(61).returns(91)
+            .check();
+
+        assertQuery("SELECT ID FROM " + TBL + " WHERE C1 = ? AND C2 = ?")
+            .withParams(2, "val2")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", TBL, IDX))
+            .returns(2).returns(32).returns(62).returns(92)
+            .check();
+
+        assertQuery("SELECT ID FROM " + TBL + " WHERE C1 = 1 AND C2 = 'val3'")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", TBL, IDX))
+            .resultSize(0)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testIn() {
+        assertQuery("SELECT ID FROM " + TBL + " WHERE C1 IN (1, 2, 2) AND C2 IN ('val1', 'val2') AND ID < 40")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", TBL, IDX))
+            .returns(1).returns(2).returns(11).returns(22).returns(31).returns(32)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testNotAllColumnsRestricted() {
+        assertQuery("SELECT ID FROM " + TBL + " WHERE C1 = 1 AND ID < 40")
+            .matches(QueryChecker.containsTableScan("PUBLIC", TBL))
+            .returns(1).returns(11).returns(21).returns(31)
+            .check();
+
+        assertQuery("SELECT ID FROM " + TBL + " WHERE C1 > 8 AND C2 = 'val0'")
+            .matches(QueryChecker.containsTableScan("PUBLIC", TBL))
+            .returns(9).returns(39).returns(69).returns(99)
+            .check();
+    }
+
+    /** IndexQuery arguments are converted to the indexed field type. */
+    @Test
+    public void testIndexQueryArgumentType() {
+        IgniteCache<Integer, BinaryObject> cache = client.cache(TBL).withKeepBinary();
+
+        List<Cache.Entry<Integer, BinaryObject>> res = cache.query(new IndexQuery<Integer, BinaryObject>("HashVal", IDX)
+            .setCriteria(eq("C1", 1), eq("C2", "val1"))).getAll();
+
+        assertEquals(4, res.size());
+
+        res = cache.query(new IndexQuery<Integer, BinaryObject>("HashVal", IDX)
+            .setCriteria(in("C1", Arrays.asList(2.0d, 2.5d)), eq("C2", "val2"))).getAll();
+
+        assertEquals(4, res.size());
+
+        for (Cache.Entry<Integer, BinaryObject> e : res)
+            assertEquals(2L, (long)e.getValue().field("C1"));
+    }
+}
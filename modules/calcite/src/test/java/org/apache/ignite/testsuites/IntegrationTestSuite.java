@@ -39,6 +39,7 @@ import org.apache.ignite.internal.processors.query.calcite.integration.Distribut
 import org.apache.ignite.internal.processors.query.calcite.integration.DynamicParametersIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.ExpiredEntriesIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.FunctionsTest;
+import org.apache.ignite.internal.processors.query.calcite.integration.HashIndexIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.HashSpoolIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.IndexDdlIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.IndexMultiRangeScanIntegrationTest;
@@ -131,6 +132,7 @@ import org.junit.runners.Suite;
     DataTypesTest.class,
     IndexSpoolIntegrationTest.class,
     HashSpoolIntegrationTest.class,
+    HashIndexIntegrationTest.class,
     IndexScanlIntegrationTest.class,
     IndexScanMultiNodeIntegrationTest.class,
     SetOpIntegrationTest.class,
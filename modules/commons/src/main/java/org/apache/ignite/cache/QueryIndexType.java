@@ -36,7 +36,24 @@ public enum QueryIndexType {
     /**
      * Geo-spatial index.
      */
-    GEOSPATIAL;
+    GEOSPATIAL,
+
+    /**
+     * Hash index. Supports equality lookups by all indexed fields only.
+     */
+    HASH,
+
+    /**
+     * Bitmap index. Intended for low-cardinality fields, supports equality lookups by all indexed fields only.
+     * Lookups by several bitmap indexes of a table are combined with bitmap operations.
+     */
+    BITMAP,
+
+    /**
+     * Vector index. Approximate nearest neighbour index over a single {@code float[]} field, supports similarity
+     * search through {@code VectorQuery}.
+     */
+    VECTOR;
 
     /** Enum values. */
     private static final QueryIndexType[] VALS = values();
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.nio.ByteBuffer;
+import com.github.luben.zstd.Zstd;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.compress.CompressionProcessorImpl.Lz4;
+
+/**
+ * Block compressor.
+ */
+public class BlockCompressorImpl extends BlockCompressor {
+    /** {@inheritDoc} */
+    @Override public void checkSupported(DiskPageCompression compression) throws IgniteCheckedException {
+        if (compression != DiskPageCompression.ZSTD && compression != DiskPageCompression.LZ4)
+            throw new IgniteCheckedException("Unsupported block compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int maxCompressedSize(DiskPageCompression compression, int size) throws IgniteCheckedException {
+        switch (compression) {
+            case ZSTD:
+                return (int)Zstd.compressBound(size);
+
+            case LZ4:
+                return Lz4.fastCompressor.maxCompressedLength(size);
+        }
+
+        throw new IgniteCheckedException("Unsupported block compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void compress(
+        DiskPageCompression compression,
+        int level,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        switch (compression) {
+            case ZSTD:
+                Zstd.compress(dst, src, level);
+
+                return;
+
+            case LZ4:
+                Lz4.getCompressor(level).compress(src, dst);
+
+                return;
+        }
+
+        throw new IgniteCheckedException("Unsupported block compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void decompress(
+        DiskPageCompression compression,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        switch (compression) {
+            case ZSTD:
+                Zstd.decompress(dst, src);
+
+                return;
+
+            case LZ4:
+                Lz4.decompress(src, dst);
+
+                return;
+        }
+
+        throw new IgniteCheckedException("Unsupported block compression: " + compression);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.nio.ByteBuffer;
+import com.github.luben.zstd.Zstd;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
+import org.apache.ignite.internal.cache.transform.CacheObjectTransformerProcessor;
+import org.apache.ignite.internal.processors.GridProcessorAdapter;
+import org.apache.ignite.internal.processors.cache.DynamicCacheDescriptor;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TRANSFORMED;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_DEFAULT_LEVEL;
+
+/**
+ * Compresses the cache values before they are stored to the data pages, so the values are kept compressed in memory,
+ * WAL and the messages. The values are restored on read, e.g. on the SQL fields access.
+ * <p>
+ * The processor is started on every node with the compress module in the classpath, so the node restores the values
+ * compressed by the other nodes. The values of a cache are compressed if
+ * {@link CacheConfiguration#setValueCompression} is set for the cache.
+ * <p>
+ * Zstd compresses the values of each cache with a dictionary trained on the samples of the values of the cache.
+ * Until the dictionary is trained and registered by all the nodes the values are compressed without it.
+ */
+public class CacheObjectCompressionProcessor extends GridProcessorAdapter implements CacheObjectTransformerProcessor {
+    /** Prefix of the distributed metastorage keys of the Zstd dictionaries of the caches. */
+    static final String ZSTD_DICT_KEY_PREFIX = "compress.zstd.entry.dict.";
+
+    /** Min size of the value to compress. */
+    static final int MIN_SIZE = 256;
+
+    /** LZ4 compressed value. */
+    private static final byte LZ4_COMPRESSED = 1;
+
+    /** Zstd compressed value. */
+    private static final byte ZSTD_COMPRESSED = 2;
+
+    /** Zstd with the dictionary trained for the cache of the value. */
+    private static final byte ZSTD_DICT_COMPRESSED = 3;
+
+    /** Size of the transformed flag, the compression type and the original size. */
+    private static final int HEADER_SIZE = 2 + Integer.BYTES;
+
+    /** Zstd dictionaries of the caches. */
+    private final ZstdDictionaries zstdDicts;
+
+    /** Original data. */
+    private final ThreadLocalDirectByteBuffer srcBuf = new ThreadLocalDirectByteBuffer();
+
+    /** Transformed or restored data. */
+    private final ThreadLocalDirectByteBuffer dstBuf = new ThreadLocalDirectByteBuffer();
+
+    /**
+     * @param ctx Kernal context.
+     */
+    public CacheObjectCompressionProcessor(GridKernalContext ctx) {
+        super(ctx);
+
+        zstdDicts = new ZstdDictionaries(ctx, ZSTD_DICT_KEY_PREFIX, !ctx.clientNode());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void start() throws IgniteCheckedException {
+        // Dictionaries are read by all the nodes to restore the values compressed with them.
+        ctx.internalSubscriptionProcessor().registerDistributedMetastorageListener(zstdDicts);
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable ByteBuffer transform(ByteBuffer original) {
+        return transform(null, original);
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable ByteBuffer transform(@Nullable String cacheName, ByteBuffer original) {
+        int origSize = original.remaining();
+
+        if (cacheName == null || origSize < MIN_SIZE)
+            return null;
+
+        DynamicCacheDescriptor desc = ctx.cache().cacheDescriptor(cacheName);
+
+        DiskPageCompression compression = desc == null ? DiskPageCompression.DISABLED :
+            desc.cacheConfiguration().getValueCompression();
+
+        if (compression == DiskPageCompression.DISABLED)
+            return null;
+
+        int cacheId = CU.cacheId(cacheName);
+
+        ByteBuffer src = srcBuf.get(origSize);
+
+        src.put(original.duplicate()).flip();
+
+        ByteBuffer compressed;
+
+        if (compression == DiskPageCompression.LZ4)
+            compressed = compressLz4(src);
+        else {
+            if (zstdDicts.needSamples(cacheId)) {
+                byte[] sample = new byte[origSize];
+
+                original.duplicate().get(sample);
+
+                zstdDicts.sample(cacheId, sample);
+            }
+
+            ZstdDictionaries.Dictionary dict = zstdDicts.latest(cacheId);
+
+            compressed = dict == null ? compressZstd(src) : compressZstd(dict, src);
+        }
+
+        return compressed.remaining() < origSize ? compressed : null; // Compression is not profitable otherwise.
+    }
+
+    /**
+     * @param src Original data.
+     * @return Compressed data.
+     */
+    private ByteBuffer compressLz4(ByteBuffer src) {
+        int origSize = src.remaining();
+
+        ByteBuffer dst = header(LZ4_COMPRESSED, origSize, CompressionProcessorImpl.Lz4.fastCompressor.maxCompressedLength(origSize));
+
+        CompressionProcessorImpl.Lz4.fastCompressor.compress(src, dst);
+
+        dst.flip();
+
+        return dst;
+    }
+
+    /**
+     * @param src Original data.
+     * @return Compressed data.
+     */
+    private ByteBuffer compressZstd(ByteBuffer src) {
+        int origSize = src.remaining();
+
+        ByteBuffer dst = header(ZSTD_COMPRESSED, origSize, (int)Zstd.compressBound(origSize));
+
+        Zstd.compress(dst, src, ZSTD_DEFAULT_LEVEL);
+
+        dst.flip();
+
+        return dst;
+    }
+
+    /**
+     * @param dict Dictionary of the cache of the value.
+     * @param src Original data.
+     * @return Compressed data.
+     */
+    private ByteBuffer compressZstd(ZstdDictionaries.Dictionary dict, ByteBuffer src) {
+        int origSize = src.remaining();
+
+        ByteBuffer dst = header(ZSTD_DICT_COMPRESSED, origSize,
+            ZstdDictionaries.DICT_HEADER_SIZE + (int)Zstd.compressBound(origSize));
+
+        dst.putInt(dict.id).putInt(dict.ver);
+
+        Zstd.compress(dst, src, dict.compressor(ZSTD_DEFAULT_LEVEL));
+
+        dst.flip();
+
+        return dst;
+    }
+
+    /**
+     * @param type Compression type.
+     * @param origSize Original data size.
+     * @param maxCompressedSize Max compressed data size.
+     * @return Buffer to write the compressed data to.
+     */
+    private ByteBuffer header(byte type, int origSize, int maxCompressedSize) {
+        ByteBuffer dst = dstBuf.get(HEADER_SIZE + maxCompressedSize);
+
+        dst.put(TRANSFORMED);
+        dst.put(type);
+        dst.putInt(origSize);
+
+        return dst;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ByteBuffer restore(ByteBuffer transformed) {
+        ByteBuffer src = srcBuf.get(transformed.remaining());
+
+        src.put(transformed).flip();
+
+        byte type = src.get();
+        int origSize = src.getInt();
+
+        ByteBuffer dst = dstBuf.get(origSize);
+
+        switch (type) {
+            case LZ4_COMPRESSED:
+                CompressionProcessorImpl.Lz4.decompress(src, dst);
+
+                break;
+
+            case ZSTD_COMPRESSED:
+                Zstd.decompress(dst, src);
+
+                break;
+
+            case ZSTD_DICT_COMPRESSED:
+                ZstdDictionaries.Dictionary dict = zstdDicts.dictionary(src.getInt(), src.getInt());
+
+                Zstd.decompress(dst, src, dict.decompressor());
+
+                break;
+
+            default:
+                throw new IgniteException("Unknown cache value compression: " + type);
+        }
+
+        dst.flip();
+
+        assert dst.remaining() == origSize : "Wrong restored size [expected=" + origSize + ", actual=" + dst.remaining() + ']';
+
+        return dst;
+    }
+}
@@ -27,17 +27,20 @@ import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4FastDecompressor;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.xerial.snappy.Snappy;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY;
 import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
 import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
 
@@ -45,16 +48,33 @@ import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
  * Compression processor.
  */
 public class CompressionProcessorImpl extends CompressionProcessor {
+    /** Prefix of the distributed metastorage keys of the Zstd dictionaries of the cache groups. */
+    static final String ZSTD_DICT_KEY_PREFIX = "compress.zstd.dict.";
+
     /** A bit more than max page size, extra space is required by compressors. */
     private final ThreadLocalDirectByteBuffer compressBuf =
         new ThreadLocalDirectByteBuffer(maxCompressedBufferSize(MAX_PAGE_SIZE), NATIVE_BYTE_ORDER);
 
+    /** Zstd dictionaries of the cache groups. */
+    private final ZstdDictionaries zstdDicts;
+
     /**
      * @param ctx Kernal context.
      */
     @SuppressWarnings("WeakerAccess")
     public CompressionProcessorImpl(GridKernalContext ctx) {
         super(ctx);
+
+        zstdDicts = new ZstdDictionaries(ctx, ZSTD_DICT_KEY_PREFIX,
+            IgniteSystemProperties.getBoolean(IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY, DFLT_DISK_PAGE_COMPRESSION_DICTIONARY));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void start() throws IgniteCheckedException {
+        super.start();
+
+        // Dictionaries are read even if the training is disabled to decompress the pages compressed with them.
+        ctx.internalSubscriptionProcessor().registerDistributedMetastorageListener(zstdDicts);
     }
 
     /** {@inheritDoc} */
@@ -114,30 +134,69 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override protected byte getCompressionType(int grpId, DiskPageCompression compression) {
+        if (compression == DiskPageCompression.ZSTD && grpId != CU.UNDEFINED_CACHE_ID && zstdDicts.latest(grpId) != null)
+            return ZSTD_DICT_COMPRESSED_PAGE;
+
+        return super.getCompressionType(grpId, compression);
+    }
+
     /**
-     * @param compression Compression algorithm.
+     * @param compressType Compression type.
+     * @param grpId Cache group id of the page or {@link CU#UNDEFINED_CACHE_ID} if unknown.
      * @param compactPage Compacted page.
      * @param compactSize Compacted page size.
      * @param compressLevel Compression level.
      * @return Compressed page.
      */
     @Override protected ByteBuffer doCompressPage(
-        DiskPageCompression compression,
+        byte compressType,
+        int grpId,
         ByteBuffer compactPage,
         int compactSize,
         int compressLevel
     ) {
-        switch (compression) {
-            case ZSTD:
+        switch (compressType) {
+            case ZSTD_COMPRESSED_PAGE:
+                if (grpId != CU.UNDEFINED_CACHE_ID)
+                    samplePage(grpId, compactPage, compactSize);
+
                 return compressPageZstd(compactPage, compactSize, compressLevel);
 
-            case LZ4:
+            case ZSTD_DICT_COMPRESSED_PAGE:
+                samplePage(grpId, compactPage, compactSize);
+
+                return compressPageZstd(zstdDicts.latest(grpId), compactPage, compactSize, compressLevel);
+
+            case LZ4_COMPRESSED_PAGE:
                 return compressPageLz4(compactPage, compactSize, compressLevel);
 
-            case SNAPPY:
+            case SNAPPY_COMPRESSED_PAGE:
                 return compressPageSnappy(compactPage, compactSize);
         }
-        throw new IllegalStateException("Unsupported compression: " + compression);
+        throw new IllegalStateException("Unsupported compression: " + compressType);
+    }
+
+    /**
+     * Samples the data page to train the Zstd dictionary of the cache group on.
+     *
+     * @param grpId Cache group id.
+     * @param compactPage Compacted page.
+     * @param compactSize Compacted page size.
+     */
+    private void samplePage(int grpId, ByteBuffer compactPage, int compactSize) {
+        if (PageIO.getType(compactPage) != PageIO.T_DATA || !zstdDicts.needSamples(grpId))
+            return;
+
+        byte[] sample = new byte[compactSize - PageIO.COMMON_HEADER_END];
+
+        ByteBuffer src = compactPage.duplicate();
+
+        src.position(PageIO.COMMON_HEADER_END).limit(compactSize);
+        src.get(sample);
+
+        zstdDicts.sample(grpId, sample);
     }
 
     /**
@@ -178,6 +237,31 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         return compressedPage;
     }
 
+    /**
+     * @param dict Dictionary of the cache group of the page.
+     * @param compactPage Compacted page.
+     * @param compactSize Compacted page size.
+     * @param compressLevel Compression level.
+     * @return Compressed page.
+     */
+    private ByteBuffer compressPageZstd(
+        ZstdDictionaries.Dictionary dict,
+        ByteBuffer compactPage,
+        int compactSize,
+        int compressLevel
+    ) {
+        ByteBuffer compressedPage = compressBuf.get();
+
+        copyPageHeader(compactPage, compressedPage, compactSize);
+        compressedPage.putInt(dict.id).putInt(dict.ver);
+        Zstd.compress(compressedPage, compactPage, dict.compressor(compressLevel));
+
+        compactPage.flip();
+        compressedPage.flip();
+
+        return compressedPage;
+    }
+
     /**
      * @param compactPage Compacted page.
      * @param compactSize Compacted page size.
@@ -231,6 +315,14 @@ public class CompressionProcessorImpl extends CompressionProcessor {
 
                 break;
 
+            case ZSTD_DICT_COMPRESSED_PAGE:
+                ZstdDictionaries.Dictionary dict = zstdDicts.dictionary(page.getInt(), page.getInt());
+
+                Zstd.decompress(dst, page, dict.decompressor());
+                dst.flip();
+
+                break;
+
             case LZ4_COMPRESSED_PAGE:
                 Lz4.decompress(page, dst);
                 dst.flip();
@@ -261,7 +353,7 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         int zstdSz = (int)Zstd.compressBound(baseSz);
         int snappySz = Snappy.maxCompressedLength(baseSz);
 
-        return Math.max(Math.max(lz4Sz, zstdSz), snappySz);
+        return Math.max(Math.max(lz4Sz, zstdSz + ZstdDictionaries.DICT_HEADER_SIZE), snappySz);
     }
 
     /** */
@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetastorageLifecycleListener;
+import org.apache.ignite.internal.processors.metastorage.ReadableDistributedMetaStorage;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Zstd dictionaries trained on the samples of the compressed data, e.g. the data pages of a cache group or the values
+ * of a cache.
+ * <p>
+ * A trained dictionary is saved to the distributed metastorage with the next version, so all the nodes of the cluster
+ * compress the data with the same dictionary. The version is written to the compressed data, the previous versions
+ * are kept to decompress the data compressed with them. A new version is trained once {@link #RETRAIN_CNT} chunks
+ * of the data are compressed with the current one on the local node.
+ * <p>
+ * A version is used to compress the data only after all the nodes have registered it, otherwise a node could get
+ * the data compressed with a dictionary it has not received yet. The write of a dictionary completes once all the
+ * nodes have processed it, then the node which trained the dictionary writes the ready version key. If that node
+ * leaves before writing the ready key, the next node which fails to write the same version writes it instead.
+ */
+class ZstdDictionaries implements DistributedMetastorageLifecycleListener {
+    /** Size of the dictionary id and version written before the compressed data. */
+    static final int DICT_HEADER_SIZE = 2 * Integer.BYTES;
+
+    /** Max dictionary size. */
+    static final int DICT_SIZE = 16 * 1024;
+
+    /** Total size of the samples to train a dictionary on. */
+    static final int SAMPLES_SIZE = 100 * DICT_SIZE;
+
+    /** Count of the data chunks compressed with the current dictionary after which a new version is trained. */
+    static final long RETRAIN_CNT = 1_000_000L;
+
+    /** Infix of the metastorage keys of the dictionary versions registered by all the nodes. */
+    private static final String READY = "ready.";
+
+    /** Kernal context. */
+    private final GridKernalContext ctx;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Prefix of the distributed metastorage keys of the dictionaries. */
+    private final String keyPrefix;
+
+    /** If {@code true} then the dictionaries are trained on the local node. */
+    private final boolean train;
+
+    /** Dictionaries by ids. */
+    private final ConcurrentMap<Integer, Versions> dicts = new ConcurrentHashMap<>();
+
+    /** Distributed metastorage or {@code null} if it is not ready for write. */
+    private volatile DistributedMetaStorage metastorage;
+
+    /**
+     * @param ctx Kernal context.
+     * @param keyPrefix Prefix of the distributed metastorage keys of the dictionaries.
+     * @param train If {@code true} then the dictionaries are trained on the local node.
+     */
+    ZstdDictionaries(GridKernalContext ctx, String keyPrefix, boolean train) {
+        this.ctx = ctx;
+        this.keyPrefix = keyPrefix;
+        this.train = train;
+
+        log = ctx.log(ZstdDictionaries.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onReadyForRead(ReadableDistributedMetaStorage metastorage) {
+        metastorage.listen(key -> key.startsWith(keyPrefix), (key, oldVal, newVal) -> {
+            if (newVal != null)
+                onUpdate(key, newVal);
+        });
+
+        Map<String, Serializable> ready = new HashMap<>();
+
+        try {
+            // Dictionaries are registered before their versions are marked ready.
+            metastorage.iterate(keyPrefix, (key, val) -> {
+                if (key.startsWith(keyPrefix + READY))
+                    ready.put(key, val);
+                else
+                    onUpdate(key, val);
+            });
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to read the compression dictionaries.", e);
+        }
+
+        ready.forEach(this::onUpdate);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onReadyForWrite(DistributedMetaStorage metastorage) {
+        this.metastorage = metastorage;
+    }
+
+    /**
+     * @param id Dictionary id.
+     * @return The latest dictionary registered by all the nodes or {@code null} if there is no such dictionary yet.
+     */
+    @Nullable Dictionary latest(int id) {
+        Versions vers = dicts.get(id);
+
+        return vers == null ? null : vers.latest;
+    }
+
+    /**
+     * @param id Dictionary id.
+     * @param ver Dictionary version.
+     * @return Dictionary.
+     */
+    Dictionary dictionary(int id, int ver) {
+        Versions vers = dicts.get(id);
+
+        Dictionary dict = vers == null ? null : vers.vers.get(ver);
+
+        if (dict == null) {
+            throw new IgniteException("Compression dictionary not found. Make sure the distributed metastorage " +
+                "contains the dictionary [key=" + key(keyPrefix, id, ver) + ']');
+        }
+
+        return dict;
+    }
+
+    /**
+     * @param id Dictionary id.
+     * @return {@code True} if the samples are collected to train a new version of the dictionary.
+     */
+    boolean needSamples(int id) {
+        if (!train || metastorage == null)
+            return false;
+
+        Dictionary latest = latest(id);
+
+        return latest == null || latest.compressed.get() >= RETRAIN_CNT;
+    }
+
+    /**
+     * Adds the sample to train a new version of the dictionary on.
+     *
+     * @param id Dictionary id.
+     * @param sample Sample.
+     * @see #needSamples(int)
+     */
+    void sample(int id, byte[] sample) {
+        Versions vers = dicts.computeIfAbsent(id, Versions::new);
+
+        Dictionary latest = vers.latest;
+
+        ZstdDictTrainer trainer = vers.sample(sample);
+
+        if (trainer != null)
+            ctx.pools().getSystemExecutorService().execute(() -> train(vers, latest, trainer));
+    }
+
+    /**
+     * @param vers Dictionary versions.
+     * @param latest The latest dictionary the new one is trained to replace or {@code null}.
+     * @param trainer Trainer with the samples.
+     */
+    private void train(Versions vers, @Nullable Dictionary latest, ZstdDictTrainer trainer) {
+        int ver = latest == null ? 1 : latest.ver + 1;
+
+        String key = key(keyPrefix, vers.id, ver);
+
+        try {
+            byte[] dict = trainer.trainSamples();
+
+            DistributedMetaStorage metastorage0 = metastorage;
+
+            if (metastorage0 == null)
+                return;
+
+            while (true) {
+                // The dictionary of this version may be concurrently trained by another node, the first one wins.
+                // The write completes once all the nodes have registered the dictionary, so it is ready to compress with.
+                if (metastorage0.compareAndSetAsync(key, null, dict).get()) {
+                    markReady(metastorage0, vers.id, ver);
+
+                    if (log.isInfoEnabled())
+                        log.info("Compression dictionary has been trained [key=" + key + ", size=" + dict.length + ']');
+
+                    return;
+                }
+
+                int ready = readyVersion(metastorage0, vers.id);
+
+                // The node which has written the dictionary may leave before marking it ready. The dictionary is
+                // registered by all the nodes once the failed write above completes, so it is marked ready here.
+                if (ready < ver) {
+                    markReady(metastorage0, vers.id, ver);
+
+                    return;
+                }
+
+                ver = ready + 1;
+                key = key(keyPrefix, vers.id, ver);
+            }
+        }
+        catch (Exception e) {
+            U.warn(log, "Failed to train the compression dictionary [key=" + key + ']', e);
+        }
+        finally {
+            vers.training.set(false);
+        }
+    }
+
+    /**
+     * Advances the ready version of the dictionary unless it is already the same or later.
+     *
+     * @param metastorage Distributed metastorage.
+     * @param id Dictionary id.
+     * @param ver Dictionary version registered by all the nodes.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void markReady(DistributedMetaStorage metastorage, int id, int ver) throws IgniteCheckedException {
+        String readyKey = readyKey(keyPrefix, id);
+
+        while (true) {
+            Integer ready = metastorage.read(readyKey);
+
+            if (ready != null && ready >= ver)
+                return;
+
+            if (metastorage.compareAndSetAsync(readyKey, ready, ver).get())
+                return;
+        }
+    }
+
+    /**
+     * @param metastorage Distributed metastorage.
+     * @param id Dictionary id.
+     * @return Version of the dictionary registered by all the nodes or {@code 0} if there is no such version.
+     * @throws IgniteCheckedException If failed.
+     */
+    private int readyVersion(DistributedMetaStorage metastorage, int id) throws IgniteCheckedException {
+        Integer ready = metastorage.read(readyKey(keyPrefix, id));
+
+        return ready == null ? 0 : ready;
+    }
+
+    /**
+     * @param key Metastorage key.
+     * @param val Dictionary or the version ready to compress with.
+     */
+    private void onUpdate(String key, Serializable val) {
+        if (key.startsWith(keyPrefix + READY)) {
+            int id = Integer.parseInt(key.substring(keyPrefix.length() + READY.length()));
+
+            dicts.computeIfAbsent(id, Versions::new).ready((Integer)val);
+
+            return;
+        }
+
+        String[] parts = key.substring(keyPrefix.length()).split("\\.");
+
+        int id = Integer.parseInt(parts[0]);
+        int ver = Integer.parseInt(parts[1]);
+
+        dicts.computeIfAbsent(id, Versions::new).register(new Dictionary(id, ver, (byte[])val));
+    }
+
+    /**
+     * @param keyPrefix Prefix of the distributed metastorage keys of the dictionaries.
+     * @param id Dictionary id.
+     * @param ver Dictionary version.
+     * @return Metastorage key of the dictionary.
+     */
+    static String key(String keyPrefix, int id, int ver) {
+        return keyPrefix + id + '.' + ver;
+    }
+
+    /**
+     * @param keyPrefix Prefix of the distributed metastorage keys of the dictionaries.
+     * @param id Dictionary id.
+     * @return Metastorage key of the latest version of the dictionary registered by all the nodes.
+     */
+    static String readyKey(String keyPrefix, int id) {
+        return keyPrefix + READY + id;
+    }
+
+    /** Versions of a dictionary. */
+    private static class Versions {
+        /** Dictionary id. */
+        private final int id;
+
+        /** Dictionaries by versions. */
+        private final Map<Integer, Dictionary> vers = new ConcurrentHashMap<>();
+
+        /** The latest dictionary registered by all the nodes. */
+        private volatile Dictionary latest;
+
+        /** If {@code true} then the samples are collected or a dictionary is trained. */
+        private final AtomicBoolean training = new AtomicBoolean();
+
+        /** Trainer collecting the samples. */
+        private ZstdDictTrainer trainer;
+
+        /** Size of the collected samples. */
+        private int samplesSize;
+
+        /** @param id Dictionary id. */
+        private Versions(int id) {
+            this.id = id;
+        }
+
+        /** @param dict Dictionary. */
+        private void register(Dictionary dict) {
+            vers.put(dict.ver, dict);
+        }
+
+        /** @param ver Version registered by all the nodes. */
+        private synchronized void ready(int ver) {
+            Dictionary dict = vers.get(ver);
+
+            assert dict != null : "Dictionary is not registered [id=" + id + ", ver=" + ver + ']';
+
+            if (dict != null && (latest == null || latest.ver < ver))
+                latest = dict;
+        }
+
+        /**
+         * @param sample Sample.
+         * @return Trainer to train the dictionary on if enough samples are collected, {@code null} otherwise.
+         */
+        private synchronized @Nullable ZstdDictTrainer sample(byte[] sample) {
+            if (trainer == null) {
+                if (!training.compareAndSet(false, true))
+                    return null;
+
+                trainer = new ZstdDictTrainer(SAMPLES_SIZE, DICT_SIZE);
+                samplesSize = 0;
+            }
+
+            if (!trainer.addSample(sample) || (samplesSize += sample.length) >= SAMPLES_SIZE) {
+                ZstdDictTrainer res = trainer;
+
+                trainer = null;
+
+                return res;
+            }
+
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Versions.class, this);
+        }
+    }
+
+    /** Trained dictionary. */
+    static class Dictionary {
+        /** Dictionary id. */
+        final int id;
+
+        /** Version. */
+        final int ver;
+
+        /** Dictionary. */
+        private final byte[] dict;
+
+        /** Decompressor. */
+        private final ZstdDictDecompress decompressor;
+
+        /** Compressors by the compression levels. */
+        private final Map<Integer, ZstdDictCompress> compressors = new ConcurrentHashMap<>();
+
+        /** Count of the data chunks compressed with the dictionary on the local node. */
+        private final AtomicLong compressed = new AtomicLong();
+
+        /**
+         * @param id Dictionary id.
+         * @param ver Version.
+         * @param dict Dictionary.
+         */
+        private Dictionary(int id, int ver, byte[] dict) {
+            this.id = id;
+            this.ver = ver;
+            this.dict = dict;
+
+            decompressor = new ZstdDictDecompress(dict);
+        }
+
+        /**
+         * Gets the compressor counting the data compressed with the dictionary.
+         *
+         * @param level Compression level.
+         * @return Compressor.
+         */
+        ZstdDictCompress compressor(int level) {
+            compressed.incrementAndGet();
+
+            return compressors.computeIfAbsent(level, l -> new ZstdDictCompress(dict, l));
+        }
+
+        /** @return Decompressor. */
+        ZstdDictDecompress decompressor() {
+            return decompressor;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentFileIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentWriter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentWriter.BLOCK_SIZE;
+
+/**
+ * WAL compaction test with the block compressed segments.
+ */
+public class WalCompactionWithBlockCompressionTest extends WalCompactionTest {
+    /** Record size. */
+    private static final int REC_SIZE = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String gridName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(gridName);
+
+        cfg.getDataStorageConfiguration().setWalCompactionCompression(DiskPageCompression.ZSTD);
+
+        return cfg;
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testSegmentZstd() throws Exception {
+        checkSegment(DiskPageCompression.ZSTD, 1);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testSegmentLz4() throws Exception {
+        checkSegment(DiskPageCompression.LZ4, 0);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testCorruptedCompression() throws Exception {
+        File file = new File(U.defaultWorkDirectory(), "segment.wal.zip");
+
+        try {
+            try (BlockCompressedSegmentWriter writer =
+                     new BlockCompressedSegmentWriter(new RandomAccessFileIOFactory().create(file), DiskPageCompression.ZSTD, 1)) {
+                writer.startRecord(0);
+                writer.write(new byte[REC_SIZE], 0, REC_SIZE);
+            }
+
+            checkCorruptedCompression(file, (byte)100, "Unknown compression");
+            checkCorruptedCompression(file, (byte)DiskPageCompression.SNAPPY.ordinal(), "Unsupported compression");
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * @param file Block compressed segment.
+     * @param compression Compression to write to the header.
+     * @param msg Expected error message.
+     * @throws Exception If failed.
+     */
+    private void checkCorruptedCompression(File file, byte compression, String msg) throws Exception {
+        try (FileIO io = new RandomAccessFileIOFactory().create(file)) {
+            // Compression follows the magic and the format version.
+            io.writeFully(ByteBuffer.wrap(new byte[] {compression}), Integer.BYTES + 1);
+        }
+
+        Throwable e = GridTestUtils.assertThrows(log,
+            () -> new BlockCompressedSegmentFileIO(file, new RandomAccessFileIOFactory()).close(),
+            IOException.class,
+            msg);
+
+        assertTrue(e.getMessage().contains(file.getAbsolutePath()));
+    }
+
+    /**
+     * Writes a segment of the records with the increasing file offsets and reads it back.
+     *
+     * @param compression Compression algorithm.
+     * @param level Compression level.
+     * @throws Exception If failed.
+     */
+    private void checkSegment(DiskPageCompression compression, int level) throws Exception {
+        File file = new File(U.defaultWorkDirectory(), "segment.wal.zip");
+
+        int recs = 3 * BLOCK_SIZE / REC_SIZE + 10;
+
+        byte[] data = new byte[recs * REC_SIZE];
+
+        for (int i = 0; i < data.length; i++)
+            data[i] = (byte)(i / REC_SIZE + (i % 7 == 0 ? ThreadLocalRandom.current().nextInt() : 0));
+
+        try (BlockCompressedSegmentWriter writer =
+                 new BlockCompressedSegmentWriter(new RandomAccessFileIOFactory().create(file), compression, level)) {
+            for (int i = 0; i < recs; i++) {
+                // Raw segment keeps the physical records between the logical ones.
+                writer.startRecord(i * REC_SIZE * 2);
+                writer.write(data, i * REC_SIZE, REC_SIZE);
+            }
+        }
+
+        assertTrue(BlockCompressedSegmentFileIO.isBlockCompressed(file, new RandomAccessFileIOFactory()));
+        assertTrue(file.length() < data.length);
+
+        try (FileIO io = new BlockCompressedSegmentFileIO(file, new RandomAccessFileIOFactory())) {
+            assertEquals(data.length, io.size());
+
+            ByteBuffer buf = ByteBuffer.allocate(data.length);
+
+            io.readFully(buf);
+
+            assertEqualsArraysAware(data, buf.array());
+
+            BlockCompressedSegmentFileIO blockIo = (BlockCompressedSegmentFileIO)io;
+
+            // Records of the first block are found from the beginning.
+            assertEquals(0, blockIo.recordPosition(REC_SIZE * 2));
+
+            int rec = 2 * BLOCK_SIZE / REC_SIZE + 5;
+
+            long pos = blockIo.recordPosition(rec * REC_SIZE * 2);
+
+            assertTrue(pos > BLOCK_SIZE);
+            assertTrue(pos <= (long)rec * REC_SIZE);
+            assertEquals(0, pos % REC_SIZE);
+
+            // Seeks backwards and reads the record from the middle of the block.
+            io.position((long)rec * REC_SIZE);
+
+            buf = ByteBuffer.allocate(REC_SIZE);
+
+            io.readFully(buf);
+
+            for (int i = 0; i < REC_SIZE; i++)
+                assertEquals(data[rec * REC_SIZE + i], buf.get(i));
+        }
+        finally {
+            file.delete();
+        }
+    }
+}
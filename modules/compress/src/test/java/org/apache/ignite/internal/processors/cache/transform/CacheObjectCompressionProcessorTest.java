@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transform;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests the built-in compression of the cache values.
+ */
+public class CacheObjectCompressionProcessorTest extends AbstractCacheObjectTransformationTest {
+    /** Template of the SQL table caches with the compressed values. */
+    private static final String SQL_TEMPLATE = "compressed";
+
+    /** Metastorage key of the first version of the Zstd dictionary of the cache. */
+    private static final String DICT_KEY = "compress.zstd.entry.dict." + CU.cacheId(CACHE_NAME) + ".1";
+
+    /** Metastorage key of the Zstd dictionary version of the cache registered by all the nodes. */
+    private static final String READY_KEY = "compress.zstd.entry.dict.ready." + CU.cacheId(CACHE_NAME);
+
+    /** Compression of the cache values. */
+    private DiskPageCompression compression;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(cacheConfiguration(), new CacheConfiguration<>(SQL_TEMPLATE + '*')
+                .setValueCompression(compression));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheConfiguration<?, ?> cacheConfiguration() {
+        return super.cacheConfiguration().setValueCompression(compression);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testZstd() throws Exception {
+        compression = DiskPageCompression.ZSTD;
+
+        IgniteEx ignite = (IgniteEx)prepareCluster();
+
+        checkCompression(ignite);
+
+        IgniteCache<Integer, String> cache = ignite.cache(CACHE_NAME);
+
+        Map<Integer, String> vals = new HashMap<>();
+
+        // Values of the cache are sampled until the dictionary is trained.
+        for (int i = 0; i < 5_000; i++)
+            vals.put(-i, json(i));
+
+        cache.putAll(vals);
+
+        assertTrue(waitForCondition(() -> ignite.context().distributedMetaStorage().read(READY_KEY) != null,
+            getTestTimeout()));
+
+        assertNotNull(ignite.context().distributedMetaStorage().read(DICT_KEY));
+
+        // Compressed with the dictionary.
+        cache.put(1, json(-1));
+
+        for (Ignite node : G.allGrids())
+            assertEquals(json(-1), node.cache(CACHE_NAME).get(1));
+
+        for (Map.Entry<Integer, String> e : vals.entrySet())
+            assertEquals(e.getValue(), cache.get(e.getKey()));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testLz4() throws Exception {
+        compression = DiskPageCompression.LZ4;
+
+        IgniteEx ignite = (IgniteEx)prepareCluster();
+
+        checkCompression(ignite);
+
+        assertNull(ignite.context().distributedMetaStorage().read(DICT_KEY));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testUnsupportedCompression() throws Exception {
+        compression = DiskPageCompression.LZ4;
+
+        IgniteEx ignite = (IgniteEx)prepareCluster();
+
+        GridTestUtils.assertThrowsAnyCause(log,
+            () -> ignite.createCache(new CacheConfiguration<>("snappy").setValueCompression(DiskPageCompression.SNAPPY)),
+            IgniteCheckedException.class,
+            "Unsupported cache values compression");
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @throws Exception If failed.
+     */
+    private void checkCompression(IgniteEx ignite) throws Exception {
+        putAndGet(42, false, false); // No chances to compress integer.
+        putAndGet("Test string", false, false); // Too short string.
+        putAndGet(json(1), true, false);
+        putAndGet(new BinarizableData(json(2), null, 42), true, false);
+        List<Object> list = new ArrayList<>();
+
+        list.add(json(3));
+
+        putAndGet(new BinarizableData("Test string", list, 42), true, false);
+
+        IgniteCache<Integer, String> other = ignite.getOrCreateCache("other");
+
+        other.put(1, json(4));
+
+        assertEquals(json(4), other.get(1));
+
+        IgniteCache<?, ?> cache = ignite.cache(CACHE_NAME);
+
+        cache.query(new SqlFieldsQuery("CREATE TABLE DOC (ID INT PRIMARY KEY, BODY VARCHAR) " +
+            "WITH \"TEMPLATE=" + SQL_TEMPLATE + "\"")).getAll();
+
+        for (int i = 0; i < 10; i++)
+            cache.query(new SqlFieldsQuery("INSERT INTO DOC (ID, BODY) VALUES (?, ?)").setArgs(i, json(i))).getAll();
+
+        List<List<?>> rows = cache.query(new SqlFieldsQuery("SELECT BODY FROM DOC WHERE ID = ?").setArgs(5)).getAll();
+
+        assertEquals(1, rows.size());
+        assertEquals(json(5), rows.get(0).get(0));
+
+        rows = cache.query(new SqlFieldsQuery("SELECT ID FROM DOC WHERE BODY = ?").setArgs(json(7))).getAll();
+
+        assertEquals(1, rows.size());
+        assertEquals(7, rows.get(0).get(0));
+    }
+
+    /**
+     * @param i Index.
+     * @return JSON-like document.
+     */
+    private static String json(int i) {
+        StringBuilder sb = new StringBuilder("{\"id\": ").append(i).append(", \"items\": [");
+
+        for (int k = 0; k < 20; k++) {
+            sb.append("{\"name\": \"item-").append(i + k).append("\", \"price\": ").append(k * 10 + i % 7)
+                .append(", \"available\": ").append(k % 2 == 0).append("}, ");
+        }
+
+        return sb.append("{}]}").toString();
+    }
+}
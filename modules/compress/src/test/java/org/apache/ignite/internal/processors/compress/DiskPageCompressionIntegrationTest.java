@@ -21,9 +21,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.OpenOption;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
@@ -42,10 +44,14 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecora
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY;
 import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
 import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
 import static org.apache.ignite.configuration.DiskPageCompression.ZSTD;
@@ -183,6 +189,99 @@ public class DiskPageCompressionIntegrationTest extends AbstractPageCompressionI
         fail("No files were compacted.");
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY, value = "true")
+    public void testZstdDictionaryCompression() throws Exception {
+        checkZstdDictionaryCompression(false);
+    }
+
+    /**
+     * The node which trained the first version of the dictionary left before marking it ready.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY, value = "true")
+    public void testZstdDictionaryNotMarkedReady() throws Exception {
+        checkZstdDictionaryCompression(true);
+    }
+
+    /**
+     * @param notReady {@code True} to write the first version of the dictionary without marking it ready.
+     * @throws Exception If failed.
+     */
+    private void checkZstdDictionaryCompression(boolean notReady) throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        String cacheName = "test";
+
+        CacheConfiguration<Integer, TestVal> ccfg = new CacheConfiguration<Integer, TestVal>()
+            .setName(cacheName)
+            .setAtomicityMode(ATOMIC)
+            .setAffinity(new RendezvousAffinityFunction(false, 4))
+            .setDiskPageCompression(ZSTD);
+
+        IgniteCache<Integer, TestVal> cache = ignite.getOrCreateCache(ccfg);
+
+        String dictKey = ZstdDictionaries.key(CompressionProcessorImpl.ZSTD_DICT_KEY_PREFIX, CU.cacheId(cacheName), 1);
+        String readyKey = ZstdDictionaries.readyKey(CompressionProcessorImpl.ZSTD_DICT_KEY_PREFIX, CU.cacheId(cacheName));
+
+        byte[] dict = null;
+
+        if (notReady) {
+            dict = new byte[ZstdDictionaries.DICT_SIZE];
+
+            ThreadLocalRandom.current().nextBytes(dict);
+
+            ignite.context().distributedMetastorage().write(dictKey, dict);
+        }
+
+        GridCacheDatabaseSharedManager dbMgr = ((GridCacheDatabaseSharedManager)ignite.context()
+            .cache().context().database());
+
+        int cnt = 0;
+
+        // The data pages written by the checkpoints are sampled until the dictionary is trained.
+        while (ignite.context().distributedMetastorage().read(readyKey) == null) {
+            assertTrue("Dictionary is not trained [keys=" + cnt + ']', cnt < 500_000);
+
+            for (int i = 0; i < 20_000; i++, cnt++)
+                cache.put(cnt, new TestVal(cnt));
+
+            dbMgr.forceCheckpoint("train dictionary").futureFor(FINISHED).get();
+        }
+
+        if (notReady) {
+            // The version left by the failed node is marked ready instead of retraining forever.
+            assertEquals(1, (int)ignite.context().distributedMetastorage().<Integer>read(readyKey));
+            assertTrue(Arrays.equals(dict, ignite.context().distributedMetastorage().read(dictKey)));
+        }
+
+        // Rewrite the pages with the trained dictionary.
+        for (int i = 0; i < cnt; i++)
+            cache.put(i, new TestVal(i + 1));
+
+        dbMgr.forceCheckpoint("compress with dictionary").futureFor(FINISHED).get();
+
+        stopAllGrids();
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        assertNotNull(ignite.context().distributedMetastorage().read(dictKey));
+
+        cache = ignite.cache(cacheName);
+
+        for (int i = 0; i < cnt; i++)
+            assertEquals(new TestVal(i + 1), cache.get(i));
+    }
+
     /**
      */
     public void _testCompressionRatio() throws Exception {
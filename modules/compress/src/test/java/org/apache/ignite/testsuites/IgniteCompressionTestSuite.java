@@ -20,6 +20,7 @@ package org.apache.ignite.testsuites;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.transform.CacheObjectCompressionConsumptionTest;
+import org.apache.ignite.internal.processors.cache.transform.CacheObjectCompressionProcessorTest;
 import org.apache.ignite.internal.processors.cache.transform.CacheObjectCompressionTest;
 import org.apache.ignite.testframework.junits.DynamicSuite;
 import org.junit.runner.RunWith;
@@ -35,6 +36,7 @@ public class IgniteCompressionTestSuite {
 
         suite.add(CacheObjectCompressionTest.class);
         suite.add(CacheObjectCompressionConsumptionTest.class);
+        suite.add(CacheObjectCompressionProcessorTest.class);
 
         return suite;
     }
@@ -36,6 +36,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommen
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntry;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
 import org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker;
@@ -63,6 +64,9 @@ import static org.apache.ignite.internal.processors.cache.CacheAffinitySharedMan
 import static org.apache.ignite.internal.processors.cache.CacheObjectsReleaseFuture.DFLT_IGNITE_PARTITION_RELEASE_FUTURE_WARN_LIMIT;
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_RETRIES_COUNT;
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_START_SIZE;
+import static org.apache.ignite.internal.processors.cache.GridCacheContext.DFLT_CACHE_ENTRY_LOCK_STRIPES;
+import static org.apache.ignite.internal.processors.cache.GridCacheContext.DFLT_HOT_KEYS_READ_FROM_BACKUP;
+import static org.apache.ignite.internal.processors.cache.GridCacheContext.DFLT_HOT_KEYS_SAMPLING_RATE;
 import static org.apache.ignite.internal.processors.cache.GridCacheContext.DFLT_READ_LOAD_BALANCING;
 import static org.apache.ignite.internal.processors.cache.GridCacheMvccManager.DFLT_MAX_NESTED_LISTENER_CALLS;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_DIAGNOSTIC_WARN_LIMIT;
@@ -76,6 +80,11 @@ import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBina
 import static org.apache.ignite.internal.processors.cache.distributed.dht.CacheDistributedGetFutureAdapter.DFLT_MAX_REMAP_CNT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_REPLICATION_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_REPLICATION_BATCH_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_UPDATE_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_UPDATE_BATCH_WINDOW;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemander.DFLT_FILE_REBALANCE_ENABLED;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_LONG_OPERATIONS_DUMP_TIMEOUT_LIMIT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_PARTITION_RELEASE_FUTURE_DUMP_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPreloader.DFLT_PRELOAD_RESEND_TIMEOUT;
@@ -108,11 +117,14 @@ import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxM
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_SLOW_TX_WARN_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TRANSACTION_TIME_DUMP_SAMPLES_PER_SECOND_LIMIT;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS;
+import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_LOCK_FREE_READ_ONLY;
+import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_ORDERED_LOCKS;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_OWNER_DUMP_REQUESTS_ALLOWED;
 import static org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetection.DFLT_TX_DEADLOCK_DETECTION_TIMEOUT;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_DIAGNOSTIC_ENABLED;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_UPDATE_NOTIFIER;
 import static org.apache.ignite.internal.processors.cluster.baseline.autoadjust.BaselineTopologyUpdater.DFLT_BASELINE_AUTO_ADJUST_LOG_INTERVAL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.DFLT_DISK_PAGE_COMPRESSION_DICTIONARY;
 import static org.apache.ignite.internal.processors.datastructures.GridAtomicCacheQueueImpl.DFLT_ATOMIC_CACHE_QUERY_RETRY_TIMEOUT;
 import static org.apache.ignite.internal.processors.diagnostic.DiagnosticProcessor.DFLT_DUMP_PAGE_LOCK_ON_FAILURE;
 import static org.apache.ignite.internal.processors.failure.FailureProcessor.DFLT_FAILURE_HANDLER_RESERVE_BUFFER_SIZE;
@@ -416,6 +428,27 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_TX_DEADLOCK_DETECTION_TIMEOUT)
     public static final String IGNITE_TX_DEADLOCK_DETECTION_TIMEOUT = "IGNITE_TX_DEADLOCK_DETECTION_TIMEOUT";
 
+    /**
+     * If enabled, an {@code OPTIMISTIC SERIALIZABLE} transaction which has only read entries is committed without
+     * locking: the versions of the read entries are read again from the primary nodes and compared with the versions
+     * seen by the transaction, and no prepare and finish requests are sent.
+     */
+    @SystemProperty(value = "If enabled, an OPTIMISTIC SERIALIZABLE transaction which has only read entries is " +
+        "committed without locking by comparing the versions of the read entries with their current versions on " +
+        "the primary nodes", defaults = "" + DFLT_TX_LOCK_FREE_READ_ONLY)
+    public static final String IGNITE_TX_LOCK_FREE_READ_ONLY = "IGNITE_TX_LOCK_FREE_READ_ONLY";
+
+    /**
+     * If enabled, the keys locked by a pessimistic transaction operation are sorted by primary node, partition and
+     * key, and are locked with one request per primary node. A primary node adds the lock candidates of a request
+     * atomically for the partitions of the request. Operations locking keys this way cannot deadlock on each other.
+     * Must be set to the same value on all the nodes.
+     */
+    @SystemProperty(value = "If enabled, the keys locked by a pessimistic transaction operation are locked in a " +
+        "global order with one request per primary node, so such operations cannot deadlock on each other. Must be " +
+        "set to the same value on all the nodes", defaults = "" + DFLT_TX_ORDERED_LOCKS)
+    public static final String IGNITE_TX_ORDERED_LOCKS = "IGNITE_TX_ORDERED_LOCKS";
+
     /**
      * System property to enable pending transaction tracker.
      * Affects impact of {@link IgniteSystemProperties#IGNITE_DISABLE_WAL_DURING_REBALANCING} property:
@@ -554,6 +587,40 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT)
     public static final String IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT = "IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT";
 
+    /**
+     * Maximum number of concurrent single key puts into an atomic cache which are coalesced into one update request
+     * per primary node. Batching is disabled if the value is less than {@code 2}.
+     */
+    @SystemProperty(value = "Maximum number of concurrent single key puts into an atomic cache which are coalesced " +
+        "into one update request per primary node. Batching is disabled if the value is less than 2", type = Integer.class,
+        defaults = "" + DFLT_ATOMIC_UPDATE_BATCH_SIZE)
+    public static final String IGNITE_ATOMIC_UPDATE_BATCH_SIZE = "IGNITE_ATOMIC_UPDATE_BATCH_SIZE";
+
+    /**
+     * Time in microseconds the first single key put into an atomic cache waits for the concurrent puts to coalesce
+     * with, see {@link #IGNITE_ATOMIC_UPDATE_BATCH_SIZE}.
+     */
+    @SystemProperty(value = "Time in microseconds the first single key put into an atomic cache waits for the " +
+        "concurrent puts to coalesce with", type = Integer.class, defaults = "" + DFLT_ATOMIC_UPDATE_BATCH_WINDOW)
+    public static final String IGNITE_ATOMIC_UPDATE_BATCH_WINDOW = "IGNITE_ATOMIC_UPDATE_BATCH_WINDOW";
+
+    /**
+     * Maximum number of backup updates of a {@link org.apache.ignite.cache.CacheWriteSynchronizationMode#PRIMARY_SYNC}
+     * atomic cache partition which the primary node packs into one message to a backup node.
+     */
+    @SystemProperty(value = "Maximum number of backup updates of a PRIMARY_SYNC atomic cache partition which the " +
+        "primary node packs into one message to a backup node. Batching is disabled if the value is less than 2",
+        type = Integer.class, defaults = "" + DFLT_ATOMIC_REPLICATION_BATCH_SIZE)
+    public static final String IGNITE_ATOMIC_REPLICATION_BATCH_SIZE = "IGNITE_ATOMIC_REPLICATION_BATCH_SIZE";
+
+    /**
+     * Time in milliseconds after which a partially filled batch of backup updates is sent,
+     * see {@link #IGNITE_ATOMIC_REPLICATION_BATCH_SIZE}.
+     */
+    @SystemProperty(value = "Time in milliseconds after which a partially filled batch of backup updates of " +
+        "an atomic cache is sent", type = Integer.class, defaults = "" + DFLT_ATOMIC_REPLICATION_BATCH_TIMEOUT)
+    public static final String IGNITE_ATOMIC_REPLICATION_BATCH_TIMEOUT = "IGNITE_ATOMIC_REPLICATION_BATCH_TIMEOUT";
+
     /**
      * Atomic cache deferred update timeout.
      */
@@ -1296,6 +1363,42 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_READ_LOAD_BALANCING)
     public static final String IGNITE_READ_LOAD_BALANCING = "IGNITE_READ_LOAD_BALANCING";
 
+    /**
+     * Number of lock stripes shared by the on-heap entries of a cache. If positive, the entries take their locks from
+     * a striped table of the cache instead of allocating a lock per entry, which saves the memory of the entries
+     * under random-access load. Entries which share a stripe exclude each other. Entries of the near caches always
+     * have their own locks.
+     *
+     * Default is {@code 0} (every entry has its own lock).
+     */
+    @SystemProperty(value = "Number of lock stripes shared by the on-heap cache entries. If positive, the entries " +
+        "take their locks from a striped table of the cache instead of allocating a lock per entry",
+        type = Integer.class, defaults = "" + DFLT_CACHE_ENTRY_LOCK_STRIPES)
+    public static final String IGNITE_CACHE_ENTRY_LOCK_STRIPES = "IGNITE_CACHE_ENTRY_LOCK_STRIPES";
+
+    /**
+     * Sampling rate of the hot key detection. If positive, every N-th remote read of a cache is sampled on average
+     * and the keys taking a noticeable share of the sampled reads are reported by the {@code hotKeys} system view.
+     *
+     * Default is {@code 0} (hot keys are not detected).
+     */
+    @SystemProperty(value = "Sampling rate of the hot key detection. If positive, every N-th remote read of a cache " +
+        "is sampled on average and the detected hot keys are reported by the hotKeys system view",
+        type = Integer.class, defaults = "" + DFLT_HOT_KEYS_SAMPLING_RATE)
+    public static final String IGNITE_HOT_KEYS_SAMPLING_RATE = "IGNITE_HOT_KEYS_SAMPLING_RATE";
+
+    /**
+     * If {@code true}, the reads of the detected hot keys are balanced between the primary and the backup nodes even
+     * if {@link CacheConfiguration#isReadFromBackup()} is {@code false}. Requires
+     * {@link #IGNITE_HOT_KEYS_SAMPLING_RATE} to be set.
+     *
+     * Default is {@code false}.
+     */
+    @SystemProperty(value = "If true, the reads of the detected hot keys are balanced between the primary and " +
+        "the backup nodes even if CacheConfiguration.isReadFromBackup() is false",
+        defaults = "" + DFLT_HOT_KEYS_READ_FROM_BACKUP)
+    public static final String IGNITE_HOT_KEYS_READ_FROM_BACKUP = "IGNITE_HOT_KEYS_READ_FROM_BACKUP";
+
     /**
      * Number of repetitions to capture a lock in the B+Tree.
      */
@@ -1338,6 +1441,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "rebalancing if there is no partition in OWNING state", defaults = "" + DFLT_DISABLE_WAL_DURING_REBALANCING)
     public static final String IGNITE_DISABLE_WAL_DURING_REBALANCING = "IGNITE_DISABLE_WAL_DURING_REBALANCING";
 
+    /**
+     * When set to {@code true}, partitions of persistent cache groups which are rebalanced from scratch are
+     * transferred as partition files and then caught up by historical rebalancing. Cache groups with SQL indexes
+     * or encryption are always rebalanced entry by entry.
+     * Default is {@code false}.
+     */
+    @SystemProperty(value = "When set to true, partitions of persistent cache groups which are rebalanced from " +
+        "scratch are transferred as partition files and then caught up by historical rebalancing",
+        defaults = "" + DFLT_FILE_REBALANCE_ENABLED)
+    public static final String IGNITE_PDS_FILE_REBALANCE_ENABLED = "IGNITE_PDS_FILE_REBALANCE_ENABLED";
+
     /**
      * When property is set {@code false} each next exchange will try to compare with previous.
      * If last rebalance is equivalent with new possible one, new rebalance does not trigger.
@@ -1518,6 +1632,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = DiskPageCompression.class)
     public static final String IGNITE_DEFAULT_DISK_PAGE_COMPRESSION = "IGNITE_DEFAULT_DISK_PAGE_COMPRESSION";
 
+    /**
+     * If {@code true} then the data pages compressed with {@link DiskPageCompression#ZSTD} are compressed with
+     * the dictionaries trained per cache group on the pages written by the checkpoints. The dictionaries are stored in
+     * the distributed metastorage, the nodes decompress the pages with the dictionaries regardless of the property.
+     * <p>
+     * Default is {@link CompressionProcessor#DFLT_DISK_PAGE_COMPRESSION_DICTIONARY}.
+     */
+    @SystemProperty(value = "Enables the Zstd disk page compression with the dictionaries trained per cache group",
+        defaults = "" + DFLT_DISK_PAGE_COMPRESSION_DICTIONARY)
+    public static final String IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY = "IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY";
+
     /**
      * Sets default {@link DataStorageConfiguration#setPageSize storage page size}.
      */
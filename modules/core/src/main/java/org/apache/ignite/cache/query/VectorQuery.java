@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cache.query;
+
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.QueryIndex;
+import org.apache.ignite.cache.QueryIndexType;
+import org.apache.ignite.internal.processors.query.QueryUtils;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * <h1 class="header">Vector Similarity Queries</h1>
+ * Vector query finds {@code k} cache entries which vectors are the most similar to the given one. The queried field
+ * must be of {@code float[]} type and must be indexed with {@link QueryIndexType#VECTOR} index. Similarity is
+ * measured as cosine of the angle between vectors, it is returned as score of the entry.
+ * <p>
+ * Search is approximate: every node searches its own partitions and returns the best local matches, which are
+ * merged by score into the resulting top-{@code k}.
+ *
+ * <h2 class="header">Query usage</h2>
+ * As an example, suppose we have data model consisting of {@code 'Document'} class defined as follows:
+ * <pre name="code" class="java">
+ * public class Document {
+ *     private long id;
+ *
+ *     private String text;
+ *
+ *     private float[] embedding;
+ *     ...
+ * }
+ * </pre>
+ *
+ * The {@code embedding} field is indexed via {@link QueryIndex} of {@link QueryIndexType#VECTOR} type, and here is
+ * a query that finds 10 documents which embeddings are the closest to the given one:
+ * <pre name="code" class="java">
+ * Query&lt;Cache.Entry&lt;Long, Document&gt;&gt; qry =
+ *     new VectorQuery(Document.class, "embedding", embedding, 10);
+ *
+ * // Query all cache nodes.
+ * cache.query(qry).getAll();
+ * </pre>
+ *
+ * @see IgniteCache#query(Query)
+ */
+public final class VectorQuery<K, V> extends Query<Cache.Entry<K, V>> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Cache value type. */
+    private String type;
+
+    /** Vector field name. */
+    private String field;
+
+    /** Vector to search similar ones for. */
+    private float[] vec;
+
+    /** Count of entries to return. */
+    private int k;
+
+    /**
+     * Constructs query for the given vector.
+     *
+     * @param type Cache value type.
+     * @param field Vector field name.
+     * @param vec Vector to search similar ones for.
+     * @param k Count of entries to return.
+     */
+    public VectorQuery(String type, String field, float[] vec, int k) {
+        setType(type);
+        setField(field);
+        setVector(vec);
+        setK(k);
+    }
+
+    /**
+     * Constructs query for the given vector.
+     *
+     * @param type Cache value class.
+     * @param field Vector field name.
+     * @param vec Vector to search similar ones for.
+     * @param k Count of entries to return.
+     */
+    public VectorQuery(Class<?> type, String field, float[] vec, int k) {
+        setType(type);
+        setField(field);
+        setVector(vec);
+        setK(k);
+    }
+
+    /**
+     * Gets type for query.
+     *
+     * @return Type.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets type for query.
+     *
+     * @param type Cache value class.
+     * @return {@code this} For chaining.
+     */
+    public VectorQuery<K, V> setType(Class<?> type) {
+        return setType(QueryUtils.typeName(type));
+    }
+
+    /**
+     * Sets type for query.
+     *
+     * @param type Cache value type.
+     * @return {@code this} For chaining.
+     */
+    public VectorQuery<K, V> setType(String type) {
+        A.notNull(type, "type");
+
+        this.type = type;
+
+        return this;
+    }
+
+    /**
+     * Gets vector field name.
+     *
+     * @return Vector field name.
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Sets vector field name.
+     *
+     * @param field Vector field name.
+     * @return {@code this} For chaining.
+     */
+    public VectorQuery<K, V> setField(String field) {
+        A.notNull(field, "field");
+
+        this.field = field;
+
+        return this;
+    }
+
+    /**
+     * Gets vector to search similar ones for.
+     *
+     * @return Vector.
+     */
+    public float[] getVector() {
+        return vec;
+    }
+
+    /**
+     * Sets vector to search similar ones for.
+     *
+     * @param vec Vector.
+     * @return {@code this} For chaining.
+     */
+    public VectorQuery<K, V> setVector(float[] vec) {
+        A.notNull(vec, "vec");
+        A.ensure(vec.length > 0, "vec must not be empty");
+
+        this.vec = vec;
+
+        return this;
+    }
+
+    /**
+     * Gets count of entries to return.
+     *
+     * @return Count of entries to return.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Sets count of entries to return.
+     *
+     * @param k Count of entries to return.
+     * @return {@code this} For chaining.
+     */
+    public VectorQuery<K, V> setK(int k) {
+        A.ensure(k > 0, "k must be positive");
+
+        this.k = k;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public VectorQuery<K, V> setPageSize(int pageSize) {
+        return (VectorQuery<K, V>)super.setPageSize(pageSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override public VectorQuery<K, V> setLocal(boolean loc) {
+        return (VectorQuery<K, V>)super.setLocal(loc);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(VectorQuery.class, this);
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.ignite.cdc;
 
+import java.util.Iterator;
 import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.spi.metric.MetricExporterSpi;
 import org.apache.ignite.spi.metric.jmx.JmxMetricExporterSpi;
 
@@ -34,6 +36,9 @@ public class CdcConfiguration {
     /** */
     private static final boolean DFLT_KEEP_BINARY = true;
 
+    /** */
+    private static final int DFLT_THREAD_CNT = 1;
+
     /** Change Data Capture consumer. */
     private CdcConsumer consumer;
 
@@ -57,6 +62,13 @@ public class CdcConfiguration {
      */
     private long checkFreq = DFLT_CHECK_FREQ;
 
+    /**
+     * Number of threads passing the events to the consumer. Default is {@code 1}.
+     *
+     * @see #setThreadCount(int)
+     */
+    private int threadCnt = DFLT_THREAD_CNT;
+
     /** @return CDC consumer. */
     public CdcConsumer getConsumer() {
         return consumer;
@@ -120,4 +132,23 @@ public class CdcConfiguration {
     public void setCheckFrequency(long checkFreq) {
         this.checkFreq = checkFreq;
     }
+
+    /** @return Number of threads passing the events to the consumer. */
+    public int getThreadCount() {
+        return threadCnt;
+    }
+
+    /**
+     * Sets the number of threads passing the events to the consumer. If greater than {@code 1} then WAL is read by
+     * a single thread and the events of different partitions are passed to {@link CdcConsumer#onEvents(Iterator)}
+     * concurrently, so the consumer must be thread-safe. The events of a partition are always passed in the WAL order
+     * by the same thread. The state of consumption is committed only if all the previous events are consumed.
+     *
+     * @param threadCnt Number of threads passing the events to the consumer.
+     */
+    public void setThreadCount(int threadCnt) {
+        A.ensure(threadCnt > 0, "threadCnt > 0");
+
+        this.threadCnt = threadCnt;
+    }
 }
@@ -27,6 +27,7 @@ import org.apache.ignite.cache.CacheEntryVersion;
 import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.resources.LoggerResource;
 import org.apache.ignite.spi.systemview.view.CacheView;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Consumer of WAL data change events.
@@ -144,4 +145,14 @@ public interface CdcConsumer {
     public default boolean alive() {
         return true;
     }
+
+    /**
+     * Provides the filter of the data change events. The events filtered out are skipped while the WAL is read
+     * and are not passed to {@link #onEvents(Iterator)}. Invoked once after {@link #start(MetricRegistry)}.
+     *
+     * @return Events filter or {@code null} if all the events are consumed.
+     */
+    public default @Nullable CdcEventFilter eventFilter() {
+        return null;
+    }
 }
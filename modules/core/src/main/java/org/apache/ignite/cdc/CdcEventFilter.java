@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Filter of the data change events provided by {@link CdcConsumer#eventFilter()}.
+ * <p>
+ * The filter is applied while the WAL records are read: the entries filtered out are skipped without deserialization
+ * of the keys and the values and never reach {@link CdcConsumer#onEvents(Iterator)}. The offset of consumption
+ * is kept the same way as if the entries were consumed.
+ */
+public class CdcEventFilter {
+    /** Identifiers of the caches to consume, {@code null} means all the caches. */
+    private Set<Integer> cacheIds;
+
+    /** Consume updates flag. */
+    private boolean updates = true;
+
+    /** Consume removals flag. */
+    private boolean removals = true;
+
+    /** @return Identifiers of the caches to consume, {@code null} means all the caches. */
+    public @Nullable Set<Integer> getCacheIds() {
+        return cacheIds;
+    }
+
+    /**
+     * @param cacheIds Identifiers of the caches to consume, {@code null} means all the caches.
+     * @return {@code this} for chaining.
+     */
+    public CdcEventFilter setCacheIds(@Nullable Collection<Integer> cacheIds) {
+        this.cacheIds = cacheIds == null ? null : new HashSet<>(cacheIds);
+
+        return this;
+    }
+
+    /**
+     * @param cacheNames Names of the caches to consume.
+     * @return {@code this} for chaining.
+     */
+    public CdcEventFilter setCacheNames(String... cacheNames) {
+        cacheIds = new HashSet<>();
+
+        for (String name : cacheNames)
+            cacheIds.add(CU.cacheId(name));
+
+        return this;
+    }
+
+    /** @return {@code True} if the updates are consumed. */
+    public boolean isUpdates() {
+        return updates;
+    }
+
+    /**
+     * @param updates {@code True} if the updates are consumed.
+     * @return {@code this} for chaining.
+     */
+    public CdcEventFilter setUpdates(boolean updates) {
+        this.updates = updates;
+
+        return this;
+    }
+
+    /** @return {@code True} if the removals are consumed. */
+    public boolean isRemovals() {
+        return removals;
+    }
+
+    /**
+     * @param removals {@code True} if the removals are consumed.
+     * @return {@code this} for chaining.
+     */
+    public CdcEventFilter setRemovals(boolean removals) {
+        this.removals = removals;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CdcEventFilter.class, this);
+    }
+}
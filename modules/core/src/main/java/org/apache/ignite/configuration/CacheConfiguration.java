@@ -386,6 +386,9 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
     /** */
     private Integer diskPageCompressionLevel;
 
+    /** */
+    private DiskPageCompression valCompression;
+
     /**
      * Root directories where partition files are stored.
      * @see DataStorageConfiguration#setStoragePath(String)
@@ -465,6 +468,7 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
         onheapCache = cc.isOnheapCacheEnabled();
         diskPageCompression = cc.getDiskPageCompression();
         diskPageCompressionLevel = cc.getDiskPageCompressionLevel();
+        valCompression = cc.getValueCompression();
         partLossPlc = cc.getPartitionLossPolicy();
         pluginCfgs = cc.getPluginConfigurations();
         qryDetailMetricsSz = cc.getQueryDetailMetricsSize();
@@ -2435,6 +2439,31 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
         return this;
     }
 
+    /**
+     * Gets the compression algorithm of the cache values.
+     *
+     * @return Compression algorithm of the cache values.
+     * @see #setValueCompression
+     */
+    public DiskPageCompression getValueCompression() {
+        return valCompression == null ? DiskPageCompression.DISABLED : valCompression;
+    }
+
+    /**
+     * Sets the compression algorithm of the cache values, {@link DiskPageCompression#ZSTD Zstd} or
+     * {@link DiskPageCompression#LZ4 LZ4}. The values are compressed before they are stored to the data pages,
+     * so the memory, the WAL and the rebalance traffic are reduced regardless of the persistence.
+     * Requires the {@code ignite-compress} module on all the nodes the cache is started on.
+     *
+     * @param valCompression Compression algorithm of the cache values.
+     * @return {@code this} for chaining.
+     */
+    public CacheConfiguration<K, V> setValueCompression(DiskPageCompression valCompression) {
+        this.valCompression = valCompression;
+
+        return this;
+    }
+
     /**
      * @return A path to the root directory where the Persistent Store for cache group will persist data and indexes.
      */
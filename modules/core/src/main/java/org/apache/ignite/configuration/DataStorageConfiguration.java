@@ -177,6 +177,9 @@ public class DataStorageConfiguration implements Serializable {
     /** Default wal compaction level. */
     public static final int DFLT_WAL_COMPACTION_LEVEL = Deflater.BEST_SPEED;
 
+    /** Default compression algorithm for WAL compaction, {@link DiskPageCompression#DISABLED} means ZIP. */
+    public static final DiskPageCompression DFLT_WAL_COMPACTION_COMPRESSION = DiskPageCompression.DISABLED;
+
     /** Default defragmentation thread pool size. */
     public static final int DFLT_DEFRAGMENTATION_THREAD_POOL_SIZE = 4;
 
@@ -346,6 +349,12 @@ public class DataStorageConfiguration implements Serializable {
      */
     private int walCompactionLevel = DFLT_WAL_COMPACTION_LEVEL;
 
+    /** Compression algorithm for WAL compaction. */
+    private DiskPageCompression walCompactionCompression = DFLT_WAL_COMPACTION_COMPRESSION;
+
+    /** Compression level for WAL compaction. */
+    private Integer walCompactionCompressionLevel;
+
     /** Timeout for checkpoint read lock acquisition. */
     private Long checkpointReadLockTimeout;
 
@@ -1297,6 +1306,53 @@ public class DataStorageConfiguration implements Serializable {
         this.walCompactionLevel = walCompactionLevel;
     }
 
+    /**
+     * Gets compression algorithm for WAL compaction.
+     *
+     * @return Compression algorithm, {@link DiskPageCompression#DISABLED} if segments are compacted to ZIP files.
+     */
+    public DiskPageCompression getWalCompactionCompression() {
+        return walCompactionCompression == null ? DFLT_WAL_COMPACTION_COMPRESSION : walCompactionCompression;
+    }
+
+    /**
+     * Sets compression algorithm for WAL compaction. {@link DiskPageCompression#ZSTD Zstd} and
+     * {@link DiskPageCompression#LZ4 LZ4} compress segments by independent blocks, which is much faster than ZIP and
+     * allows to seek a compacted segment without the decompression of the whole segment. Requires the
+     * {@code ignite-compress} module. Segments compacted with any algorithm are readable regardless of this setting.
+     *
+     * @param walCompactionCompression Compression algorithm, {@link DiskPageCompression#DISABLED} to use ZIP.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalCompactionCompression(DiskPageCompression walCompactionCompression) {
+        this.walCompactionCompression = walCompactionCompression;
+
+        return this;
+    }
+
+    /**
+     * Gets {@link #getWalCompactionCompression algorithm} specific WAL compaction level.
+     *
+     * @return WAL compaction level or {@code null} for default.
+     */
+    public Integer getWalCompactionCompressionLevel() {
+        return walCompactionCompressionLevel;
+    }
+
+    /**
+     * Sets {@link #setWalCompactionCompression algorithm} specific WAL compaction level.
+     *
+     * @param walCompactionCompressionLevel WAL compaction level or {@code null} to use default.
+     *      {@link DiskPageCompression#ZSTD Zstd}: from {@code -131072} to {@code 22} (default {@code 3}).
+     *      {@link DiskPageCompression#LZ4 LZ4}: from {@code 0} to {@code 17} (default {@code 0}).
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalCompactionCompressionLevel(Integer walCompactionCompressionLevel) {
+        this.walCompactionCompressionLevel = walCompactionCompressionLevel;
+
+        return this;
+    }
+
     /**
      * Returns timeout for checkpoint read lock acquisition.
      *
@@ -1495,6 +1551,8 @@ public class DataStorageConfiguration implements Serializable {
      *
      * @param writeRecoveryDataOnCheckpoint If {@code true}, page recovery data will be written during checkpoint,
      *        if {@code false}, WAL physical records will be used to store page recovery data.
+     *        In the first mode no page snapshot and page delta records are written to WAL, so WAL holds mostly
+     *        logical records and the physical recovery replays only the checkpoint and partition state records.
      *        Default is {@link #DFLT_WRITE_RECOVERY_DATA_ON_CP}.
      * @return {@code this} for chaining.
      */
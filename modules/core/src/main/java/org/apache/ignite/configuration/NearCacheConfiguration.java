@@ -21,6 +21,7 @@ import java.io.Serializable;
 import javax.cache.configuration.Factory;
 import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.eviction.EvictionPolicy;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,6 +49,9 @@ public class NearCacheConfiguration<K, V> implements Serializable {
     /** Default near cache start size. */
     private int nearStartSize = DFLT_NEAR_START_SIZE;
 
+    /** Number of recent reads of a key required to admit it into the near cache. */
+    private int nearAdmissionFreq;
+
     /**
      * Empty constructor.
      */
@@ -64,6 +68,7 @@ public class NearCacheConfiguration<K, V> implements Serializable {
         nearEvictPlcFactory = ccfg.getNearEvictionPolicyFactory();
         nearEvictPlc = ccfg.getNearEvictionPolicy();
         nearStartSize = ccfg.getNearStartSize();
+        nearAdmissionFreq = ccfg.getNearAdmissionFrequency();
     }
 
     /**
@@ -141,6 +146,37 @@ public class NearCacheConfiguration<K, V> implements Serializable {
         return this;
     }
 
+    /**
+     * Gets the number of recent reads of a key required to admit the key into the near cache. The reads are
+     * counted by a compact frequency sketch which periodically halves its counters, so keys which are no longer
+     * read lose their frequency. Until a key is admitted it is read from the primary node without caching it
+     * locally, so the primary node neither registers the near node as a reader nor sends it the key updates.
+     * <p>
+     * Default value is {@code 0} which admits every read key.
+     *
+     * @return Number of recent reads of a key required to admit it into the near cache.
+     */
+    public int getNearAdmissionFrequency() {
+        return nearAdmissionFreq;
+    }
+
+    /**
+     * Sets the number of recent reads of a key required to admit the key into the near cache.
+     * The value must be between {@code 0} and {@code 15}, {@code 0} and {@code 1} admit every read key.
+     *
+     * @param nearAdmissionFreq Number of recent reads of a key required to admit it into the near cache.
+     * @return {@code this} for chaining.
+     * @see #getNearAdmissionFrequency()
+     */
+    public NearCacheConfiguration<K, V> setNearAdmissionFrequency(int nearAdmissionFreq) {
+        A.ensure(nearAdmissionFreq >= 0 && nearAdmissionFreq <= 15,
+            "nearAdmissionFrequency must be between 0 and 15: " + nearAdmissionFreq);
+
+        this.nearAdmissionFreq = nearAdmissionFreq;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(NearCacheConfiguration.class, this, super.toString());
@@ -19,6 +19,7 @@ package org.apache.ignite.internal;
 
 import java.lang.reflect.Constructor;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.compress.BlockCompressor;
 import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.processors.query.NoOpQueryEngine;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -118,6 +119,20 @@ public enum IgniteComponentType {
         "org.apache.ignite.internal.processors.query.calcite.CalciteQueryProcessor",
         "ignite-calcite",
         "org.apache.ignite.internal.processors.query.calcite.message.CalciteMessageFactory"
+    ),
+
+    /** Compression of the data blocks. */
+    BLOCK_COMPRESSION(
+        BlockCompressor.class.getName(),
+        "org.apache.ignite.internal.processors.compress.BlockCompressorImpl",
+        "ignite-compress"
+    ),
+
+    /** Compression of the cache values. */
+    CACHE_OBJECT_COMPRESSION(
+        null,
+        "org.apache.ignite.internal.processors.compress.CacheObjectCompressionProcessor",
+        "ignite-compress"
     );
 
     /** No-op class name. */
@@ -235,6 +235,7 @@ import static org.apache.ignite.internal.GridKernalState.STARTED;
 import static org.apache.ignite.internal.GridKernalState.STARTING;
 import static org.apache.ignite.internal.GridKernalState.STOPPED;
 import static org.apache.ignite.internal.GridKernalState.STOPPING;
+import static org.apache.ignite.internal.IgniteComponentType.CACHE_OBJECT_COMPRESSION;
 import static org.apache.ignite.internal.IgniteComponentType.COMPRESSION;
 import static org.apache.ignite.internal.IgniteComponentType.QUERY_ENGINE;
 import static org.apache.ignite.internal.IgniteComponentType.SCHEDULE;
@@ -3259,8 +3260,9 @@ public class IgniteKernal implements IgniteEx, Externalizable {
         if (cls.equals(IgniteRestProcessor.class))
             return (T)new GridRestProcessor(ctx);
 
+        // Values compressed by other nodes are restored regardless of the local caches configuration.
         if (cls.equals(CacheObjectTransformerProcessor.class))
-            return null;
+            return CACHE_OBJECT_COMPRESSION.inClassPath() ? CACHE_OBJECT_COMPRESSION.create(ctx, false) : null;
 
         Class<T> implCls = null;
 
@@ -81,4 +81,11 @@ public interface Index {
      * @return Whether index is (re)building now.
      */
     public boolean rebuildInProgress();
+
+    /**
+     * @return {@code true} if index is created and {@code false} if it is restored from disk.
+     */
+    public default boolean created() {
+        return true;
+    }
 }
@@ -653,23 +653,30 @@ public class IndexProcessor extends GridProcessorAdapter {
      * Collect indexes for rebuild.
      *
      * @param cacheName Cache name.
-     * @param createdOnly Get only created indexes (not restored from dick).
+     * @param createdOnly Get only created indexes (not restored from disk).
      */
     public List<InlineIndex> treeIndexes(String cacheName, boolean createdOnly) {
+        return indexes(cacheName, InlineIndex.class, createdOnly);
+    }
+
+    /**
+     * Collect indexes of the given type for rebuild.
+     *
+     * @param cacheName Cache name.
+     * @param cls Index type.
+     * @param createdOnly Get only created indexes (not restored from disk).
+     */
+    public <T extends Index> List<T> indexes(String cacheName, Class<T> cls, boolean createdOnly) {
         Collection<Index> idxs = indexes(cacheName);
 
-        List<InlineIndex> treeIdxs = new ArrayList<>();
+        List<T> res = new ArrayList<>();
 
         for (Index idx: idxs) {
-            if (idx instanceof InlineIndex) {
-                InlineIndex idx0 = (InlineIndex)idx;
-
-                if (!createdOnly || idx0.created())
-                    treeIdxs.add(idx0);
-            }
+            if (cls.isInstance(idx) && (!createdOnly || idx.created()))
+                res.add(cls.cast(idx));
         }
 
-        return treeIdxs;
+        return res;
     }
 
     /**
@@ -17,9 +17,13 @@
 
 package org.apache.ignite.internal.cache.query.index;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -29,14 +33,21 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cache.query.IndexQuery;
 import org.apache.ignite.cache.query.IndexQueryCriterion;
 import org.apache.ignite.events.CacheQueryReadEvent;
+import org.apache.ignite.internal.cache.query.InIndexQueryCriterion;
 import org.apache.ignite.internal.cache.query.RangeIndexQueryCriterion;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndexDefinition;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRowComparator;
 import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition;
 import org.apache.ignite.internal.cache.query.index.sorted.SortedSegmentedIndex;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKeyFactory;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.NullIndexKey;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.CacheObjectContext;
 import org.apache.ignite.internal.processors.cache.CacheObjectUtils;
@@ -82,20 +93,33 @@ public class IndexQueryProcessor {
         boolean keepBinary,
         int taskHash
     ) throws IgniteCheckedException {
-        InlineIndexImpl idx = (InlineIndexImpl)findSortedIndex(cctx, idxQryDesc);
+        Index idx0 = findIndex(cctx, idxQryDesc);
 
-        if (idx.rebuildInProgress()) {
+        if (idx0.rebuildInProgress()) {
             throw new IgniteCheckedException(String.format("Failed to run IndexQuery due to index rebuild is in progress"
-                    + " [index=%s, query=%s]", idx.indexDefinition().idxName(), idxQryDesc));
+                    + " [index=%s, query=%s]", idx0.indexDefinition().idxName(), idxQryDesc));
         }
 
-        IndexMultipleRangeQuery qry = prepareQuery(idx, idxQryDesc);
+        GridCursor<IndexRow> cursor;
+        IndexQueryResultMeta meta;
 
-        GridCursor<IndexRow> cursor = queryMultipleRanges(idx, cacheFilter, qry);
+        if (idx0 instanceof HashIndex) {
+            HashIndex idx = (HashIndex)idx0;
 
-        SortedIndexDefinition def = idx.indexDefinition();
+            cursor = queryHashIndex(cctx, idx, cacheFilter, idxQryDesc);
 
-        IndexQueryResultMeta meta = new IndexQueryResultMeta(def, qry.critSize());
+            // Hash index returns rows in no particular order, so there is nothing to merge sort by.
+            meta = new IndexQueryResultMeta(idx.indexDefinition().keyTypeSettings());
+        }
+        else {
+            InlineIndexImpl idx = (InlineIndexImpl)idx0;
+
+            IndexMultipleRangeQuery qry = prepareQuery(idx, idxQryDesc);
+
+            cursor = queryMultipleRanges(idx, cacheFilter, qry);
+
+            meta = new IndexQueryResultMeta(idx.indexDefinition(), qry.critSize());
+        }
 
         boolean isRecordable = cctx.events().isRecordable(EVT_CACHE_QUERY_OBJECT_READ);
 
@@ -171,12 +195,12 @@ public class IndexQueryProcessor {
     }
 
     /**
-     * Finds sorted index to run query by specified description.
+     * Finds sorted or hash index to run query by specified description.
      *
      * @return Index to run query by specified description.
      * @throws IgniteCheckedException If index not found.
      */
-    private SortedSegmentedIndex findSortedIndex(GridCacheContext<?, ?> cctx, IndexQueryDesc idxQryDesc) throws IgniteCheckedException {
+    private Index findIndex(GridCacheContext<?, ?> cctx, IndexQueryDesc idxQryDesc) throws IgniteCheckedException {
         final String tableName = cctx.kernalContext().query().tableName(cctx.name(), idxQryDesc.valType());
 
         if (tableName == null)
@@ -202,70 +226,145 @@ public class IndexQueryProcessor {
             critFlds = Collections.emptyMap();
 
         if (idxQryDesc.idxName() == null && !critFlds.isEmpty())
-            return indexByCriteria(cctx, critFlds, tableName);
+            return indexByCriteria(cctx, idxQryDesc, critFlds, tableName);
 
         // If index name isn't specified and criteria aren't set then use the PK index.
         String name = idxQryDesc.idxName() == null ? QueryUtils.PRIMARY_KEY_INDEX : idxQryDesc.idxName();
 
         IndexName idxName = new IndexName(cctx.name(), cctx.kernalContext().query().schemaName(cctx), tableName, name);
 
-        return indexByName(idxName, critFlds);
+        return indexByName(idxName, idxQryDesc, critFlds);
     }
 
     /**
-     * @return Sorted index found by name.
+     * @return Sorted or hash index found by name.
      * @throws IgniteCheckedException If index not found or specified index doesn't match query criteria.
      */
-    private SortedSegmentedIndex indexByName(IndexName idxName, final Map<String, String> criteriaFlds) throws IgniteCheckedException {
-        SortedSegmentedIndex idx = assertSortedIndex(idxProc.index(idxName, true));
+    private Index indexByName(
+        IndexName idxName,
+        IndexQueryDesc idxQryDesc,
+        final Map<String, String> criteriaFlds
+    ) throws IgniteCheckedException {
+        Index idx = assertSupportedIndex(idxProc.index(idxName, true));
 
         if (idx == null && !QueryUtils.PRIMARY_KEY_INDEX.equals(idxName.idxName())) {
             String normIdxName = QueryUtils.normalizeObjectName(idxName.idxName(), false);
 
             idxName = new IndexName(idxName.cacheName(), idxName.schemaName(), idxName.tableName(), normIdxName);
 
-            idx = assertSortedIndex(idxProc.index(idxName, true));
+            idx = assertSupportedIndex(idxProc.index(idxName, true));
         }
 
         if (idx == null)
             throw new IgniteCheckedException("No index found for name: " + idxName.idxName());
 
-        if (!checkIndex(idx, idxName.tableName(), criteriaFlds))
+        if (idx instanceof HashIndex) {
+            if (!checkHashIndex((HashIndex)idx, idxName.tableName(), idxQryDesc, criteriaFlds)) {
+                throw new IgniteCheckedException("Index doesn't match criteria, hash index supports only equality " +
+                    "criteria for all index fields. Index " + idxName.idxName());
+            }
+        }
+        else if (!checkIndex((SortedSegmentedIndex)idx, idxName.tableName(), criteriaFlds))
             throw new IgniteCheckedException("Index doesn't match criteria. Index " + idxName.idxName());
 
         return idx;
     }
 
     /**
-     * @return Index found by list of criteria fields.
+     * @return Index found by list of criteria fields. Hash index is preferred if it matches criteria.
      * @throws IgniteCheckedException if suitable index not found.
      */
-    private SortedSegmentedIndex indexByCriteria(
+    private Index indexByCriteria(
         GridCacheContext<?, ?> cctx,
+        IndexQueryDesc idxQryDesc,
         final Map<String, String> criteriaFlds,
         String tableName
     ) throws IgniteCheckedException {
         Collection<Index> idxs = idxProc.indexes(cctx.name(), true);
 
+        SortedSegmentedIndex sortedIdx = null;
+
         for (Index idx: idxs) {
-            SortedSegmentedIndex sortedIdx = assertSortedIndex(idx);
+            if (idx instanceof HashIndex) {
+                if (checkHashIndex((HashIndex)idx, tableName, idxQryDesc, criteriaFlds))
+                    return idx;
+            }
+            else if (sortedIdx == null) {
+                SortedSegmentedIndex idx0 = (SortedSegmentedIndex)assertSupportedIndex(idx);
 
-            if (checkIndex(sortedIdx, tableName, criteriaFlds))
-                return sortedIdx;
+                if (checkIndex(idx0, tableName, criteriaFlds))
+                    sortedIdx = idx0;
+            }
         }
 
+        if (sortedIdx != null)
+            return sortedIdx;
+
         throw new IgniteCheckedException("No index found for criteria.");
     }
 
-    /** Assert if specified index is not an instance of {@link SortedSegmentedIndex}. */
-    private SortedSegmentedIndex assertSortedIndex(Index idx) throws IgniteCheckedException {
+    /** Assert if specified index is neither an instance of {@link SortedSegmentedIndex} nor {@link HashIndex}. */
+    private Index assertSupportedIndex(Index idx) throws IgniteCheckedException {
         if (idx == null)
             return null;
 
-        if (!(idx instanceof SortedSegmentedIndex))
+        if (!(idx instanceof SortedSegmentedIndex) && !(idx instanceof HashIndex))
             throw new IgniteCheckedException("IndexQuery is not supported for index: " + idx.name());
 
-        return (SortedSegmentedIndex)idx;
+        return idx;
+    }
+
+    /**
+     * Checks that specified hash index matches index query criteria. Every index field has to be covered with single
+     * equality or IN criterion, and there must be no criteria for other fields.
+     */
+    private boolean checkHashIndex(
+        HashIndex idx,
+        String tblName,
+        IndexQueryDesc idxQryDesc,
+        Map<String, String> criteriaFlds
+    ) {
+        IndexDefinition idxDef = idx.indexDefinition();
+
+        if (!tblName.equals(idxDef.idxName().tableName()))
+            return false;
+
+        if (F.isEmpty(idxQryDesc.criteria()) || idxQryDesc.criteria().size() != idxDef.indexKeyDefinitions().size())
+            return false;
+
+        Map<String, String> flds = new HashMap<>(criteriaFlds);
+
+        for (String idxFldName: idxDef.indexKeyDefinitions().keySet()) {
+            String alias = flds.remove(idxFldName);
+
+            if (alias == null)
+                return false;
+
+            flds.remove(alias);
+        }
+
+        if (!flds.isEmpty())
+            return false;
+
+        for (IndexQueryCriterion crit: idxQryDesc.criteria()) {
+            if (!(crit instanceof InIndexQueryCriterion) && !isEqualityCriterion(crit))
+                return false;
+        }
+
+        return true;
+    }
+
+    /** */
+    private static boolean isEqualityCriterion(IndexQueryCriterion crit) {
+        if (!(crit instanceof RangeIndexQueryCriterion))
+            return false;
+
+        RangeIndexQueryCriterion range = (RangeIndexQueryCriterion)crit;
+
+        if (!range.lowerIncl() || !range.upperIncl() || range.lowerNull() != range.upperNull())
+            return false;
+
+        return range.lowerNull() || (range.lower() != null && range.lower().equals(range.upper()));
     }
 
     /**
@@ -300,6 +399,172 @@ public class IndexQueryProcessor {
         return false;
     }
 
+    /**
+     * Runs equality lookups for every combination of criteria values over hash index.
+     *
+     * @return Cursor over IndexRows that match user's criteria.
+     */
+    private GridCursor<IndexRow> queryHashIndex(
+        GridCacheContext<?, ?> cctx,
+        HashIndex idx,
+        IndexingQueryFilter cacheFilter,
+        IndexQueryDesc idxQryDesc
+    ) throws IgniteCheckedException {
+        HashIndexDefinition idxDef = idx.indexDefinition();
+
+        Map<String, IndexKeyDefinition> idxFlds = idxDef.indexKeyDefinitions();
+
+        Map<String, Collection<?>> vals = new HashMap<>();
+
+        for (IndexQueryCriterion crit: idxQryDesc.criteria()) {
+            String fldName = idxFlds.containsKey(crit.field()) ? crit.field()
+                : QueryUtils.normalizeObjectName(crit.field(), false);
+
+            Collection<?> fldVals = crit instanceof InIndexQueryCriterion ? ((InIndexQueryCriterion)crit).values()
+                : Collections.singleton(((RangeIndexQueryCriterion)crit).lower());
+
+            if (vals.put(fldName, fldVals) != null)
+                throw new IgniteCheckedException("Multiple criteria for same field aren't supported by hash index.");
+        }
+
+        CacheObjectContext coctx = cctx.cacheObjectContext();
+
+        List<IndexKey[]> lookups = new ArrayList<>();
+
+        lookups.add(new IndexKey[0]);
+
+        // Cartesian product of values of all fields.
+        for (Map.Entry<String, IndexKeyDefinition> fld: idxFlds.entrySet()) {
+            List<IndexKey[]> next = new ArrayList<>(lookups.size() * vals.get(fld.getKey()).size());
+
+            IndexKeyType fldType = fld.getValue().indexKeyType();
+
+            for (Object v: vals.get(fld.getKey())) {
+                IndexKey key = hashIndexKey(fld.getKey(), fldType, v, coctx, idxDef);
+
+                // Value is not representable by the field type, so it can't match any row.
+                if (key == null)
+                    continue;
+
+                for (IndexKey[] prefix: lookups) {
+                    IndexKey[] keys = Arrays.copyOf(prefix, prefix.length + 1);
+
+                    keys[prefix.length] = key;
+
+                    next.add(keys);
+                }
+            }
+
+            lookups = next;
+        }
+
+        IndexQueryContext qryCtx = new IndexQueryContext(cacheFilter, null, null);
+
+        Iterator<IndexKey[]> it = lookups.iterator();
+
+        return new GridCursor<IndexRow>() {
+            private GridCursor<IndexRow> currCursor;
+
+            /** {@inheritDoc} */
+            @Override public boolean next() throws IgniteCheckedException {
+                while (currCursor == null || !currCursor.next()) {
+                    if (!it.hasNext())
+                        return false;
+
+                    currCursor = idx.find(it.next(), qryCtx);
+                }
+
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override public IndexRow get() throws IgniteCheckedException {
+                return currCursor.get();
+            }
+        };
+    }
+
+    /**
+     * Wraps criterion value to the index key of the indexed field type, as hash index is looked up by the keys stored
+     * in the index. For example, {@code Integer} argument is converted to {@code Long} for {@code LONG} field.
+     *
+     * @param fld Indexed field name.
+     * @param fldType Indexed field type.
+     * @param val Criterion value.
+     * @param coctx Cache object context.
+     * @param idxDef Index definition.
+     * @return Index key or {@code null} if the numeric value is not exactly representable by the field type.
+     * @throws IgniteCheckedException If the value type is incompatible with the field type.
+     */
+    private static @Nullable IndexKey hashIndexKey(
+        String fld,
+        IndexKeyType fldType,
+        @Nullable Object val,
+        CacheObjectContext coctx,
+        HashIndexDefinition idxDef
+    ) throws IgniteCheckedException {
+        if (val == null)
+            return NullIndexKey.INSTANCE;
+
+        if (val instanceof Number) {
+            try {
+                val = convertNumber((Number)val, fldType);
+            }
+            catch (ArithmeticException | NumberFormatException ignored) {
+                return null;
+            }
+        }
+
+        try {
+            return IndexKeyFactory.wrap(val, fldType, coctx, idxDef.keyTypeSettings());
+        }
+        catch (ClassCastException e) {
+            throw new IgniteCheckedException("Criterion value type doesn't match the indexed field type [field=" + fld +
+                ", fieldType=" + fldType + ", valueType=" + val.getClass().getName() + ']', e);
+        }
+    }
+
+    /**
+     * @param val Numeric value.
+     * @param type Target type.
+     * @return Value converted to the target type if it is numeric, original value otherwise.
+     * @throws ArithmeticException If the value is not exactly representable by the integral target type.
+     */
+    private static Object convertNumber(Number val, IndexKeyType type) {
+        switch (type) {
+            case BYTE:
+                return decimal(val).byteValueExact();
+            case SHORT:
+                return decimal(val).shortValueExact();
+            case INT:
+                return decimal(val).intValueExact();
+            case LONG:
+                return decimal(val).longValueExact();
+            case DECIMAL:
+                return decimal(val);
+            case DOUBLE:
+                return val.doubleValue();
+            case FLOAT:
+                return val.floatValue();
+            default:
+                return val;
+        }
+    }
+
+    /** */
+    private static BigDecimal decimal(Number val) {
+        if (val instanceof BigDecimal)
+            return (BigDecimal)val;
+
+        if (val instanceof Byte || val instanceof Short || val instanceof Integer || val instanceof Long)
+            return BigDecimal.valueOf(val.longValue());
+
+        if (val instanceof Float || val instanceof Double)
+            return BigDecimal.valueOf(val.doubleValue());
+
+        return new BigDecimal(val.toString());
+    }
+
     /** Merges multiple criteria for the same field into single criterion. */
     private IndexMultipleRangeQuery mergeIndexQueryCriteria(InlineIndexImpl idx, IndexQueryDesc idxQryDesc) throws IgniteCheckedException {
         Map<String, IndexKeyQueryCondition> mergedCriteria = new HashMap<>();
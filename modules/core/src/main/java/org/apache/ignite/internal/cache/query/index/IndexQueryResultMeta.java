@@ -46,6 +46,17 @@ public class IndexQueryResultMeta implements Message {
         // No-op.
     }
 
+    /**
+     * Metadata for unordered result, for example, of a hash index query.
+     *
+     * @param keyTypeSettings Index key settings.
+     */
+    public IndexQueryResultMeta(IndexKeyTypeSettings keyTypeSettings) {
+        this.keyTypeSettings = keyTypeSettings;
+
+        keyDefs = new LinkedHashMap<>();
+    }
+
     /** */
     public IndexQueryResultMeta(SortedIndexDefinition def, int critSize) {
         keyTypeSettings = def.keyTypeSettings();
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap;
+
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Row of {@link BitmapIndexTree}: container page of the row ID chunk for the index keys hash.
+ */
+public class BitmapChunkRow {
+    /** Hash of index keys. */
+    private final int hash;
+
+    /** Chunk of row IDs. */
+    private final long chunk;
+
+    /** Container page ID. */
+    private final long containerId;
+
+    /**
+     * @param hash Hash of index keys.
+     * @param chunk Chunk of row IDs.
+     * @param containerId Container page ID.
+     */
+    public BitmapChunkRow(int hash, long chunk, long containerId) {
+        this.hash = hash;
+        this.chunk = chunk;
+        this.containerId = containerId;
+    }
+
+    /** @return Hash of index keys. */
+    public int hash() {
+        return hash;
+    }
+
+    /** @return Chunk of row IDs. */
+    public long chunk() {
+        return chunk;
+    }
+
+    /** @return Container page ID. */
+    public long containerId() {
+        return containerId;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BitmapChunkRow.class, this);
+    }
+}
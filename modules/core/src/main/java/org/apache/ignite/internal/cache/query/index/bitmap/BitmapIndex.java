@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bitmap index. Supports equality lookups by all index keys only. Lookup result is a set of row IDs, so results of
+ * lookups by several bitmap indexes of the same cache may be combined with bitmap operations before any row is read.
+ * <p>
+ * Rows are identified by hashes of index keys, so row IDs found by keys may include rows with other keys, which
+ * should be filtered out by the caller.
+ */
+public interface BitmapIndex extends Index {
+    /**
+     * Finds IDs of rows with keys equal to the given ones.
+     *
+     * @param keys Index keys, one per indexed field.
+     * @param parts Sorted partitions to search in, {@code null} for all partitions.
+     * @return Row IDs.
+     * @throws IgniteCheckedException If failed.
+     */
+    public RoaringBitmap find(IndexKey[] keys, @Nullable int[] parts) throws IgniteCheckedException;
+
+    /**
+     * @param rowIds Row IDs found by this or any other bitmap index of the same cache.
+     * @param qryCtx Index query context.
+     * @return Cursor over rows, expired rows are skipped.
+     */
+    public GridCursor<IndexRow> rows(RoaringBitmap rowIds, @Nullable IndexQueryContext qryCtx);
+
+    /**
+     * @return Total count of rows in the index.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long totalCount() throws IgniteCheckedException;
+
+    /**
+     * {@code true} if index is created and {@code false} if it is restored from disk.
+     */
+    public boolean created();
+
+    /** {@inheritDoc} */
+    @Override public BitmapIndexDefinition indexDefinition();
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap;
+
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.IndexDefinition;
+import org.apache.ignite.internal.cache.query.index.IndexFactory;
+import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.RootPage;
+
+import static org.apache.ignite.internal.metric.IoStatisticsType.BITMAP_INDEX;
+
+/**
+ * Factory to create {@link BitmapIndex}.
+ */
+public class BitmapIndexFactory implements IndexFactory {
+    /** */
+    public static final BitmapIndexFactory INSTANCE = new BitmapIndexFactory();
+
+    /** {@inheritDoc} */
+    @Override public Index createIndex(GridCacheContext<?, ?> cctx, IndexDefinition def) {
+        BitmapIndexDefinition bdef = (BitmapIndexDefinition)def;
+
+        BitmapIndexTree[] segments = new BitmapIndexTree[bdef.segments()];
+
+        IoStatisticsHolderIndex stats = new IoStatisticsHolderIndex(
+            BITMAP_INDEX,
+            cctx.name(),
+            bdef.idxName().idxName(),
+            cctx.kernalContext().metric()
+        );
+
+        CacheGroupContext grp = cctx.group();
+
+        try {
+            for (int i = 0; i < bdef.segments(); ++i) {
+                // Required for persistence.
+                IgniteCacheDatabaseSharedManager db = cctx.shared().database();
+                db.checkpointReadLock();
+
+                try {
+                    RootPage page = cctx.offheap().rootPageForIndex(cctx.cacheId(), bdef.treeName(), i);
+
+                    segments[i] = new BitmapIndexTree(
+                        bdef.treeName(),
+                        grp.groupId(),
+                        grp.name(),
+                        cctx.dataRegion().pageMemory(),
+                        grp.shared().wal(),
+                        cctx.offheap().globalRemoveId(),
+                        page.pageId().pageId(),
+                        cctx.offheap().reuseListForIndex(bdef.treeName()),
+                        cctx.kernalContext().failure(),
+                        grp.shared().diagnostic().pageLockTracker(),
+                        page.isAllocated(),
+                        stats
+                    );
+                }
+                finally {
+                    db.checkpointReadUnlock();
+                }
+            }
+
+            return new BitmapIndexImpl(cctx, bdef, segments, stats);
+        }
+        catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.failure.FailureContext;
+import org.apache.ignite.internal.cache.query.index.AbstractIndex;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.cluster.ClusterState.INACTIVE;
+import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
+
+/**
+ * Bitmap index implementation. Every segment is a {@link BitmapIndexTree} mapping hash of index keys to the set of
+ * row IDs, segment is chosen by partition of the row.
+ */
+public class BitmapIndexImpl extends AbstractIndex implements BitmapIndex {
+    /** Unique ID. */
+    private final UUID id = UUID.randomUUID();
+
+    /** Segments. */
+    private final BitmapIndexTree[] segments;
+
+    /** Index definition. */
+    private final BitmapIndexDefinition def;
+
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** */
+    private final IoStatisticsHolderIndex stats;
+
+    /** Row handler. */
+    private final InlineIndexRowHandler rowHnd;
+
+    /** */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** If {code true} then this index is already marked as destroyed. */
+    private final AtomicBoolean destroyed = new AtomicBoolean();
+
+    /** Constructor. */
+    public BitmapIndexImpl(
+        GridCacheContext<?, ?> cctx,
+        BitmapIndexDefinition def,
+        BitmapIndexTree[] segments,
+        IoStatisticsHolderIndex stats
+    ) {
+        this.cctx = cctx;
+        this.def = def;
+        this.segments = segments.clone();
+        this.stats = stats;
+
+        rowHnd = def.createRowHandler();
+    }
+
+    /** {@inheritDoc} */
+    @Override public UUID id() {
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return def.idxName().idxName();
+    }
+
+    /** {@inheritDoc} */
+    @Override public BitmapIndexDefinition indexDefinition() {
+        return def;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean canHandle(CacheDataRow row) throws IgniteCheckedException {
+        return cctx.kernalContext().query().belongsToTable(
+            cctx, def.idxName().cacheName(), def.idxName().tableName(), row.key(), row.value());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onUpdate(@Nullable CacheDataRow oldRow, @Nullable CacheDataRow newRow,
+        boolean prevRowAvailable) throws IgniteCheckedException {
+        if (destroyed.get())
+            return;
+
+        lock.readLock().lock();
+
+        try {
+            int newHash = newRow == null ? 0 : hash(newRow);
+
+            if (oldRow != null) {
+                int oldHash = hash(oldRow);
+
+                // In-place update of a row with unchanged index keys.
+                if (newRow != null && oldRow.link() == newRow.link() && oldHash == newHash)
+                    return;
+
+                segments[segmentForRow(oldRow)].remove(oldHash, BitmapIndexTree.rowId(oldRow.link()));
+            }
+
+            // Bitmap ignores duplicates, so there is no need to check presence of the row.
+            if (newRow != null)
+                segments[segmentForRow(newRow)].add(newHash, BitmapIndexTree.rowId(newRow.link()));
+        }
+        catch (Throwable t) {
+            cctx.kernalContext().failure().process(new FailureContext(CRITICAL_ERROR, t));
+
+            throw t;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public RoaringBitmap find(IndexKey[] keys, @Nullable int[] parts) throws IgniteCheckedException {
+        assert keys.length == def.indexKeyDefinitions().size() : "keys=" + keys.length;
+
+        int hash = HashIndexImpl.hash(keys);
+
+        lock.readLock().lock();
+
+        try {
+            RoaringBitmap res = new RoaringBitmap(segments[0].chunkBits());
+
+            if (parts == null) {
+                for (BitmapIndexTree segment : segments)
+                    res = res.or(segment.bitmap(hash, 0L, Long.MAX_VALUE));
+            }
+            else {
+                for (int part : parts) {
+                    BitmapIndexTree segment = segments[segments.length == 1 ? 0 : part % segments.length];
+
+                    res = res.or(segment.bitmap(hash, BitmapIndexTree.partitionLowerBound(part),
+                        BitmapIndexTree.partitionUpperBound(part)));
+                }
+            }
+
+            return res;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridCursor<IndexRow> rows(RoaringBitmap rowIds, @Nullable IndexQueryContext qryCtx) {
+        IndexingQueryCacheFilter cacheFilter = qryCtx == null || qryCtx.cacheFilter() == null ? null
+            : qryCtx.cacheFilter().forCache(cctx.cache().name());
+
+        return new BitmapCursor(rowIds.iterator(), cacheFilter);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long totalCount() throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            long ret = 0;
+
+            for (BitmapIndexTree segment : segments)
+                ret += segment.cardinality();
+
+            return ret;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean created() {
+        for (BitmapIndexTree segment : segments) {
+            if (segment.created())
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return Segments count.
+     */
+    public int segmentsCount() {
+        return segments.length;
+    }
+
+    /**
+     * @param row Cache row.
+     * @return Segment ID for given row.
+     */
+    private int segmentForRow(CacheDataRow row) {
+        return segments.length == 1 ? 0 : rowHnd.partition(row) % segments.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void destroy(boolean softDel) {
+        if (!destroyed.compareAndSet(false, true))
+            return;
+
+        if (!cctx.affinityNode() || softDel)
+            return;
+
+        lock.writeLock().lock();
+
+        try {
+            cctx.kernalContext().metric().remove(stats.metricRegistryName());
+
+            for (BitmapIndexTree segment : segments)
+                segment.close();
+
+            if (!cctx.group().persistenceEnabled() &&
+                cctx.shared().kernalContext().state().clusterState().state() == INACTIVE)
+                return;
+
+            IgniteCacheDatabaseSharedManager db = cctx.shared().database();
+
+            db.checkpointReadLock();
+
+            try {
+                for (int i = 0; i < segments.length; i++) {
+                    segments[i].destroyWithContainers();
+
+                    cctx.offheap().dropRootPageForIndex(cctx.cacheId(), def.treeName(), i);
+                }
+            }
+            finally {
+                db.checkpointReadUnlock();
+            }
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to destroy bitmap index [cacheName=" + cctx.name() +
+                ", idxName=" + name() + ']', e);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param row Cache row.
+     * @return Hash of the row index keys.
+     */
+    private int hash(CacheDataRow row) {
+        IndexKey[] keys = new IndexKey[def.indexKeyDefinitions().size()];
+
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = rowHnd.indexKey(i, row);
+
+        return HashIndexImpl.hash(keys);
+    }
+
+    /**
+     * Determines if provided row can be treated as expired at the current moment.
+     */
+    private static boolean isExpired(CacheDataRow row) {
+        return row.expireTime() > 0 && row.expireTime() <= U.currentTimeMillis();
+    }
+
+    /** Cursor over rows found by row IDs. */
+    private class BitmapCursor implements GridCursor<IndexRow> {
+        /** */
+        private final PrimitiveIterator.OfLong rowIds;
+
+        /** */
+        private final @Nullable IndexingQueryCacheFilter cacheFilter;
+
+        /** */
+        private IndexRow cur;
+
+        /** */
+        BitmapCursor(PrimitiveIterator.OfLong rowIds, @Nullable IndexingQueryCacheFilter cacheFilter) {
+            this.rowIds = rowIds;
+            this.cacheFilter = cacheFilter;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean next() throws IgniteCheckedException {
+            cur = null;
+
+            while (rowIds.hasNext()) {
+                long link = BitmapIndexTree.link(rowIds.nextLong());
+
+                if (cacheFilter != null && !cacheFilter.applyPartition(PageIdUtils.partId(PageIdUtils.pageId(link))))
+                    continue;
+
+                CacheDataRow row = HashIndexImpl.readRow(cctx, link);
+
+                if (row == null || isExpired(row))
+                    continue;
+
+                cur = new IndexRowImpl(rowHnd, row);
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IndexRow get() {
+            if (cur == null)
+                throw new NoSuchElementException();
+
+            return cur;
+        }
+    }
+}
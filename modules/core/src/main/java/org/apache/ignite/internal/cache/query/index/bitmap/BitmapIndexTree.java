@@ -0,0 +1,493 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.bitmap.io.BitmapContainerIO;
+import org.apache.ignite.internal.cache.query.index.bitmap.io.BitmapInnerIO;
+import org.apache.ignite.internal.cache.query.index.bitmap.io.BitmapLeafIO;
+import org.apache.ignite.internal.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BitmapIndexContainerAddRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BitmapIndexContainerRemoveRecord;
+import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.LongListReuseBag;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.processors.failure.FailureProcessor;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.GridStripedLock;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.jetbrains.annotations.Nullable;
+
+import static java.lang.Boolean.TRUE;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_IDX;
+
+/**
+ * Bitmap index tree. Maps hash of index keys to the set of row IDs, where row ID is a dense numeric form of a data
+ * row link, see {@link #rowId(long)}. The set is split into chunks by higher row ID bits, the tree is ordered by
+ * {@code (hash, chunk)} and points to container pages holding lower bits of row IDs of the chunk.
+ * <p>
+ * Container updates are logged as delta records. Containers of the same chunk are modified under a striped lock,
+ * emptied containers are removed from the tree and recycled.
+ */
+public class BitmapIndexTree extends BPlusTree<BitmapChunkRow, BitmapChunkRow> {
+    /** Row ID bits for page index and item ID, partition ID takes the higher bits. */
+    private static final int PART_SHIFT = Integer.SIZE + Byte.SIZE;
+
+    /** */
+    private static final int CONTAINER_LOCKS = 64;
+
+    /** */
+    private final IoStatisticsHolder stats;
+
+    /** Whether the tree was created from scratch rather than restored from existing pages. */
+    private final boolean created;
+
+    /** Number of lower row ID bits addressed by a container. */
+    private final int chunkBits;
+
+    /** */
+    private final GridStripedLock locks = new GridStripedLock(CONTAINER_LOCKS);
+
+    /**
+     * @param name Tree name.
+     * @param grpId Cache group ID.
+     * @param grpName Cache group name.
+     * @param pageMem Page memory.
+     * @param wal Write ahead log manager.
+     * @param globalRmvId Remove ID.
+     * @param metaPageId Meta page ID.
+     * @param reuseList Reuse list.
+     * @param failureProcessor Failure processor.
+     * @param lockTrackerMgr Page lock tracker manager.
+     * @param initNew {@code True} if meta page was just allocated and the tree should be initialized.
+     * @param stats Statistics holder.
+     * @throws IgniteCheckedException If failed.
+     */
+    public BitmapIndexTree(
+        String name,
+        int grpId,
+        @Nullable String grpName,
+        PageMemory pageMem,
+        @Nullable IgniteWriteAheadLogManager wal,
+        AtomicLong globalRmvId,
+        long metaPageId,
+        @Nullable ReuseList reuseList,
+        @Nullable FailureProcessor failureProcessor,
+        PageLockTrackerManager lockTrackerMgr,
+        boolean initNew,
+        IoStatisticsHolder stats
+    ) throws IgniteCheckedException {
+        super(
+            name,
+            grpId,
+            grpName,
+            pageMem,
+            wal,
+            globalRmvId,
+            metaPageId,
+            reuseList,
+            BitmapInnerIO.VERSIONS,
+            BitmapLeafIO.VERSIONS,
+            FLAG_IDX,
+            failureProcessor,
+            lockTrackerMgr
+        );
+
+        this.stats = stats;
+
+        created = initNew;
+
+        chunkBits = BitmapContainerIO.VERSIONS.latest().chunkBits(pageSize());
+
+        initTree(initNew);
+    }
+
+    /**
+     * @param link Data row link.
+     * @return Row ID.
+     */
+    public static long rowId(long link) {
+        long pageId = PageIdUtils.pageId(link);
+
+        return ((long)PageIdUtils.partId(pageId) << PART_SHIFT) | ((PageIdUtils.pageIndex(pageId) & 0xFFFFFFFFL) << Byte.SIZE)
+            | PageIdUtils.itemId(link);
+    }
+
+    /**
+     * @param rowId Row ID.
+     * @return Data row link.
+     */
+    public static long link(long rowId) {
+        long pageId = PageIdUtils.pageId((int)(rowId >>> PART_SHIFT), FLAG_DATA, (int)(rowId >>> Byte.SIZE));
+
+        return PageIdUtils.link(pageId, (int)(rowId & 0xFF));
+    }
+
+    /**
+     * @param part Partition ID.
+     * @return The least row ID of the partition.
+     */
+    public static long partitionLowerBound(int part) {
+        return (long)part << PART_SHIFT;
+    }
+
+    /**
+     * @param part Partition ID.
+     * @return The greatest row ID of the partition.
+     */
+    public static long partitionUpperBound(int part) {
+        return partitionLowerBound(part + 1) - 1;
+    }
+
+    /**
+     * @return {@code True} if the tree was created from scratch rather than restored from existing pages.
+     */
+    public boolean created() {
+        return created;
+    }
+
+    /**
+     * @return Number of lower row ID bits addressed by a container.
+     */
+    public int chunkBits() {
+        return chunkBits;
+    }
+
+    /**
+     * @param hash Hash of index keys.
+     * @param rowId Row ID.
+     * @return {@code True} if the row ID was added, {@code false} if it is already present.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean add(int hash, long rowId) throws IgniteCheckedException {
+        long chunk = rowId >>> chunkBits;
+        int val = (int)(rowId & ((1 << chunkBits) - 1));
+
+        Lock lock = locks.getLock(31 * hash + Long.hashCode(chunk));
+
+        lock.lock();
+
+        try {
+            BitmapChunkRow row = findOne(new BitmapChunkRow(hash, chunk, 0L));
+
+            if (row != null)
+                return updateContainer(row.containerId(), val, true) != null;
+
+            long containerId = allocatePage(null);
+
+            initContainer(containerId, val);
+
+            putx(new BitmapChunkRow(hash, chunk, containerId));
+
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param hash Hash of index keys.
+     * @param rowId Row ID.
+     * @return {@code True} if the row ID was removed, {@code false} if it is absent.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean remove(int hash, long rowId) throws IgniteCheckedException {
+        long chunk = rowId >>> chunkBits;
+        int val = (int)(rowId & ((1 << chunkBits) - 1));
+
+        Lock lock = locks.getLock(31 * hash + Long.hashCode(chunk));
+
+        lock.lock();
+
+        try {
+            BitmapChunkRow row = findOne(new BitmapChunkRow(hash, chunk, 0L));
+
+            if (row == null)
+                return false;
+
+            Integer card = updateContainer(row.containerId(), val, false);
+
+            if (card == null)
+                return false;
+
+            if (card == 0) {
+                removex(row);
+
+                GridLongList containers = new GridLongList(1);
+
+                containers.add(row.containerId());
+
+                recycleContainers(containers);
+            }
+
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Collects row IDs of the given hash within the given range.
+     *
+     * @param hash Hash of index keys.
+     * @param fromRowId The least row ID, inclusive.
+     * @param toRowId The greatest row ID, inclusive.
+     * @return Found row IDs.
+     * @throws IgniteCheckedException If failed.
+     */
+    public RoaringBitmap bitmap(int hash, long fromRowId, long toRowId) throws IgniteCheckedException {
+        RoaringBitmap res = new RoaringBitmap(chunkBits);
+
+        GridCursor<BitmapChunkRow> cur = find(
+            new BitmapChunkRow(hash, fromRowId >>> chunkBits, 0L),
+            new BitmapChunkRow(hash, toRowId >>> chunkBits, 0L)
+        );
+
+        int mask = (1 << chunkBits) - 1;
+
+        while (cur.next()) {
+            BitmapChunkRow row = cur.get();
+
+            char[] vals = readContainer(row.containerId());
+
+            if (vals == null)
+                continue;
+
+            long base = row.chunk() << chunkBits;
+
+            if (base < fromRowId || base + mask > toRowId) {
+                int n = 0;
+
+                for (char v : vals) {
+                    long rowId = base | v;
+
+                    if (rowId >= fromRowId && rowId <= toRowId)
+                        vals[n++] = v;
+                }
+
+                if (n < vals.length) {
+                    char[] trimmed = new char[n];
+
+                    System.arraycopy(vals, 0, trimmed, 0, n);
+
+                    vals = trimmed;
+                }
+            }
+
+            res.appendChunk(row.chunk(), vals);
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Total count of row IDs of all hashes.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long cardinality() throws IgniteCheckedException {
+        long res = 0;
+
+        GridCursor<BitmapChunkRow> cur = find(null, null);
+
+        while (cur.next()) {
+            char[] vals = readContainer(cur.get().containerId());
+
+            if (vals != null)
+                res += vals.length;
+        }
+
+        return res;
+    }
+
+    /**
+     * Destroys the tree along with its containers. Must be called under checkpoint read lock.
+     *
+     * @return Count of recycled pages or {@code -1} if there is no reuse list.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long destroyWithContainers() throws IgniteCheckedException {
+        GridLongList containers = new GridLongList();
+
+        long cnt = destroy(row -> containers.add(row.containerId()), false);
+
+        if (cnt <= 0)
+            return cnt;
+
+        return cnt + recycleContainers(containers);
+    }
+
+    /**
+     * Initializes container page with a single value, logs the whole page.
+     */
+    private void initContainer(long pageId, int val) throws IgniteCheckedException {
+        long page = acquirePage(pageId, stats);
+
+        try {
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                BitmapContainerIO io = BitmapContainerIO.VERSIONS.latest();
+
+                io.initNewPage(pageAddr, pageId, pageSize(), metrics);
+
+                io.add(pageAddr, val, pageSize());
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, TRUE, true);
+            }
+        }
+        finally {
+            releasePage(pageId, page);
+        }
+    }
+
+    /**
+     * @return Container cardinality after the update or {@code null} if the container was not changed.
+     */
+    private Integer updateContainer(long pageId, int val, boolean add) throws IgniteCheckedException {
+        long page = acquirePage(pageId, stats);
+
+        try {
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            boolean dirty = false;
+
+            try {
+                BitmapContainerIO io = BitmapContainerIO.VERSIONS.forPage(pageAddr);
+
+                dirty = add ? io.add(pageAddr, val, pageSize()) : io.remove(pageAddr, val, pageSize());
+
+                if (!dirty)
+                    return null;
+
+                if (needWalDeltaRecord(pageId, page, null)) {
+                    wal.log(add ? new BitmapIndexContainerAddRecord(grpId, pageId, val)
+                        : new BitmapIndexContainerRemoveRecord(grpId, pageId, val));
+                }
+
+                return io.getCardinality(pageAddr);
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, dirty);
+            }
+        }
+        finally {
+            releasePage(pageId, page);
+        }
+    }
+
+    /**
+     * @return Sorted container values or {@code null} if the container was concurrently removed and recycled.
+     */
+    private char[] readContainer(long pageId) throws IgniteCheckedException {
+        long page = acquirePage(pageId, stats);
+
+        try {
+            long pageAddr = readLock(pageId, page);
+
+            if (pageAddr == 0L)
+                return null;
+
+            try {
+                return BitmapContainerIO.VERSIONS.forPage(pageAddr).getValues(pageAddr, pageSize());
+            }
+            finally {
+                readUnlock(pageId, page, pageAddr);
+            }
+        }
+        finally {
+            releasePage(pageId, page);
+        }
+    }
+
+    /**
+     * @return Count of recycled pages or {@code -1} if there is no reuse list.
+     */
+    private long recycleContainers(GridLongList pageIds) throws IgniteCheckedException {
+        if (reuseList == null)
+            return -1;
+
+        LongListReuseBag bag = new LongListReuseBag();
+
+        for (int i = 0; i < pageIds.size(); i++) {
+            long pageId = pageIds.get(i);
+            long page = acquirePage(pageId, stats);
+
+            try {
+                long pageAddr = writeLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    bag.addFreePage(recyclePage(pageId, page, pageAddr, null));
+                }
+                finally {
+                    writeUnlock(pageId, page, pageAddr, true);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+        }
+
+        long cnt = bag.size();
+
+        reuseList.addForRecycle(bag);
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int compare(BPlusIO<BitmapChunkRow> io, long pageAddr, int idx, BitmapChunkRow row)
+        throws IgniteCheckedException {
+        int off = io.offset(idx);
+
+        int cmp = Integer.compare(PageUtils.getInt(pageAddr, off), row.hash());
+
+        if (cmp != 0)
+            return cmp;
+
+        return Long.compare(PageUtils.getLong(pageAddr, off + Integer.BYTES), row.chunk());
+    }
+
+    /** {@inheritDoc} */
+    @Override public BitmapChunkRow getRow(BPlusIO<BitmapChunkRow> io, long pageAddr, int idx, Object x)
+        throws IgniteCheckedException {
+        return io.getLookupRow(this, pageAddr, idx);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IoStatisticsHolder statisticsHolder() {
+        return stats;
+    }
+}
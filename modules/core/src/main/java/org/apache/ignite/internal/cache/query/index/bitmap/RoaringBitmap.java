@@ -0,0 +1,452 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Compressed on-heap set of row IDs. Row IDs are split into chunks by higher bits, lower bits of each chunk are held
+ * in a container, which is a sorted array for sparse chunks and a bitmap for dense ones. Chunk size is the same as
+ * the one of {@link BitmapIndexTree} containers, so that page containers are loaded without conversion.
+ */
+public class RoaringBitmap {
+    /** */
+    private final int chunkBits;
+
+    /** Maximum cardinality of an array container. */
+    private final int arrMax;
+
+    /** Sorted chunks. */
+    private long[] keys;
+
+    /** Containers: {@code char[]} arrays or {@code long[]} bitmaps. */
+    private Object[] containers;
+
+    /** Cardinalities of containers. */
+    private int[] cards;
+
+    /** Containers count. */
+    private int size;
+
+    /**
+     * @param chunkBits Number of lower row ID bits addressed by a container.
+     */
+    public RoaringBitmap(int chunkBits) {
+        assert chunkBits > 0 && chunkBits <= Short.SIZE : chunkBits;
+
+        this.chunkBits = chunkBits;
+
+        arrMax = (1 << chunkBits) / Short.SIZE;
+
+        keys = new long[4];
+        containers = new Object[4];
+        cards = new int[4];
+    }
+
+    /**
+     * @return Number of lower row ID bits addressed by a container.
+     */
+    public int chunkBits() {
+        return chunkBits;
+    }
+
+    /**
+     * @return Count of row IDs.
+     */
+    public long cardinality() {
+        long res = 0;
+
+        for (int i = 0; i < size; i++)
+            res += cards[i];
+
+        return res;
+    }
+
+    /**
+     * @return {@code True} if there are no row IDs.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param rowId Row ID.
+     * @return {@code True} if the row ID is in the set.
+     */
+    public boolean contains(long rowId) {
+        int idx = Arrays.binarySearch(keys, 0, size, rowId >>> chunkBits);
+
+        if (idx < 0)
+            return false;
+
+        int val = (int)(rowId & ((1 << chunkBits) - 1));
+
+        Object c = containers[idx];
+
+        if (c instanceof char[])
+            return Arrays.binarySearch((char[])c, 0, cards[idx], (char)val) >= 0;
+
+        return (((long[])c)[val >>> 6] & (1L << val)) != 0;
+    }
+
+    /**
+     * @param rowId Row ID.
+     */
+    public void add(long rowId) {
+        long chunk = rowId >>> chunkBits;
+        int val = (int)(rowId & ((1 << chunkBits) - 1));
+
+        int idx = Arrays.binarySearch(keys, 0, size, chunk);
+
+        if (idx < 0) {
+            insertContainer(-idx - 1, chunk, new char[] {(char)val}, 1);
+
+            return;
+        }
+
+        Object c = containers[idx];
+
+        if (c instanceof char[]) {
+            char[] arr = (char[])c;
+            int card = cards[idx];
+            int pos = Arrays.binarySearch(arr, 0, card, (char)val);
+
+            if (pos >= 0)
+                return;
+
+            pos = -pos - 1;
+
+            if (card == arrMax) {
+                long[] words = toBitmap(arr, card);
+
+                words[val >>> 6] |= 1L << val;
+
+                containers[idx] = words;
+            }
+            else {
+                if (card == arr.length)
+                    containers[idx] = arr = Arrays.copyOf(arr, Math.min(arrMax, card * 2));
+
+                System.arraycopy(arr, pos, arr, pos + 1, card - pos);
+
+                arr[pos] = (char)val;
+            }
+
+            cards[idx]++;
+        }
+        else {
+            long[] words = (long[])c;
+
+            if ((words[val >>> 6] & (1L << val)) == 0) {
+                words[val >>> 6] |= 1L << val;
+
+                cards[idx]++;
+            }
+        }
+    }
+
+    /**
+     * Adds the container of a chunk which is greater than all chunks of this bitmap.
+     *
+     * @param chunk Chunk.
+     * @param vals Sorted lower bits of row IDs, array is owned by the bitmap afterwards.
+     */
+    public void appendChunk(long chunk, char[] vals) {
+        assert size == 0 || keys[size - 1] < chunk : chunk;
+
+        if (vals.length == 0)
+            return;
+
+        if (vals.length > arrMax)
+            insertContainer(size, chunk, toBitmap(vals, vals.length), vals.length);
+        else
+            insertContainer(size, chunk, vals, vals.length);
+    }
+
+    /**
+     * @param other Other bitmap.
+     * @return New bitmap containing row IDs of both bitmaps.
+     */
+    public RoaringBitmap or(RoaringBitmap other) {
+        assert chunkBits == other.chunkBits;
+
+        RoaringBitmap res = new RoaringBitmap(chunkBits);
+
+        int i = 0;
+        int j = 0;
+
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                res.insertContainer(res.size, keys[i], copy(containers[i]), cards[i]);
+
+                i++;
+            }
+            else if (i == size || other.keys[j] < keys[i]) {
+                res.insertContainer(res.size, other.keys[j], copy(other.containers[j]), other.cards[j]);
+
+                j++;
+            }
+            else {
+                long[] words = bitmapOf(containers[i], cards[i]);
+
+                if (words == containers[i])
+                    words = words.clone();
+
+                Object c = other.containers[j];
+
+                if (c instanceof char[]) {
+                    char[] arr = (char[])c;
+
+                    for (int k = 0; k < other.cards[j]; k++)
+                        words[arr[k] >>> 6] |= 1L << arr[k];
+                }
+                else {
+                    long[] otherWords = (long[])c;
+
+                    for (int k = 0; k < words.length; k++)
+                        words[k] |= otherWords[k];
+                }
+
+                res.insertOptimized(keys[i], words);
+
+                i++;
+                j++;
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @param other Other bitmap.
+     * @return New bitmap containing row IDs present in both bitmaps.
+     */
+    public RoaringBitmap and(RoaringBitmap other) {
+        assert chunkBits == other.chunkBits;
+
+        RoaringBitmap res = new RoaringBitmap(chunkBits);
+
+        int i = 0;
+        int j = 0;
+
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j])
+                i++;
+            else if (other.keys[j] < keys[i])
+                j++;
+            else {
+                Object c1 = containers[i];
+                Object c2 = other.containers[j];
+
+                if (c1 instanceof long[] && c2 instanceof long[]) {
+                    long[] w1 = (long[])c1;
+                    long[] w2 = (long[])c2;
+                    long[] words = new long[w1.length];
+
+                    for (int k = 0; k < words.length; k++)
+                        words[k] = w1[k] & w2[k];
+
+                    res.insertOptimized(keys[i], words);
+                }
+                else {
+                    // At least one container is an array, the result is not greater than it.
+                    boolean firstArr = c1 instanceof char[];
+
+                    char[] arr = (char[])(firstArr ? c1 : c2);
+                    int card = firstArr ? cards[i] : other.cards[j];
+                    Object probe = firstArr ? c2 : c1;
+                    int probeCard = firstArr ? other.cards[j] : cards[i];
+
+                    char[] vals = new char[card];
+                    int n = 0;
+
+                    for (int k = 0; k < card; k++) {
+                        char v = arr[k];
+
+                        boolean found = probe instanceof char[]
+                            ? Arrays.binarySearch((char[])probe, 0, probeCard, v) >= 0
+                            : (((long[])probe)[v >>> 6] & (1L << v)) != 0;
+
+                        if (found)
+                            vals[n++] = v;
+                    }
+
+                    if (n > 0)
+                        res.insertContainer(res.size, keys[i], vals, n);
+                }
+
+                i++;
+                j++;
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Iterator over row IDs in ascending order.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            /** Current container. */
+            private int idx;
+
+            /** Position within the current container: array index or bit index. */
+            private int pos;
+
+            /** */
+            private long next = advance();
+
+            /** */
+            private long advance() {
+                while (idx < size) {
+                    Object c = containers[idx];
+
+                    if (c instanceof char[]) {
+                        if (pos < cards[idx])
+                            return (keys[idx] << chunkBits) | ((char[])c)[pos++];
+                    }
+                    else {
+                        long[] words = (long[])c;
+
+                        while (pos < words.length * Long.SIZE) {
+                            long word = words[pos >>> 6] & (-1L << pos);
+
+                            if (word != 0) {
+                                int bit = ((pos >>> 6) << 6) + Long.numberOfTrailingZeros(word);
+
+                                pos = bit + 1;
+
+                                return (keys[idx] << chunkBits) | bit;
+                            }
+
+                            pos = ((pos >>> 6) + 1) << 6;
+                        }
+                    }
+
+                    idx++;
+                    pos = 0;
+                }
+
+                return -1;
+            }
+
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                return next != -1;
+            }
+
+            /** {@inheritDoc} */
+            @Override public long nextLong() {
+                if (next == -1)
+                    throw new NoSuchElementException();
+
+                long res = next;
+
+                next = advance();
+
+                return res;
+            }
+        };
+    }
+
+    /**
+     * Inserts bitmap container converting it to an array one if it is sparse enough.
+     */
+    private void insertOptimized(long chunk, long[] words) {
+        int card = 0;
+
+        for (long w : words)
+            card += Long.bitCount(w);
+
+        if (card == 0)
+            return;
+
+        if (card > arrMax) {
+            insertContainer(size, chunk, words, card);
+
+            return;
+        }
+
+        char[] vals = new char[card];
+        int n = 0;
+
+        for (int i = 0; i < words.length; i++) {
+            long w = words[i];
+
+            while (w != 0) {
+                vals[n++] = (char)((i << 6) + Long.numberOfTrailingZeros(w));
+
+                w &= w - 1;
+            }
+        }
+
+        insertContainer(size, chunk, vals, card);
+    }
+
+    /** */
+    private void insertContainer(int idx, long chunk, Object c, int card) {
+        if (size == keys.length) {
+            int cap = size * 2;
+
+            keys = Arrays.copyOf(keys, cap);
+            containers = Arrays.copyOf(containers, cap);
+            cards = Arrays.copyOf(cards, cap);
+        }
+
+        if (idx < size) {
+            System.arraycopy(keys, idx, keys, idx + 1, size - idx);
+            System.arraycopy(containers, idx, containers, idx + 1, size - idx);
+            System.arraycopy(cards, idx, cards, idx + 1, size - idx);
+        }
+
+        keys[idx] = chunk;
+        containers[idx] = c;
+        cards[idx] = card;
+
+        size++;
+    }
+
+    /** */
+    private long[] toBitmap(char[] arr, int card) {
+        long[] words = new long[Math.max(1, (1 << chunkBits) / Long.SIZE)];
+
+        for (int i = 0; i < card; i++)
+            words[arr[i] >>> 6] |= 1L << arr[i];
+
+        return words;
+    }
+
+    /** */
+    private long[] bitmapOf(Object c, int card) {
+        return c instanceof long[] ? (long[])c : toBitmap((char[])c, card);
+    }
+
+    /** */
+    private static Object copy(Object c) {
+        return c instanceof char[] ? ((char[])c).clone() : ((long[])c).clone();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(RoaringBitmap.class, this, "containers", size, "cardinality", cardinality());
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+
+/**
+ * Container page of bitmap index. Holds the set of lower bits of row IDs which belong to a single chunk, chunk size
+ * is chosen so that a bitmap of the whole chunk fits the page. Like in Roaring bitmaps, sparse set is stored as a
+ * sorted array of values and dense one as a bitmap. The representation is determined by the cardinality only, which
+ * makes {@link #add} and {@link #remove} deterministic and allows to log them as delta records.
+ */
+public class BitmapContainerIO extends PageIO {
+    /** */
+    public static final IOVersions<BitmapContainerIO> VERSIONS = new IOVersions<>(
+        new BitmapContainerIO(1)
+    );
+
+    /** Maximum chunk bits, array items are stored as unsigned shorts. */
+    private static final int MAX_CHUNK_BITS = Short.SIZE;
+
+    /** */
+    private static final int CARD_OFF = COMMON_HEADER_END;
+
+    /** */
+    private static final int ITEMS_OFF = CARD_OFF + Integer.BYTES;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected BitmapContainerIO(int ver) {
+        super(T_BITMAP_IDX_CONTAINER, ver);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+        super.initNewPage(pageAddr, pageId, pageSize, metrics);
+
+        setCardinality(pageAddr, 0);
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Number of lower row ID bits addressed by a container.
+     */
+    public int chunkBits(int pageSize) {
+        long avail = (long)(pageSize - ITEMS_OFF) * Byte.SIZE;
+
+        int bits = 0;
+
+        while (bits < MAX_CHUNK_BITS && (1L << (bits + 1)) <= avail)
+            bits++;
+
+        return bits;
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Maximum cardinality of a container stored as an array.
+     */
+    public int arrayMaxCardinality(int pageSize) {
+        // Array of this size takes the same space as a bitmap.
+        return (1 << chunkBits(pageSize)) / Short.SIZE;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Count of values in the container.
+     */
+    public int getCardinality(long pageAddr) {
+        return PageUtils.getInt(pageAddr, CARD_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param card Count of values in the container.
+     */
+    private void setCardinality(long pageAddr, int card) {
+        PageUtils.putInt(pageAddr, CARD_OFF, card);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @return {@code True} if values are stored as a sorted array, {@code false} if as a bitmap.
+     */
+    public boolean isArray(long pageAddr, int pageSize) {
+        return getCardinality(pageAddr) <= arrayMaxCardinality(pageSize);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param val Value.
+     * @param pageSize Page size.
+     * @return {@code True} if the container contains the value.
+     */
+    public boolean contains(long pageAddr, int val, int pageSize) {
+        if (isArray(pageAddr, pageSize))
+            return indexOf(pageAddr, getCardinality(pageAddr), val) >= 0;
+
+        return (getWord(pageAddr, val >>> 6) & (1L << val)) != 0;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param val Value.
+     * @param pageSize Page size.
+     * @return {@code True} if the value was added, {@code false} if it is already present.
+     */
+    public boolean add(long pageAddr, int val, int pageSize) {
+        assertPageType(pageAddr);
+        assert val >= 0 && val < 1 << chunkBits(pageSize) : val;
+
+        int card = getCardinality(pageAddr);
+        int arrMax = arrayMaxCardinality(pageSize);
+
+        if (card <= arrMax) {
+            int idx = indexOf(pageAddr, card, val);
+
+            if (idx >= 0)
+                return false;
+
+            if (card == arrMax) {
+                long[] words = new long[wordsCount(pageSize)];
+
+                for (int i = 0; i < card; i++) {
+                    int v = getArrayValue(pageAddr, i);
+
+                    words[v >>> 6] |= 1L << v;
+                }
+
+                words[val >>> 6] |= 1L << val;
+
+                for (int i = 0; i < words.length; i++)
+                    putWord(pageAddr, i, words[i]);
+            }
+            else {
+                idx = -idx - 1;
+
+                for (int i = card; i > idx; i--)
+                    putArrayValue(pageAddr, i, getArrayValue(pageAddr, i - 1));
+
+                putArrayValue(pageAddr, idx, val);
+            }
+        }
+        else {
+            long word = getWord(pageAddr, val >>> 6);
+
+            if ((word & (1L << val)) != 0)
+                return false;
+
+            putWord(pageAddr, val >>> 6, word | (1L << val));
+        }
+
+        setCardinality(pageAddr, card + 1);
+
+        return true;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param val Value.
+     * @param pageSize Page size.
+     * @return {@code True} if the value was removed, {@code false} if it is absent.
+     */
+    public boolean remove(long pageAddr, int val, int pageSize) {
+        assertPageType(pageAddr);
+
+        int card = getCardinality(pageAddr);
+        int arrMax = arrayMaxCardinality(pageSize);
+
+        if (card <= arrMax) {
+            int idx = indexOf(pageAddr, card, val);
+
+            if (idx < 0)
+                return false;
+
+            for (int i = idx; i < card - 1; i++)
+                putArrayValue(pageAddr, i, getArrayValue(pageAddr, i + 1));
+        }
+        else {
+            long word = getWord(pageAddr, val >>> 6);
+
+            if ((word & (1L << val)) == 0)
+                return false;
+
+            putWord(pageAddr, val >>> 6, word & ~(1L << val));
+
+            if (card - 1 == arrMax) {
+                char[] vals = getBitmapValues(pageAddr, pageSize, card - 1);
+
+                for (int i = 0; i < vals.length; i++)
+                    putArrayValue(pageAddr, i, vals[i]);
+            }
+        }
+
+        setCardinality(pageAddr, card - 1);
+
+        return true;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @return Sorted values of the container.
+     */
+    public char[] getValues(long pageAddr, int pageSize) {
+        int card = getCardinality(pageAddr);
+
+        if (card > arrayMaxCardinality(pageSize))
+            return getBitmapValues(pageAddr, pageSize, card);
+
+        char[] vals = new char[card];
+
+        for (int i = 0; i < card; i++)
+            vals[i] = (char)getArrayValue(pageAddr, i);
+
+        return vals;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @return Copy of the bitmap or {@code null} if values are stored as an array.
+     */
+    public long[] getBitmap(long pageAddr, int pageSize) {
+        if (isArray(pageAddr, pageSize))
+            return null;
+
+        long[] words = new long[wordsCount(pageSize)];
+
+        for (int i = 0; i < words.length; i++)
+            words[i] = getWord(pageAddr, i);
+
+        return words;
+    }
+
+    /** */
+    private char[] getBitmapValues(long pageAddr, int pageSize, int card) {
+        char[] vals = new char[card];
+
+        int n = 0;
+
+        for (int i = 0, cnt = wordsCount(pageSize); i < cnt && n < card; i++) {
+            long word = getWord(pageAddr, i);
+
+            while (word != 0) {
+                vals[n++] = (char)((i << 6) + Long.numberOfTrailingZeros(word));
+
+                word &= word - 1;
+            }
+        }
+
+        assert n == card : "n=" + n + ", card=" + card;
+
+        return vals;
+    }
+
+    /**
+     * @return Index of the value in the array or {@code -(insertion point) - 1} if it is absent.
+     */
+    private int indexOf(long pageAddr, int card, int val) {
+        int low = 0;
+        int high = card - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midVal = getArrayValue(pageAddr, mid);
+
+            if (midVal < val)
+                low = mid + 1;
+            else if (midVal > val)
+                high = mid - 1;
+            else
+                return mid;
+        }
+
+        return -(low + 1);
+    }
+
+    /** */
+    private int wordsCount(int pageSize) {
+        return Math.max(1, (1 << chunkBits(pageSize)) / Long.SIZE);
+    }
+
+    /** */
+    private static int getArrayValue(long pageAddr, int idx) {
+        return Short.toUnsignedInt(PageUtils.getShort(pageAddr, ITEMS_OFF + idx * Short.BYTES));
+    }
+
+    /** */
+    private static void putArrayValue(long pageAddr, int idx, int val) {
+        PageUtils.putShort(pageAddr, ITEMS_OFF + idx * Short.BYTES, (short)val);
+    }
+
+    /** */
+    private static long getWord(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, ITEMS_OFF + idx * Long.BYTES);
+    }
+
+    /** */
+    private static void putWord(long pageAddr, int idx, long word) {
+        PageUtils.putLong(pageAddr, ITEMS_OFF + idx * Long.BYTES, word);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        sb.a("BitmapContainer [\n\tcardinality=").a(getCardinality(addr))
+            .a(",\n\tarray=").a(isArray(addr, pageSize))
+            .a("\n]");
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFreeSpace(int pageSize, long pageAddr) {
+        int used = isArray(pageAddr, pageSize) ? getCardinality(pageAddr) * Short.BYTES : wordsCount(pageSize) * Long.BYTES;
+
+        return pageSize - ITEMS_OFF - used;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.bitmap.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.bitmap.BitmapChunkRow;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusLeafIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+
+/**
+ * Leaf page of bitmap index tree. Item holds hash of index keys, chunk of row IDs and container page ID.
+ */
+public class BitmapLeafIO extends BPlusLeafIO<BitmapChunkRow> {
+    /** */
+    public static final IOVersions<BitmapLeafIO> VERSIONS = new IOVersions<>(
+        new BitmapLeafIO(1)
+    );
+
+    /** */
+    private static final int ITEM_SIZE = Integer.BYTES + Long.BYTES * 2;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected BitmapLeafIO(int ver) {
+        super(T_BITMAP_IDX_LEAF, ver, ITEM_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeByOffset(long pageAddr, int off, BitmapChunkRow row) {
+        assertPageType(pageAddr);
+
+        PageUtils.putInt(pageAddr, off, row.hash());
+        PageUtils.putLong(pageAddr, off + Integer.BYTES, row.chunk());
+        PageUtils.putLong(pageAddr, off + Integer.BYTES + Long.BYTES, row.containerId());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void store(long dstPageAddr, int dstIdx, BPlusIO<BitmapChunkRow> srcIo, long srcPageAddr,
+        int srcIdx) throws IgniteCheckedException {
+        storeByOffset(dstPageAddr, offset(dstIdx), srcIo.getLookupRow(null, srcPageAddr, srcIdx));
+    }
+
+    /** {@inheritDoc} */
+    @Override public BitmapChunkRow getLookupRow(BPlusTree<BitmapChunkRow, ?> tree, long pageAddr, int idx) {
+        int off = offset(idx);
+
+        return new BitmapChunkRow(
+            PageUtils.getInt(pageAddr, off),
+            PageUtils.getLong(pageAddr, off + Integer.BYTES),
+            PageUtils.getLong(pageAddr, off + Integer.BYTES + Long.BYTES)
+        );
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return Hash of index keys.
+     */
+    public int getHash(long pageAddr, int idx) {
+        return PageUtils.getInt(pageAddr, offset(idx));
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return Chunk of row IDs.
+     */
+    public long getChunk(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, offset(idx) + Integer.BYTES);
+    }
+}
@@ -0,0 +1,1086 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashBucketIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashDirectoryIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashMetaIO;
+import org.apache.ignite.internal.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketInsertRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketRemoveRecord;
+import org.apache.ignite.internal.processors.cache.persistence.DataStructure;
+import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIoResolver;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.LongListReuseBag;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Extendible hash table of {@code (hash, link)} pairs stored in page memory.
+ * <p>
+ * The table consists of a meta page, a chain of directory pages and bucket pages. Directory slot {@code i} points to
+ * the bucket holding items whose lower {@code globalDepth} hash bits are equal to {@code i}. A full bucket is split
+ * in two by the next hash bit, doubling the directory if the bucket local depth reaches the global depth. A bucket
+ * whose items can not be separated by hash bits (duplicate keys) grows a chain of overflow pages instead.
+ * <p>
+ * Item inserts and removals lock only the bucket pages and are logged with delta records. Splits, overflow page
+ * allocation and directory changes take exclusive table lock and are logged as full page snapshots, being rare.
+ * Directory is also cached on heap to avoid a directory page access per lookup.
+ */
+public class ExtendibleHashTable extends DataStructure {
+    /** Maximum global depth, directory can hold up to {@code 2^MAX_GLOBAL_DEPTH} slots. */
+    public static final int MAX_GLOBAL_DEPTH = 20;
+
+    /** */
+    private static final int MAX_DEPTH_MASK = (1 << MAX_GLOBAL_DEPTH) - 1;
+
+    /** Meta page ID. */
+    private final long metaPageId;
+
+    /** Whether the table was created from scratch rather than restored from existing pages. */
+    private final boolean created;
+
+    /** */
+    private final IoStatisticsHolder stats;
+
+    /** Shared for item updates and lookups, exclusive for structure modifications. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Bucket page IDs by directory slot. */
+    private long[] dir;
+
+    /** Directory page IDs. */
+    private final GridLongList dirPages = new GridLongList();
+
+    /** */
+    private int globalDepth;
+
+    /** */
+    private volatile boolean destroyed;
+
+    /**
+     * @param name Table name.
+     * @param grpId Cache group ID.
+     * @param grpName Cache group name.
+     * @param pageMem Page memory.
+     * @param wal Write ahead log manager.
+     * @param lockTrackerMgr Page lock tracker manager.
+     * @param reuseList Reuse list.
+     * @param metaPageId Meta page ID.
+     * @param initNew {@code True} if meta page was just allocated and the table should be initialized.
+     * @param stats Statistics holder.
+     * @throws IgniteCheckedException If failed.
+     */
+    public ExtendibleHashTable(
+        String name,
+        int grpId,
+        @Nullable String grpName,
+        PageMemory pageMem,
+        @Nullable IgniteWriteAheadLogManager wal,
+        PageLockTrackerManager lockTrackerMgr,
+        @Nullable ReuseList reuseList,
+        long metaPageId,
+        boolean initNew,
+        IoStatisticsHolder stats
+    ) throws IgniteCheckedException {
+        super(name, grpId, grpName, pageMem, wal, lockTrackerMgr, PageIoResolver.DEFAULT_PAGE_IO_RESOLVER,
+            PageIdAllocator.FLAG_IDX);
+
+        this.reuseList = reuseList;
+        this.metaPageId = metaPageId;
+        this.stats = stats;
+
+        created = initNew;
+
+        if (initNew)
+            initTable();
+        else
+            loadTable();
+    }
+
+    /**
+     * @return {@code True} if the table was created from scratch rather than restored from existing pages.
+     */
+    public boolean created() {
+        return created;
+    }
+
+    /**
+     * @return Meta page ID.
+     */
+    public long metaPageId() {
+        return metaPageId;
+    }
+
+    /**
+     * @return Global depth of the directory.
+     */
+    public int globalDepth() {
+        lock.readLock().lock();
+
+        try {
+            return globalDepth;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts an item.
+     *
+     * @param hash Hash.
+     * @param link Link.
+     * @param checkExisting Whether to check the item is already present before insertion.
+     * @return {@code False} if {@code checkExisting} is set and the item is already present, {@code true} otherwise.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean put(int hash, long link, boolean checkExisting) throws IgniteCheckedException {
+        while (true) {
+            lock.readLock().lock();
+
+            try {
+                checkDestroyed();
+
+                Boolean res = tryInsert(dir[slot(hash)], hash, link, checkExisting);
+
+                if (res != null)
+                    return res;
+            }
+            finally {
+                lock.readLock().unlock();
+            }
+
+            lock.writeLock().lock();
+
+            try {
+                checkDestroyed();
+
+                grow(hash);
+            }
+            finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes an item.
+     *
+     * @param hash Hash.
+     * @param link Link.
+     * @return {@code True} if the item was found and removed.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean remove(int hash, long link) throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            checkDestroyed();
+
+            long bucketId = dir[slot(hash)];
+
+            long page = acquirePage(bucketId, stats);
+
+            try {
+                long pageAddr = writeLock(bucketId, page);
+
+                assert pageAddr != 0L;
+
+                boolean dirty = false;
+
+                try {
+                    HashBucketIO io = HashBucketIO.VERSIONS.forPage(pageAddr);
+
+                    int idx = io.indexOf(pageAddr, hash, link);
+
+                    if (idx >= 0) {
+                        removeItem(bucketId, page, pageAddr, io, idx);
+
+                        return dirty = true;
+                    }
+
+                    long pageId = io.getNextId(pageAddr);
+
+                    while (pageId != 0L) {
+                        long nextPage = acquirePage(pageId, stats);
+                        long nextId;
+
+                        try {
+                            long nextAddr = writeLock(pageId, nextPage);
+
+                            assert nextAddr != 0L;
+
+                            boolean nextDirty = false;
+
+                            try {
+                                idx = io.indexOf(nextAddr, hash, link);
+
+                                if (idx >= 0) {
+                                    removeItem(pageId, nextPage, nextAddr, io, idx);
+
+                                    return nextDirty = true;
+                                }
+
+                                nextId = io.getNextId(nextAddr);
+                            }
+                            finally {
+                                writeUnlock(pageId, nextPage, nextAddr, nextDirty);
+                            }
+                        }
+                        finally {
+                            releasePage(pageId, nextPage);
+                        }
+
+                        pageId = nextId;
+                    }
+
+                    return false;
+                }
+                finally {
+                    writeUnlock(bucketId, page, pageAddr, dirty);
+                }
+            }
+            finally {
+                releasePage(bucketId, page);
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds links of all items with the given hash.
+     *
+     * @param hash Hash.
+     * @return Links of found items.
+     * @throws IgniteCheckedException If failed.
+     */
+    public GridLongList find(int hash) throws IgniteCheckedException {
+        GridLongList res = new GridLongList();
+
+        lock.readLock().lock();
+
+        try {
+            checkDestroyed();
+
+            long bucketId = dir[slot(hash)];
+
+            long page = acquirePage(bucketId, stats);
+
+            try {
+                long pageAddr = readLock(bucketId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    HashBucketIO io = HashBucketIO.VERSIONS.forPage(pageAddr);
+
+                    collect(io, pageAddr, hash, res);
+
+                    // Overflow pages are modified under the lock of the first bucket page only.
+                    long pageId = io.getNextId(pageAddr);
+
+                    while (pageId != 0L) {
+                        long nextPage = acquirePage(pageId, stats);
+                        long nextId;
+
+                        try {
+                            long nextAddr = readLock(pageId, nextPage);
+
+                            assert nextAddr != 0L;
+
+                            try {
+                                collect(io, nextAddr, hash, res);
+
+                                nextId = io.getNextId(nextAddr);
+                            }
+                            finally {
+                                readUnlock(pageId, nextPage, nextAddr);
+                            }
+                        }
+                        finally {
+                            releasePage(pageId, nextPage);
+                        }
+
+                        pageId = nextId;
+                    }
+                }
+                finally {
+                    readUnlock(bucketId, page, pageAddr);
+                }
+            }
+            finally {
+                releasePage(bucketId, page);
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Total count of items in the table.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long size() throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            checkDestroyed();
+
+            long size = 0;
+
+            for (long bucketId : buckets()) {
+                GridLongList chain = new GridLongList();
+
+                size += readChain(bucketId, null, null, chain);
+            }
+
+            return size;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Destroys the table and recycles its pages. Must be called under checkpoint read lock.
+     *
+     * @return Count of recycled pages or {@code -1} if there is no reuse list.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long destroy() throws IgniteCheckedException {
+        lock.writeLock().lock();
+
+        try {
+            if (destroyed)
+                return 0;
+
+            destroyed = true;
+
+            close();
+
+            if (reuseList == null)
+                return -1;
+
+            LongListReuseBag bag = new LongListReuseBag();
+
+            for (long bucketId : buckets()) {
+                GridLongList chain = new GridLongList();
+
+                readChain(bucketId, null, null, chain);
+
+                for (int i = 0; i < chain.size(); i++)
+                    recycle(chain.get(i), bag);
+            }
+
+            for (int i = 0; i < dirPages.size(); i++)
+                recycle(dirPages.get(i), bag);
+
+            recycle(metaPageId, bag);
+
+            long cnt = bag.size();
+
+            reuseList.addForRecycle(bag);
+
+            return cnt;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param hash Hash.
+     * @return Directory slot.
+     */
+    private int slot(int hash) {
+        return hash & ((1 << globalDepth) - 1);
+    }
+
+    /**
+     * Inserts an item into the first bucket page with free space. Overflow pages are modified under the write lock
+     * of the first bucket page only, so it is held for the whole operation.
+     *
+     * @return {@code Null} if all pages of the bucket are full.
+     */
+    private Boolean tryInsert(long bucketId, int hash, long link, boolean checkExisting) throws IgniteCheckedException {
+        long page = acquirePage(bucketId, stats);
+
+        try {
+            long pageAddr = writeLock(bucketId, page);
+
+            assert pageAddr != 0L;
+
+            boolean dirty = false;
+
+            try {
+                HashBucketIO io = HashBucketIO.VERSIONS.forPage(pageAddr);
+
+                if (checkExisting && contains(io, pageAddr, hash, link))
+                    return false;
+
+                if (dirty = insertItem(bucketId, page, pageAddr, io, hash, link))
+                    return true;
+
+                long pageId = io.getNextId(pageAddr);
+
+                while (pageId != 0L) {
+                    long nextPage = acquirePage(pageId, stats);
+                    long nextId;
+
+                    try {
+                        long nextAddr = writeLock(pageId, nextPage);
+
+                        assert nextAddr != 0L;
+
+                        boolean nextDirty = false;
+
+                        try {
+                            if (nextDirty = insertItem(pageId, nextPage, nextAddr, io, hash, link))
+                                return true;
+
+                            nextId = io.getNextId(nextAddr);
+                        }
+                        finally {
+                            writeUnlock(pageId, nextPage, nextAddr, nextDirty);
+                        }
+                    }
+                    finally {
+                        releasePage(pageId, nextPage);
+                    }
+
+                    pageId = nextId;
+                }
+
+                return null;
+            }
+            finally {
+                writeUnlock(bucketId, page, pageAddr, dirty);
+            }
+        }
+        finally {
+            releasePage(bucketId, page);
+        }
+    }
+
+    /**
+     * Checks whether the bucket contains the item. Must be called under the lock of the first bucket page.
+     *
+     * @param io Bucket IO.
+     * @param pageAddr First bucket page address.
+     * @param hash Hash.
+     * @param link Link.
+     * @return {@code True} if the item is present.
+     */
+    private boolean contains(HashBucketIO io, long pageAddr, int hash, long link) throws IgniteCheckedException {
+        if (io.indexOf(pageAddr, hash, link) >= 0)
+            return true;
+
+        long pageId = io.getNextId(pageAddr);
+
+        while (pageId != 0L) {
+            long nextPage = acquirePage(pageId, stats);
+            long nextId;
+
+            try {
+                long nextAddr = readLock(pageId, nextPage);
+
+                assert nextAddr != 0L;
+
+                try {
+                    if (io.indexOf(nextAddr, hash, link) >= 0)
+                        return true;
+
+                    nextId = io.getNextId(nextAddr);
+                }
+                finally {
+                    readUnlock(pageId, nextPage, nextAddr);
+                }
+            }
+            finally {
+                releasePage(pageId, nextPage);
+            }
+
+            pageId = nextId;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return {@code True} if item was inserted, {@code false} if the page is full.
+     */
+    private boolean insertItem(
+        long pageId,
+        long page,
+        long pageAddr,
+        HashBucketIO io,
+        int hash,
+        long link
+    ) throws IgniteCheckedException {
+        if (io.insert(pageAddr, hash, link, pageSize()) < 0)
+            return false;
+
+        if (needWalDeltaRecord(pageId, page, null))
+            wal.log(new HashIndexBucketInsertRecord(grpId, pageId, hash, link));
+
+        return true;
+    }
+
+    /** */
+    private void removeItem(long pageId, long page, long pageAddr, HashBucketIO io, int idx) throws IgniteCheckedException {
+        io.remove(pageAddr, idx);
+
+        if (needWalDeltaRecord(pageId, page, null))
+            wal.log(new HashIndexBucketRemoveRecord(grpId, pageId, idx));
+    }
+
+    /** */
+    private static void collect(HashBucketIO io, long pageAddr, int hash, GridLongList res) {
+        for (int i = 0, cnt = io.getCount(pageAddr); i < cnt; i++) {
+            if (io.getHash(pageAddr, i) == hash)
+                res.add(io.getLink(pageAddr, i));
+        }
+    }
+
+    /**
+     * Makes room for the item with the given hash by either splitting its bucket or adding an overflow page.
+     * Must be called under exclusive table lock.
+     */
+    private void grow(int hash) throws IgniteCheckedException {
+        long bucketId = dir[slot(hash)];
+
+        GridLongList hashes = new GridLongList();
+        GridLongList links = new GridLongList();
+        GridLongList chain = new GridLongList();
+
+        int localDepth = readChain(bucketId, hashes, links, chain);
+
+        // Someone has freed some space concurrently.
+        if (hashes.size() < chain.size() * HashBucketIO.VERSIONS.latest().getCapacity(pageSize()))
+            return;
+
+        if (!splittable(hash, hashes, localDepth)) {
+            addOverflowPage(bucketId);
+
+            return;
+        }
+
+        if (localDepth == globalDepth)
+            doubleDirectory();
+
+        long newBucketId = allocatePage(null);
+
+        GridLongList stayHashes = new GridLongList();
+        GridLongList stayLinks = new GridLongList();
+        GridLongList moveHashes = new GridLongList();
+        GridLongList moveLinks = new GridLongList();
+
+        for (int i = 0; i < hashes.size(); i++) {
+            int h = (int)hashes.get(i);
+
+            if (((h >>> localDepth) & 1) == 0) {
+                stayHashes.add(h);
+                stayLinks.add(links.get(i));
+            }
+            else {
+                moveHashes.add(h);
+                moveLinks.add(links.get(i));
+            }
+        }
+
+        // Overflow pages of the split bucket are reused by both new chains.
+        GridLongList pool = new GridLongList();
+
+        for (int i = 1; i < chain.size(); i++)
+            pool.add(chain.get(i));
+
+        writeChain(bucketId, localDepth + 1, stayHashes, stayLinks, pool, false);
+        writeChain(newBucketId, localDepth + 1, moveHashes, moveLinks, pool, true);
+
+        if (!pool.isEmpty()) {
+            LongListReuseBag bag = new LongListReuseBag();
+
+            for (int i = 0; i < pool.size(); i++)
+                recycle(pool.get(i), bag);
+
+            if (reuseList != null)
+                reuseList.addForRecycle(bag);
+        }
+
+        Set<Integer> dirtyDirPages = new HashSet<>();
+
+        int dirPageCap = HashDirectoryIO.VERSIONS.latest().getCapacity(pageSize());
+
+        for (int i = 0; i < dir.length; i++) {
+            if (dir[i] == bucketId && ((i >>> localDepth) & 1) == 1) {
+                dir[i] = newBucketId;
+
+                dirtyDirPages.add(i / dirPageCap);
+            }
+        }
+
+        for (int dirPageIdx : dirtyDirPages)
+            writeDirectoryPage(dirPageIdx);
+    }
+
+    /**
+     * @return {@code True} if split of the bucket would separate its items by hash.
+     */
+    private static boolean splittable(int hash, GridLongList hashes, int localDepth) {
+        if (localDepth >= MAX_GLOBAL_DEPTH)
+            return false;
+
+        int h0 = hash & MAX_DEPTH_MASK;
+
+        for (int i = 0; i < hashes.size(); i++) {
+            if (((int)hashes.get(i) & MAX_DEPTH_MASK) != h0)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads all bucket items.
+     *
+     * @param bucketId First bucket page ID.
+     * @param hashes Hashes output, {@code null} to skip.
+     * @param links Links output, {@code null} to skip.
+     * @param chain Page IDs of the bucket chain output.
+     * @return Local depth if items are requested, count of items otherwise.
+     */
+    private int readChain(
+        long bucketId,
+        @Nullable GridLongList hashes,
+        @Nullable GridLongList links,
+        GridLongList chain
+    ) throws IgniteCheckedException {
+        int res = -1;
+        int cnt = 0;
+
+        long pageId = bucketId;
+
+        while (pageId != 0L) {
+            chain.add(pageId);
+
+            long page = acquirePage(pageId, stats);
+            long nextId;
+
+            try {
+                long pageAddr = readLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    HashBucketIO io = HashBucketIO.VERSIONS.forPage(pageAddr);
+
+                    if (res < 0)
+                        res = io.getLocalDepth(pageAddr);
+
+                    int pageCnt = io.getCount(pageAddr);
+
+                    cnt += pageCnt;
+
+                    if (hashes != null) {
+                        for (int i = 0; i < pageCnt; i++) {
+                            hashes.add(io.getHash(pageAddr, i));
+                            links.add(io.getLink(pageAddr, i));
+                        }
+                    }
+
+                    nextId = io.getNextId(pageAddr);
+                }
+                finally {
+                    readUnlock(pageId, page, pageAddr);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+
+            pageId = nextId;
+        }
+
+        return hashes != null ? res : cnt;
+    }
+
+    /**
+     * Rewrites bucket chain with the given items.
+     *
+     * @param bucketId First bucket page ID.
+     * @param localDepth Local depth.
+     * @param hashes Hashes.
+     * @param links Links.
+     * @param pool Pages to use for overflow pages before allocating new ones.
+     * @param newPage Whether the first bucket page is a new one.
+     */
+    private void writeChain(
+        long bucketId,
+        int localDepth,
+        GridLongList hashes,
+        GridLongList links,
+        GridLongList pool,
+        boolean newPage
+    ) throws IgniteCheckedException {
+        HashBucketIO io = HashBucketIO.VERSIONS.latest();
+
+        int cap = io.getCapacity(pageSize());
+
+        int pages = Math.max(1, (hashes.size() + cap - 1) / cap);
+
+        long[] ids = new long[pages];
+        boolean[] allocated = new boolean[pages];
+
+        ids[0] = bucketId;
+        allocated[0] = newPage;
+
+        for (int i = 1; i < pages; i++) {
+            if (pool.isEmpty()) {
+                ids[i] = allocatePage(null);
+                allocated[i] = true;
+            }
+            else
+                ids[i] = pool.remove();
+        }
+
+        for (int p = 0; p < pages; p++) {
+            long pageId = ids[p];
+
+            long page = acquirePage(pageId, stats);
+
+            try {
+                long pageAddr = writeLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    if (allocated[p] || PageIO.getType(pageAddr) != PageIO.T_HASH_IDX_BUCKET)
+                        io.initNewPage(pageAddr, pageId, pageSize(), allocated[p] ? metrics : null);
+                    else
+                        io.clear(pageAddr);
+
+                    io.setLocalDepth(pageAddr, localDepth);
+                    io.setNextId(pageAddr, p + 1 < pages ? ids[p + 1] : 0L);
+
+                    for (int i = p * cap, end = Math.min(hashes.size(), (p + 1) * cap); i < end; i++)
+                        io.insert(pageAddr, (int)hashes.get(i), links.get(i), pageSize());
+                }
+                finally {
+                    writeUnlock(pageId, page, pageAddr, TRUE, true);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+        }
+    }
+
+    /**
+     * Adds empty overflow page right after the first bucket page.
+     */
+    private void addOverflowPage(long bucketId) throws IgniteCheckedException {
+        long newPageId = allocatePage(null);
+
+        long page = acquirePage(bucketId, stats);
+
+        try {
+            long pageAddr = writeLock(bucketId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                HashBucketIO io = HashBucketIO.VERSIONS.forPage(pageAddr);
+
+                long newPage = acquirePage(newPageId, stats);
+
+                try {
+                    long newPageAddr = writeLock(newPageId, newPage);
+
+                    assert newPageAddr != 0L;
+
+                    try {
+                        io.initNewPage(newPageAddr, newPageId, pageSize(), metrics);
+
+                        io.setLocalDepth(newPageAddr, io.getLocalDepth(pageAddr));
+                        io.setNextId(newPageAddr, io.getNextId(pageAddr));
+                    }
+                    finally {
+                        writeUnlock(newPageId, newPage, newPageAddr, TRUE, true);
+                    }
+                }
+                finally {
+                    releasePage(newPageId, newPage);
+                }
+
+                io.setNextId(pageAddr, newPageId);
+            }
+            finally {
+                writeUnlock(bucketId, page, pageAddr, TRUE, true);
+            }
+        }
+        finally {
+            releasePage(bucketId, page);
+        }
+    }
+
+    /**
+     * Doubles the directory and persists it along with the new global depth.
+     */
+    private void doubleDirectory() throws IgniteCheckedException {
+        assert globalDepth < MAX_GLOBAL_DEPTH : globalDepth;
+
+        long[] newDir = new long[dir.length * 2];
+
+        System.arraycopy(dir, 0, newDir, 0, dir.length);
+        System.arraycopy(dir, 0, newDir, dir.length, dir.length);
+
+        dir = newDir;
+        globalDepth++;
+
+        int dirPageCap = HashDirectoryIO.VERSIONS.latest().getCapacity(pageSize());
+        int pagesCnt = (dir.length + dirPageCap - 1) / dirPageCap;
+
+        while (dirPages.size() < pagesCnt)
+            dirPages.add(allocatePage(null));
+
+        for (int i = 0; i < pagesCnt; i++)
+            writeDirectoryPage(i);
+
+        writeMeta();
+    }
+
+    /**
+     * Writes directory page from the on-heap copy of the directory.
+     *
+     * @param idx Directory page index.
+     */
+    private void writeDirectoryPage(int idx) throws IgniteCheckedException {
+        HashDirectoryIO io = HashDirectoryIO.VERSIONS.latest();
+
+        int cap = io.getCapacity(pageSize());
+
+        long pageId = dirPages.get(idx);
+
+        long page = acquirePage(pageId, stats);
+
+        try {
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                if (PageIO.getType(pageAddr) != PageIO.T_HASH_IDX_DIRECTORY)
+                    io.initNewPage(pageAddr, pageId, pageSize(), metrics);
+
+                int from = idx * cap;
+                int cnt = Math.min(cap, dir.length - from);
+
+                for (int i = 0; i < cnt; i++)
+                    io.setAt(pageAddr, i, dir[from + i]);
+
+                io.setCount(pageAddr, cnt);
+                io.setNextId(pageAddr, idx + 1 < dirPages.size() ? dirPages.get(idx + 1) : 0L);
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, TRUE, true);
+            }
+        }
+        finally {
+            releasePage(pageId, page);
+        }
+    }
+
+    /**
+     * Writes global depth and directory head to the meta page.
+     */
+    private void writeMeta() throws IgniteCheckedException {
+        long page = acquirePage(metaPageId, stats);
+
+        try {
+            long pageAddr = writeLock(metaPageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                HashMetaIO io = HashMetaIO.VERSIONS.latest();
+
+                if (PageIO.getType(pageAddr) != PageIO.T_HASH_IDX_META)
+                    io.initNewPage(pageAddr, metaPageId, pageSize(), metrics);
+
+                io.setGlobalDepth(pageAddr, globalDepth);
+                io.setDirectoryPageId(pageAddr, dirPages.get(0));
+            }
+            finally {
+                writeUnlock(metaPageId, page, pageAddr, TRUE, true);
+            }
+        }
+        finally {
+            releasePage(metaPageId, page);
+        }
+    }
+
+    /**
+     * Creates the table with single empty bucket.
+     */
+    private void initTable() throws IgniteCheckedException {
+        long bucketId = allocatePage(null);
+
+        writeChain(bucketId, 0, new GridLongList(), new GridLongList(), new GridLongList(), true);
+
+        dir = new long[] {bucketId};
+        globalDepth = 0;
+
+        dirPages.add(allocatePage(null));
+
+        writeDirectoryPage(0);
+
+        writeMeta();
+    }
+
+    /**
+     * Restores on-heap directory from pages.
+     */
+    private void loadTable() throws IgniteCheckedException {
+        long dirPageId;
+
+        long page = acquirePage(metaPageId, stats);
+
+        try {
+            long pageAddr = readLock(metaPageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                HashMetaIO io = HashMetaIO.VERSIONS.forPage(pageAddr);
+
+                globalDepth = io.getGlobalDepth(pageAddr);
+                dirPageId = io.getDirectoryPageId(pageAddr);
+            }
+            finally {
+                readUnlock(metaPageId, page, pageAddr);
+            }
+        }
+        finally {
+            releasePage(metaPageId, page);
+        }
+
+        dir = new long[1 << globalDepth];
+
+        int pos = 0;
+
+        long pageId = dirPageId;
+
+        while (pageId != 0L) {
+            dirPages.add(pageId);
+
+            page = acquirePage(pageId, stats);
+            long nextId;
+
+            try {
+                long pageAddr = readLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    HashDirectoryIO io = HashDirectoryIO.VERSIONS.forPage(pageAddr);
+
+                    for (int i = 0, cnt = io.getCount(pageAddr); i < cnt; i++)
+                        dir[pos++] = io.getAt(pageAddr, i);
+
+                    nextId = io.getNextId(pageAddr);
+                }
+                finally {
+                    readUnlock(pageId, page, pageAddr);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+
+            pageId = nextId;
+        }
+
+        if (pos != dir.length) {
+            throw new IgniteCheckedException("Corrupted hash index directory [name=" + name() +
+                ", globalDepth=" + globalDepth + ", slots=" + pos + ']');
+        }
+    }
+
+    /**
+     * @return Unique bucket page IDs.
+     */
+    private Set<Long> buckets() {
+        Set<Long> res = new HashSet<>();
+
+        for (long bucketId : dir)
+            res.add(bucketId);
+
+        return res;
+    }
+
+    /** */
+    private void recycle(long pageId, LongListReuseBag bag) throws IgniteCheckedException {
+        long page = acquirePage(pageId, stats);
+
+        try {
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                bag.addFreePage(recyclePage(pageId, page, pageAddr, null));
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, true);
+            }
+        }
+        finally {
+            releasePage(pageId, page);
+        }
+    }
+
+    /** */
+    private void checkDestroyed() throws IgniteCheckedException {
+        if (destroyed)
+            throw new IgniteCheckedException("Hash index is destroyed: " + name());
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return "ExtendibleHashTable [name=" + name() + ", metaPageId=" + U.hexLong(metaPageId) +
+            ", globalDepth=" + globalDepth + ']';
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash index. Supports equality lookups by all index keys only, rows are returned in no particular order.
+ */
+public interface HashIndex extends Index {
+    /**
+     * Finds index rows with keys equal to the given ones.
+     *
+     * @param keys Index keys, one per indexed field.
+     * @param qryCtx Index query context.
+     * @return Cursor over found rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    public GridCursor<IndexRow> find(IndexKey[] keys, @Nullable IndexQueryContext qryCtx) throws IgniteCheckedException;
+
+    /**
+     * @return Total count of rows in the index.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long totalCount() throws IgniteCheckedException;
+
+    /**
+     * {@code true} if index is created and {@code false} if it is restored from disk.
+     */
+    public boolean created();
+
+    /** {@inheritDoc} */
+    @Override public HashIndexDefinition indexDefinition();
+}
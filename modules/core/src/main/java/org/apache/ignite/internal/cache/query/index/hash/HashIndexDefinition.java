@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.util.LinkedHashMap;
+import org.apache.ignite.internal.cache.query.index.IndexDefinition;
+import org.apache.ignite.internal.cache.query.index.IndexName;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyTypeSettings;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.QueryIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyTypeRegistry;
+import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
+
+/**
+ * Definition of a hash index.
+ */
+public class HashIndexDefinition implements IndexDefinition {
+    /** Key definitions. */
+    private final LinkedHashMap<String, IndexKeyDefinition> keyDefs;
+
+    /** Type descriptor. */
+    private final GridQueryTypeDescriptor typeDesc;
+
+    /** Cache info. */
+    private final GridCacheContextInfo<?, ?> cacheInfo;
+
+    /** Index name. */
+    private final IndexName idxName;
+
+    /** Name of the underlying hash table. */
+    private final String treeName;
+
+    /** Segments. */
+    private final int segments;
+
+    /** Index key type settings. */
+    private final IndexKeyTypeSettings keyTypeSettings;
+
+    /** */
+    public HashIndexDefinition(
+        GridQueryTypeDescriptor typeDesc,
+        GridCacheContextInfo<?, ?> cacheInfo,
+        IndexName idxName,
+        String treeName,
+        LinkedHashMap<String, IndexKeyDefinition> keyDefs,
+        IndexKeyTypeSettings keyTypeSettings
+    ) {
+        this.typeDesc = typeDesc;
+        this.cacheInfo = cacheInfo;
+        this.idxName = idxName;
+        this.treeName = treeName;
+        this.keyDefs = keyDefs;
+        this.keyTypeSettings = keyTypeSettings;
+        segments = cacheInfo.cacheContext().config().getQueryParallelism();
+    }
+
+    /** {@inheritDoc} */
+    @Override public IndexName idxName() {
+        return idxName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public LinkedHashMap<String, IndexKeyDefinition> indexKeyDefinitions() {
+        return keyDefs;
+    }
+
+    /** Name of the underlying hash table. */
+    public String treeName() {
+        return treeName;
+    }
+
+    /** Type descriptor. */
+    public GridQueryTypeDescriptor typeDescriptor() {
+        return typeDesc;
+    }
+
+    /** Cache info. */
+    public GridCacheContextInfo<?, ?> cacheInfo() {
+        return cacheInfo;
+    }
+
+    /** Amount of index segments. */
+    public int segments() {
+        return segments;
+    }
+
+    /** Index key type settings. */
+    public IndexKeyTypeSettings keyTypeSettings() {
+        return keyTypeSettings;
+    }
+
+    /** @return Handler to extract index keys from cache rows. */
+    public InlineIndexRowHandler createRowHandler() {
+        return new QueryIndexRowHandler(
+            typeDesc,
+            cacheInfo,
+            keyDefs,
+            InlineIndexKeyTypeRegistry.types(keyDefs.values(), keyTypeSettings),
+            keyTypeSettings
+        );
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        String flds = String.join(", ", keyDefs.keySet());
+
+        return "HashIndex[name=" + idxName.idxName() + ", fields=" + flds + "]";
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.failure.FailureContext;
+import org.apache.ignite.internal.cache.query.index.AbstractIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowComparator;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowComparatorImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.BytesIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.JavaObjectIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.NullIndexKey;
+import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.cluster.ClusterState.INACTIVE;
+import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
+
+/**
+ * Hash index implementation. Every segment is an {@link ExtendibleHashTable} of {@code (hash of index keys, link)}
+ * pairs. As hashes may collide, keys of the rows found by hash are checked against the searched ones.
+ */
+public class HashIndexImpl extends AbstractIndex implements HashIndex {
+    /** Unique ID. */
+    private final UUID id = UUID.randomUUID();
+
+    /** Segments. */
+    private final ExtendibleHashTable[] segments;
+
+    /** Index definition. */
+    private final HashIndexDefinition def;
+
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** */
+    private final IoStatisticsHolderIndex stats;
+
+    /** Row handler. */
+    private final InlineIndexRowHandler rowHnd;
+
+    /** Index keys comparator. */
+    private final IndexRowComparator keyCmp;
+
+    /** */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** If {code true} then this index is already marked as destroyed. */
+    private final AtomicBoolean destroyed = new AtomicBoolean();
+
+    /** Constructor. */
+    public HashIndexImpl(
+        GridCacheContext<?, ?> cctx,
+        HashIndexDefinition def,
+        ExtendibleHashTable[] segments,
+        IoStatisticsHolderIndex stats
+    ) {
+        this.cctx = cctx;
+        this.def = def;
+        this.segments = segments.clone();
+        this.stats = stats;
+
+        rowHnd = def.createRowHandler();
+        keyCmp = new IndexRowComparatorImpl(def.keyTypeSettings());
+    }
+
+    /** {@inheritDoc} */
+    @Override public UUID id() {
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return def.idxName().idxName();
+    }
+
+    /** {@inheritDoc} */
+    @Override public HashIndexDefinition indexDefinition() {
+        return def;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean canHandle(CacheDataRow row) throws IgniteCheckedException {
+        return cctx.kernalContext().query().belongsToTable(
+            cctx, def.idxName().cacheName(), def.idxName().tableName(), row.key(), row.value());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onUpdate(@Nullable CacheDataRow oldRow, @Nullable CacheDataRow newRow,
+        boolean prevRowAvailable) throws IgniteCheckedException {
+        if (destroyed.get())
+            return;
+
+        lock.readLock().lock();
+
+        try {
+            int newHash = newRow == null ? 0 : hash(newRow);
+
+            if (oldRow != null) {
+                int oldHash = hash(oldRow);
+
+                // In-place update of a row with unchanged index keys.
+                if (newRow != null && oldRow.link() == newRow.link() && oldHash == newHash)
+                    return;
+
+                segments[segmentForRow(oldRow)].remove(oldHash, oldRow.link());
+            }
+
+            if (newRow != null)
+                segments[segmentForRow(newRow)].put(newHash, newRow.link(), !prevRowAvailable || rebuildInProgress());
+        }
+        catch (Throwable t) {
+            cctx.kernalContext().failure().process(new FailureContext(CRITICAL_ERROR, t));
+
+            throw t;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridCursor<IndexRow> find(IndexKey[] keys, @Nullable IndexQueryContext qryCtx)
+        throws IgniteCheckedException {
+        assert keys.length == def.indexKeyDefinitions().size() : "keys=" + keys.length;
+
+        int hash = hash(keys);
+
+        GridLongList links = new GridLongList();
+
+        lock.readLock().lock();
+
+        try {
+            for (ExtendibleHashTable segment : segments)
+                links.addAll(segment.find(hash));
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+
+        IndexingQueryCacheFilter cacheFilter = qryCtx == null || qryCtx.cacheFilter() == null ? null
+            : qryCtx.cacheFilter().forCache(cctx.cache().name());
+
+        return new HashCursor(links, keys, cacheFilter);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long totalCount() throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            long ret = 0;
+
+            for (ExtendibleHashTable segment : segments)
+                ret += segment.size();
+
+            return ret;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean created() {
+        for (ExtendibleHashTable segment : segments) {
+            if (segment.created())
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return Segments count.
+     */
+    public int segmentsCount() {
+        return segments.length;
+    }
+
+    /**
+     * @param row Cache row.
+     * @return Segment ID for given row.
+     */
+    private int segmentForRow(CacheDataRow row) {
+        return segments.length == 1 ? 0 : rowHnd.partition(row) % segments.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void destroy(boolean softDel) {
+        if (!destroyed.compareAndSet(false, true))
+            return;
+
+        if (!cctx.affinityNode() || softDel)
+            return;
+
+        lock.writeLock().lock();
+
+        try {
+            cctx.kernalContext().metric().remove(stats.metricRegistryName());
+
+            for (ExtendibleHashTable segment : segments)
+                segment.close();
+
+            if (!cctx.group().persistenceEnabled() &&
+                cctx.shared().kernalContext().state().clusterState().state() == INACTIVE)
+                return;
+
+            IgniteCacheDatabaseSharedManager db = cctx.shared().database();
+
+            db.checkpointReadLock();
+
+            try {
+                for (int i = 0; i < segments.length; i++) {
+                    segments[i].destroy();
+
+                    cctx.offheap().dropRootPageForIndex(cctx.cacheId(), def.treeName(), i);
+                }
+            }
+            finally {
+                db.checkpointReadUnlock();
+            }
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to destroy hash index [cacheName=" + cctx.name() +
+                ", idxName=" + name() + ']', e);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param row Cache row.
+     * @return Hash of the row index keys.
+     */
+    private int hash(CacheDataRow row) {
+        int h = 0;
+
+        for (int i = 0; i < def.indexKeyDefinitions().size(); i++)
+            h = 31 * h + hash(rowHnd.indexKey(i, row));
+
+        return mix(h);
+    }
+
+    /**
+     * @param keys Index keys.
+     * @return Hash of the index keys.
+     */
+    public static int hash(IndexKey[] keys) {
+        int h = 0;
+
+        for (IndexKey key : keys)
+            h = 31 * h + hash(key);
+
+        return mix(h);
+    }
+
+    /**
+     * Hash of a single index key. Numeric keys are hashed by value regardless of their type, as they may be compared
+     * to each other.
+     *
+     * @param key Index key.
+     * @return Hash.
+     */
+    static int hash(IndexKey key) {
+        if (key == null || key == NullIndexKey.INSTANCE)
+            return 0;
+
+        if (key instanceof JavaObjectIndexKey)
+            return Arrays.hashCode(((JavaObjectIndexKey)key).bytesNoCopy());
+
+        if (key instanceof BytesIndexKey)
+            return Arrays.hashCode((byte[])key.key());
+
+        Object val = key.key();
+
+        if (val instanceof Byte || val instanceof Short || val instanceof Integer || val instanceof Long)
+            return Long.hashCode(((Number)val).longValue());
+
+        if (val instanceof BigDecimal) {
+            BigDecimal dec = (BigDecimal)val;
+
+            try {
+                return Long.hashCode(dec.longValueExact());
+            }
+            catch (ArithmeticException ignored) {
+                return Double.hashCode(dec.doubleValue());
+            }
+        }
+
+        if (val instanceof Float || val instanceof Double) {
+            double d = ((Number)val).doubleValue();
+
+            return d == (long)d ? Long.hashCode((long)d) : Double.hashCode(d);
+        }
+
+        return Objects.hashCode(val);
+    }
+
+    /** Spreads bits of the hash, lower bits of it address the directory. */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+
+        return h;
+    }
+
+    /**
+     * Determines if provided row can be treated as expired at the current moment.
+     */
+    private static boolean isExpired(CacheDataRow row) {
+        return row.expireTime() > 0 && row.expireTime() <= U.currentTimeMillis();
+    }
+
+    /**
+     * Reads a row by the link found by a hash or bitmap index. The links are read after the index lock is released,
+     * so the row may be already removed and its link reused by a row of another cache or partition.
+     *
+     * @param cctx Cache context.
+     * @param link Link.
+     * @return Row or {@code null} if the link does not point to a row of the cache in the partition of the link.
+     */
+    public static @Nullable CacheDataRow readRow(GridCacheContext<?, ?> cctx, long link) {
+        CacheDataRowAdapter row = new CacheDataRowAdapter(link);
+
+        try {
+            row.initFromLink(cctx.group(), CacheDataRowAdapter.RowData.FULL, true);
+        }
+        catch (IgniteCheckedException | RuntimeException ignored) {
+            // The page of the stale link is reused for other data.
+            return null;
+        }
+
+        if (row.key() == null || cctx.group().sharedGroup() && row.cacheId() != cctx.cacheId())
+            return null;
+
+        if (cctx.affinity().partition(row.key()) != PageIdUtils.partId(PageIdUtils.pageId(link)))
+            return null;
+
+        return row;
+    }
+
+    /** Cursor over rows found by links, filters out rows with mismatched keys. */
+    private class HashCursor implements GridCursor<IndexRow> {
+        /** */
+        private final GridLongList links;
+
+        /** */
+        private final IndexKey[] keys;
+
+        /** */
+        private final @Nullable IndexingQueryCacheFilter cacheFilter;
+
+        /** */
+        private int idx;
+
+        /** */
+        private IndexRow cur;
+
+        /** */
+        HashCursor(GridLongList links, IndexKey[] keys, @Nullable IndexingQueryCacheFilter cacheFilter) {
+            this.links = links;
+            this.keys = keys;
+            this.cacheFilter = cacheFilter;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean next() throws IgniteCheckedException {
+            cur = null;
+
+            while (idx < links.size()) {
+                long link = links.get(idx++);
+
+                if (cacheFilter != null && !cacheFilter.applyPartition(PageIdUtils.partId(PageIdUtils.pageId(link))))
+                    continue;
+
+                CacheDataRow row = readRow(cctx, link);
+
+                if (row == null || isExpired(row) || !keysEqual(row))
+                    continue;
+
+                cur = new IndexRowImpl(rowHnd, row);
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IndexRow get() {
+            if (cur == null)
+                throw new NoSuchElementException();
+
+            return cur;
+        }
+
+        /** */
+        private boolean keysEqual(CacheDataRow row) throws IgniteCheckedException {
+            for (int i = 0; i < keys.length; i++) {
+                if (keyCmp.compareKey(rowHnd.indexKey(i, row), keys[i]) != 0)
+                    return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+
+/**
+ * Bucket page of extendible hash index. Holds unordered {@code (hash, link)} items. A bucket which can not be split
+ * any further (e.g. all items share the same hash) continues in a chain of overflow pages of the same format.
+ */
+public class HashBucketIO extends PageIO {
+    /** */
+    public static final IOVersions<HashBucketIO> VERSIONS = new IOVersions<>(
+        new HashBucketIO(1)
+    );
+
+    /** */
+    private static final int NEXT_PAGE_ID_OFF = COMMON_HEADER_END;
+
+    /** */
+    private static final int LOCAL_DEPTH_OFF = NEXT_PAGE_ID_OFF + Long.BYTES;
+
+    /** */
+    private static final int CNT_OFF = LOCAL_DEPTH_OFF + 2;
+
+    /** */
+    private static final int ITEMS_OFF = CNT_OFF + 2;
+
+    /** Item size: hash and link. */
+    public static final int ITEM_SIZE = Integer.BYTES + Long.BYTES;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected HashBucketIO(int ver) {
+        super(T_HASH_IDX_BUCKET, ver);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+        super.initNewPage(pageAddr, pageId, pageSize, metrics);
+
+        setNextId(pageAddr, 0L);
+        setLocalDepth(pageAddr, 0);
+        setCount(pageAddr, 0);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Next overflow page ID or {@code 0} if this is the last page of the chain.
+     */
+    public long getNextId(long pageAddr) {
+        return PageUtils.getLong(pageAddr, NEXT_PAGE_ID_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param nextId Next overflow page ID.
+     */
+    public void setNextId(long pageAddr, long nextId) {
+        assertPageType(pageAddr);
+
+        PageUtils.putLong(pageAddr, NEXT_PAGE_ID_OFF, nextId);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Local depth of the bucket. Meaningful for the first page of the chain only.
+     */
+    public int getLocalDepth(long pageAddr) {
+        return PageUtils.getShort(pageAddr, LOCAL_DEPTH_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param depth Local depth of the bucket.
+     */
+    public void setLocalDepth(long pageAddr, int depth) {
+        assertPageType(pageAddr);
+
+        PageUtils.putShort(pageAddr, LOCAL_DEPTH_OFF, (short)depth);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Items count.
+     */
+    public int getCount(long pageAddr) {
+        return PageUtils.getShort(pageAddr, CNT_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param cnt Items count.
+     */
+    private void setCount(long pageAddr, int cnt) {
+        assert cnt >= 0 && cnt <= Short.MAX_VALUE : cnt;
+
+        PageUtils.putShort(pageAddr, CNT_OFF, (short)cnt);
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Maximum items count.
+     */
+    public int getCapacity(int pageSize) {
+        return (pageSize - ITEMS_OFF) / ITEM_SIZE;
+    }
+
+    /**
+     * @param idx Item index.
+     * @return Item offset.
+     */
+    private static int offset(int idx) {
+        return ITEMS_OFF + idx * ITEM_SIZE;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return Hash of the item.
+     */
+    public int getHash(long pageAddr, int idx) {
+        return PageUtils.getInt(pageAddr, offset(idx));
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return Link of the item.
+     */
+    public long getLink(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, offset(idx) + Integer.BYTES);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param hash Hash.
+     * @param link Link.
+     * @return Index of the item in the page.
+     */
+    public int indexOf(long pageAddr, int hash, long link) {
+        int cnt = getCount(pageAddr);
+
+        for (int i = 0; i < cnt; i++) {
+            if (getHash(pageAddr, i) == hash && getLink(pageAddr, i) == link)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Appends item to the end of the page.
+     *
+     * @param pageAddr Page address.
+     * @param hash Hash.
+     * @param link Link.
+     * @param pageSize Page size.
+     * @return Index of the inserted item or {@code -1} if page is full.
+     */
+    public int insert(long pageAddr, int hash, long link, int pageSize) {
+        assertPageType(pageAddr);
+
+        int cnt = getCount(pageAddr);
+
+        if (cnt == getCapacity(pageSize))
+            return -1;
+
+        int off = offset(cnt);
+
+        PageUtils.putInt(pageAddr, off, hash);
+        PageUtils.putLong(pageAddr, off + Integer.BYTES, link);
+
+        setCount(pageAddr, cnt + 1);
+
+        return cnt;
+    }
+
+    /**
+     * Removes item, the last item of the page takes its place.
+     *
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     */
+    public void remove(long pageAddr, int idx) {
+        assertPageType(pageAddr);
+
+        int cnt = getCount(pageAddr);
+
+        assert idx >= 0 && idx < cnt : "idx=" + idx + ", cnt=" + cnt;
+
+        if (idx != cnt - 1) {
+            int last = offset(cnt - 1);
+            int off = offset(idx);
+
+            PageUtils.putInt(pageAddr, off, PageUtils.getInt(pageAddr, last));
+            PageUtils.putLong(pageAddr, off + Integer.BYTES, PageUtils.getLong(pageAddr, last + Integer.BYTES));
+        }
+
+        setCount(pageAddr, cnt - 1);
+    }
+
+    /**
+     * Removes all items.
+     *
+     * @param pageAddr Page address.
+     */
+    public void clear(long pageAddr) {
+        assertPageType(pageAddr);
+
+        setCount(pageAddr, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        sb.a("HashBucket [\n\tnextPageId=").appendHex(getNextId(addr))
+            .a(",\n\tlocalDepth=").a(getLocalDepth(addr))
+            .a(",\n\tcount=").a(getCount(addr))
+            .a(",\n\titems={");
+
+        for (int i = 0; i < getCount(addr); i++)
+            sb.a("\n\t\t").a(getHash(addr, i)).a(':').appendHex(getLink(addr, i));
+
+        sb.a("\n\t}\n]");
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFreeSpace(int pageSize, long pageAddr) {
+        return (getCapacity(pageSize) - getCount(pageAddr)) * ITEM_SIZE;
+    }
+}
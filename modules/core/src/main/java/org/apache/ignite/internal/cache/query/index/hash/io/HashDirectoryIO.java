@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+
+/**
+ * Directory page of extendible hash index. Directory is a chain of pages holding bucket page IDs, slot {@code i}
+ * of the directory points to the bucket for hashes whose lower {@code globalDepth} bits are equal to {@code i}.
+ */
+public class HashDirectoryIO extends PageIO {
+    /** */
+    public static final IOVersions<HashDirectoryIO> VERSIONS = new IOVersions<>(
+        new HashDirectoryIO(1)
+    );
+
+    /** */
+    private static final int NEXT_PAGE_ID_OFF = COMMON_HEADER_END;
+
+    /** */
+    private static final int CNT_OFF = NEXT_PAGE_ID_OFF + Long.BYTES;
+
+    /** */
+    private static final int ITEMS_OFF = CNT_OFF + Integer.BYTES;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected HashDirectoryIO(int ver) {
+        super(T_HASH_IDX_DIRECTORY, ver);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+        super.initNewPage(pageAddr, pageId, pageSize, metrics);
+
+        setNextId(pageAddr, 0L);
+        setCount(pageAddr, 0);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Next directory page ID.
+     */
+    public long getNextId(long pageAddr) {
+        return PageUtils.getLong(pageAddr, NEXT_PAGE_ID_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param nextId Next directory page ID.
+     */
+    public void setNextId(long pageAddr, long nextId) {
+        assertPageType(pageAddr);
+
+        PageUtils.putLong(pageAddr, NEXT_PAGE_ID_OFF, nextId);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Slots count stored in this page.
+     */
+    public int getCount(long pageAddr) {
+        return PageUtils.getInt(pageAddr, CNT_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param cnt Slots count stored in this page.
+     */
+    public void setCount(long pageAddr, int cnt) {
+        assertPageType(pageAddr);
+
+        PageUtils.putInt(pageAddr, CNT_OFF, cnt);
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Maximum slots count.
+     */
+    public int getCapacity(int pageSize) {
+        return (pageSize - ITEMS_OFF) / Long.BYTES;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Slot index within the page.
+     * @return Bucket page ID.
+     */
+    public long getAt(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, ITEMS_OFF + idx * Long.BYTES);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Slot index within the page.
+     * @param bucketId Bucket page ID.
+     */
+    public void setAt(long pageAddr, int idx, long bucketId) {
+        assertPageType(pageAddr);
+
+        PageUtils.putLong(pageAddr, ITEMS_OFF + idx * Long.BYTES, bucketId);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        sb.a("HashDirectory [\n\tnextPageId=").appendHex(getNextId(addr))
+            .a(",\n\tcount=").a(getCount(addr))
+            .a(",\n\tbuckets={");
+
+        for (int i = 0; i < getCount(addr); i++)
+            sb.a("\n\t\t").appendHex(getAt(addr, i));
+
+        sb.a("\n\t}\n]");
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFreeSpace(int pageSize, long pageAddr) {
+        return (getCapacity(pageSize) - getCount(pageAddr)) * Long.BYTES;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+
+/**
+ * Meta page of extendible hash index.
+ */
+public class HashMetaIO extends PageIO {
+    /** */
+    public static final IOVersions<HashMetaIO> VERSIONS = new IOVersions<>(
+        new HashMetaIO(1)
+    );
+
+    /** */
+    private static final int GLOBAL_DEPTH_OFF = COMMON_HEADER_END;
+
+    /** */
+    private static final int DIR_PAGE_ID_OFF = GLOBAL_DEPTH_OFF + Integer.BYTES;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected HashMetaIO(int ver) {
+        super(T_HASH_IDX_META, ver);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+        super.initNewPage(pageAddr, pageId, pageSize, metrics);
+
+        setGlobalDepth(pageAddr, 0);
+        setDirectoryPageId(pageAddr, 0L);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Global depth of the directory.
+     */
+    public int getGlobalDepth(long pageAddr) {
+        return PageUtils.getInt(pageAddr, GLOBAL_DEPTH_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param depth Global depth of the directory.
+     */
+    public void setGlobalDepth(long pageAddr, int depth) {
+        assertPageType(pageAddr);
+
+        PageUtils.putInt(pageAddr, GLOBAL_DEPTH_OFF, depth);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return First directory page ID or {@code 0} if the directory is not initialized yet.
+     */
+    public long getDirectoryPageId(long pageAddr) {
+        return PageUtils.getLong(pageAddr, DIR_PAGE_ID_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param pageId First directory page ID.
+     */
+    public void setDirectoryPageId(long pageAddr, long pageId) {
+        assertPageType(pageAddr);
+
+        PageUtils.putLong(pageAddr, DIR_PAGE_ID_OFF, pageId);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        sb.a("HashMeta [\n\tglobalDepth=").a(getGlobalDepth(addr))
+            .a(",\n\tdirectoryPageId=").appendHex(getDirectoryPageId(addr))
+            .a("\n]");
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFreeSpace(int pageSize, long pageAddr) {
+        return 0;
+    }
+}
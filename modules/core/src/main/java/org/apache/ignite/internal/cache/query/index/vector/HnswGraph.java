@@ -0,0 +1,596 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Hierarchical navigable small world graph (Malkov, Yashunin) over normalized vectors, similarity of vectors is their
+ * dot product, i.e. cosine of the angle between the original vectors.
+ * <p>
+ * Every node lives on level 0 and, with exponentially decreasing probability, on upper levels. Search greedily
+ * descends from the entry point on the top level down to level 0, where a beam search of width {@code ef} collects
+ * the best matches.
+ * <p>
+ * Removed nodes are only marked as deleted: they still route searches but are never returned. The graph is rebuilt
+ * from live nodes once most of its nodes are deleted. Writes are exclusive, searches are concurrent.
+ *
+ * @param <K> Key type.
+ */
+public class HnswGraph<K> {
+    /** Upper bound of node level. */
+    private static final int MAX_LEVEL = 16;
+
+    /** Minimal count of deleted nodes to rebuild the graph. */
+    private static final int MIN_DELETED_TO_REBUILD = 64;
+
+    /** Maximal count of links of a node on upper levels. */
+    private final int m;
+
+    /** Maximal count of links of a node on level 0. */
+    private final int m0;
+
+    /** Width of search for neighbours of an inserted node. */
+    private final int efConstruction;
+
+    /** Normalization factor for level generation. */
+    private final double levelMult;
+
+    /** Nodes by ID, including deleted ones. */
+    private Node<K>[] nodes;
+
+    /** Count of nodes, including deleted ones. */
+    private int cnt;
+
+    /** Count of deleted nodes. */
+    private int deleted;
+
+    /** IDs of live nodes by key. */
+    private final Map<K, Integer> ids = new HashMap<>();
+
+    /** Entry point, {@code -1} if the graph is empty. */
+    private int entry = -1;
+
+    /** */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param m Maximal count of links of a node on upper levels, twice as many links are kept on level 0.
+     * @param efConstruction Width of search for neighbours of an inserted node.
+     */
+    @SuppressWarnings("unchecked")
+    public HnswGraph(int m, int efConstruction) {
+        assert m > 1 : m;
+
+        this.m = m;
+        this.efConstruction = Math.max(efConstruction, m);
+
+        m0 = 2 * m;
+        levelMult = 1 / Math.log(m);
+        nodes = new Node[16];
+    }
+
+    /**
+     * Inserts a vector, a vector previously inserted with the same key is replaced.
+     *
+     * @param key Key.
+     * @param vec Vector, normalized by {@link #normalize(float[])}.
+     */
+    public void put(K key, float[] vec) {
+        lock.writeLock().lock();
+
+        try {
+            remove0(key);
+
+            insert(key, vec);
+
+            rebuildIfNeeded();
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @return {@code true} if vector with the given key was removed.
+     */
+    public boolean remove(K key) {
+        lock.writeLock().lock();
+
+        try {
+            boolean res = remove0(key);
+
+            if (res)
+                rebuildIfNeeded();
+
+            return res;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Count of live vectors.
+     */
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return ids.size();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds vectors similar to the given one.
+     *
+     * @param qry Query vector, normalized by {@link #normalize(float[])}.
+     * @param k Maximal count of results.
+     * @param ef Width of search, the greater the width the better the recall and the slower the search.
+     * @return Matches ordered by descending similarity.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Match<K>> search(float[] qry, int k, int ef) {
+        lock.readLock().lock();
+
+        try {
+            if (ids.isEmpty())
+                return Collections.emptyList();
+
+            int ep = entry;
+
+            for (int lvl = nodes[ep].level(); lvl > 0; lvl--)
+                ep = greedySearch(qry, ep, lvl);
+
+            PriorityQueue<Candidate> found = searchLayer(qry, ep, Math.max(ef, k), 0, true);
+
+            while (found.size() > k)
+                found.poll();
+
+            Match<K>[] res = new Match[found.size()];
+
+            for (int i = res.length - 1; i >= 0; i--) {
+                Candidate c = found.poll();
+
+                res[i] = new Match<>(nodes[c.id].key, c.sim);
+            }
+
+            return Arrays.asList(res);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Normalizes vector to the unit length.
+     *
+     * @param vec Vector.
+     * @return Normalized copy of the vector, zero vector is returned as is.
+     */
+    public static float[] normalize(float[] vec) {
+        double norm = 0;
+
+        for (float v : vec)
+            norm += (double)v * v;
+
+        float[] res = vec.clone();
+
+        if (norm == 0)
+            return res;
+
+        norm = Math.sqrt(norm);
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = (float)(res[i] / norm);
+
+        return res;
+    }
+
+    /**
+     * @param a Vector.
+     * @param b Vector.
+     * @return Dot product of the vectors.
+     */
+    static float dot(float[] a, float[] b) {
+        float res = 0;
+
+        for (int i = 0; i < a.length; i++)
+            res += a[i] * b[i];
+
+        return res;
+    }
+
+    /** */
+    private boolean remove0(K key) {
+        Integer id = ids.remove(key);
+
+        if (id == null)
+            return false;
+
+        nodes[id].deleted = true;
+
+        deleted++;
+
+        return true;
+    }
+
+    /** */
+    private void insert(K key, float[] vec) {
+        int lvl = randomLevel();
+
+        Node<K> node = new Node<>(key, vec, lvl, m, m0);
+
+        int id = cnt;
+
+        if (id == nodes.length)
+            nodes = Arrays.copyOf(nodes, nodes.length << 1);
+
+        nodes[cnt++] = node;
+
+        ids.put(key, id);
+
+        if (entry < 0) {
+            entry = id;
+
+            return;
+        }
+
+        int ep = entry;
+        int top = nodes[ep].level();
+
+        for (int l = top; l > lvl; l--)
+            ep = greedySearch(vec, ep, l);
+
+        for (int l = Math.min(lvl, top); l >= 0; l--) {
+            PriorityQueue<Candidate> found = searchLayer(vec, ep, efConstruction, l, false);
+
+            List<Candidate> sorted = sortedDesc(found);
+
+            ep = sorted.get(0).id;
+
+            int[] neighbours = selectNeighbours(sorted, l == 0 ? m0 : m);
+
+            for (int n : neighbours) {
+                node.link(l, n);
+
+                connect(n, id, l);
+            }
+        }
+
+        if (lvl > top)
+            entry = id;
+    }
+
+    /**
+     * Adds link from node {@code from} to node {@code to}, prunes links of {@code from} if there are too many.
+     */
+    private void connect(int from, int to, int lvl) {
+        Node<K> node = nodes[from];
+
+        int max = lvl == 0 ? m0 : m;
+
+        if (node.cnt[lvl] < max) {
+            node.link(lvl, to);
+
+            return;
+        }
+
+        List<Candidate> cands = new ArrayList<>(max + 1);
+
+        cands.add(new Candidate(to, dot(node.vec, nodes[to].vec)));
+
+        for (int i = 0; i < node.cnt[lvl]; i++) {
+            int n = node.links[lvl][i];
+
+            cands.add(new Candidate(n, dot(node.vec, nodes[n].vec)));
+        }
+
+        cands.sort(null);
+
+        int[] selected = selectNeighbours(cands, max);
+
+        System.arraycopy(selected, 0, node.links[lvl], 0, selected.length);
+
+        node.cnt[lvl] = selected.length;
+    }
+
+    /**
+     * Selects neighbours with the heuristic preferring candidates in diverse directions: a candidate is skipped if it
+     * is closer to any already selected neighbour than to the base node. Free slots are filled with skipped ones.
+     *
+     * @param cands Candidates ordered by descending similarity to the base node.
+     * @param max Maximal count of neighbours.
+     * @return Selected neighbours.
+     */
+    private int[] selectNeighbours(List<Candidate> cands, int max) {
+        int[] res = new int[Math.min(max, cands.size())];
+        int cnt = 0;
+
+        List<Candidate> skipped = new ArrayList<>();
+
+        for (Candidate c : cands) {
+            if (cnt == res.length)
+                break;
+
+            float[] vec = nodes[c.id].vec;
+
+            boolean good = true;
+
+            for (int i = 0; i < cnt; i++) {
+                if (dot(vec, nodes[res[i]].vec) > c.sim) {
+                    good = false;
+
+                    break;
+                }
+            }
+
+            if (good)
+                res[cnt++] = c.id;
+            else
+                skipped.add(c);
+        }
+
+        for (int i = 0; cnt < res.length && i < skipped.size(); i++)
+            res[cnt++] = skipped.get(i).id;
+
+        return res;
+    }
+
+    /**
+     * @return The most similar node reachable from {@code ep} on the level by greedy moves.
+     */
+    private int greedySearch(float[] qry, int ep, int lvl) {
+        int cur = ep;
+        float curSim = dot(qry, nodes[cur].vec);
+
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            Node<K> node = nodes[cur];
+
+            for (int i = 0; i < node.cnt[lvl]; i++) {
+                int n = node.links[lvl][i];
+
+                float sim = dot(qry, nodes[n].vec);
+
+                if (sim > curSim) {
+                    cur = n;
+                    curSim = sim;
+                    changed = true;
+                }
+            }
+        }
+
+        return cur;
+    }
+
+    /**
+     * Beam search on the level.
+     *
+     * @param qry Query vector.
+     * @param ep Entry point.
+     * @param ef Width of search.
+     * @param lvl Level.
+     * @param liveOnly Whether to exclude deleted nodes from results.
+     * @return Up to {@code ef} found nodes, the least similar one is the head of the queue.
+     */
+    private PriorityQueue<Candidate> searchLayer(float[] qry, int ep, int ef, int lvl, boolean liveOnly) {
+        BitSet visited = new BitSet(cnt);
+
+        // Closest candidates first.
+        PriorityQueue<Candidate> cands = new PriorityQueue<>();
+
+        // Farthest results first.
+        PriorityQueue<Candidate> res = new PriorityQueue<>(Collections.reverseOrder());
+
+        Candidate start = new Candidate(ep, dot(qry, nodes[ep].vec));
+
+        visited.set(ep);
+        cands.add(start);
+
+        if (!liveOnly || !nodes[ep].deleted)
+            res.add(start);
+
+        while (!cands.isEmpty()) {
+            Candidate c = cands.poll();
+
+            if (res.size() >= ef && c.sim < res.peek().sim)
+                break;
+
+            Node<K> node = nodes[c.id];
+
+            for (int i = 0; i < node.cnt[lvl]; i++) {
+                int n = node.links[lvl][i];
+
+                if (visited.get(n))
+                    continue;
+
+                visited.set(n);
+
+                float sim = dot(qry, nodes[n].vec);
+
+                if (res.size() < ef || sim > res.peek().sim) {
+                    Candidate nc = new Candidate(n, sim);
+
+                    cands.add(nc);
+
+                    if (!liveOnly || !nodes[n].deleted) {
+                        res.add(nc);
+
+                        if (res.size() > ef)
+                            res.poll();
+                    }
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /** Rebuilds the graph from live nodes if most of nodes are deleted. */
+    @SuppressWarnings("unchecked")
+    private void rebuildIfNeeded() {
+        if (deleted < MIN_DELETED_TO_REBUILD || deleted * 2 < cnt)
+            return;
+
+        Node<K>[] old = nodes;
+        int oldCnt = cnt;
+
+        nodes = new Node[Math.max(16, Integer.highestOneBit(Math.max(1, ids.size())) << 1)];
+
+        cnt = 0;
+        deleted = 0;
+        entry = -1;
+
+        ids.clear();
+
+        for (int i = 0; i < oldCnt; i++) {
+            if (!old[i].deleted)
+                insert(old[i].key, old[i].vec);
+        }
+    }
+
+    /** */
+    private int randomLevel() {
+        double r = ThreadLocalRandom.current().nextDouble();
+
+        return Math.min(MAX_LEVEL, (int)(-Math.log(1 - r) * levelMult));
+    }
+
+    /** */
+    private static List<Candidate> sortedDesc(PriorityQueue<Candidate> q) {
+        List<Candidate> res = new ArrayList<>(q);
+
+        res.sort(null);
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HnswGraph.class, this, "size", ids.size(), "deleted", deleted);
+    }
+
+    /** Search result. */
+    public static class Match<K> {
+        /** */
+        private final K key;
+
+        /** */
+        private final float score;
+
+        /** */
+        Match(K key, float score) {
+            this.key = key;
+            this.score = score;
+        }
+
+        /** @return Key. */
+        public K key() {
+            return key;
+        }
+
+        /** @return Similarity to the query vector. */
+        public float score() {
+            return score;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Match.class, this);
+        }
+    }
+
+    /** Node of the graph. */
+    private static class Node<K> {
+        /** */
+        private final K key;
+
+        /** */
+        private final float[] vec;
+
+        /** Links by level. */
+        private final int[][] links;
+
+        /** Count of links by level. */
+        private final int[] cnt;
+
+        /** */
+        private boolean deleted;
+
+        /** */
+        Node(K key, float[] vec, int lvl, int m, int m0) {
+            this.key = key;
+            this.vec = vec;
+
+            links = new int[lvl + 1][];
+            cnt = new int[lvl + 1];
+
+            for (int l = 0; l <= lvl; l++)
+                links[l] = new int[l == 0 ? m0 : m];
+        }
+
+        /** */
+        int level() {
+            return links.length - 1;
+        }
+
+        /** */
+        void link(int lvl, int id) {
+            links[lvl][cnt[lvl]++] = id;
+        }
+    }
+
+    /** Node with its similarity to the query, natural order is by descending similarity. */
+    private static class Candidate implements Comparable<Candidate> {
+        /** */
+        private final int id;
+
+        /** */
+        private final float sim;
+
+        /** */
+        Candidate(int id, float sim) {
+            this.id = id;
+            this.sim = sim;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int compareTo(Candidate o) {
+            return Float.compare(o.sim, sim);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.vector;
+
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Vector index. Finds approximate nearest neighbours of a vector by cosine similarity. Every local partition has its
+ * own {@link HnswGraph}, so search is partition-local and results of partitions are merged by similarity.
+ * <p>
+ * Graphs are kept on heap and are not persisted, so the index is reported as created on every start and is rebuilt
+ * from cache data.
+ */
+public interface VectorIndex extends Index {
+    /**
+     * Finds keys of rows with vectors the most similar to the given one.
+     *
+     * @param vec Query vector.
+     * @param k Maximal count of results.
+     * @param filter Filter of partitions to search in, {@code null} for all local partitions.
+     * @return Matches ordered by descending similarity.
+     * @throws IgniteCheckedException If failed.
+     */
+    public List<HnswGraph.Match<KeyCacheObject>> find(float[] vec, int k, @Nullable IndexingQueryCacheFilter filter)
+        throws IgniteCheckedException;
+
+    /**
+     * @return Total count of vectors in the index.
+     */
+    public long totalCount();
+
+    /**
+     * {@code true} if index is created and {@code false} if it is restored from disk.
+     */
+    public boolean created();
+
+    /** {@inheritDoc} */
+    @Override public VectorIndexDefinition indexDefinition();
+}
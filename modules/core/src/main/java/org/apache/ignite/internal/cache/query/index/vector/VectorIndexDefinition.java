@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.vector;
+
+import java.util.LinkedHashMap;
+import org.apache.ignite.internal.cache.query.index.IndexDefinition;
+import org.apache.ignite.internal.cache.query.index.IndexName;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.query.GridQueryProperty;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
+
+/**
+ * Definition of a vector index.
+ */
+public class VectorIndexDefinition implements IndexDefinition {
+    /** Default maximal count of links of a graph node on upper levels. */
+    public static final int DFLT_M = 16;
+
+    /** Default width of search for neighbours of an inserted vector. */
+    public static final int DFLT_EF_CONSTRUCTION = 128;
+
+    /** Default width of search for similar vectors. */
+    public static final int DFLT_EF_SEARCH = 64;
+
+    /** Key definitions. */
+    private final LinkedHashMap<String, IndexKeyDefinition> keyDefs;
+
+    /** Type descriptor. */
+    private final GridQueryTypeDescriptor typeDesc;
+
+    /** Cache info. */
+    private final GridCacheContextInfo<?, ?> cacheInfo;
+
+    /** Index name. */
+    private final IndexName idxName;
+
+    /** Vector field. */
+    private final GridQueryProperty prop;
+
+    /** */
+    public VectorIndexDefinition(
+        GridQueryTypeDescriptor typeDesc,
+        GridCacheContextInfo<?, ?> cacheInfo,
+        IndexName idxName,
+        LinkedHashMap<String, IndexKeyDefinition> keyDefs,
+        GridQueryProperty prop
+    ) {
+        assert keyDefs.size() == 1 : keyDefs.keySet();
+
+        this.typeDesc = typeDesc;
+        this.cacheInfo = cacheInfo;
+        this.idxName = idxName;
+        this.keyDefs = keyDefs;
+        this.prop = prop;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IndexName idxName() {
+        return idxName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public LinkedHashMap<String, IndexKeyDefinition> indexKeyDefinitions() {
+        return keyDefs;
+    }
+
+    /** Type descriptor. */
+    public GridQueryTypeDescriptor typeDescriptor() {
+        return typeDesc;
+    }
+
+    /** Cache info. */
+    public GridCacheContextInfo<?, ?> cacheInfo() {
+        return cacheInfo;
+    }
+
+    /** Name of the vector field. */
+    public String field() {
+        return keyDefs.keySet().iterator().next();
+    }
+
+    /** Vector field. */
+    public GridQueryProperty property() {
+        return prop;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return "VectorIndex[name=" + idxName.idxName() + ", field=" + field() + "]";
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.vector;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.cache.query.index.AbstractIndex;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.util.typedef.internal.LT;
+import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Vector index implementation.
+ */
+public class VectorIndexImpl extends AbstractIndex implements VectorIndex {
+    /** Unique ID. */
+    private final UUID id = UUID.randomUUID();
+
+    /** Index definition. */
+    private final VectorIndexDefinition def;
+
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** */
+    private final IgniteLogger log;
+
+    /** Graphs by partition, created lazily. */
+    private final AtomicReferenceArray<HnswGraph<KeyCacheObject>> graphs;
+
+    /** Dimension of indexed vectors, {@code 0} until the first vector is indexed. */
+    private volatile int dim;
+
+    /** If {code true} then this index is already marked as destroyed. */
+    private final AtomicBoolean destroyed = new AtomicBoolean();
+
+    /** Constructor. */
+    public VectorIndexImpl(GridCacheContext<?, ?> cctx, VectorIndexDefinition def) {
+        this.cctx = cctx;
+        this.def = def;
+
+        log = cctx.logger(VectorIndexImpl.class);
+        graphs = new AtomicReferenceArray<>(cctx.affinity().partitions());
+    }
+
+    /** {@inheritDoc} */
+    @Override public UUID id() {
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return def.idxName().idxName();
+    }
+
+    /** {@inheritDoc} */
+    @Override public VectorIndexDefinition indexDefinition() {
+        return def;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean canHandle(CacheDataRow row) throws IgniteCheckedException {
+        return cctx.kernalContext().query().belongsToTable(
+            cctx, def.idxName().cacheName(), def.idxName().tableName(), row.key(), row.value());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onUpdate(@Nullable CacheDataRow oldRow, @Nullable CacheDataRow newRow,
+        boolean prevRowAvailable) throws IgniteCheckedException {
+        if (destroyed.get())
+            return;
+
+        CacheDataRow row = newRow != null ? newRow : oldRow;
+
+        if (row == null)
+            return;
+
+        float[] vec = newRow == null ? null : vector(newRow);
+
+        if (vec != null)
+            graph(row.partition(), true).put(row.key(), HnswGraph.normalize(vec));
+        else {
+            HnswGraph<KeyCacheObject> graph = graph(row.partition(), false);
+
+            if (graph != null)
+                graph.remove(row.key());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
+    @Override public List<HnswGraph.Match<KeyCacheObject>> find(
+        float[] vec,
+        int k,
+        @Nullable IndexingQueryCacheFilter filter
+    ) throws IgniteCheckedException {
+        int dim0 = dim;
+
+        if (dim0 == 0)
+            return Collections.emptyList();
+
+        if (vec.length != dim0) {
+            throw new IgniteCheckedException("Query vector dimension does not match the index [idxName=" + name() +
+                ", expected=" + dim0 + ", actual=" + vec.length + ']');
+        }
+
+        float[] qry = HnswGraph.normalize(vec);
+
+        int ef = Math.max(k, VectorIndexDefinition.DFLT_EF_SEARCH);
+
+        // The least similar match is the head.
+        PriorityQueue<HnswGraph.Match<KeyCacheObject>> res = new PriorityQueue<>(k + 1,
+            (m1, m2) -> Float.compare(m1.score(), m2.score()));
+
+        for (int p = 0; p < graphs.length(); p++) {
+            HnswGraph<KeyCacheObject> graph = graphs.get(p);
+
+            if (graph == null || (filter != null && !filter.applyPartition(p)))
+                continue;
+
+            for (HnswGraph.Match<KeyCacheObject> m : graph.search(qry, k, ef)) {
+                if (res.size() == k && m.score() <= res.peek().score())
+                    break;
+
+                res.add(m);
+
+                if (res.size() > k)
+                    res.poll();
+            }
+        }
+
+        HnswGraph.Match<KeyCacheObject>[] sorted = res.toArray(new HnswGraph.Match[0]);
+
+        Arrays.sort(sorted, (m1, m2) -> Float.compare(m2.score(), m1.score()));
+
+        return Arrays.asList(sorted);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long totalCount() {
+        long res = 0;
+
+        for (int p = 0; p < graphs.length(); p++) {
+            HnswGraph<KeyCacheObject> graph = graphs.get(p);
+
+            if (graph != null)
+                res += graph.size();
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean created() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void destroy(boolean softDel) {
+        if (!destroyed.compareAndSet(false, true))
+            return;
+
+        for (int p = 0; p < graphs.length(); p++)
+            graphs.set(p, null);
+    }
+
+    /**
+     * @param part Partition.
+     * @param create Whether to create graph if it does not exist.
+     * @return Graph of the partition.
+     */
+    private @Nullable HnswGraph<KeyCacheObject> graph(int part, boolean create) {
+        HnswGraph<KeyCacheObject> graph = graphs.get(part);
+
+        if (graph == null && create) {
+            graph = new HnswGraph<>(VectorIndexDefinition.DFLT_M, VectorIndexDefinition.DFLT_EF_CONSTRUCTION);
+
+            if (!graphs.compareAndSet(part, null, graph))
+                graph = graphs.get(part);
+        }
+
+        return graph;
+    }
+
+    /**
+     * @param row Cache row.
+     * @return Vector of the row or {@code null} if the row has no vector or it can not be indexed.
+     */
+    private @Nullable float[] vector(CacheDataRow row) throws IgniteCheckedException {
+        float[] vec = toVector(def.property().value(row.key(), row.value()));
+
+        if (vec == null)
+            return null;
+
+        int dim0 = dim;
+
+        if (dim0 == 0) {
+            synchronized (this) {
+                if (dim == 0)
+                    dim = vec.length;
+
+                dim0 = dim;
+            }
+        }
+
+        if (vec.length != dim0) {
+            LT.warn(log, "Vector is not indexed due to dimension mismatch [idxName=" + name() +
+                ", expected=" + dim0 + ", actual=" + vec.length + ']');
+
+            return null;
+        }
+
+        return vec;
+    }
+
+    /**
+     * @param val Field value.
+     * @return Vector or {@code null} if the value is not a vector.
+     */
+    static @Nullable float[] toVector(@Nullable Object val) {
+        if (val instanceof float[])
+            return ((float[])val).length == 0 ? null : (float[])val;
+
+        if (val instanceof double[]) {
+            double[] arr = (double[])val;
+
+            float[] res = new float[arr.length];
+
+            for (int i = 0; i < arr.length; i++)
+                res[i] = (float)arr[i];
+
+            return res.length == 0 ? null : res;
+        }
+
+        if (val instanceof Object[]) {
+            Object[] arr = (Object[])val;
+
+            float[] res = new float[arr.length];
+
+            for (int i = 0; i < arr.length; i++) {
+                if (!(arr[i] instanceof Number))
+                    return null;
+
+                res[i] = ((Number)arr[i]).floatValue();
+            }
+
+            return res.length == 0 ? null : res;
+        }
+
+        return null;
+    }
+}
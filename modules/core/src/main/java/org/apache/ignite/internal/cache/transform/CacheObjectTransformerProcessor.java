@@ -35,6 +35,18 @@ public interface CacheObjectTransformerProcessor extends GridProcessor {
      */
     public @Nullable ByteBuffer transform(ByteBuffer original);
 
+    /**
+     * Transforms the data of the cache.
+     *
+     * @param cacheName Cache name or {@code null} if unknown.
+     * @param original Original data.
+     * @return Transformed data (started with {@link GridBinaryMarshaller#TRANSFORMED} when restorable)
+     * or {@code null} when transformation is not possible/suitable.
+     */
+    public default @Nullable ByteBuffer transform(@Nullable String cacheName, ByteBuffer original) {
+        return transform(original);
+    }
+
     /**
      * Restores the data.
      *
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cdc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cdc.CdcConsumer;
+import org.apache.ignite.internal.cdc.WalRecordsConsumer.DataEntryIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.thread.pool.IgniteStripedThreadPoolExecutor;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.lang.IgniteThrowableConsumer;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Passes the events read from WAL to {@link CdcConsumer} by several threads.
+ * <p>
+ * The entries read by the caller thread are grouped in batches, the entries of a batch are split between the threads
+ * by partition, so the events of a partition are consumed in the WAL order. The consumption state is committed
+ * by the caller thread once all the batches up to the committed one are consumed.
+ */
+class CdcEventsDispatcher {
+    /** Maximum number of entries in a batch. */
+    private static final int BATCH_SIZE = 1024;
+
+    /** Maximum number of batches consumed concurrently per thread. */
+    private static final int BATCHES_PER_THREAD = 4;
+
+    /** Events consumer. */
+    private final WalRecordsConsumer<?, ?> consumer;
+
+    /** Consumer threads. */
+    private final IgniteStripedThreadPoolExecutor exec;
+
+    /** Number of consumer threads. */
+    private final int threads;
+
+    /** Events read from WAL but not committed yet. */
+    private final AtomicLongMetric lagEvts;
+
+    /** Batches passed to the consumer in the WAL order. */
+    private final ArrayDeque<Batch> batches = new ArrayDeque<>();
+
+    /** Number of entries in the consumed batches which are not committed yet. */
+    private long uncommitted;
+
+    /**
+     * @param consumer Events consumer.
+     * @param threads Number of consumer threads.
+     * @param igniteInstanceName Ignite instance name.
+     * @param lagEvts Events read from WAL but not committed yet.
+     * @param log Logger.
+     */
+    CdcEventsDispatcher(
+        WalRecordsConsumer<?, ?> consumer,
+        int threads,
+        String igniteInstanceName,
+        AtomicLongMetric lagEvts,
+        IgniteLogger log
+    ) {
+        assert threads > 1 : threads;
+
+        this.consumer = consumer;
+        this.threads = threads;
+        this.lagEvts = lagEvts;
+
+        exec = new IgniteStripedThreadPoolExecutor(
+            threads,
+            igniteInstanceName,
+            "cdc-consumer",
+            (t, e) -> log.error("Unexpected error in the CDC consumer thread [thread=" + t.getName() + ']', e),
+            false,
+            0);
+    }
+
+    /**
+     * Consumes all the entries of the iterator.
+     *
+     * @param iter Data entries iterator.
+     * @param commit Commits the consumption state.
+     * @throws IgniteCheckedException If the consumption or the state commit failed.
+     */
+    void consume(
+        DataEntryIterator iter,
+        IgniteThrowableConsumer<T2<WALPointer, Integer>> commit
+    ) throws IgniteCheckedException {
+        boolean interrupted = false;
+
+        while (iter.hasNext() && !interrupted) {
+            List<DataEntry>[] parts = new List[threads];
+
+            int size = 0;
+
+            while (iter.hasNext() && size < BATCH_SIZE) {
+                DataEntry e = iter.next();
+
+                int idx = exec.threadId(U.safeAbs(e.partitionId()));
+
+                if (parts[idx] == null)
+                    parts[idx] = new ArrayList<>();
+
+                parts[idx].add(e);
+
+                size++;
+            }
+
+            Batch batch = new Batch(iter.state(), size);
+
+            batches.add(batch);
+
+            lagEvts.add(size);
+
+            for (int i = 0; i < threads; i++) {
+                if (parts[i] != null)
+                    exec.execute(new PartTask(batch, parts[i]), i);
+            }
+
+            batch.onPartDone(true, null);
+
+            commitConsumed(commit, threads * BATCHES_PER_THREAD);
+
+            interrupted = Thread.currentThread().isInterrupted();
+        }
+
+        if (interrupted)
+            throw new IgniteException("Change Data Capture Application interrupted");
+
+        commitConsumed(commit, 0);
+    }
+
+    /**
+     * Removes the consumed batches in the WAL order and commits the state of the last one which requested a commit.
+     *
+     * @param commit Commits the consumption state.
+     * @param maxBatches Maximum number of the batches left in progress, waits for the rest.
+     * @throws IgniteCheckedException If the consumption or the state commit failed.
+     */
+    private void commitConsumed(
+        IgniteThrowableConsumer<T2<WALPointer, Integer>> commit,
+        int maxBatches
+    ) throws IgniteCheckedException {
+        T2<WALPointer, Integer> state = null;
+
+        while (!batches.isEmpty() && (batches.size() > maxBatches || batches.peek().isDone())) {
+            Batch batch = batches.poll();
+
+            uncommitted += batch.size;
+
+            if (batch.get()) {
+                state = batch.state;
+
+                lagEvts.add(-uncommitted);
+
+                uncommitted = 0;
+            }
+        }
+
+        if (state != null)
+            commit.accept(state);
+    }
+
+    /** Stops the consumer threads. */
+    void stop() {
+        IgniteException err = new IgniteException("Change Data Capture Application stopped");
+
+        for (Runnable task : exec.shutdownNow())
+            ((PartTask)task).batch.onPartDone(false, err);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CdcEventsDispatcher.class, this);
+    }
+
+    /**
+     * Batch of entries. Completes with the consumer's commit request once all the threads consume their entries.
+     */
+    private static class Batch extends GridFutureAdapter<Boolean> {
+        /** State right after the last entry of the batch. */
+        private final T2<WALPointer, Integer> state;
+
+        /** Number of entries. */
+        private final int size;
+
+        /** Number of parts which are not consumed yet, including the dispatching one. */
+        private final AtomicInteger parts = new AtomicInteger(1);
+
+        /** Commit requested by all the parts. */
+        private volatile boolean commit = true;
+
+        /**
+         * @param state State right after the last entry of the batch.
+         * @param size Number of entries.
+         */
+        Batch(T2<WALPointer, Integer> state, int size) {
+            this.state = state;
+            this.size = size;
+        }
+
+        /**
+         * @param commit Commit requested by the consumer.
+         * @param err Consumption error.
+         */
+        void onPartDone(boolean commit, Throwable err) {
+            if (err != null) {
+                onDone(err);
+
+                return;
+            }
+
+            if (!commit)
+                this.commit = false;
+
+            if (parts.decrementAndGet() == 0)
+                onDone(this.commit);
+        }
+    }
+
+    /**
+     * Passes the entries of a batch which belong to a single thread to the consumer.
+     */
+    private class PartTask implements Runnable {
+        /** Batch. */
+        private final Batch batch;
+
+        /** Entries. */
+        private final List<DataEntry> entries;
+
+        /**
+         * @param batch Batch.
+         * @param entries Entries.
+         */
+        PartTask(Batch batch, List<DataEntry> entries) {
+            this.batch = batch;
+            this.entries = entries;
+
+            batch.parts.incrementAndGet();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void run() {
+            try {
+                Iterator<DataEntry> iter = entries.iterator();
+
+                boolean commit;
+
+                do {
+                    commit = consumer.onRecords(iter, WalRecordsConsumer.CDC_EVENT_TRANSFORMER, null);
+                }
+                while (iter.hasNext());
+
+                batch.onPartDone(commit, null);
+            }
+            catch (Throwable e) {
+                batch.onPartDone(false, e);
+            }
+        }
+    }
+}
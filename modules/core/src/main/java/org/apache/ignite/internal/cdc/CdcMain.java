@@ -40,6 +40,7 @@ import org.apache.ignite.cdc.CdcCacheEvent;
 import org.apache.ignite.cdc.CdcConfiguration;
 import org.apache.ignite.cdc.CdcConsumer;
 import org.apache.ignite.cdc.CdcEvent;
+import org.apache.ignite.cdc.CdcEventFilter;
 import org.apache.ignite.cdc.TypeMapping;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
@@ -52,6 +53,7 @@ import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.pagemem.wal.record.CdcManagerRecord;
 import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.GridLocalConfigManager;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.filename.PdsFolderResolver;
@@ -70,11 +72,13 @@ import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.platform.PlatformType;
 import org.apache.ignite.spi.IgniteSpi;
 import org.apache.ignite.spi.metric.jmx.JmxMetricExporterSpi;
 import org.apache.ignite.spi.metric.noop.NoopMetricExporterSpi;
 import org.apache.ignite.startup.cmdline.CdcCommandLineStartup;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.IgniteKernal.NL;
 import static org.apache.ignite.internal.IgniteKernal.SITE;
@@ -85,6 +89,7 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.CDC_MANAGER_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.CDC_MANAGER_STOP_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD_V2;
+import static org.apache.ignite.internal.processors.cache.GridCacheOperation.DELETE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.reader.StandaloneGridKernalContext.closeAllComponents;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.reader.StandaloneGridKernalContext.startAllComponents;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
@@ -168,6 +173,12 @@ public class CdcMain implements Runnable {
     /** Cdc mode metric name. */
     public static final String CDC_MODE = "CdcMode";
 
+    /** Events lag metric name. */
+    public static final String LAG_EVTS_CNT = "LagEventsCount";
+
+    /** WAL lag metric name. */
+    public static final String LAG_BYTES = "LagBytes";
+
     /** Filter for consumption in {@link CdcMode#IGNITE_NODE_ACTIVE} mode. */
     private static final IgniteBiPredicate<WALRecord.RecordType, WALPointer> PASSIVE_RECS =
         (type, ptr) -> type == CDC_MANAGER_STOP_RECORD || type == CDC_MANAGER_RECORD;
@@ -209,12 +220,33 @@ public class CdcMain implements Runnable {
     /** Metric represents time between creating {@link WALIterator} and finish consuming it, in milliseconds. */
     private HistogramMetricImpl segmentConsumingTime;
 
+    /** Number of events read from WAL but not committed yet. */
+    private AtomicLongMetric lagEvtsCnt;
+
+    /** Committed WAL pointer. */
+    private volatile WALPointer committedPtr;
+
+    /** Index of the first segment consumed from scratch, {@code -1} if the consumption started from a saved state. */
+    private volatile long firstSegIdx = -1;
+
+    /** Index of the last segment found in the CDC directory. */
+    private volatile long lastSegIdx = -1;
+
     /** Change Data Capture configuration. */
     protected final CdcConfiguration cdcCfg;
 
     /** Events consumer. */
     private final WalRecordsConsumer<?, ?> consumer;
 
+    /** Dispatcher of the events to several consumer threads, {@code null} if the events are consumed sequentially. */
+    private CdcEventsDispatcher dispatcher;
+
+    /** Filter of the data entries by cache id applied on WAL read, {@code null} if all the caches are consumed. */
+    private IgnitePredicate<Integer> entryCacheFilter;
+
+    /** Filter of the data entries by operation applied on WAL read, {@code null} if all the operations are consumed. */
+    private IgnitePredicate<GridCacheOperation> entryOpFilter;
+
     /** Logger. */
     private final IgniteLogger log;
 
@@ -335,12 +367,25 @@ public class CdcMain implements Runnable {
                 cdcModeState = state.loadCdcMode();
 
                 if (walState != null) {
+                    committedPtr = walState.get1();
+
                     committedSegmentIdx.value(walState.get1().index());
                     committedSegmentOffset.value(walState.get1().fileOffset());
                 }
 
                 consumer.start(mreg, kctx.metric().registry(metricName("cdc", "consumer")));
 
+                initEventFilter(consumer.consumer().eventFilter());
+
+                if (cdcCfg.getThreadCount() > 1) {
+                    dispatcher = new CdcEventsDispatcher(
+                        consumer,
+                        cdcCfg.getThreadCount(),
+                        kctx.igniteInstanceName(),
+                        lagEvtsCnt,
+                        log);
+                }
+
                 started = true;
 
                 try {
@@ -426,6 +471,8 @@ public class CdcMain implements Runnable {
             new long[] {25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000},
             "Time of WAL segment consumption by consumer, in milliseconds.");
         mreg.register(CDC_MODE, () -> cdcModeState.name(), String.class, "CDC mode");
+        lagEvtsCnt = mreg.longMetric(LAG_EVTS_CNT, "Number of events read from WAL but not committed by the consumer");
+        mreg.register(LAG_BYTES, this::lagBytes, "Size of WAL in the CDC directory after the committed state, in bytes");
     }
 
     /**
@@ -492,6 +539,9 @@ public class CdcMain implements Runnable {
                             }
 
                             lastSgmnt.set(nextSgmnt);
+
+                            if (nextSgmnt > lastSegIdx)
+                                lastSegIdx = nextSgmnt;
                         }).iterator();
 
                     while (segments.hasNext()) {
@@ -555,6 +605,9 @@ public class CdcMain implements Runnable {
 
         long segmentIdx = ft.walSegmentIndex(segment);
 
+        if (committedPtr == null && firstSegIdx == -1)
+            firstSegIdx = segmentIdx;
+
         lastSegmentConsumptionTs.value(System.currentTimeMillis());
 
         curSegmentIdx.value(segmentIdx);
@@ -575,25 +628,69 @@ public class CdcMain implements Runnable {
         return false;
     }
 
+    /**
+     * Creates the filters of the data entries applied while the WAL records are read.
+     *
+     * @param filter Events filter provided by the consumer.
+     */
+    private void initEventFilter(@Nullable CdcEventFilter filter) {
+        if (filter == null)
+            return;
+
+        Set<Integer> cacheIds = filter.getCacheIds();
+
+        if (cacheIds != null)
+            entryCacheFilter = cacheIds::contains;
+
+        if (!filter.isUpdates() || !filter.isRemovals()) {
+            boolean updates = filter.isUpdates();
+            boolean removals = filter.isRemovals();
+
+            entryOpFilter = op -> op == DELETE ? removals : updates;
+        }
+
+        if (log.isInfoEnabled())
+            log.info("CDC events filter applied [filter=" + filter + ']');
+    }
+
     /**
      * Consumes CDC events in {@link CdcMode#CDC_UTILITY_ACTIVE} mode.
      */
     private void consumeSegmentActively(IgniteWalIteratorFactory.IteratorParametersBuilder builder) {
-        try (DataEntryIterator iter = new DataEntryIterator(
-            new IgniteWalIteratorFactory(log).iterator(builder.addFilter(ACTIVE_RECS)),
-            evtCaptureTime)
-        ) {
+        builder.addFilter(ACTIVE_RECS).dataEntryFilter(entryCacheFilter, entryOpFilter);
+
+        try (DataEntryIterator iter = new DataEntryIterator(new IgniteWalIteratorFactory(log).iterator(builder), evtCaptureTime)) {
             if (walState != null)
                 iter.init(walState.get2());
 
+            if (dispatcher != null) {
+                dispatcher.consume(iter, state -> {
+                    try {
+                        saveStateAndRemoveProcessed(state);
+                    }
+                    catch (IOException e) {
+                        throw new IgniteCheckedException(e);
+                    }
+                });
+
+                return;
+            }
+
             boolean interrupted;
 
             do {
+                long cnt = iter.count();
+
                 boolean commit = consumer.onRecords(iter, WalRecordsConsumer.CDC_EVENT_TRANSFORMER, null);
 
-                if (commit)
+                lagEvtsCnt.add(iter.count() - cnt);
+
+                if (commit) {
                     saveStateAndRemoveProcessed(iter.state());
 
+                    lagEvtsCnt.reset();
+                }
+
                 interrupted = Thread.interrupted();
             } while (iter.hasNext() && !interrupted);
 
@@ -837,6 +934,8 @@ public class CdcMain implements Runnable {
 
         state.saveWal(curState);
 
+        committedPtr = curState.get1();
+
         committedSegmentIdx.value(curState.get1().index());
         committedSegmentOffset.value(curState.get1().fileOffset());
 
@@ -857,6 +956,21 @@ public class CdcMain implements Runnable {
         }
     }
 
+    /** @return Size of WAL in the CDC directory after the committed state, in bytes. */
+    private long lagBytes() {
+        long lastIdx = lastSegIdx;
+        WALPointer ptr = committedPtr;
+
+        long idx = ptr != null ? ptr.index() : firstSegIdx;
+
+        if (lastIdx == -1 || idx == -1)
+            return 0;
+
+        long segSize = igniteCfg.getDataStorageConfiguration().getWalSegmentSize();
+
+        return Math.max(0, (lastIdx - idx + 1) * segSize - (ptr != null ? ptr.fileOffset() : 0));
+    }
+
     /**
      * Try locks Change Data Capture directory.
      *
@@ -910,6 +1024,9 @@ public class CdcMain implements Runnable {
 
             stopped = true;
 
+            if (dispatcher != null)
+                dispatcher.stop();
+
             consumer.stop();
         }
     }
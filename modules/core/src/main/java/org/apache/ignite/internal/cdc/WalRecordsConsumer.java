@@ -36,6 +36,7 @@ import org.apache.ignite.internal.pagemem.wal.record.UnwrapDataEntry;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordDataV1Serializer.FilteredDataEntry;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
@@ -246,6 +247,9 @@ public class WalRecordsConsumer<K, V> {
         /** Index of {@link #next} inside WAL record. */
         private int entryIdx;
 
+        /** Number of returned entries. */
+        private long cnt;
+
         /**
          * @param walIter WAL iterator.
          * @param evtCaptureTime Event capture time metric.
@@ -266,14 +270,24 @@ public class WalRecordsConsumer<K, V> {
                     : walIter.lastRead().map(ptr -> new T2<>(ptr.next(), 0)).orElse(null);
         }
 
+        /** @return Number of returned entries. */
+        long count() {
+            return cnt;
+        }
+
         /** Initialize state. */
         void init(int idx) {
-            for (int i = 0; i < idx; i++) {
-                if (!hasNext())
-                    throw new IgniteException("Failed to restore entry index [idx=" + idx + ", rec=" + curRec + ']');
+            if (idx == 0)
+                return;
 
+            if (curRec == null || idx > ((DataRecord)curRec.get2()).entryCount())
+                throw new IgniteException("Failed to restore entry index [idx=" + idx + ", rec=" + curRec + ']');
+
+            WALPointer ptr = curRec.get1();
+
+            // Entries filtered out on read are not returned, so skips by the index inside the record.
+            while (hasNext() && curRec.get1().equals(ptr) && entryIdx < idx)
                 next();
-            }
         }
 
         /** {@inheritDoc} */
@@ -290,6 +304,8 @@ public class WalRecordsConsumer<K, V> {
 
             next = null;
 
+            cnt++;
+
             evtCaptureTime.value(System.currentTimeMillis() - ((TimeStampRecord)curRec.get2()).timestamp());
 
             advance();
@@ -297,28 +313,32 @@ public class WalRecordsConsumer<K, V> {
             return e;
         }
 
-        /** */
+        /** Moves to the next entry which is not filtered out on read. */
         private void advance() {
-            if (curRec != null) {
-                entryIdx++;
+            while (true) {
+                if (curRec != null) {
+                    DataRecord rec = (DataRecord)curRec.get2();
 
-                DataRecord rec = (DataRecord)curRec.get2();
+                    while (++entryIdx < rec.entryCount()) {
+                        DataEntry e = rec.get(entryIdx);
 
-                if (entryIdx < rec.entryCount()) {
-                    next = rec.get(entryIdx);
+                        if (!(e instanceof FilteredDataEntry)) {
+                            next = e;
 
-                    return;
-                }
+                            return;
+                        }
+                    }
 
-                entryIdx = 0;
-            }
+                    entryIdx = 0;
+                }
 
-            if (!walIter.hasNext())
-                return;
+                if (!walIter.hasNext())
+                    return;
 
-            curRec = walIter.next();
+                curRec = walIter.next();
 
-            next = ((DataRecord)curRec.get2()).get(entryIdx);
+                entryIdx = -1;
+            }
         }
 
         /** {@inheritDoc} */
@@ -68,6 +68,12 @@ public class SnapshotRestoreCommandArg extends IgniteDataTransferObject {
         description = "Check snapshot data integrity before restore (slow!). Similar to the \"check\" command")
     boolean check;
 
+    /** */
+    @Order(9)
+    @Argument(optional = true, description = "Start the caches as soon as the partitions stored locally are copied. " +
+        "The rest partitions are loaded by the rebalancing, the page checksums are verified while copying")
+    boolean earlyStart;
+
     /** */
     @Order(6)
     @Argument(description = "Snapshot restore operation status (Command deprecated. Use '--snapshot status' instead)")
@@ -188,4 +194,14 @@ public class SnapshotRestoreCommandArg extends IgniteDataTransferObject {
     public void check(boolean check) {
         this.check = check;
     }
+
+    /** */
+    public boolean earlyStart() {
+        return earlyStart;
+    }
+
+    /** */
+    public void earlyStart(boolean earlyStart) {
+        this.earlyStart = earlyStart;
+    }
 }
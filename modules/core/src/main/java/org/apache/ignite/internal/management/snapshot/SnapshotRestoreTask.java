@@ -64,7 +64,8 @@ public class SnapshotRestoreTask extends VisorOneNodeTask<SnapshotRestoreCommand
                 arg.src(),
                 arg.groups() == null ? null : Arrays.asList(arg.groups()),
                 arg.increment(),
-                arg.check()
+                arg.check(),
+                arg.earlyStart()
             );
 
             IgniteSnapshotManager.ClusterSnapshotFuture snpFut =
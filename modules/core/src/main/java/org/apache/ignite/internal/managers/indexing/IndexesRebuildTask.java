@@ -17,16 +17,22 @@
 
 package org.apache.ignite.internal.managers.indexing;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.IgniteInternalFuture;
-import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.IndexProcessor;
+import org.apache.ignite.internal.cache.query.index.bitmap.BitmapIndex;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.vector.VectorIndex;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.query.GridQueryProcessor;
 import org.apache.ignite.internal.processors.query.schema.IndexRebuildCancelToken;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheFuture;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitorClosure;
@@ -75,12 +81,26 @@ public class IndexesRebuildTask {
             clo = row -> cctx.queries().store(row, null, false);
         }
         else {
-            Collection<InlineIndex> toRebuild = cctx.kernalContext().indexProcessor().treeIndexes(cctx.name(), !force);
+            IndexProcessor idxProc = cctx.kernalContext().indexProcessor();
 
-            if (F.isEmpty(toRebuild))
-                return null;
+            Collection<Index> toRebuild = new ArrayList<>(idxProc.treeIndexes(cctx.name(), !force));
 
-            clo = row -> cctx.kernalContext().indexProcessor().store(toRebuild, row, null, false);
+            toRebuild.addAll(idxProc.indexes(cctx.name(), HashIndex.class, !force));
+            toRebuild.addAll(idxProc.indexes(cctx.name(), BitmapIndex.class, !force));
+            toRebuild.addAll(idxProc.indexes(cctx.name(), VectorIndex.class, !force));
+
+            GridQueryProcessor qryProc = cctx.kernalContext().query();
+
+            if (qryProc.moduleEnabled() && qryProc.getIndexing().textIndexesToRebuild(cacheName, !force)) {
+                // Text indexes are maintained by the indexing module, so the rows go through all the indexes.
+                clo = row -> cctx.queries().store(row, null, false);
+            }
+            else {
+                if (F.isEmpty(toRebuild))
+                    return null;
+
+                clo = row -> cctx.kernalContext().indexProcessor().store(toRebuild, row, null, false);
+            }
         }
 
         // Closure prepared, do rebuild.
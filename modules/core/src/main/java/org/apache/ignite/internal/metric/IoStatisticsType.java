@@ -22,6 +22,9 @@ package org.apache.ignite.internal.metric;
  * Type of statistics.
  */
 public enum IoStatisticsType {
+    /** Bitmap index. */
+    BITMAP_INDEX("io.statistics.bitmapIndexes"),
+
     /** Cache group. */
     CACHE_GROUP("io.statistics.cacheGroups"),
 
@@ -308,7 +308,19 @@ public abstract class WALRecord {
         DATA_PAGE_FRAGMENTED_UPDATE_RECORD(81, PHYSICAL),
 
         /** Reserved for further improvements. */
-        RESERVED_IDX2(82);
+        RESERVED_IDX2(82),
+
+        /** Insert of an item into a bucket page of hash index. */
+        HASH_INDEX_BUCKET_INSERT(83, PHYSICAL),
+
+        /** Removal of an item from a bucket page of hash index. */
+        HASH_INDEX_BUCKET_REMOVE(84, PHYSICAL),
+
+        /** Addition of a value to a container page of bitmap index. */
+        BITMAP_INDEX_CONTAINER_ADD(85, PHYSICAL),
+
+        /** Removal of a value from a container page of bitmap index. */
+        BITMAP_INDEX_CONTAINER_REMOVE(86, PHYSICAL);
 
         /** Index for serialization. Should be consistent throughout all versions. */
         private final int idx;
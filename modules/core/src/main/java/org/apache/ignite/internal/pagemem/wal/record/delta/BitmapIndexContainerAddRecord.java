@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record.delta;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.bitmap.io.BitmapContainerIO;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Addition of a value to a container page of bitmap index.
+ */
+public class BitmapIndexContainerAddRecord extends PageDeltaRecord {
+    /** */
+    private final int val;
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param val Added value.
+     */
+    public BitmapIndexContainerAddRecord(int grpId, long pageId, int val) {
+        super(grpId, pageId);
+
+        this.val = val;
+    }
+
+    /**
+     * @return Added value.
+     */
+    public int value() {
+        return val;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void applyDelta(PageMemory pageMem, long pageAddr) throws IgniteCheckedException {
+        BitmapContainerIO io = BitmapContainerIO.VERSIONS.forPage(pageAddr);
+
+        io.add(pageAddr, val, pageMem.realPageSize(groupId()));
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.BITMAP_INDEX_CONTAINER_ADD;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BitmapIndexContainerAddRecord.class, this, "super", super.toString());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record.delta;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashBucketIO;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Removal of an item from a bucket page of extendible hash index.
+ */
+public class HashIndexBucketRemoveRecord extends PageDeltaRecord {
+    /** */
+    private final int idx;
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param idx Index of the removed item.
+     */
+    public HashIndexBucketRemoveRecord(int grpId, long pageId, int idx) {
+        super(grpId, pageId);
+
+        this.idx = idx;
+    }
+
+    /**
+     * @return Index of the removed item.
+     */
+    public int index() {
+        return idx;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void applyDelta(PageMemory pageMem, long pageAddr) throws IgniteCheckedException {
+        HashBucketIO io = HashBucketIO.VERSIONS.forPage(pageAddr);
+
+        io.remove(pageAddr, idx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.HASH_INDEX_BUCKET_REMOVE;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HashIndexBucketRemoveRecord.class, this, "super", super.toString());
+    }
+}
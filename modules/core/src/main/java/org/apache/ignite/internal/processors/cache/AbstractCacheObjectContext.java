@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.nio.ByteBuffer;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.events.CacheObjectTransformedEvent;
 import org.apache.ignite.internal.GridKernalContext;
@@ -28,6 +29,7 @@ import org.apache.ignite.internal.util.GridUnsafe;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_TRANSFORMED;
+import static org.apache.ignite.internal.IgniteComponentType.CACHE_OBJECT_COMPRESSION;
 import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TRANSFORMED;
 
 /**
@@ -51,6 +53,13 @@ public abstract class AbstractCacheObjectContext implements CacheObjectValueCont
         return ctx;
     }
 
+    /**
+     * @return Cache name or {@code null} if the context isn't bound to a cache.
+     */
+    public @Nullable String cacheName() {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override public BinaryContext binaryContext() {
         return ctx.cacheObjects().binaryContext();
@@ -102,7 +111,7 @@ public abstract class AbstractCacheObjectContext implements CacheObjectValueCont
             return bytes;
 
         ByteBuffer src = ByteBuffer.wrap(bytes, offset, length);
-        ByteBuffer transformed = transformer.transform(src);
+        ByteBuffer transformed = transformer.transform(cacheName(), src);
 
         if (transformed != null) {
             assert transformed.remaining() > 0 : transformed.remaining();
@@ -145,6 +154,12 @@ public abstract class AbstractCacheObjectContext implements CacheObjectValueCont
 
         CacheObjectTransformerProcessor transformer = ctx.transformer();
 
+        if (transformer == null) {
+            throw new IgniteException("Failed to restore the transformed cache object, no cache object transformer " +
+                "is configured on the local node (is the " + CACHE_OBJECT_COMPRESSION.module() +
+                " module in the classpath?)");
+        }
+
         ByteBuffer src = ByteBuffer.wrap(bytes, 1, bytes.length - 1); // Skipping TRANSFORMED.
         ByteBuffer restored = transformer.restore(src);
 
@@ -124,6 +124,12 @@ public class CacheMetricsImpl implements CacheMetrics {
     /** Number of removed entries. */
     private final AtomicLongMetric rmCnt;
 
+    /** Number of near cache entries updated or invalidated by the primary nodes. */
+    private final AtomicLongMetric nearInvalidations;
+
+    /** Number of read keys not admitted into the near cache. */
+    private final AtomicLongMetric nearAdmissionRejects;
+
     /** Total put time taken nanos. */
     private final AtomicLongMetric putTimeTotal;
 
@@ -323,6 +329,12 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         rmCnt = mreg.longMetric("CacheRemovals", "The total number of removals from the cache.");
 
+        nearInvalidations = mreg.longMetric("NearInvalidations",
+            "The total number of near cache entries updated or invalidated by the primary nodes.");
+
+        nearAdmissionRejects = mreg.longMetric("NearAdmissionRejects",
+            "The total number of read keys not admitted into the near cache.");
+
         putTimeTotal = mreg.longMetric("PutTimeTotal",
             "The total time of cache puts for which this node is the initiator, in nanoseconds.");
 
@@ -715,6 +727,8 @@ public class CacheMetricsImpl implements CacheMetrics {
         hits.reset();
         misses.reset();
         evictCnt.reset();
+        nearInvalidations.reset();
+        nearAdmissionRejects.reset();
         txCommits.reset();
         txRollbacks.reset();
         putTimeTotal.reset();
@@ -1129,6 +1143,40 @@ public class CacheMetricsImpl implements CacheMetrics {
             delegate.onEvict();
     }
 
+    /**
+     * Near cache entry update or invalidation by the primary node callback.
+     */
+    public void onNearInvalidation() {
+        nearInvalidations.increment();
+
+        if (delegate != null)
+            delegate.onNearInvalidation();
+    }
+
+    /**
+     * Near cache admission reject callback.
+     */
+    public void onNearAdmissionReject() {
+        nearAdmissionRejects.increment();
+
+        if (delegate != null)
+            delegate.onNearAdmissionReject();
+    }
+
+    /**
+     * @return Number of near cache entries updated or invalidated by the primary nodes.
+     */
+    public long getNearInvalidations() {
+        return nearInvalidations.value();
+    }
+
+    /**
+     * @return Number of read keys not admitted into the near cache.
+     */
+    public long getNearAdmissionRejects() {
+        return nearAdmissionRejects.value();
+    }
+
     /**
      * Transaction commit callback.
      *
@@ -656,7 +656,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
 
         IgniteInternalFuture fut = getAsync(
             key,
-            /*force primary*/ !ctx.config().isReadFromBackup(),
+            /*force primary*/ ctx.forcePrimaryRead(),
             /*skip tx*/false,
             /*task name*/null,
             !ctx.keepBinary(),
@@ -692,7 +692,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
 
         return repairableGetAllAsync(
             keys,
-            /*force primary*/ !ctx.config().isReadFromBackup(),
+            /*force primary*/ ctx.forcePrimaryRead(),
             /*skip tx*/false,
             /*task name*/null,
             !ctx.keepBinary(),
@@ -1280,7 +1280,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
         CacheOperationContext opCtx = ctx.operationContextPerCall();
 
         IgniteInternalFuture<Map<K, V>> fut = repairableGetAllAsync(keys,
-            !ctx.config().isReadFromBackup(),
+            ctx.forcePrimaryRead(),
             /*skip tx*/true,
             taskName,
             !(opCtx != null && opCtx.isKeepBinary()),
@@ -1546,7 +1546,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
 
         IgniteInternalFuture<Map<K, V>> fut = repairableGetAllAsync(
             keys,
-            !ctx.config().isReadFromBackup(),
+            ctx.forcePrimaryRead(),
             /*skip tx*/false,
             taskName,
             !(opCtx != null && opCtx.isKeepBinary()),
@@ -1588,7 +1588,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
         IgniteInternalFuture<Map<K, EntryGetResult>> fut =
             (IgniteInternalFuture<Map<K, EntryGetResult>>)((IgniteInternalFuture)repairableGetAllAsync(
                 keys,
-                !ctx.config().isReadFromBackup(),
+                ctx.forcePrimaryRead(),
                 /*skip tx*/false,
                 taskName,
                 !(opCtx != null && opCtx.isKeepBinary()),
@@ -4128,7 +4128,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
         checkJta();
 
         return getAsync(key,
-            !ctx.config().isReadFromBackup(),
+            ctx.forcePrimaryRead(),
             /*skip tx*/false,
             taskName,
             deserializeBinary,
@@ -4155,7 +4155,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
         }
 
         IgniteInternalFuture<V> fut = getAsync(key,
-            !ctx.config().isReadFromBackup(),
+            ctx.forcePrimaryRead(),
             /*skip tx*/false,
             ctx.kernalContext().job().currentTaskName(),
             deserializeBinary,
@@ -4215,7 +4215,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
         checkJta();
 
         return getAllAsync(keys,
-            !ctx.config().isReadFromBackup(),
+            ctx.forcePrimaryRead(),
             /*skip tx*/false,
             ctx.kernalContext().job().currentTaskName(),
             deserializeBinary,
@@ -38,6 +38,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import javax.cache.Cache;
 import javax.cache.configuration.Factory;
@@ -118,7 +119,10 @@ import org.apache.ignite.session.SessionContext;
 import org.apache.ignite.session.SessionContextProvider;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_ENTRY_LOCK_STRIPES;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DISABLE_TRIGGERING_CACHE_INTERCEPTOR_ON_CONFLICT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_READ_FROM_BACKUP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_SAMPLING_RATE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_READ_LOAD_BALANCING;
 import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
 import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
@@ -152,6 +156,15 @@ public class GridCacheContext<K, V> implements Externalizable {
     /** @see IgniteSystemProperties#IGNITE_READ_LOAD_BALANCING */
     public static final boolean DFLT_READ_LOAD_BALANCING = true;
 
+    /** @see IgniteSystemProperties#IGNITE_CACHE_ENTRY_LOCK_STRIPES */
+    public static final int DFLT_CACHE_ENTRY_LOCK_STRIPES = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_HOT_KEYS_SAMPLING_RATE */
+    public static final int DFLT_HOT_KEYS_SAMPLING_RATE = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_HOT_KEYS_READ_FROM_BACKUP */
+    public static final boolean DFLT_HOT_KEYS_READ_FROM_BACKUP = false;
+
     /** Kernal context. */
     private GridKernalContext ctx;
 
@@ -276,9 +289,20 @@ public class GridCacheContext<K, V> implements Externalizable {
     private final boolean readLoadBalancingEnabled =
         IgniteSystemProperties.getBoolean(IGNITE_READ_LOAD_BALANCING, DFLT_READ_LOAD_BALANCING);
 
+    /** Striped locks of the compact entries, {@code null} if every entry has its own lock. */
+    private final GridCacheStripedEntryLock[] entryLocks =
+        entryLocks(IgniteSystemProperties.getInteger(IGNITE_CACHE_ENTRY_LOCK_STRIPES, DFLT_CACHE_ENTRY_LOCK_STRIPES));
+
     /** Flag indicating whether data can be read from backup. */
     private boolean readFromBackup = CacheConfiguration.DFLT_READ_FROM_BACKUP;
 
+    /** Hot keys detected by the reads of the local node, {@code null} if the detection is disabled. */
+    private GridCacheHotKeys hotKeys;
+
+    /** Whether to balance the reads of the hot keys between the primary and the backup nodes. */
+    private final boolean hotKeysReadFromBackup =
+        IgniteSystemProperties.getBoolean(IGNITE_HOT_KEYS_READ_FROM_BACKUP, DFLT_HOT_KEYS_READ_FROM_BACKUP);
+
     /** Local node's MAC address. */
     private volatile String locMacs;
 
@@ -420,6 +444,12 @@ public class GridCacheContext<K, V> implements Externalizable {
 
         readFromBackup = cacheCfg.isReadFromBackup();
 
+        int hotKeysSamplingRate = IgniteSystemProperties.getInteger(IGNITE_HOT_KEYS_SAMPLING_RATE,
+            DFLT_HOT_KEYS_SAMPLING_RATE);
+
+        if (hotKeysSamplingRate > 0 && cacheType.userCache() && cacheCfg.getCacheMode() == CacheMode.PARTITIONED)
+            hotKeys = new GridCacheHotKeys(this, hotKeysSamplingRate, cacheCfg.getAffinity().partitions());
+
         this.dynamicDeploymentId = deploymentId;
         this.recoveryMode = recoveryMode;
 
@@ -706,6 +736,41 @@ public class GridCacheContext<K, V> implements Externalizable {
         return !F.isEmpty(config().getQueryEntities());
     }
 
+    /**
+     * Near cache entries always have their own locks: a near entry may be locked together with the DHT entry
+     * of the same key, sharing the stripes in both caches could make such pairs of different keys wait for each other.
+     *
+     * @return {@code True} if the on-heap entries share striped locks.
+     * @see IgniteSystemProperties#IGNITE_CACHE_ENTRY_LOCK_STRIPES
+     */
+    public boolean compactEntries() {
+        return entryLocks != null && !isNear();
+    }
+
+    /**
+     * @param hash Key hash code.
+     * @return Lock of the entry with the given key hash code.
+     */
+    public ReentrantLock entryLock(int hash) {
+        return compactEntries() ? entryLocks[U.hash(hash) & (entryLocks.length - 1)] : new ReentrantLock();
+    }
+
+    /**
+     * @param stripes Number of lock stripes.
+     * @return Striped entry locks or {@code null} if every entry has its own lock.
+     */
+    @Nullable private static GridCacheStripedEntryLock[] entryLocks(int stripes) {
+        if (stripes <= 0)
+            return null;
+
+        GridCacheStripedEntryLock[] locks = new GridCacheStripedEntryLock[U.ceilPow2(stripes)];
+
+        for (int i = 0; i < locks.length; i++)
+            locks[i] = new GridCacheStripedEntryLock();
+
+        return locks;
+    }
+
     /**
      * @return {@code True} if entries should not be deleted from cache immediately.
      */
@@ -2166,8 +2231,41 @@ public class GridCacheContext<K, V> implements Externalizable {
     }
 
     /**
-     * Determines an affinity node to send get request to.
+     * Force primary flag of the reads which follow {@link CacheConfiguration#isReadFromBackup()}. The flag is not set
+     * if the reads of the hot keys are balanced to the backup nodes, in that case the node is chosen per key by
+     * {@link #readFromPrimary(KeyCacheObject, int, boolean)}.
      *
+     * @return {@code True} if the reads have to be sent to the primary node.
+     */
+    public boolean forcePrimaryRead() {
+        return !readFromBackup && !(hotKeys != null && hotKeysReadFromBackup);
+    }
+
+    /**
+     * @param key Key.
+     * @param part Partition.
+     * @param forcePrimary Force primary flag.
+     * @return {@code True} if the key has to be read from the primary node.
+     */
+    public boolean readFromPrimary(KeyCacheObject key, int part, boolean forcePrimary) {
+        return forcePrimary || !readFromBackup && !hotKey(key, part);
+    }
+
+    /**
+     * @param key Key.
+     * @param part Partition.
+     * @return {@code True} if the key is hot and its reads are balanced between the primary and the backup nodes.
+     */
+    private boolean hotKey(KeyCacheObject key, int part) {
+        return hotKeys != null && hotKeysReadFromBackup && hotKeys.hot(key, part);
+    }
+
+    /**
+     * Determines an affinity node to send get request to. Samples the read for the hot key detection, the reads
+     * of the hot keys are spread randomly between the primary and the backup nodes if
+     * {@link IgniteSystemProperties#IGNITE_HOT_KEYS_READ_FROM_BACKUP} is set and the primary node is not forced.
+     *
+     * @param key Key.
      * @param affNodes All affinity nodes.
      * @param canRemap Flag indicating that 'get' should be done on a locked topology version.
      * @param partId Partition ID.
@@ -2175,12 +2273,34 @@ public class GridCacheContext<K, V> implements Externalizable {
      * @return Affinity node to get key from or {@code null} if there is no suitable alive node.
      */
     @Nullable public ClusterNode selectAffinityNodeBalanced(
+        KeyCacheObject key,
         List<ClusterNode> affNodes,
         Set<ClusterNode> invalidNodes,
         int partId,
         boolean canRemap,
         boolean forcePrimary
     ) {
+        if (hotKeys != null) {
+            hotKeys.onRead(key, partId);
+
+            if (!forcePrimary && hotKey(key, partId)) {
+                // Local MAC and data center preferences are skipped, they would send all the reads to a single node.
+                int r = ThreadLocalRandom.current().nextInt(affNodes.size());
+
+                for (int i = 0; i < affNodes.size(); i++) {
+                    ClusterNode node = affNodes.get((r + i) % affNodes.size());
+
+                    if ((canRemap || discovery().alive(node)) && !invalidNodes.contains(node))
+                        return node;
+                }
+
+                return null;
+            }
+        }
+
+        // Reads of the other keys of the cache which is not read from backups, see #forcePrimaryRead().
+        forcePrimary |= !readFromBackup;
+
         if (!readLoadBalancingEnabled) {
             if (!canRemap && !forcePrimary) {
                 // Find next available node if we can not wait next topology version.
@@ -2198,7 +2318,7 @@ public class GridCacheContext<K, V> implements Externalizable {
             }
         }
 
-        if (!readFromBackup || forcePrimary) {
+        if (forcePrimary) {
             ClusterNode first = affNodes.get(0);
 
             return !invalidNodes.contains(first) ? first : null;
@@ -2229,6 +2349,13 @@ public class GridCacheContext<K, V> implements Externalizable {
         return n0;
     }
 
+    /**
+     * @return Hot keys detected by the reads of the local node, {@code null} if the detection is disabled.
+     */
+    @Nullable GridCacheHotKeys hotKeys() {
+        return hotKeys;
+    }
+
     /**
      * @return Statistics enabled flag.
      */
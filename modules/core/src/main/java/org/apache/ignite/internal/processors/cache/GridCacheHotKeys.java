@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.spi.systemview.view.CacheHotKeyView;
+
+/**
+ * Sampled detection of the hot keys of a cache. Every {@code samplingRate}-th remote read of the local node is
+ * sampled on average, the samples are counted per partition by the Space-Saving algorithm which keeps
+ * the {@link #KEYS_PER_PART} most sampled keys of a partition.
+ * <p>
+ * The counts are halved every {@link #WINDOW} samples of the cache, so a key is hot while it takes about
+ * {@code HOT_SAMPLES / (2 * WINDOW)} of the sampled reads of the cache.
+ * <p>
+ * The reads are sampled on the requesting node rather than on the overloaded primary node: the requesting node
+ * chooses the node to read from, so it has to know the hot keys itself, and a detection on the primary node
+ * would need an additional message to deliver the hot keys to all the requesting nodes. Every requesting node
+ * which reads a key often enough detects it independently, the keys hot only in the sum of the reads of several
+ * nodes are not detected.
+ */
+class GridCacheHotKeys {
+    /** Number of keys tracked per partition. */
+    private static final int KEYS_PER_PART = 8;
+
+    /** Number of samples of the cache after which the counts are halved. */
+    private static final int WINDOW = 10_000;
+
+    /** Number of samples which makes a key hot. */
+    private static final int HOT_SAMPLES = 64;
+
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Sampling rate. */
+    private final int samplingRate;
+
+    /** Tracked keys by partition. */
+    private final AtomicReferenceArray<PartitionHotKeys> parts;
+
+    /** Number of samples. */
+    private final AtomicInteger samples = new AtomicInteger();
+
+    /**
+     * @param cctx Cache context.
+     * @param samplingRate Sampling rate.
+     * @param parts Number of partitions.
+     */
+    GridCacheHotKeys(GridCacheContext<?, ?> cctx, int samplingRate, int parts) {
+        assert samplingRate > 0 : samplingRate;
+
+        this.cctx = cctx;
+        this.samplingRate = samplingRate;
+        this.parts = new AtomicReferenceArray<>(parts);
+    }
+
+    /**
+     * Samples a remote read of the key.
+     *
+     * @param key Key.
+     * @param part Partition.
+     */
+    void onRead(KeyCacheObject key, int part) {
+        if (samplingRate > 1 && ThreadLocalRandom.current().nextInt(samplingRate) != 0)
+            return;
+
+        PartitionHotKeys partKeys = parts.get(part);
+
+        if (partKeys == null) {
+            PartitionHotKeys old = parts.compareAndExchange(part, null, partKeys = new PartitionHotKeys());
+
+            if (old != null)
+                partKeys = old;
+        }
+
+        partKeys.record(key);
+
+        if (samples.incrementAndGet() % WINDOW == 0) {
+            for (int p = 0; p < parts.length(); p++) {
+                PartitionHotKeys partKeys0 = parts.get(p);
+
+                if (partKeys0 != null)
+                    partKeys0.decay();
+            }
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @param part Partition.
+     * @return {@code True} if the key is hot.
+     */
+    boolean hot(KeyCacheObject key, int part) {
+        PartitionHotKeys partKeys = parts.get(part);
+
+        return partKeys != null && partKeys.hot.contains(key);
+    }
+
+    /**
+     * @param rows Rows to add the hot keys to.
+     */
+    void collectViews(List<CacheHotKeyView> rows) {
+        for (int p = 0; p < parts.length(); p++) {
+            PartitionHotKeys partKeys = parts.get(p);
+
+            if (partKeys != null)
+                partKeys.collectViews(cctx, p, rows);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridCacheHotKeys.class, this, "cache", cctx.name());
+    }
+
+    /**
+     * Most sampled keys of a partition.
+     */
+    private static class PartitionHotKeys {
+        /** Keys. Guarded by {@code this}. */
+        private final KeyCacheObject[] keys = new KeyCacheObject[KEYS_PER_PART];
+
+        /** Sample counts of the keys. Guarded by {@code this}. */
+        private final int[] cnts = new int[KEYS_PER_PART];
+
+        /** Overestimations of the counts inherited from the replaced keys. Guarded by {@code this}. */
+        private final int[] errs = new int[KEYS_PER_PART];
+
+        /** Hot keys. */
+        private volatile Set<KeyCacheObject> hot = Collections.emptySet();
+
+        /**
+         * @param key Sampled key.
+         */
+        synchronized void record(KeyCacheObject key) {
+            int min = 0;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (key.equals(keys[i])) {
+                    if (++cnts[i] - errs[i] == HOT_SAMPLES)
+                        updateHot();
+
+                    return;
+                }
+
+                if (cnts[i] < cnts[min])
+                    min = i;
+            }
+
+            // Replaces the least sampled key, the new key inherits its count as the overestimation.
+            boolean wasHot = keys[min] != null && cnts[min] - errs[min] >= HOT_SAMPLES;
+
+            keys[min] = key;
+            errs[min] = cnts[min]++;
+
+            if (wasHot)
+                updateHot();
+        }
+
+        /**
+         * Halves the counts.
+         */
+        synchronized void decay() {
+            for (int i = 0; i < keys.length; i++) {
+                cnts[i] >>>= 1;
+                errs[i] >>>= 1;
+
+                if (cnts[i] == 0) {
+                    keys[i] = null;
+                    errs[i] = 0;
+                }
+            }
+
+            updateHot();
+        }
+
+        /**
+         * @param cctx Cache context.
+         * @param part Partition.
+         * @param rows Rows to add the hot keys to.
+         */
+        synchronized void collectViews(GridCacheContext<?, ?> cctx, int part, List<CacheHotKeyView> rows) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null && cnts[i] - errs[i] >= HOT_SAMPLES) {
+                    rows.add(new CacheHotKeyView(cctx.name(), cctx.cacheId(), part,
+                        keys[i].value(cctx.cacheObjectContext(), false), cnts[i] - errs[i]));
+                }
+            }
+        }
+
+        /**
+         * Updates the set of the hot keys.
+         */
+        private void updateHot() {
+            Set<KeyCacheObject> hot = null;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null && cnts[i] - errs[i] >= HOT_SAMPLES) {
+                    if (hot == null)
+                        hot = new HashSet<>();
+
+                    hot.add(keys[i]);
+                }
+            }
+
+            this.hot = hot != null ? hot : Collections.emptySet();
+        }
+    }
+}
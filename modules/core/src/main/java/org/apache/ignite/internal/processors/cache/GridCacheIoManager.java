@@ -56,6 +56,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridPartition
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicAbstractUpdateRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicNearResponse;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicSingleUpdateRequest;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicUpdateBatchRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicUpdateRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicUpdateResponse;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridNearAtomicAbstractUpdateRequest;
@@ -1012,6 +1013,20 @@ public class GridCacheIoManager extends GridCacheSharedManagerAdapter {
                 sendResponseOnFailedMessage(req.nearNodeId(), nearRes, cctx, plc);
             }
         }
+        else if (msg instanceof GridDhtAtomicUpdateBatchRequest) {
+            GridDhtAtomicUpdateBatchRequest batch = (GridDhtAtomicUpdateBatchRequest)msg;
+
+            for (GridDhtAtomicAbstractUpdateRequest req : batch.requests()) {
+                GridDhtAtomicUpdateResponse res = new GridDhtAtomicUpdateResponse(
+                    req.cacheId(),
+                    req.partition(),
+                    req.futureId());
+
+                res.onError(batch.classError());
+
+                sendResponseOnFailedMessage(nodeId, res, cctx, plc);
+            }
+        }
         else if (msg instanceof GridDhtPartitionSupplyMessage)
             processMessage(nodeId, msg, c); // Will be handled by Rebalance Demander.
         else {
@@ -220,9 +220,9 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     @GridToStringInclude
     private GridCacheEntryExtras extras;
 
-    /** */
+    /** Entry lock, shared with other entries of the cache if the entries are compact. */
     @GridToStringExclude
-    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock lock;
 
     /** Read Lock for continuous query listener */
     @GridToStringExclude
@@ -256,6 +256,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         this.key = key;
         this.hash = key.hashCode();
         this.cctx = cctx;
+        this.lock = cctx.entryLock(hash);
         this.listenerLock = cctx.group().listenerLock();
 
         ver = cctx.shared().versions().startVersion();
@@ -267,7 +268,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @param val Value to store.
      */
     protected void value(@Nullable CacheObject val) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         this.val = val;
     }
@@ -338,7 +339,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public boolean isNew() throws GridCacheEntryRemovedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         checkObsolete();
 
@@ -524,7 +525,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return Value bytes and flag indicating whether value is byte array.
      */
     protected IgniteBiTuple<byte[], Byte> valueBytes0() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         assert val != null;
 
@@ -2047,7 +2048,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return {@code True} if entry is obsolete, {@code false} if entry is still used by other threads or nodes.
      */
     protected final boolean markObsolete0(GridCacheVersion ver, boolean clear, GridCacheObsoleteEntryExtras extras) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (evictionDisabled()) {
             assert !obsolete() : this;
@@ -2154,7 +2155,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     protected final void update(@Nullable CacheObject val, long expireTime, long ttl, GridCacheVersion ver, boolean addTracked) {
         assert ver != null;
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert ttl != CU.TTL_ZERO && ttl != CU.TTL_NOT_CHANGED && ttl >= 0 : ttl;
 
         boolean trackNear = addTracked && isNear() && cctx.config().isEagerTtl();
@@ -2219,7 +2220,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     private void updateTtlUnlocked(long ttl) throws IgniteCheckedException {
         assert ttl >= 0 || ttl == CU.TTL_ZERO : ttl;
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         long expireTime;
 
@@ -2246,7 +2247,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws GridCacheEntryRemovedException If entry is obsolete.
      */
     protected void checkObsolete() throws GridCacheEntryRemovedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (obsoleteVersionExtras() != null)
             throw new GridCacheEntryRemovedException();
@@ -2406,7 +2407,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws IgniteCheckedException In case of failure.
      */
     private boolean checkExpired() throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         long expireTime = expireTimeExtras();
 
@@ -2453,7 +2454,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return {@code True} if this entry has value.
      */
     protected final boolean hasValueUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         return val != null;
     }
@@ -2818,7 +2819,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     private void addReaderIfNeed(@Nullable ReaderArguments readerArgs) {
         if (readerArgs != null) {
             assert this instanceof GridDhtCacheEntry : this;
-            assert lock.isHeldByCurrentThread();
+            assert lockedByCurrentThread();
 
             try {
                 ((GridDhtCacheEntry)this).addReader(readerArgs.reader(),
@@ -3138,7 +3139,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public long expireTimeUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         return expireTimeExtras();
     }
@@ -3457,7 +3458,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         @Nullable IgnitePredicate<CacheDataRow> predicate,
         @Nullable CacheDataRow row
     ) throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert localPartition() == null || localPartition().state() != RENTING : localPartition();
 
         UpdateClosure closure = new UpdateClosure(this, val, ver, expireTime, predicate, row);
@@ -3552,7 +3553,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws IgniteCheckedException If failed.
      */
     protected void removeValue() throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         // Removals are possible from RENTING partition on clearing/evicting.
         cctx.offheap().remove(cctx, key, partition(), localPartition());
@@ -3667,7 +3668,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     private void ensureFreeSpace() throws IgniteCheckedException {
         // Deadlock alert: evicting data page causes removing (and locking) all entries on the page one by one.
-        assert !lock.isHeldByCurrentThread();
+        assert !lockedByCurrentThread();
 
         cctx.shared().database().ensureFreeSpace(cctx.dataRegion());
     }
@@ -3905,7 +3906,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     @SuppressWarnings("SimplifiableIfStatement")
     protected final boolean deletedUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (!cctx.deferredDelete())
             return false;
@@ -3917,7 +3918,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @param deleted {@code True} if deleted.
      */
     protected final void deletedUnlocked(boolean deleted) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert cctx.deferredDelete();
 
         if (deleted) {
@@ -4052,7 +4053,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         CacheObject val,
         boolean inThreadChain
     ) {
-        assert !lock.isHeldByCurrentThread();
+        assert !lockedByCurrentThread();
 
         if (prevOwners != null && owners == null) {
             cctx.mvcc().callback().onOwnerChanged(this, null);
@@ -4188,12 +4189,21 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     /** {@inheritDoc} */
     @Override public void lockEntry() {
         lock.lock();
+
+        if (lock instanceof GridCacheStripedEntryLock)
+            ((GridCacheStripedEntryLock)lock).onLocked(this);
     }
 
     /** {@inheritDoc} */
     @Override public boolean tryLockEntry(long timeout) {
         try {
-            return lock.tryLock(timeout, TimeUnit.MILLISECONDS);
+            if (!lock.tryLock(timeout, TimeUnit.MILLISECONDS))
+                return false;
+
+            if (lock instanceof GridCacheStripedEntryLock)
+                ((GridCacheStripedEntryLock)lock).onLocked(this);
+
+            return true;
         }
         catch (InterruptedException ignite) {
             Thread.currentThread().interrupt();
@@ -4204,6 +4214,9 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public void unlockEntry() {
+        if (lock instanceof GridCacheStripedEntryLock)
+            ((GridCacheStripedEntryLock)lock).onUnlock(this);
+
         lock.unlock();
     }
 
@@ -4229,9 +4242,21 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public boolean lockedByCurrentThread() {
+        if (lock instanceof GridCacheStripedEntryLock)
+            return ((GridCacheStripedEntryLock)lock).lockedByCurrentThread(this);
+
         return lock.isHeldByCurrentThread();
     }
 
+    /**
+     * @param e Entry.
+     * @return {@code True} if the given entry is guarded by the same lock as this entry.
+     * @see GridCacheContext#compactEntries()
+     */
+    boolean sharesLock(GridCacheMapEntry e) {
+        return lock == e.lock;
+    }
+
     /** {@inheritDoc} */
     @Override public void touch() {
         context().evicts().touch(this);
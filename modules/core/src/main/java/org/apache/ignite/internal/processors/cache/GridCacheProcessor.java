@@ -151,6 +151,7 @@ import org.apache.ignite.internal.processors.security.IgniteSecurity;
 import org.apache.ignite.internal.processors.security.sandbox.IgniteSandbox;
 import org.apache.ignite.internal.suggestions.GridPerformanceSuggestions;
 import org.apache.ignite.internal.systemview.CacheGroupIoViewWalker;
+import org.apache.ignite.internal.systemview.CacheHotKeyViewWalker;
 import org.apache.ignite.internal.systemview.CachePagesListViewWalker;
 import org.apache.ignite.internal.systemview.PartitionStateViewWalker;
 import org.apache.ignite.internal.util.F0;
@@ -189,6 +190,7 @@ import org.apache.ignite.spi.discovery.DiscoveryDataBag;
 import org.apache.ignite.spi.discovery.DiscoveryDataBag.GridDiscoveryData;
 import org.apache.ignite.spi.discovery.DiscoveryDataBag.JoiningNodeDiscoveryData;
 import org.apache.ignite.spi.systemview.view.CacheGroupIoView;
+import org.apache.ignite.spi.systemview.view.CacheHotKeyView;
 import org.apache.ignite.spi.systemview.view.CachePagesListView;
 import org.apache.ignite.spi.systemview.view.PartitionStateView;
 import org.jetbrains.annotations.NotNull;
@@ -203,6 +205,7 @@ import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_REMOVED_ENTRIES_TTL;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_SAMPLING_RATE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SKIP_CONFIGURATION_CONSISTENCY_CHECK;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
@@ -215,6 +218,7 @@ import static org.apache.ignite.configuration.DeploymentMode.CONTINUOUS;
 import static org.apache.ignite.configuration.DeploymentMode.SHARED;
 import static org.apache.ignite.internal.GridComponent.DiscoveryDataExchangeType.CACHE_PROC;
 import static org.apache.ignite.internal.IgniteComponentType.JTA;
+import static org.apache.ignite.internal.processors.cache.GridCacheContext.DFLT_HOT_KEYS_SAMPLING_RATE;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.isNearEnabled;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.isPersistentCache;
 import static org.apache.ignite.internal.processors.cache.ValidationOnNodeJoinUtils.validateHashIdResolvers;
@@ -257,6 +261,12 @@ public class GridCacheProcessor extends GridProcessorAdapter {
     /** System view description for cache group IO. */
     public static final String CACHE_GRP_IO_VIEW_DESC = "Local node IO statistics for cache groups";
 
+    /** System view name for hot keys. */
+    public static final String HOT_KEYS_VIEW = "hotKeys";
+
+    /** System view description for hot keys. */
+    public static final String HOT_KEYS_VIEW_DESC = "Hot keys detected by the sampled reads of the local node";
+
     /** @see IgniteSystemProperties#IGNITE_ALLOW_START_CACHES_IN_PARALLEL */
     public static final boolean DFLT_ALLOW_START_CACHES_IN_PARALLEL = true;
 
@@ -641,6 +651,16 @@ public class GridCacheProcessor extends GridProcessorAdapter {
                 return new CacheGroupIoView(grpCtx, mreg);
             }
         );
+
+        if (IgniteSystemProperties.getInteger(IGNITE_HOT_KEYS_SAMPLING_RATE, DFLT_HOT_KEYS_SAMPLING_RATE) > 0) {
+            ctx.systemView().registerView(
+                HOT_KEYS_VIEW,
+                HOT_KEYS_VIEW_DESC,
+                new CacheHotKeyViewWalker(),
+                this::hotKeysViewSupplier,
+                Function.identity()
+            );
+        }
     }
 
     /**
@@ -5349,6 +5369,22 @@ public class GridCacheProcessor extends GridProcessorAdapter {
             true)));
     }
 
+    /**
+     * @return Hot keys of the started caches.
+     */
+    private Collection<CacheHotKeyView> hotKeysViewSupplier() {
+        List<CacheHotKeyView> rows = new ArrayList<>();
+
+        for (GridCacheAdapter<?, ?> cache : caches.values()) {
+            GridCacheHotKeys hotKeys = cache.context().hotKeys();
+
+            if (hotKeys != null)
+                hotKeys.collectViews(rows);
+        }
+
+        return rows;
+    }
+
     /** */
     @Nullable private ClusterCacheGroupRecoveryData restoreClusterCacheGroupRecoveryData(
         ReadOnlyMetastorage metastorage
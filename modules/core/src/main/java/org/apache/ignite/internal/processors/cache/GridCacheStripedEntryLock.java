@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock shared by the compact entries of a lock stripe. Tracks the entries locked by the owner thread, so an entry
+ * is not considered locked by the current thread if only another entry of the stripe is locked.
+ *
+ * @see GridCacheContext#compactEntries()
+ */
+class GridCacheStripedEntryLock extends ReentrantLock {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Entries locked by the owner thread, an element per hold. Guarded by this lock. */
+    private final transient List<GridCacheMapEntry> owners = new ArrayList<>(2);
+
+    /**
+     * Called after the entry acquired the lock.
+     *
+     * @param entry Entry.
+     */
+    void onLocked(GridCacheMapEntry entry) {
+        assert isHeldByCurrentThread() : entry;
+
+        owners.add(entry);
+    }
+
+    /**
+     * Called before the entry releases the lock.
+     *
+     * @param entry Entry.
+     */
+    void onUnlock(GridCacheMapEntry entry) {
+        assert isHeldByCurrentThread() : entry;
+
+        for (int i = owners.size() - 1; i >= 0; i--) {
+            if (owners.get(i) == entry) {
+                owners.remove(i);
+
+                return;
+            }
+        }
+
+        assert false : "Entry is not locked: " + entry;
+    }
+
+    /**
+     * @param entry Entry.
+     * @return {@code True} if the entry is locked by the current thread.
+     */
+    boolean lockedByCurrentThread(GridCacheMapEntry entry) {
+        if (!isHeldByCurrentThread())
+            return false;
+
+        for (int i = 0; i < owners.size(); i++) {
+            if (owners.get(i) == entry)
+                return true;
+        }
+
+        return false;
+    }
+}
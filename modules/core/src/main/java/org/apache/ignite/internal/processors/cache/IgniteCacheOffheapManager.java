@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import javax.cache.Cache;
 import org.apache.ignite.IgniteCheckedException;
@@ -123,6 +124,18 @@ public interface IgniteCacheOffheapManager {
      */
     @Nullable public CacheDataRow read(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException;
 
+    /**
+     * Reads rows for a batch of keys. Keys are grouped by partition and every partition is read in a single pass
+     * over its data tree, see {@link CacheDataStore#findAll(GridCacheContext, List)}.
+     *
+     * @param cctx Cache context.
+     * @param keys Keys.
+     * @return Found rows mapped by key, keys which are not found or do not belong to local partitions are absent.
+     * @throws IgniteCheckedException If failed.
+     */
+    public Map<KeyCacheObject, CacheDataRow> readAll(GridCacheContext cctx, Collection<KeyCacheObject> keys)
+        throws IgniteCheckedException;
+
     /**
      * @param p Partition.
      * @return Data store.
@@ -601,6 +614,17 @@ public interface IgniteCacheOffheapManager {
          */
         public CacheDataRow find(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException;
 
+        /**
+         * Finds rows for a batch of keys. Keys are sorted in the data tree order, so keys of the same leaf page are
+         * resolved in a single descent under one read lock of the page, and data pages are read in the link order.
+         *
+         * @param cctx Cache context.
+         * @param keys Keys.
+         * @return Data rows in the order of the keys, {@code null} elements for the keys which are not found.
+         * @throws IgniteCheckedException If failed.
+         */
+        public List<CacheDataRow> findAll(GridCacheContext cctx, List<KeyCacheObject> keys) throws IgniteCheckedException;
+
         /**
          * @return Data cursor.
          * @throws IgniteCheckedException If failed.
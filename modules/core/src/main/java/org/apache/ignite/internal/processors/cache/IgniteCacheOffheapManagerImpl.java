@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.processors.cache;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -449,6 +451,40 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         return row;
     }
 
+    /** {@inheritDoc} */
+    @Override public Map<KeyCacheObject, CacheDataRow> readAll(GridCacheContext cctx, Collection<KeyCacheObject> keys)
+        throws IgniteCheckedException {
+        Map<Integer, List<KeyCacheObject>> keysByPart = new HashMap<>();
+
+        for (KeyCacheObject key : keys)
+            keysByPart.computeIfAbsent(cctx.affinity().partition(key), p -> new ArrayList<>()).add(key);
+
+        Map<KeyCacheObject, CacheDataRow> res = U.newHashMap(keys.size());
+
+        for (Map.Entry<Integer, List<KeyCacheObject>> e : keysByPart.entrySet()) {
+            CacheDataStore dataStore = dataStore(e.getKey(), false);
+
+            if (dataStore == null)
+                continue;
+
+            List<KeyCacheObject> partKeys = e.getValue();
+
+            List<CacheDataRow> rows = dataStore.findAll(cctx, partKeys);
+
+            for (int i = 0; i < partKeys.size(); i++) {
+                CacheDataRow row = rows.get(i);
+
+                if (row != null) {
+                    assert row.value() != null : row;
+
+                    res.put(partKeys.get(i), row);
+                }
+            }
+        }
+
+        return res;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean containsKey(GridCacheMapEntry entry) {
         try {
@@ -1801,6 +1837,59 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             return row;
         }
 
+        /** {@inheritDoc} */
+        @Override public List<CacheDataRow> findAll(GridCacheContext cctx, List<KeyCacheObject> keys)
+            throws IgniteCheckedException {
+            if (keys.size() == 1)
+                return Collections.singletonList(find(cctx, keys.get(0)));
+
+            CacheObjectContext coctx = cctx.cacheObjectContext();
+
+            int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+            SearchRow[] rows = new SearchRow[keys.size()];
+            byte[][] keyBytes = new byte[keys.size()][];
+            Integer[] order = new Integer[keys.size()];
+
+            for (int i = 0; i < rows.length; i++) {
+                KeyCacheObject key = keys.get(i);
+
+                keyBytes[i] = key.valueBytes(coctx);
+                rows[i] = new SearchRow(cacheId, key);
+                order[i] = i;
+            }
+
+            // Sort in the tree order: hash first, then key bytes.
+            Arrays.sort(order, (i1, i2) -> {
+                int cmp = Integer.compare(rows[i1].hash(), rows[i2].hash());
+
+                return cmp != 0 ? cmp : CacheDataTree.compareBytes(keyBytes[i1], keyBytes[i2]);
+            });
+
+            List<CacheSearchRow> sorted = new ArrayList<>(rows.length);
+
+            for (Integer i : order)
+                sorted.add(rows[i]);
+
+            List<CacheDataRow> found = dataTree.findAll(sorted, CacheDataRowAdapter.RowData.NO_KEY);
+
+            CacheDataRow[] res = new CacheDataRow[rows.length];
+
+            for (int i = 0; i < order.length; i++) {
+                CacheDataRow row = found.get(i);
+
+                if (row != null) {
+                    row.key(keys.get(order[i]));
+
+                    grp.dataRegion().evictionTracker().touchPage(row.link());
+
+                    res[order[i]] = row;
+                }
+            }
+
+            return Arrays.asList(res);
+        }
+
         /** {@inheritDoc} */
         @Override public GridCursor<? extends CacheDataRow> cursor() throws IgniteCheckedException {
             return dataTree.find(null, null);
@@ -123,7 +123,7 @@ public class LockedEntriesInfo {
 
             // Visibility guarantees provided by volatile lockedIdx field.
             for (int i = 0; i <= otherThreadLockedIdx; i++) {
-                if (otherThreadLocks[i] == entry)
+                if (otherThreadLocks[i] == entry || sharesLock(otherThreadLocks[i], entry))
                     return true;
             }
         }
@@ -131,6 +131,16 @@ public class LockedEntriesInfo {
         return false;
     }
 
+    /**
+     * @param e1 First entry.
+     * @param e2 Second entry.
+     * @return {@code True} if the entries are compact and share the lock stripe.
+     */
+    private static boolean sharesLock(GridCacheEntryEx e1, GridCacheEntryEx e2) {
+        return e1 instanceof GridCacheMapEntry && e2 instanceof GridCacheMapEntry &&
+            ((GridCacheMapEntry)e1).sharesLock((GridCacheMapEntry)e2);
+    }
+
     /** Per-thread locked entries info. */
     private static class LockedEntries {
         /** Timestamp of lock. */
@@ -47,6 +47,7 @@ import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.configuration.TransactionConfiguration;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteNodeAttributes;
+import org.apache.ignite.internal.cache.transform.CacheObjectTransformerProcessor;
 import org.apache.ignite.internal.cluster.DetachedClusterNode;
 import org.apache.ignite.internal.processors.datastructures.DataStructuresProcessor;
 import org.apache.ignite.internal.processors.query.QuerySchemaPatch;
@@ -69,6 +70,7 @@ import static org.apache.ignite.cache.CacheMode.PARTITIONED;
 import static org.apache.ignite.cache.CacheMode.REPLICATED;
 import static org.apache.ignite.cache.CacheRebalanceMode.SYNC;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_ASYNC;
+import static org.apache.ignite.internal.IgniteComponentType.CACHE_OBJECT_COMPRESSION;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_CONSISTENCY_CHECK_SKIPPED;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_TX_AWARE_QUERIES_ENABLED;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_TX_SERIALIZABLE_ENABLED;
@@ -393,6 +395,25 @@ public class ValidationOnNodeJoinUtils {
                     cacheSpec.toString());
         }
 
+        DiskPageCompression valCompression = cc.getValueCompression();
+
+        if (valCompression != DiskPageCompression.DISABLED) {
+            if (valCompression != DiskPageCompression.ZSTD && valCompression != DiskPageCompression.LZ4) {
+                throw new IgniteCheckedException("Unsupported cache values compression [cacheName=" + cc.getName() +
+                    ", compression=" + valCompression + ", supported=" +
+                    Arrays.asList(DiskPageCompression.ZSTD, DiskPageCompression.LZ4) + ']');
+            }
+
+            // All the nodes of the cache must be able to restore the compressed values.
+            CacheObjectTransformerProcessor transformer = ctx.transformer();
+
+            if (transformer == null || !CACHE_OBJECT_COMPRESSION.className().equals(transformer.getClass().getName())) {
+                throw new IgniteCheckedException("Cache values compression requires the " +
+                    CACHE_OBJECT_COMPRESSION.module() + " module in the classpath and no custom cache object " +
+                    "transformer [cacheName=" + cc.getName() + ", transformer=" + transformer + ']');
+            }
+        }
+
         if (!ctx.clientNode()) {
             if (!F.isEmpty(cc.getStoragePaths())) {
                 List<String> csp = Arrays.asList(cc.getStoragePaths());
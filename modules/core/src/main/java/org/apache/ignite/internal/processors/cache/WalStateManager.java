@@ -134,6 +134,9 @@ public class WalStateManager extends GridCacheSharedManagerAdapter {
     /** Denies or allows WAL disabling. */
     private volatile boolean prohibitDisabling;
 
+    /** Page records are replaced by the recovery data written on checkpoint. */
+    private final boolean writeRecoveryDataOnCp;
+
     /**
      * Constructor.
      *
@@ -148,11 +151,16 @@ public class WalStateManager extends GridCacheSharedManagerAdapter {
             srv = !client;
 
             log = kernalCtx.log(WalStateManager.class);
+
+            writeRecoveryDataOnCp = cfg.getDataStorageConfiguration() != null &&
+                cfg.getDataStorageConfiguration().isWriteRecoveryDataOnCheckpoint();
         }
         else {
             srv = false;
 
             log = null;
+
+            writeRecoveryDataOnCp = false;
         }
 
         if (srv) {
@@ -1021,7 +1029,7 @@ public class WalStateManager extends GridCacheSharedManagerAdapter {
      * @return {@code True} if WAL disable for group. {@code False} If not.
      */
     public boolean isPageRecordsDisabled(int grpId, long pageId) {
-        if (cctx.kernalContext().config().getDataStorageConfiguration().isWriteRecoveryDataOnCheckpoint())
+        if (writeRecoveryDataOnCp)
             return true;
 
         CacheGroupContext ctx = cctx.cache().cacheGroup(grpId);
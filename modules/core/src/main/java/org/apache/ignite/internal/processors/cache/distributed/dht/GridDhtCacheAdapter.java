@@ -78,6 +78,7 @@ import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.platform.cache.PlatformCacheEntryFilter;
 import org.apache.ignite.internal.processors.security.SecurityUtils;
+import org.apache.ignite.internal.transactions.IgniteTxOptimisticCheckedException;
 import org.apache.ignite.internal.util.future.GridEmbeddedFuture;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
@@ -114,6 +115,9 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
     /** */
     private static final long serialVersionUID = 0L;
 
+    /** Result of {@link #localPrimaryGet} telling that the key has to be read the regular way. */
+    private static final Object NO_LOCAL_GET = new Object();
+
     /** Force key futures. */
     private final ConcurrentMap<IgniteUuid, GridDhtForceKeysFuture<?, ?>> forceKeyFuts = newMap();
 
@@ -647,6 +651,109 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
         return sum;
     }
 
+    /** {@inheritDoc} */
+    @Override protected V get(
+        K key,
+        String taskName,
+        boolean deserializeBinary,
+        boolean needVer
+    ) throws IgniteCheckedException {
+        checkJta();
+
+        Object res = localPrimaryGet(key, taskName, deserializeBinary, needVer);
+
+        if (res != NO_LOCAL_GET)
+            return (V)res;
+
+        return super.get(key, taskName, deserializeBinary, needVer);
+    }
+
+    /**
+     * Reads the key straight from the partition data store when the local node is the primary for it,
+     * bypassing the get future and the cache entry creation.
+     *
+     * @param key Key.
+     * @param taskName Task name.
+     * @param deserializeBinary Deserialize binary flag.
+     * @param needVer Need version.
+     * @return Value, {@link EntryGetResult} if {@code needVer} is set or {@link #NO_LOCAL_GET} if the key
+     *      has to be read the regular way.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Object localPrimaryGet(
+        K key,
+        String taskName,
+        boolean deserializeBinary,
+        boolean needVer
+    ) throws IgniteCheckedException {
+        if (!ctx.affinityNode() ||
+            ctx.readThroughConfigured() ||
+            ctx.expiry() != null ||
+            !ctx.readNoEntry(null, false) ||
+            ctx.tm().threadLocalTx(ctx) != null ||
+            ctx.shared().lockedTopologyVersion(null) != null)
+            return NO_LOCAL_GET;
+
+        CacheOperationContext opCtx = ctx.operationContextPerCall();
+
+        if (opCtx != null && (opCtx.expiry() != null || opCtx.recovery() || opCtx.readRepairStrategy() != null))
+            return NO_LOCAL_GET;
+
+        GridDhtTopologyFuture topFut = ctx.shared().exchange().lastTopologyFuture();
+
+        if (!topFut.isDone())
+            return NO_LOCAL_GET;
+
+        AffinityTopologyVersion topVer = ctx.affinity().affinityTopologyVersion();
+
+        KeyCacheObject cacheKey = ctx.toCacheKeyObject(key);
+
+        int part = ctx.affinity().partition(cacheKey);
+
+        if (!ctx.affinity().primaryByPartition(ctx.localNode(), part, topVer) ||
+            topFut.validateCache(ctx, false, true, cacheKey, null) != null)
+            return NO_LOCAL_GET;
+
+        ctx.checkSecurity(SecurityPermission.CACHE_READ);
+
+        if (!ctx.reserveForFastLocalGet(part, topVer))
+            return NO_LOCAL_GET;
+
+        try {
+            CacheDataRow row;
+
+            ctx.shared().database().checkpointReadLock();
+
+            try {
+                row = ctx.offheap().read(ctx, (KeyCacheObject)ctx.cacheObjects().prepareForCache(cacheKey, ctx));
+            }
+            finally {
+                ctx.shared().database().checkpointReadUnlock();
+            }
+
+            // Expired entries are removed through the entry.
+            if (row != null && row.expireTime() != 0 && row.expireTime() <= U.currentTimeMillis())
+                return NO_LOCAL_GET;
+
+            if (ctx.statisticsEnabled())
+                metrics0().onRead(row != null);
+
+            if (row == null)
+                return null;
+
+            ctx.events().readEvent(cacheKey, null, null, row.value(), taskName, !deserializeBinary);
+
+            // The row is read from the page memory for this call only, so its value is never shared and needs no copy.
+            Object val = ctx.unwrapBinaryIfNeeded(row.value(), !deserializeBinary, false,
+                U.deploymentClassLoader(ctx.kernalContext(), U.contextDeploymentClassLoaderId(ctx.kernalContext())));
+
+            return needVer ? new EntryGetResult(val, row.version()) : val;
+        }
+        finally {
+            ctx.releaseForFastLocalGet(part, topVer);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public IgniteInternalFuture<Map<K, V>> getAllAsync(
         @Nullable Collection<? extends K> keys,
@@ -732,6 +839,9 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
 
             boolean readNoEntry = ctx.readNoEntry(expiry, readerArgs != null);
 
+            // Read all the rows in a single pass over the data trees.
+            Map<KeyCacheObject, CacheDataRow> rows = readNoEntry && keysSize > 1 ? ctx.offheap().readAll(ctx, keys) : null;
+
             for (KeyCacheObject key : keys) {
                 while (true) {
                     try {
@@ -745,7 +855,7 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
                         boolean skipEntry = readNoEntry;
 
                         if (readNoEntry) {
-                            CacheDataRow row = ctx.offheap().read(ctx, key);
+                            CacheDataRow row = rows != null ? rows.get(key) : ctx.offheap().read(ctx, key);
 
                             if (row != null) {
                                 long expireTime = row.expireTime();
@@ -1094,6 +1204,7 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
      * @param taskNameHash Task name hash code.
      * @param expiry Expiry policy.
      * @param skipVals Skip values flag.
+     * @param checkLocks If {@code true} then the future fails if an entry is locked.
      * @param txLbl Transaction label.
      * @return DHT future.
      */
@@ -1107,6 +1218,7 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
         @Nullable IgniteCacheExpiryPolicy expiry,
         boolean skipVals,
         boolean recovery,
+        boolean checkLocks,
         @Nullable String txLbl
     ) {
         GridDhtGetFuture<K, V> fut = new GridDhtGetFuture<>(ctx,
@@ -1120,6 +1232,7 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
             skipVals,
             recovery,
             addReaders,
+            checkLocks,
             txLbl);
 
         fut.init();
@@ -1297,6 +1410,7 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
                 expiryPlc,
                 req.skipValues(),
                 req.recovery(),
+                req.checkLocks(),
                 req.txLabel());
 
         fut.listen(new CI1<IgniteInternalFuture<Collection<GridCacheEntryInfo>>>() {
@@ -1318,6 +1432,10 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
                 catch (NodeStoppingException ignored) {
                     return;
                 }
+                catch (IgniteTxOptimisticCheckedException e) {
+                    // Requested entry is locked, expected for the read versions check.
+                    res.error(e);
+                }
                 catch (IgniteCheckedException e) {
                     U.error(log, "Failed processing get request: " + req, e);
 
@@ -40,6 +40,7 @@ import org.apache.ignite.internal.processors.cache.ReaderArguments;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.transactions.IgniteTxOptimisticCheckedException;
 import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.future.GridCompoundIdentityFuture;
 import org.apache.ignite.internal.util.future.GridEmbeddedFuture;
@@ -116,6 +117,9 @@ public final class GridDhtGetFuture<K, V> extends GridCompoundIdentityFuture<Col
     /** */
     private final boolean addReaders;
 
+    /** If {@code true} then the future fails if an entry is locked. */
+    private final boolean checkLocks;
+
     /** Transaction label. */
     private final String txLbl;
 
@@ -129,6 +133,7 @@ public final class GridDhtGetFuture<K, V> extends GridCompoundIdentityFuture<Col
      * @param taskNameHash Task name hash code.
      * @param expiryPlc Expiry policy.
      * @param skipVals Skip values flag.
+     * @param checkLocks If {@code true} then the future fails if an entry is locked.
      * @param txLbl Transaction label.
      */
     public GridDhtGetFuture(
@@ -143,6 +148,7 @@ public final class GridDhtGetFuture<K, V> extends GridCompoundIdentityFuture<Col
         boolean skipVals,
         boolean recovery,
         boolean addReaders,
+        boolean checkLocks,
         @Nullable String txLbl
     ) {
         super(CU.<GridCacheEntryInfo>collectionsReducer(keys.size()));
@@ -161,6 +167,7 @@ public final class GridDhtGetFuture<K, V> extends GridCompoundIdentityFuture<Col
         this.skipVals = skipVals;
         this.recovery = recovery;
         this.addReaders = addReaders;
+        this.checkLocks = checkLocks;
         this.txLbl = txLbl;
 
         futId = IgniteUuid.randomUuid();
@@ -360,6 +367,14 @@ public final class GridDhtGetFuture<K, V> extends GridCompoundIdentityFuture<Col
 
         final String taskName = taskName0;
 
+        // Locks are checked before the read, so a transaction releasing the lock has already updated the entry.
+        if (checkLocks) {
+            IgniteCheckedException err = checkNotLocked(keys.keySet());
+
+            if (err != null)
+                return new GridFinishedFuture<>(err);
+        }
+
         GridCompoundFuture<Boolean, Boolean> txFut = null;
 
         ReaderArguments readerArgs = null;
@@ -487,6 +502,29 @@ public final class GridDhtGetFuture<K, V> extends GridCompoundIdentityFuture<Col
             fut);
     }
 
+    /**
+     * @param keys Keys to check.
+     * @return {@link IgniteTxOptimisticCheckedException} if an entry has a lock owner or candidate, {@code null}
+     *      otherwise.
+     */
+    @Nullable private IgniteCheckedException checkNotLocked(Collection<KeyCacheObject> keys) {
+        for (KeyCacheObject key : keys) {
+            GridDhtCacheEntry e = cache().peekExx(key);
+
+            try {
+                if (e != null && e.lockedByAny()) {
+                    return new IgniteTxOptimisticCheckedException("Failed to read entry version, entry is locked " +
+                        "by a concurrent transaction [cache=" + cctx.name() + ", key=" + key + ']');
+                }
+            }
+            catch (GridCacheEntryRemovedException ignore) {
+                // Removed entry has no locks.
+            }
+        }
+
+        return null;
+    }
+
     /**
      * @param map Map to convert.
      * @return List of infos.
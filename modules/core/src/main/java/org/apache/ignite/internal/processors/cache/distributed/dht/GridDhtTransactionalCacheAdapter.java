@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.distributed.dht;
 
 import java.io.Externalizable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,6 +29,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.NodeStoppingException;
@@ -68,10 +70,12 @@ import org.apache.ignite.internal.transactions.IgniteTxRollbackCheckedException;
 import org.apache.ignite.internal.transactions.IgniteTxTimeoutCheckedException;
 import org.apache.ignite.internal.util.F0;
 import org.apache.ignite.internal.util.GridLeanSet;
+import org.apache.ignite.internal.util.GridStripedLock;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.lang.ClusterNodeFunc;
 import org.apache.ignite.internal.util.lang.GridClosureException;
 import org.apache.ignite.internal.util.lang.IgnitePair;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.C2;
 import org.apache.ignite.internal.util.typedef.CI1;
 import org.apache.ignite.internal.util.typedef.CI2;
@@ -98,6 +102,13 @@ public abstract class GridDhtTransactionalCacheAdapter<K, V> extends GridDhtCach
     /** */
     private static final long serialVersionUID = 0L;
 
+    /** Number of stripes of partitions used to add lock candidates of a batch of keys atomically. */
+    private static final int LOCK_BATCH_STRIPES = 64;
+
+    /** Locks of the stripes of partitions, see {@link #lockBatchStripes(Collection)}. */
+    @GridToStringExclude
+    private final GridStripedLock lockBatchLock = new GridStripedLock(LOCK_BATCH_STRIPES);
+
     /**
      * Empty constructor required for {@link Externalizable}.
      */
@@ -804,40 +815,48 @@ public abstract class GridDhtTransactionalCacheAdapter<K, V> extends GridDhtCach
         if (fut.isDone()) // Possible in case of cancellation or timeout or rollback.
             return fut;
 
-        for (KeyCacheObject key : keys) {
-            try {
-                while (true) {
-                    GridDhtCacheEntry entry = entryExx(key, tx.topologyVersion());
+        BitSet stripes = keys.size() > 1 && ctx.tm().orderedLocks() ? lockBatchStripes(keys) : null;
 
-                    try {
-                        fut.addEntry(entry);
+        try {
+            for (KeyCacheObject key : keys) {
+                try {
+                    while (true) {
+                        GridDhtCacheEntry entry = entryExx(key, tx.topologyVersion());
 
-                        // Possible in case of cancellation or time out or rollback.
-                        if (fut.isDone())
-                            return fut;
+                        try {
+                            fut.addEntry(entry);
 
-                        break;
-                    }
-                    catch (GridCacheEntryRemovedException ignore) {
-                        if (log.isDebugEnabled())
-                            log.debug("Got removed entry when adding lock (will retry): " + entry);
-                    }
-                    catch (GridDistributedLockCancelledException e) {
-                        if (log.isDebugEnabled())
-                            log.debug("Failed to add entry [err=" + e + ", entry=" + entry + ']');
+                            // Possible in case of cancellation or time out or rollback.
+                            if (fut.isDone())
+                                return fut;
 
-                        return new GridDhtFinishedFuture<>(e);
+                            break;
+                        }
+                        catch (GridCacheEntryRemovedException ignore) {
+                            if (log.isDebugEnabled())
+                                log.debug("Got removed entry when adding lock (will retry): " + entry);
+                        }
+                        catch (GridDistributedLockCancelledException e) {
+                            if (log.isDebugEnabled())
+                                log.debug("Failed to add entry [err=" + e + ", entry=" + entry + ']');
+
+                            return new GridDhtFinishedFuture<>(e);
+                        }
                     }
                 }
-            }
-            catch (GridDhtInvalidPartitionException e) {
-                fut.addInvalidPartition(ctx, e.partition());
+                catch (GridDhtInvalidPartitionException e) {
+                    fut.addInvalidPartition(ctx, e.partition());
 
-                if (log.isDebugEnabled())
-                    log.debug("Added invalid partition to DHT lock future [part=" + e.partition() + ", fut=" +
-                        fut + ']');
+                    if (log.isDebugEnabled())
+                        log.debug("Added invalid partition to DHT lock future [part=" + e.partition() + ", fut=" +
+                            fut + ']');
+                }
             }
         }
+        finally {
+            if (stripes != null)
+                unlockBatchStripes(stripes);
+        }
 
         if (!fut.isDone()) {
             ctx.mvcc().addFuture(fut);
@@ -848,6 +867,35 @@ public abstract class GridDhtTransactionalCacheAdapter<K, V> extends GridDhtCach
         return fut;
     }
 
+    /**
+     * Locks the stripes of the partitions of the keys in ascending order, so the lock candidates of the keys are
+     * added atomically with respect to other batches sharing a partition with this one. Together with the global
+     * order of the keys on the near node this makes pessimistic transactions deadlock-free,
+     * see {@link IgniteSystemProperties#IGNITE_TX_ORDERED_LOCKS}.
+     *
+     * @param keys Keys.
+     * @return Locked stripes.
+     */
+    private BitSet lockBatchStripes(Collection<KeyCacheObject> keys) {
+        BitSet stripes = new BitSet(LOCK_BATCH_STRIPES);
+
+        for (KeyCacheObject key : keys)
+            stripes.set(ctx.affinity().partition(key) % LOCK_BATCH_STRIPES);
+
+        for (int i = stripes.nextSetBit(0); i >= 0; i = stripes.nextSetBit(i + 1))
+            lockBatchLock.lock(i);
+
+        return stripes;
+    }
+
+    /**
+     * @param stripes Stripes locked by {@link #lockBatchStripes(Collection)}.
+     */
+    private void unlockBatchStripes(BitSet stripes) {
+        for (int i = stripes.nextSetBit(0); i >= 0; i = stripes.nextSetBit(i + 1))
+            lockBatchLock.unlock(i);
+    }
+
     /**
      * @param cacheCtx Cache context.
      * @param nearNode Near node.
@@ -63,6 +63,44 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
     /** Explicit predefined single mapping (backup or primary). */
     private final ClusterNode affNode;
 
+    /** If {@code true} then the future fails if an entry is locked on the primary node. */
+    private final boolean checkLocks;
+
+    /**
+     * @param cctx Context.
+     * @param keys Keys.
+     * @param readThrough Read through flag.
+     * @param forcePrimary If {@code true} then will force network trip to primary node even
+     *          if called on backup node.
+     * @param taskName Task name.
+     * @param deserializeBinary Deserialize binary flag.
+     * @param recovery Recovery mode flag.
+     * @param expiryPlc Expiry policy.
+     * @param skipVals Skip values flag.
+     * @param needVer If {@code true} returns values as tuples containing value and version.
+     * @param keepCacheObjects Keep cache objects flag.
+     * @param txLbl Transaction label.
+     * @param affNode Explicit predefined single mapping (backup or primary).
+     */
+    public GridPartitionedGetFuture(
+        GridCacheContext<K, V> cctx,
+        Collection<KeyCacheObject> keys,
+        boolean readThrough,
+        boolean forcePrimary,
+        String taskName,
+        boolean deserializeBinary,
+        boolean recovery,
+        @Nullable IgniteCacheExpiryPolicy expiryPlc,
+        boolean skipVals,
+        boolean needVer,
+        boolean keepCacheObjects,
+        @Nullable String txLbl,
+        ClusterNode affNode
+    ) {
+        this(cctx, keys, readThrough, forcePrimary, taskName, deserializeBinary, recovery, expiryPlc, skipVals, needVer,
+            keepCacheObjects, false, txLbl, affNode);
+    }
+
     /**
      * @param cctx Context.
      * @param keys Keys.
@@ -76,7 +114,9 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
      * @param skipVals Skip values flag.
      * @param needVer If {@code true} returns values as tuples containing value and version.
      * @param keepCacheObjects Keep cache objects flag.
+     * @param checkLocks If {@code true} then the future fails if an entry is locked on the primary node.
      * @param txLbl Transaction label.
+     * @param affNode Explicit predefined single mapping (backup or primary).
      */
     public GridPartitionedGetFuture(
         GridCacheContext<K, V> cctx,
@@ -90,6 +130,7 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
         boolean skipVals,
         boolean needVer,
         boolean keepCacheObjects,
+        boolean checkLocks,
         @Nullable String txLbl,
         ClusterNode affNode
     ) {
@@ -108,6 +149,7 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
         );
         this.txLbl = txLbl;
         this.affNode = affNode;
+        this.checkLocks = checkLocks;
 
         initLogger(GridPartitionedGetFuture.class);
     }
@@ -244,6 +286,7 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
                         expiryPlc,
                         skipVals,
                         recovery,
+                        checkLocks,
                         txLbl);
 
                 Collection<Integer> invalidParts = fut0.invalidPartitions();
@@ -348,7 +391,7 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
             if (tryLocalGet(key, part, topVer, affNodes, locVals))
                 return false;
 
-            node = cctx.selectAffinityNodeBalanced(affNodes, invalidNodeSet, part, canRemap, forcePrimary);
+            node = cctx.selectAffinityNodeBalanced(key, affNodes, invalidNodeSet, part, canRemap, forcePrimary);
         }
 
         // Failed if none remote node found.
@@ -402,7 +445,9 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
         List<ClusterNode> affNodes,
         Map<K, V> locVals
     ) {
-        boolean fastLocGet = (!forcePrimary || affNodes.get(0).isLocal()) && cctx.reserveForFastLocalGet(part, topVer);
+        // Locks are checked by the DHT get future only.
+        boolean fastLocGet = !checkLocks && (!cctx.readFromPrimary(key, part, forcePrimary) || affNodes.get(0).isLocal()) &&
+            cctx.reserveForFastLocalGet(part, topVer);
 
         if (fastLocGet) {
             try {
@@ -663,6 +708,7 @@ public class GridPartitionedGetFuture<K, V> extends CacheDistributedGetFutureAda
                 false,
                 skipVals,
                 recovery,
+                checkLocks,
                 txLbl
             );
         }
@@ -391,7 +391,7 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
         if (tryLocalGet(key, part, topVer, affNodes))
             return null;
 
-        ClusterNode affNode = cctx.selectAffinityNodeBalanced(affNodes, getInvalidNodes(), part, canRemap,
+        ClusterNode affNode = cctx.selectAffinityNodeBalanced(key, affNodes, getInvalidNodes(), part, canRemap,
             forcePrimary);
 
         // Failed if none balanced node found.
@@ -417,7 +417,8 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
         AffinityTopologyVersion topVer,
         List<ClusterNode> affNodes
     ) {
-        boolean fastLocGet = (!forcePrimary || affNodes.get(0).isLocal()) && cctx.reserveForFastLocalGet(part, topVer);
+        boolean fastLocGet = (!cctx.readFromPrimary(key, part, forcePrimary) || affNodes.get(0).isLocal()) &&
+            cctx.reserveForFastLocalGet(part, topVer);
 
         if (fastLocGet) {
             try {
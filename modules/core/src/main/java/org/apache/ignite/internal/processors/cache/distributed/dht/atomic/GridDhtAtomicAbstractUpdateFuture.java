@@ -437,6 +437,9 @@ public abstract class GridDhtAtomicAbstractUpdateFuture extends GridCacheFutureA
      * @param ret Return value.
      */
     private void sendDhtRequests(ClusterNode nearNode, GridCacheReturn ret, boolean sndRes) {
+        GridDhtAtomicReplicationStreams streams = updateReq.writeSynchronizationMode() == PRIMARY_SYNC ?
+            ((GridDhtAtomicCache<?, ?>)cctx.dht()).replicationStreams() : null;
+
         for (GridDhtAtomicAbstractUpdateRequest req : mappings.values()) {
             try {
                 assert !cctx.localNodeId().equals(req.nodeId()) : req;
@@ -448,6 +451,9 @@ public abstract class GridDhtAtomicAbstractUpdateFuture extends GridCacheFutureA
                         req.hasResult(true);
                 }
 
+                if (streams != null && streams.add(req, this))
+                    continue;
+
                 cctx.io().send(req.nodeId(), req, cctx.ioPolicy());
 
                 if (msgLog.isDebugEnabled()) {
@@ -125,6 +125,10 @@ import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_REPLICATION_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_REPLICATION_BATCH_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_UPDATE_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_UPDATE_BATCH_WINDOW;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_ASYNC;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
@@ -162,6 +166,18 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     private static final int DEFERRED_UPDATE_RESPONSE_TIMEOUT =
         Integer.getInteger(IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT, DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT);
 
+    /** @see IgniteSystemProperties#IGNITE_ATOMIC_UPDATE_BATCH_SIZE */
+    public static final int DFLT_ATOMIC_UPDATE_BATCH_SIZE = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_ATOMIC_UPDATE_BATCH_WINDOW */
+    public static final int DFLT_ATOMIC_UPDATE_BATCH_WINDOW = 100;
+
+    /** @see IgniteSystemProperties#IGNITE_ATOMIC_REPLICATION_BATCH_SIZE */
+    public static final int DFLT_ATOMIC_REPLICATION_BATCH_SIZE = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_ATOMIC_REPLICATION_BATCH_TIMEOUT */
+    public static final int DFLT_ATOMIC_REPLICATION_BATCH_TIMEOUT = 10;
+
     /** */
     private final ThreadLocal<Map<UUID, GridDhtAtomicDeferredUpdateResponse>> defRes =
         new ThreadLocal<Map<UUID, GridDhtAtomicDeferredUpdateResponse>>() {
@@ -183,6 +199,14 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     /** Logger. */
     private IgniteLogger msgLog;
 
+    /** Coalesces concurrent single key puts, {@code null} if disabled. */
+    @GridToStringExclude
+    private GridNearAtomicUpdateBatcher<K, V> updateBatcher;
+
+    /** Batches backup updates of {@code PRIMARY_SYNC} cache, {@code null} if disabled. */
+    @GridToStringExclude
+    private GridDhtAtomicReplicationStreams replicationStreams;
+
     /**
      * Empty constructor required by {@link Externalizable}.
      */
@@ -238,6 +262,40 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 }
             }
         };
+
+        int batchSize = IgniteSystemProperties.getInteger(IGNITE_ATOMIC_UPDATE_BATCH_SIZE, DFLT_ATOMIC_UPDATE_BATCH_SIZE);
+
+        if (batchSize > 1) {
+            updateBatcher = new GridNearAtomicUpdateBatcher<>(ctx, batchSize,
+                IgniteSystemProperties.getInteger(IGNITE_ATOMIC_UPDATE_BATCH_WINDOW, DFLT_ATOMIC_UPDATE_BATCH_WINDOW),
+                m -> updateAll0(m.keySet(), m.values(), null, null, null, null, false, UPDATE, false));
+        }
+
+        int replicationBatchSize = IgniteSystemProperties.getInteger(IGNITE_ATOMIC_REPLICATION_BATCH_SIZE,
+            DFLT_ATOMIC_REPLICATION_BATCH_SIZE);
+
+        if (replicationBatchSize > 1 && ctx.config().getWriteSynchronizationMode() == PRIMARY_SYNC) {
+            replicationStreams = new GridDhtAtomicReplicationStreams(ctx, replicationBatchSize,
+                IgniteSystemProperties.getInteger(IGNITE_ATOMIC_REPLICATION_BATCH_TIMEOUT, DFLT_ATOMIC_REPLICATION_BATCH_TIMEOUT));
+
+            replicationStreams.start();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onKernalStop() {
+        // Backups must get the updates already acknowledged to the near nodes.
+        if (replicationStreams != null)
+            replicationStreams.stop();
+
+        super.onKernalStop();
+    }
+
+    /**
+     * @return Replication streams batching backup updates, {@code null} if disabled.
+     */
+    @Nullable GridDhtAtomicReplicationStreams replicationStreams() {
+        return replicationStreams;
     }
 
     /** {@inheritDoc} */
@@ -380,6 +438,20 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 }
             });
 
+        ctx.io().addCacheHandler(
+            ctx.cacheId(),
+            ctx.startTopologyVersion(),
+            GridDhtAtomicUpdateBatchRequest.class,
+            new CI2<UUID, GridDhtAtomicUpdateBatchRequest>() {
+                @Override public void apply(UUID nodeId, GridDhtAtomicUpdateBatchRequest req) {
+                    processDhtAtomicUpdateBatchRequest(nodeId, req);
+                }
+
+                @Override public String toString() {
+                    return "GridDhtAtomicUpdateBatchRequest handler";
+                }
+            });
+
         ctx.io().addCacheHandler(
             ctx.cacheId(),
             ctx.startTopologyVersion(),
@@ -508,7 +580,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         boolean recovery,
         ReadRepairStrategy readRepairStrategy) throws IgniteCheckedException {
         return getAllAsyncInternal(keys,
-            !ctx.config().isReadFromBackup(),
+            ctx.forcePrimaryRead(),
             ctx.kernalContext().job().currentTaskName(),
             deserializeBinary,
             recovery,
@@ -620,6 +692,9 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
     /** {@inheritDoc} */
     @Override protected boolean put0(K key, V val, CacheEntryPredicate filter) throws IgniteCheckedException {
+        if (filter == null && updateBatcher != null && updateBatcher.put(key, val))
+            return true;
+
         Boolean res = (Boolean)update0(
             key,
             val,
@@ -1527,10 +1602,14 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 boolean success = true;
                 boolean readNoEntry = ctx.readNoEntry(expiry, false);
 
+                // Read all the rows in a single pass over the data trees.
+                Map<KeyCacheObject, CacheDataRow> rows = readNoEntry && keys.size() > 1 ?
+                    ctx.offheap().readAll(ctx, keys) : null;
+
                 // Optimistically expect that all keys are available locally (avoid creation of get future).
                 for (KeyCacheObject key : keys) {
                     if (readNoEntry) {
-                        CacheDataRow row = ctx.offheap().read(ctx, key);
+                        CacheDataRow row = rows != null ? rows.get(key) : ctx.offheap().read(ctx, key);
 
                         if (row != null) {
                             long expireTime = row.expireTime();
@@ -3287,10 +3366,6 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         assert req.partition() >= 0 : req;
 
-        GridCacheVersion ver = req.writeVersion();
-
-        ctx.versions().onReceived(nodeId, ver);
-
         GridDhtAtomicNearResponse nearRes = null;
 
         if (req.nearNodeId() != null) {
@@ -3301,6 +3376,156 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 req.flags());
         }
 
+        if (!updateBackup(nodeId, req, nearRes))
+            return;
+
+        GridDhtAtomicUpdateResponse dhtRes = updateNear(nodeId, req, nearRes);
+
+        try {
+            // TODO handle failure: probably drop the node from topology
+            // TODO fire events only after successful fsync
+            if (ctx.shared().wal() != null)
+                ctx.shared().wal().flush(null, false);
+        }
+        catch (StorageException e) {
+            if (dhtRes != null)
+                dhtRes.onError(new IgniteCheckedException(e));
+
+            if (nearRes != null)
+                nearRes.onClassError(e);
+        }
+        catch (IgniteCheckedException e) {
+            if (dhtRes != null)
+                dhtRes.onError(e);
+
+            if (nearRes != null)
+                nearRes.onClassError(e);
+        }
+
+        if (nearRes != null)
+            sendDhtNearResponse(req, nearRes);
+
+        if (dhtRes != null)
+            sendDhtPrimaryResponse(nodeId, req, dhtRes);
+        else
+            sendDeferredUpdateResponse(req.partition(), nodeId, req.futureId());
+    }
+
+    /**
+     * Applies the updates of a batch sent by the primary node in order and acknowledges the whole batch at once.
+     *
+     * @param nodeId Sender node ID.
+     * @param batch Batch of update requests.
+     */
+    private void processDhtAtomicUpdateBatchRequest(UUID nodeId, GridDhtAtomicUpdateBatchRequest batch) {
+        assert Thread.currentThread().getName().startsWith("sys-stripe-") : Thread.currentThread().getName();
+
+        if (msgLog.isDebugEnabled()) {
+            msgLog.debug("Received DHT atomic update batch [part=" + batch.partition() +
+                ", size=" + batch.requests().size() + ", node=" + nodeId + ']');
+        }
+
+        GridLongList futIds = new GridLongList(batch.requests().size());
+
+        List<GridDhtAtomicAbstractUpdateRequest> evictedReqs = null;
+        List<GridDhtAtomicUpdateResponse> evictedRess = null;
+
+        for (GridDhtAtomicAbstractUpdateRequest req : batch.requests()) {
+            assert req.nearNodeId() == null : req;
+
+            if (!updateBackup(nodeId, req, null))
+                return;
+
+            // Near readers report the evicted keys to stop getting their updates, the rest is acknowledged at once.
+            GridDhtAtomicUpdateResponse dhtRes = updateNear(nodeId, req, null);
+
+            if (dhtRes != null) {
+                if (evictedReqs == null) {
+                    evictedReqs = new ArrayList<>();
+                    evictedRess = new ArrayList<>();
+                }
+
+                evictedReqs.add(req);
+                evictedRess.add(dhtRes);
+            }
+            else
+                futIds.add(req.futureId());
+        }
+
+        try {
+            if (ctx.shared().wal() != null)
+                ctx.shared().wal().flush(null, false);
+        }
+        catch (IgniteCheckedException e) {
+            U.error(log, "Failed to flush WAL after DHT atomic update batch [part=" + batch.partition() +
+                ", node=" + nodeId + ']', e);
+        }
+
+        if (evictedReqs != null) {
+            for (int i = 0; i < evictedReqs.size(); i++)
+                sendDhtPrimaryResponse(nodeId, evictedReqs.get(i), evictedRess.get(i));
+        }
+
+        if (!futIds.isEmpty())
+            sendDeferredUpdateResponse(nodeId, new GridDhtAtomicDeferredUpdateResponse(ctx.cacheId(), futIds));
+    }
+
+    /**
+     * Applies the near cache updates of the request on the near reader node.
+     *
+     * @param nodeId Sender node ID.
+     * @param req Dht atomic update request.
+     * @param nearRes Response to the near node, {@code null} if the near node does not wait for the readers.
+     * @return Response with the near keys evicted on the local node, {@code null} if no keys were evicted.
+     */
+    @Nullable private GridDhtAtomicUpdateResponse updateNear(
+        UUID nodeId,
+        GridDhtAtomicAbstractUpdateRequest req,
+        @Nullable GridDhtAtomicNearResponse nearRes
+    ) {
+        if (req.nearSize() == 0 && req.obsoleteNearKeysSize() == 0)
+            return null;
+
+        List<KeyCacheObject> nearEvicted = null;
+
+        if (isNearEnabled(ctx))
+            nearEvicted = ((GridNearAtomicCache<K, V>)near()).processDhtAtomicUpdateRequest(nodeId, req, nearRes);
+        else if (req.nearSize() > 0) {
+            nearEvicted = new ArrayList<>(req.nearSize());
+
+            for (int i = 0; i < req.nearSize(); i++)
+                nearEvicted.add(req.nearKey(i));
+        }
+
+        if (nearEvicted == null)
+            return null;
+
+        GridDhtAtomicUpdateResponse dhtRes = new GridDhtAtomicUpdateResponse(ctx.cacheId(),
+            req.partition(),
+            req.futureId());
+
+        dhtRes.nearEvicted(nearEvicted);
+
+        return dhtRes;
+    }
+
+    /**
+     * Applies the updates of the request on the backup node.
+     *
+     * @param nodeId Sender node ID.
+     * @param req Dht atomic update request.
+     * @param nearRes Response to the near node, {@code null} if the near node does not wait for the backups.
+     * @return {@code False} if the local node is stopping and the request must not be acknowledged.
+     */
+    private boolean updateBackup(
+        UUID nodeId,
+        GridDhtAtomicAbstractUpdateRequest req,
+        @Nullable GridDhtAtomicNearResponse nearRes
+    ) {
+        GridCacheVersion ver = req.writeVersion();
+
+        ctx.versions().onReceived(nodeId, ver);
+
         boolean replicate = ctx.isDrEnabled();
 
         boolean intercept = req.forceTransformBackups() && ctx.config().getInterceptor() != null;
@@ -3391,7 +3616,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 catch (NodeStoppingException e) {
                     U.warn(log, "Failed to update key on backup (local node is stopping): " + key);
 
-                    return;
+                    return false;
                 }
                 catch (GridDhtInvalidPartitionException ignored) {
                     // Ignore.
@@ -3417,57 +3642,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
             ctx.shared().database().checkpointReadUnlock();
         }
 
-        GridDhtAtomicUpdateResponse dhtRes = null;
-
-        if (req.nearSize() > 0 || req.obsoleteNearKeysSize() > 0) {
-            List<KeyCacheObject> nearEvicted = null;
-
-            if (isNearEnabled(ctx))
-                nearEvicted = ((GridNearAtomicCache<K, V>)near()).processDhtAtomicUpdateRequest(nodeId, req, nearRes);
-            else if (req.nearSize() > 0) {
-                nearEvicted = new ArrayList<>(req.nearSize());
-
-                for (int i = 0; i < req.nearSize(); i++)
-                    nearEvicted.add(req.nearKey(i));
-            }
-
-            if (nearEvicted != null) {
-                dhtRes = new GridDhtAtomicUpdateResponse(ctx.cacheId(),
-                    req.partition(),
-                    req.futureId());
-
-                dhtRes.nearEvicted(nearEvicted);
-            }
-        }
-
-        try {
-            // TODO handle failure: probably drop the node from topology
-            // TODO fire events only after successful fsync
-            if (ctx.shared().wal() != null)
-                ctx.shared().wal().flush(null, false);
-        }
-        catch (StorageException e) {
-            if (dhtRes != null)
-                dhtRes.onError(new IgniteCheckedException(e));
-
-            if (nearRes != null)
-                nearRes.onClassError(e);
-        }
-        catch (IgniteCheckedException e) {
-            if (dhtRes != null)
-                dhtRes.onError(e);
-
-            if (nearRes != null)
-                nearRes.onClassError(e);
-        }
-
-        if (nearRes != null)
-            sendDhtNearResponse(req, nearRes);
-
-        if (dhtRes != null)
-            sendDhtPrimaryResponse(nodeId, req, dhtRes);
-        else
-            sendDeferredUpdateResponse(req.partition(), nodeId, req.futureId());
+        return true;
     }
 
     /**
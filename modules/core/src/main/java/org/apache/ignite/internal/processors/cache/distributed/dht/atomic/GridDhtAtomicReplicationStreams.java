@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.events.DiscoveryEvent;
+import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.managers.eventstorage.GridLocalEventListener;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.timeout.GridTimeoutObjectAdapter;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
+import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
+
+/**
+ * Replication streams of the primary node for {@link org.apache.ignite.cache.CacheWriteSynchronizationMode#PRIMARY_SYNC}
+ * atomic updates. There is a stream per backup node and partition which packs the backup update requests into
+ * {@link GridDhtAtomicUpdateBatchRequest}s instead of sending a message per update.
+ * <p>
+ * A stream is flushed once it collects the configured number of requests, when the topology version of the
+ * requests changes, or on the flush timeout. The requests of a partition are sent in the order they were mapped,
+ * and the backup acknowledges the whole batch with a single {@link GridDhtAtomicDeferredUpdateResponse}.
+ * <p>
+ * Near cache readers get their updates through the same streams, so the invalidations of the keys of a partition
+ * a client reads are coalesced into a batch as well.
+ * <p>
+ * A request which cannot be streamed flushes the stream of its node and partition before it is sent on its own,
+ * so the backup gets the updates of a partition in the order they were mapped.
+ */
+class GridDhtAtomicReplicationStreams {
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Maximum number of requests in a batch. */
+    private final int batchSize;
+
+    /** Flush timeout in milliseconds. */
+    private final long flushTimeout;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Streams by backup node ID and partition. */
+    private final ConcurrentMap<UUID, AtomicReferenceArray<Stream>> streams = new ConcurrentHashMap<>();
+
+    /** Discovery listener. */
+    private final GridLocalEventListener discoLsnr = evt -> onNodeLeft(((DiscoveryEvent)evt).eventNode().id());
+
+    /**
+     * @param cctx Cache context.
+     * @param batchSize Maximum number of requests in a batch.
+     * @param flushTimeout Flush timeout in milliseconds.
+     */
+    GridDhtAtomicReplicationStreams(GridCacheContext<?, ?> cctx, int batchSize, long flushTimeout) {
+        assert batchSize > 1 : batchSize;
+        assert flushTimeout > 0 : flushTimeout;
+
+        this.cctx = cctx;
+        this.batchSize = batchSize;
+        this.flushTimeout = flushTimeout;
+
+        log = cctx.shared().atomicMessageLogger();
+    }
+
+    /**
+     * Starts listening to the node left events.
+     */
+    void start() {
+        cctx.gridEvents().addLocalEventListener(discoLsnr, EVT_NODE_LEFT, EVT_NODE_FAILED);
+    }
+
+    /**
+     * Sends the buffered requests and stops listening to the node left events.
+     */
+    void stop() {
+        cctx.gridEvents().removeLocalEventListener(discoLsnr);
+
+        flushAll();
+    }
+
+    /**
+     * Adds the request to the stream of its backup node and partition.
+     *
+     * @param req Backup update request.
+     * @param fut Future waiting for the backup response.
+     * @return {@code False} if the request cannot be streamed and has to be sent on its own, the requests buffered
+     *      for the same node and partition are sent before return.
+     */
+    boolean add(GridDhtAtomicAbstractUpdateRequest req, GridDhtAtomicAbstractUpdateFuture fut) {
+        if (req.nearNodeId() != null || req.addDeploymentInfo()) {
+            AtomicReferenceArray<Stream> nodeStreams = streams.get(req.nodeId());
+
+            Stream stream = nodeStreams == null ? null : nodeStreams.get(req.partition());
+
+            if (stream != null)
+                stream.flush();
+
+            return false;
+        }
+
+        stream(req.nodeId(), req.partition()).add(req, fut);
+
+        return true;
+    }
+
+    /**
+     * Removes the streams of the left node and completes the futures of the buffered requests.
+     *
+     * @param nodeId Left node ID.
+     */
+    private void onNodeLeft(UUID nodeId) {
+        AtomicReferenceArray<Stream> nodeStreams = streams.remove(nodeId);
+
+        if (nodeStreams == null)
+            return;
+
+        for (int p = 0; p < nodeStreams.length(); p++) {
+            Stream stream = nodeStreams.get(p);
+
+            if (stream != null)
+                stream.onNodeLeft();
+        }
+    }
+
+    /**
+     * Sends the buffered requests of all the streams.
+     */
+    void flushAll() {
+        for (AtomicReferenceArray<Stream> nodeStreams : streams.values()) {
+            for (int p = 0; p < nodeStreams.length(); p++) {
+                Stream stream = nodeStreams.get(p);
+
+                if (stream != null)
+                    stream.flush();
+            }
+        }
+    }
+
+    /**
+     * @param nodeId Backup node ID.
+     * @param part Partition.
+     * @return Stream.
+     */
+    private Stream stream(UUID nodeId, int part) {
+        AtomicReferenceArray<Stream> nodeStreams = streams.computeIfAbsent(nodeId,
+            id -> new AtomicReferenceArray<>(cctx.affinity().partitions()));
+
+        Stream stream = nodeStreams.get(part);
+
+        if (stream == null) {
+            Stream old = nodeStreams.compareAndExchange(part, null, stream = new Stream(nodeId, part));
+
+            if (old != null)
+                stream = old;
+        }
+
+        return stream;
+    }
+
+    /**
+     * Replication stream of a partition to a backup node.
+     */
+    private class Stream {
+        /** Backup node ID. */
+        private final UUID nodeId;
+
+        /** Partition. */
+        private final int part;
+
+        /** Buffered requests. Guarded by {@code this}. */
+        private List<GridDhtAtomicAbstractUpdateRequest> reqs;
+
+        /** Futures of the buffered requests. Guarded by {@code this}. */
+        private List<GridDhtAtomicAbstractUpdateFuture> futs;
+
+        /** Topology version of the buffered requests. Guarded by {@code this}. */
+        private AffinityTopologyVersion topVer;
+
+        /** Flushes the buffered requests on timeout. Guarded by {@code this}. */
+        private FlushTimeout timeoutObj;
+
+        /**
+         * @param nodeId Backup node ID.
+         * @param part Partition.
+         */
+        Stream(UUID nodeId, int part) {
+            this.nodeId = nodeId;
+            this.part = part;
+        }
+
+        /**
+         * @param req Backup update request.
+         * @param fut Future waiting for the backup response.
+         */
+        synchronized void add(GridDhtAtomicAbstractUpdateRequest req, GridDhtAtomicAbstractUpdateFuture fut) {
+            if (reqs != null && !topVer.equals(req.topologyVersion()))
+                flush();
+
+            if (reqs == null) {
+                reqs = new ArrayList<>(batchSize);
+                futs = new ArrayList<>(batchSize);
+                topVer = req.topologyVersion();
+
+                timeoutObj = new FlushTimeout(this);
+
+                cctx.time().addTimeoutObject(timeoutObj);
+            }
+
+            reqs.add(req);
+            futs.add(fut);
+
+            if (reqs.size() >= batchSize)
+                flush();
+        }
+
+        /**
+         * Flushes the buffered requests if they have not been flushed since the timeout object was scheduled.
+         *
+         * @param timeoutObj Timeout object.
+         */
+        synchronized void onTimeout(FlushTimeout timeoutObj) {
+            if (this.timeoutObj == timeoutObj)
+                flush();
+        }
+
+        /**
+         * Completes the futures of the buffered requests since the backup node has left.
+         */
+        synchronized void onNodeLeft() {
+            if (reqs == null)
+                return;
+
+            cctx.time().removeTimeoutObject(timeoutObj);
+
+            List<GridDhtAtomicAbstractUpdateFuture> futs0 = futs;
+
+            reqs = null;
+            futs = null;
+            topVer = null;
+            timeoutObj = null;
+
+            for (GridDhtAtomicAbstractUpdateFuture fut : futs0)
+                fut.onNodeLeft(nodeId);
+        }
+
+        /**
+         * Sends the buffered requests to the backup node.
+         */
+        synchronized void flush() {
+            if (reqs == null)
+                return;
+
+            cctx.time().removeTimeoutObject(timeoutObj);
+
+            GridDhtAtomicUpdateBatchRequest batch = new GridDhtAtomicUpdateBatchRequest(cctx.cacheId(), part, topVer, reqs);
+
+            List<GridDhtAtomicAbstractUpdateFuture> futs0 = futs;
+
+            reqs = null;
+            futs = null;
+            topVer = null;
+            timeoutObj = null;
+
+            try {
+                cctx.io().send(nodeId, batch, cctx.ioPolicy());
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Sent DHT atomic update batch [node=" + nodeId + ", part=" + part +
+                        ", size=" + futs0.size() + ']');
+                }
+            }
+            catch (ClusterTopologyCheckedException ignored) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to send DHT atomic update batch, node left [node=" + nodeId +
+                        ", part=" + part + ']');
+                }
+
+                streams.remove(nodeId);
+
+                for (GridDhtAtomicAbstractUpdateFuture fut : futs0)
+                    fut.onNodeLeft(nodeId);
+            }
+            catch (IgniteCheckedException e) {
+                U.error(log, "Failed to send DHT atomic update batch [node=" + nodeId + ", part=" + part + ']', e);
+
+                for (GridDhtAtomicAbstractUpdateFuture fut : futs0)
+                    fut.onNodeLeft(nodeId);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Stream.class, this);
+        }
+    }
+
+    /**
+     * Flushes a stream on timeout in the striped pool thread of the stream partition.
+     */
+    private class FlushTimeout extends GridTimeoutObjectAdapter implements Runnable {
+        /** Stream. */
+        private final Stream stream;
+
+        /**
+         * @param stream Stream.
+         */
+        FlushTimeout(Stream stream) {
+            super(flushTimeout);
+
+            this.stream = stream;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onTimeout() {
+            cctx.kernalContext().pools().getStripedExecutorService().execute(stream.part, this);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void run() {
+            stream.onTimeout(this);
+        }
+    }
+}
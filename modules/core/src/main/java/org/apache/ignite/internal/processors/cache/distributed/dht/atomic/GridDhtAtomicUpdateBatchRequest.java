@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheIdMessage;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Batch of DHT atomic update requests sent by the primary node to a backup node for a single partition.
+ * Requests are applied on the backup in the order they were added to the batch.
+ */
+public class GridDhtAtomicUpdateBatchRequest extends GridCacheIdMessage {
+    /** Partition. */
+    @Order(0)
+    int partId;
+
+    /** Topology version. */
+    @Order(1)
+    AffinityTopologyVersion topVer;
+
+    /** Update requests. */
+    @GridToStringInclude
+    @Order(2)
+    List<GridDhtAtomicAbstractUpdateRequest> reqs;
+
+    /**
+     * Empty constructor.
+     */
+    public GridDhtAtomicUpdateBatchRequest() {
+        // No-op.
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param partId Partition.
+     * @param topVer Topology version.
+     * @param reqs Update requests.
+     */
+    GridDhtAtomicUpdateBatchRequest(
+        int cacheId,
+        int partId,
+        AffinityTopologyVersion topVer,
+        List<GridDhtAtomicAbstractUpdateRequest> reqs
+    ) {
+        assert !reqs.isEmpty();
+
+        this.cacheId = cacheId;
+        this.partId = partId;
+        this.topVer = topVer;
+        this.reqs = reqs;
+    }
+
+    /**
+     * @return Update requests.
+     */
+    public List<GridDhtAtomicAbstractUpdateRequest> requests() {
+        return reqs;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int partition() {
+        return partId;
+    }
+
+    /** {@inheritDoc} */
+    @Override public AffinityTopologyVersion topologyVersion() {
+        return topVer;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean addDeploymentInfo() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteLogger messageLogger(GridCacheSharedContext<?, ?> ctx) {
+        return ctx.atomicMessageLogger();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareMarshal(GridCacheSharedContext<?, ?> ctx) throws IgniteCheckedException {
+        super.prepareMarshal(ctx);
+
+        for (GridDhtAtomicAbstractUpdateRequest req : reqs)
+            req.prepareMarshal(ctx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void finishUnmarshal(GridCacheSharedContext<?, ?> ctx, ClassLoader ldr) throws IgniteCheckedException {
+        super.finishUnmarshal(ctx, ldr);
+
+        for (GridDhtAtomicAbstractUpdateRequest req : reqs)
+            req.finishUnmarshal(ctx, ldr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridDhtAtomicUpdateBatchRequest.class, this, "size", reqs == null ? 0 : reqs.size());
+    }
+}
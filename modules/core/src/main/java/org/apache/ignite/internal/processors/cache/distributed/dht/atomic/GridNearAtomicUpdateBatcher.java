@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.IgniteFutureTimeoutCheckedException;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.CacheOperationContext;
+import org.apache.ignite.internal.processors.cache.CachePartialUpdateCheckedException;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteClosure;
+
+/**
+ * Coalesces concurrent single key puts into an atomic cache. A batch is flushed with one
+ * {@link GridNearAtomicUpdateFuture} which sends a single {@link GridNearAtomicFullUpdateRequest} per primary node
+ * instead of a {@link GridNearAtomicSingleUpdateRequest} per key.
+ * <p>
+ * The first caller which finds no open batch leads it: it waits for the other callers up to the batching window and
+ * then flushes the batch, unless it has already been flushed by the caller which filled it up.
+ */
+class GridNearAtomicUpdateBatcher<K, V> {
+    /** Cache context. */
+    private final GridCacheContext<K, V> cctx;
+
+    /** Maximum number of keys in a batch. */
+    private final int maxSize;
+
+    /** Batching window in nanoseconds. */
+    private final long windowNanos;
+
+    /** Puts all the batch entries. */
+    private final IgniteClosure<Map<K, V>, IgniteInternalFuture<?>> flusher;
+
+    /** Batch collecting the updates. Guarded by {@code this}. */
+    private Batch<K, V> cur;
+
+    /**
+     * @param cctx Cache context.
+     * @param maxSize Maximum number of keys in a batch.
+     * @param windowMicros Batching window in microseconds.
+     * @param flusher Puts all the batch entries.
+     */
+    GridNearAtomicUpdateBatcher(
+        GridCacheContext<K, V> cctx,
+        int maxSize,
+        long windowMicros,
+        IgniteClosure<Map<K, V>, IgniteInternalFuture<?>> flusher
+    ) {
+        assert maxSize > 1 : maxSize;
+
+        this.cctx = cctx;
+        this.maxSize = maxSize;
+        this.flusher = flusher;
+
+        windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+    }
+
+    /**
+     * Puts the entry as a part of a batch and waits for the batch to complete.
+     *
+     * @param key Key.
+     * @param val Value.
+     * @return {@code False} if the put can not be batched and has to be done on its own.
+     * @throws IgniteCheckedException If the update failed.
+     */
+    boolean put(K key, V val) throws IgniteCheckedException {
+        CacheOperationContext opCtx = cctx.operationContextPerCall();
+
+        // Batched entries are updated with the context of the flushing thread, so they have to share it.
+        // A store writes the batch with one call, which fails all the keys following a failed one.
+        if ((opCtx != null && opCtx != CacheOperationContext.instance()) ||
+            cctx.writeThrough() ||
+            cctx.shared().lockedTopologyVersion(null) != null ||
+            cctx.kernalContext().security().enabled())
+            return false;
+
+        Batch<K, V> batch;
+        boolean leader = false;
+        boolean full = false;
+
+        synchronized (this) {
+            batch = cur;
+
+            if (batch == null) {
+                cur = batch = new Batch<>();
+
+                leader = true;
+            }
+            // The updates of the same key are not reordered within a batch.
+            else if (batch.entries.containsKey(key))
+                return false;
+
+            batch.entries.put(key, val);
+
+            if (batch.entries.size() >= maxSize) {
+                cur = null;
+
+                full = true;
+            }
+        }
+
+        if (full)
+            flush(batch);
+        else if (leader) {
+            try {
+                batch.get(windowNanos, TimeUnit.NANOSECONDS);
+            }
+            catch (IgniteFutureTimeoutCheckedException ignored) {
+                if (close(batch))
+                    flush(batch);
+            }
+            catch (IgniteCheckedException ignored) {
+                // Handled below.
+            }
+        }
+
+        try {
+            batch.get();
+        }
+        catch (CachePartialUpdateCheckedException e) {
+            if (e.failedKeys().contains(key)) {
+                CachePartialUpdateCheckedException err = new CachePartialUpdateCheckedException("Failed to update keys");
+
+                err.add(Collections.singleton(key), e, e.topologyVersion());
+
+                throw err;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param batch Batch.
+     * @return {@code True} if the batch was still collecting the updates and has been closed by this call.
+     */
+    private synchronized boolean close(Batch<K, V> batch) {
+        if (cur != batch)
+            return false;
+
+        cur = null;
+
+        return true;
+    }
+
+    /**
+     * @param batch Closed batch.
+     */
+    private void flush(Batch<K, V> batch) {
+        IgniteInternalFuture<?> fut;
+
+        try {
+            fut = flusher.apply(batch.entries);
+        }
+        catch (RuntimeException | Error e) {
+            batch.onDone(e);
+
+            return;
+        }
+
+        fut.listen(() -> batch.onDone(fut.error()));
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearAtomicUpdateBatcher.class, this);
+    }
+
+    /**
+     * Batch of updates completed when all of them are done.
+     */
+    private static class Batch<K, V> extends GridFutureAdapter<Void> {
+        /** Entries in the order of the updates. */
+        private final Map<K, V> entries = new LinkedHashMap<>();
+    }
+}
@@ -450,9 +450,13 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
                 boolean readNoEntry = ctx.readNoEntry(expiryPlc, false);
                 boolean evt = !skipVals;
 
+                // Read all the rows in a single pass over the data trees.
+                Map<KeyCacheObject, CacheDataRow> rows = readNoEntry && keys.size() > 1 ?
+                    ctx.offheap().readAll(ctx, keys) : null;
+
                 for (KeyCacheObject key : keys) {
                     if (readNoEntry) {
-                        CacheDataRow row = ctx.offheap().read(ctx, key);
+                        CacheDataRow row = rows != null ? rows.get(key) : ctx.offheap().read(ctx, key);
 
                         if (row != null) {
                             long expireTime = row.expireTime();
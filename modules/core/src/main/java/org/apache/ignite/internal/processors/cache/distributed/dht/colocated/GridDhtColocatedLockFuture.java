@@ -968,6 +968,9 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
             if (!clientNode && mapAsPrimary(keys, topVer))
                 return;
 
+            if (tx != null && keys.size() > 1 && cctx.tm().orderedLocks())
+                keys = GridNearLockMapping.sortForLock(cctx, keys, topVer);
+
             mappings = new ArrayDeque<>();
 
             // Assign keys to primary nodes.
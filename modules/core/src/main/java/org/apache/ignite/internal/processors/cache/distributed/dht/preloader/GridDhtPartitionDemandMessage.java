@@ -47,6 +47,10 @@ public class GridDhtPartitionDemandMessage extends GridCacheGroupIdMessage {
     @Order(4)
     AffinityTopologyVersion topVer;
 
+    /** {@code True} if the full partitions are demanded as partition files. */
+    @Order(5)
+    boolean files;
+
     /**
      * @param rebalanceId Rebalance id for this node.
      * @param topVer Topology version.
@@ -91,6 +95,7 @@ public class GridDhtPartitionDemandMessage extends GridCacheGroupIdMessage {
         cp.workerId = workerId;
         cp.topVer = topVer;
         cp.parts = parts;
+        cp.files = files;
         return cp;
     }
 
@@ -129,6 +134,20 @@ public class GridDhtPartitionDemandMessage extends GridCacheGroupIdMessage {
         this.timeout = timeout;
     }
 
+    /**
+     * @return {@code True} if the full partitions are demanded as partition files.
+     */
+    public boolean files() {
+        return files;
+    }
+
+    /**
+     * @param files {@code True} if the full partitions are demanded as partition files.
+     */
+    public void files(boolean files) {
+        this.files = files;
+    }
+
     /**
      * @return Topology version for which demand message is sent.
      */
@@ -39,6 +39,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CacheRebalanceMode;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -90,6 +91,7 @@ import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_FILE_REBALANCE_ENABLED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_OBJECT_LOADED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_LOADED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_STARTED;
@@ -108,6 +110,9 @@ import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metr
  * Thread pool for requesting partitions from other nodes and populating local cache.
  */
 public class GridDhtPartitionDemander {
+    /** Default value of {@link IgniteSystemProperties#IGNITE_PDS_FILE_REBALANCE_ENABLED}. */
+    public static final boolean DFLT_FILE_REBALANCE_ENABLED = false;
+
     /** */
     private final GridCacheSharedContext<?, ?> ctx;
 
@@ -534,6 +539,12 @@ public class GridDhtPartitionDemander {
             if (log.isDebugEnabled())
                 log.debug("Received supply message [" + demandRoutineInfo(nodeId, supplyMsg) + ']');
 
+            if (supplyMsg.files()) {
+                fut.onPartitionFilesSupplied(nodeId, supplyMsg.error());
+
+                return;
+            }
+
             // Check whether there were error during supplying process.
             Throwable msgExc = null;
 
@@ -1021,6 +1032,12 @@ public class GridDhtPartitionDemander {
         /** Received keys for historical rebalance by suppliers. */
         private final Map<UUID, LongAdder> histReceivedBytes = new ConcurrentHashMap<>();
 
+        /** {@code True} if the full partitions rebalanced from scratch are demanded as partition files. */
+        private final boolean fileRebalance;
+
+        /** Receivers of the partition files per supplier. */
+        private final Map<UUID, PartitionFilesReceiver> fileRcvs = new ConcurrentHashMap<>();
+
         /**
          * Creates a new rebalance future.
          *
@@ -1090,6 +1107,8 @@ public class GridDhtPartitionDemander {
             ctx = grp.shared();
 
             cancelLock = new ReentrantReadWriteLock();
+
+            fileRebalance = IgniteSystemProperties.getBoolean(IGNITE_PDS_FILE_REBALANCE_ENABLED, DFLT_FILE_REBALANCE_ENABLED);
         }
 
         /**
@@ -1110,6 +1129,7 @@ public class GridDhtPartitionDemander {
             this.cancelLock = new ReentrantReadWriteLock();
             this.next = null;
             this.lastCancelledTime = new AtomicLong();
+            this.fileRebalance = false;
         }
 
         /**
@@ -1213,7 +1233,7 @@ public class GridDhtPartitionDemander {
                                         ", evictedPartsCount=" + parts.size() +
                                         ", evictedParts=" + S.toStringSortedDistinct(d.partitions().fullSet()) + "]");
 
-                                    ctx.kernalContext().closure().runLocalSafe((GridPlainRunnable)() -> requestPartitions0(node, parts, d));
+                                    ctx.kernalContext().closure().runLocalSafe((GridPlainRunnable)() -> requestPartitionFiles(node, parts, d));
                                 }
                             }
                         });
@@ -1226,6 +1246,136 @@ public class GridDhtPartitionDemander {
             }
         }
 
+        /**
+         * Demands the files of the full partitions which can be rebalanced by files if the file rebalancing is enabled.
+         * Once the files are received, the installed partitions are demanded for the historical rebalancing from
+         * their update counters along with the rest of the partitions.
+         *
+         * @param supplierNode Supplier node.
+         * @param parts Map.
+         * @param msg Demand message.
+         */
+        private void requestPartitionFiles(
+            ClusterNode supplierNode,
+            IgniteDhtDemandedPartitionsMap parts,
+            GridDhtPartitionDemandMessage msg
+        ) {
+            Set<Integer> fileParts = Collections.emptySet();
+
+            if (fileRebalance) {
+                try {
+                    fileParts = PartitionFilesReceiver.partitions(grp, parts.fullSet());
+                }
+                catch (IgniteCheckedException e) {
+                    U.warn(log, "Failed to check partitions for the file rebalancing [grp=" + grp.cacheOrGroupName() +
+                        ", err=" + e.getMessage() + ']');
+                }
+            }
+
+            if (fileParts.isEmpty()) {
+                requestPartitions0(supplierNode, parts, msg);
+
+                return;
+            }
+
+            PartitionFilesReceiver rcv = new PartitionFilesReceiver(grp, supplierNode.id(), rebalanceId, log);
+
+            synchronized (this) {
+                if (isDone())
+                    return;
+
+                fileRcvs.put(supplierNode.id(), rcv);
+
+                rcv.start();
+            }
+
+            rcv.future().listen(f -> {
+                onPartitionFilesInstalled(supplierNode.id(), parts, f.result());
+
+                if (!parts.isEmpty())
+                    requestPartitions0(supplierNode, parts, msg);
+                else {
+                    // Nothing to catch up, let the supplier release the WAL reserved for the files.
+                    cleanupRemoteContexts(supplierNode.id());
+                }
+            });
+
+            IgniteDhtDemandedPartitionsMap fileMap = new IgniteDhtDemandedPartitionsMap();
+
+            fileParts.forEach(fileMap::addFull);
+
+            GridDhtPartitionDemandMessage fileMsg = msg.withNewPartitionsMap(fileMap);
+
+            fileMsg.files(true);
+
+            try {
+                if (log.isInfoEnabled())
+                    log.info("Starting partition files rebalance routine [" + grp.cacheOrGroupName() +
+                        ", topVer=" + topVer +
+                        ", supplier=" + supplierNode.id() +
+                        ", fileParts=" + S.toStringSortedDistinct(fileParts) +
+                        ", rebalanceId=" + rebalanceId + ']');
+
+                ctx.io().sendOrderedMessage(supplierNode, REBALANCE_TOPIC, fileMsg, grp.ioPolicy(), msg.timeout());
+            }
+            catch (IgniteCheckedException e) {
+                rcv.finish(e);
+            }
+        }
+
+        /**
+         * @param nodeId Supplier node id.
+         * @param err Supplying error or {@code null} if all the partition files have been sent.
+         */
+        private void onPartitionFilesSupplied(UUID nodeId, @Nullable Throwable err) {
+            PartitionFilesReceiver rcv = fileRcvs.remove(nodeId);
+
+            if (rcv != null)
+                rcv.finish(err);
+        }
+
+        /**
+         * Moves the installed partitions from the full to the historical rebalancing. The partitions which are
+         * already up to date are done right away.
+         *
+         * @param nodeId Supplier node id.
+         * @param parts Partitions demanded from the supplier.
+         * @param installed Installed partitions.
+         */
+        private void onPartitionFilesInstalled(UUID nodeId, IgniteDhtDemandedPartitionsMap parts, Set<Integer> installed) {
+            CachePartitionFullCountersMap cntrs = grp.topology().fullUpdateCounters();
+
+            int partCnt = grp.affinity().partitions();
+
+            for (Integer p : installed) {
+                long from = grp.topology().localPartition(p).initialUpdateCounter();
+                long to = cntrs.updateCounter(p);
+
+                synchronized (this) {
+                    if (isDone())
+                        return;
+
+                    if (from < to) {
+                        parts.remove(p);
+                        parts.addHistorical(p, from, to, partCnt);
+
+                        historical.add(p);
+
+                        continue;
+                    }
+                }
+
+                partitionDone(nodeId, p, true);
+            }
+
+            if (log.isInfoEnabled() && !installed.isEmpty()) {
+                log.info("Partition files have been installed [" + grp.cacheOrGroupName() +
+                    ", supplier=" + nodeId +
+                    ", parts=" + S.toStringSortedDistinct(installed) +
+                    ", rebalanceId=" + rebalanceId + ']');
+            }
+        }
+
         /**
          * @param supplierNode Supplier node.
          * @param parts Map.
@@ -1407,6 +1557,8 @@ public class GridDhtPartitionDemander {
             boolean isCancelled = res == Boolean.FALSE || isFailed();
 
             if (byThisCall) {
+                fileRcvs.values().forEach(rcv -> rcv.finish(null));
+
                 if (isCancelled)
                     lastCancelledTime.accumulateAndGet(System.currentTimeMillis(), Math::max);
                 else if (startTime != -1)
@@ -34,7 +34,9 @@ import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.failure.FailureType;
+import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryInfo;
@@ -42,14 +44,18 @@ import org.apache.ignite.internal.processors.cache.IgniteRebalanceIterator;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.T3;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.LT;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.spi.IgniteSpiException;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_MISSED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_SUPPLIED;
@@ -72,6 +78,12 @@ public class GridDhtPartitionSupplier {
     /** Supply context map. T3: nodeId, topicId, topVer. */
     private final Map<T3<UUID, Integer, AffinityTopologyVersion>, SupplyContext> scMap = new HashMap<>();
 
+    /**
+     * WAL reserved for the historical rebalancing which catches up the partition files sent to the demanders.
+     * T2: nodeId, rebalanceId. Guarded by {@link #scMap}.
+     */
+    private final Map<T2<UUID, Long>, WALPointer> filesWalReservations = new HashMap<>();
+
     /**
      * Override for rebalance throttle.
      * @deprecated Use {@link IgniteConfiguration#getRebalanceThrottle()} instead.
@@ -110,6 +122,8 @@ public class GridDhtPartitionSupplier {
 
                 it.remove();
             }
+
+            releaseFilesWal(null, Long.MAX_VALUE);
         }
     }
 
@@ -157,6 +171,11 @@ public class GridDhtPartitionSupplier {
                         log.debug("Supply context removed [grp=" + grp.cacheOrGroupName() + ", demander=" + t.get1() + "]");
                 }
             }
+
+            for (T2<UUID, Long> t : new HashSet<>(filesWalReservations.keySet())) {
+                if (!aliveNodes.contains(t.get1()))
+                    releaseFilesWal(t.get1(), Long.MAX_VALUE);
+            }
         }
     }
 
@@ -189,6 +208,8 @@ public class GridDhtPartitionSupplier {
 
         if (demandMsg.rebalanceId() < 0) { // Demand node requested context cleanup.
             synchronized (scMap) {
+                releaseFilesWal(nodeId, -demandMsg.rebalanceId());
+
                 SupplyContext sctx = scMap.get(ctxId);
 
                 if (sctx != null && sctx.rebalanceId == -demandMsg.rebalanceId()) {
@@ -218,6 +239,17 @@ public class GridDhtPartitionSupplier {
             return;
         }
 
+        synchronized (scMap) {
+            // The demander started a new rebalancing, the previous one will not catch up the sent files.
+            releaseFilesWal(nodeId, demandMsg.rebalanceId() - 1);
+        }
+
+        if (demandMsg.files()) {
+            supplyFiles(topicId, demanderNode, demandMsg);
+
+            return;
+        }
+
         IgniteRebalanceIterator iter = null;
 
         SupplyContext sctx = null;
@@ -407,10 +439,18 @@ public class GridDhtPartitionSupplier {
 
             reply(topicId, demanderNode, demandMsg, supplyMsg, ctxId);
 
+            synchronized (scMap) {
+                releaseFilesWal(nodeId, demandMsg.rebalanceId());
+            }
+
             if (log.isInfoEnabled())
                 log.info("Finished supplying rebalancing [" + supplyRoutineInfo(topicId, nodeId, demandMsg) + "]");
         }
         catch (Throwable t) {
+            synchronized (scMap) {
+                releaseFilesWal(nodeId, demandMsg.rebalanceId());
+            }
+
             if (iter != null && !iter.isClosed()) {
                 try {
                     iter.close();
@@ -498,6 +538,132 @@ public class GridDhtPartitionSupplier {
         }
     }
 
+    /**
+     * Sends the demanded partitions as partition files copied on a checkpoint and replies with a supply message
+     * once all the files have been sent. Partitions which are not owned locally are skipped.
+     * <p>
+     * The WAL is reserved before the copy checkpoint, so the demander can catch up the files by the historical
+     * rebalancing from their update counters. The reservation is released once that rebalancing is supplied,
+     * cancelled or superseded by a new rebalancing of the demander.
+     *
+     * @param topicId Topic id.
+     * @param demander Demander node.
+     * @param demandMsg Demand message.
+     */
+    private void supplyFiles(int topicId, ClusterNode demander, GridDhtPartitionDemandMessage demandMsg) {
+        Set<Integer> parts = new HashSet<>();
+
+        for (Integer p : demandMsg.partitions().fullSet()) {
+            GridDhtLocalPartition part = top.localPartition(p);
+
+            if (part != null && part.state() == OWNING)
+                parts.add(p);
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Starting supplying partition files [" + supplyRoutineInfo(topicId, demander.id(), demandMsg) +
+                ", parts=" + S.toStringSortedDistinct(parts) + ']');
+        }
+
+        IgniteInternalFuture<?> fut;
+
+        try {
+            if (parts.isEmpty())
+                fut = new GridFinishedFuture<>();
+            else if (!reserveFilesWal(demander.id(), demandMsg.rebalanceId())) {
+                fut = new GridFinishedFuture<>(new IgniteCheckedException("Failed to reserve WAL for the historical " +
+                    "rebalancing of the partition files"));
+            }
+            else {
+                fut = grp.shared().snapshotMgr().sendPartitionFiles(demander.id(),
+                    PartitionFilesReceiver.topic(grp.groupId(), grp.shared().localNodeId(), demandMsg.rebalanceId()),
+                    grp.groupId(),
+                    parts);
+            }
+        }
+        catch (Throwable t) {
+            fut = new GridFinishedFuture<>(t);
+        }
+
+        fut.listen(f -> {
+            // The demander rebalances the partitions from scratch if the files are not received.
+            if (f.error() != null) {
+                synchronized (scMap) {
+                    releaseFilesWal(demander.id(), demandMsg.rebalanceId());
+                }
+            }
+
+            GridDhtPartitionSupplyMessage supplyMsg = new GridDhtPartitionSupplyMessage(
+                demandMsg.rebalanceId(),
+                grp.groupId(),
+                demandMsg.topologyVersion(),
+                false,
+                f.error()
+            );
+
+            supplyMsg.files(true);
+
+            try {
+                grp.shared().io().sendOrderedMessage(demander, REBALANCE_TOPIC, supplyMsg, grp.ioPolicy(), demandMsg.timeout());
+            }
+            catch (IgniteCheckedException e) {
+                U.warn(log, "Failed to send partition files supply message [" +
+                    supplyRoutineInfo(topicId, demander.id(), demandMsg) + ", err=" + e.getMessage() + ']');
+            }
+        });
+    }
+
+    /**
+     * Reserves the WAL from the last written pointer. The copy checkpoint of the partition files starts later,
+     * so the reserved WAL covers the update counters of the files.
+     *
+     * @param nodeId Demander node id.
+     * @param rebalanceId Rebalance id.
+     * @return {@code True} if the WAL was reserved.
+     */
+    private boolean reserveFilesWal(UUID nodeId, long rebalanceId) {
+        IgniteWriteAheadLogManager wal = grp.shared().wal();
+
+        WALPointer ptr = wal == null ? null : wal.lastWritePointer();
+
+        if (ptr == null || !wal.reserve(ptr))
+            return false;
+
+        synchronized (scMap) {
+            WALPointer prev = filesWalReservations.put(new T2<>(nodeId, rebalanceId), ptr);
+
+            if (prev != null)
+                wal.release(prev);
+        }
+
+        return true;
+    }
+
+    /**
+     * Releases the WAL reserved for the partition files of the demander. Must be called under {@link #scMap} lock.
+     *
+     * @param nodeId Demander node id or {@code null} for all the demanders.
+     * @param maxRebalanceId Maximum rebalance id of the released reservations.
+     */
+    private void releaseFilesWal(@Nullable UUID nodeId, long maxRebalanceId) {
+        assert Thread.holdsLock(scMap);
+
+        if (filesWalReservations.isEmpty())
+            return;
+
+        Iterator<Map.Entry<T2<UUID, Long>, WALPointer>> it = filesWalReservations.entrySet().iterator();
+
+        while (it.hasNext()) {
+            Map.Entry<T2<UUID, Long>, WALPointer> e = it.next();
+
+            if ((nodeId == null || nodeId.equals(e.getKey().get1())) && e.getKey().get2() <= maxRebalanceId) {
+                grp.shared().wal().release(e.getValue());
+
+                it.remove();
+            }
+        }
+    }
+
     /**
      * Sends supply message to demand node.
      *
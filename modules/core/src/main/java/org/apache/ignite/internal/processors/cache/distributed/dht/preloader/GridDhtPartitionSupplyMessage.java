@@ -71,6 +71,10 @@ public class GridDhtPartitionSupplyMessage extends GridCacheGroupIdMessage imple
     @Order(6)
     @Nullable ErrorMessage errMsg;
 
+    /** {@code True} if the message completes the supplying of partition files. */
+    @Order(7)
+    boolean files;
+
     /**
      * @param rebalanceId Rebalance id.
      * @param grpId Cache group ID.
@@ -193,6 +197,20 @@ public class GridDhtPartitionSupplyMessage extends GridCacheGroupIdMessage imple
         return ErrorMessage.error(errMsg);
     }
 
+    /**
+     * @return {@code True} if the message completes the supplying of partition files.
+     */
+    public boolean files() {
+        return files;
+    }
+
+    /**
+     * @param files {@code True} if the message completes the supplying of partition files.
+     */
+    public void files(boolean files) {
+        this.files = files;
+    }
+
     /**
      * @return Message size.
      */
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.managers.communication.TransmissionHandler;
+import org.apache.ignite.internal.managers.communication.TransmissionMeta;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheOffheapManager.GridCacheDataStore;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PagePartitionMetaIO;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.GridTopic.TOPIC_CACHE;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.MOVING;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.PART_FILE_DELTA_PARAM;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.PART_FILE_PART_ID_PARAM;
+
+/**
+ * Receives the files of the partitions demanded from a supplier for the file rebalancing. The supplier copies
+ * the partitions on a checkpoint and sends each partition file followed by the delta of the pages changed while
+ * copying. Once both files of a partition are received, the delta is applied and the file is installed as
+ * the store of the local partition if the store has not been initialized yet.
+ */
+class PartitionFilesReceiver implements TransmissionHandler {
+    /** Suffix of the received delta files. */
+    private static final String DELTA_SUFFIX = ".delta";
+
+    /** Cache group. */
+    private final CacheGroupContext grp;
+
+    /** Supplier node id. */
+    private final UUID supplierId;
+
+    /** Transmission topic. */
+    private final Object topic;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Received partition files waiting for their deltas. */
+    private final Map<Integer, File> partFiles = new ConcurrentHashMap<>();
+
+    /** Installed partitions. */
+    private final Set<Integer> installed = ConcurrentHashMap.newKeySet();
+
+    /** Future completed with the installed partitions. */
+    private final GridFutureAdapter<Set<Integer>> fut = new GridFutureAdapter<>();
+
+    /**
+     * @param grp Cache group.
+     * @param supplierId Supplier node id.
+     * @param rebalanceId Rebalance id.
+     * @param log Logger.
+     */
+    PartitionFilesReceiver(CacheGroupContext grp, UUID supplierId, long rebalanceId, IgniteLogger log) {
+        this.grp = grp;
+        this.supplierId = supplierId;
+        this.log = log;
+
+        topic = topic(grp.groupId(), supplierId, rebalanceId);
+    }
+
+    /**
+     * @param grpId Cache group id.
+     * @param supplierId Supplier node id.
+     * @param rebalanceId Rebalance id.
+     * @return Transmission topic of the partition files.
+     */
+    static Object topic(int grpId, UUID supplierId, long rebalanceId) {
+        return TOPIC_CACHE.topic("RebalanceFiles-" + grpId, supplierId, rebalanceId);
+    }
+
+    /**
+     * @param grp Cache group.
+     * @param full Partitions demanded for the full rebalancing.
+     * @return Partitions which can be rebalanced by files.
+     * @throws IgniteCheckedException If failed.
+     */
+    static Set<Integer> partitions(CacheGroupContext grp, Collection<Integer> full) throws IgniteCheckedException {
+        if (!grp.persistenceEnabled() || grp.config().isEncryptionEnabled())
+            return Collections.emptySet();
+
+        // SQL indexes are kept in the index partition, they can't be transferred along with the data partitions.
+        for (GridCacheContext<?, ?> cctx : grp.caches()) {
+            if (cctx.isQueryEnabled())
+                return Collections.emptySet();
+        }
+
+        Set<Integer> parts = new HashSet<>();
+
+        for (Integer p : full) {
+            if (!grp.shared().pageStore().exists(grp.groupId(), p))
+                parts.add(p);
+        }
+
+        return parts;
+    }
+
+    /**
+     * @return Transmission topic.
+     */
+    Object topic() {
+        return topic;
+    }
+
+    /**
+     * @return Future completed with the installed partitions.
+     */
+    IgniteInternalFuture<Set<Integer>> future() {
+        return fut;
+    }
+
+    /**
+     * Starts receiving files.
+     */
+    void start() {
+        grp.shared().gridIO().addTransmissionHandler(topic, this);
+    }
+
+    /**
+     * Stops receiving files and completes the future with the partitions installed so far.
+     *
+     * @param err Supplying error or {@code null}.
+     */
+    void finish(@Nullable Throwable err) {
+        if (fut.isDone())
+            return;
+
+        if (err != null) {
+            U.warn(log, "Failed to rebalance partitions by files, the partitions will be rebalanced by entries " +
+                "[grp=" + grp.cacheOrGroupName() + ", supplier=" + supplierId + ", err=" + err.getMessage() + ']');
+        }
+
+        grp.shared().gridIO().removeTransmissionHandler(topic);
+
+        for (File file : partFiles.values())
+            U.delete(file);
+
+        partFiles.clear();
+
+        fut.onDone(new HashSet<>(installed));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onException(UUID nodeId, Throwable err) {
+        if (log.isDebugEnabled()) {
+            log.debug("Partition files receiving has been interrupted [grp=" + grp.cacheOrGroupName() +
+                ", supplier=" + nodeId + ", err=" + err.getMessage() + ']');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onEnd(UUID rmtNodeId) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public String filePath(UUID nodeId, TransmissionMeta fileMeta) {
+        int partId = (int)fileMeta.params().get(PART_FILE_PART_ID_PARAM);
+
+        File part = grp.shared().kernalContext().pdsFolderResolver().fileTree().tmpPartition(grp.config(), partId);
+
+        U.mkdirs(part.getParentFile());
+
+        if ((boolean)fileMeta.params().get(PART_FILE_DELTA_PARAM))
+            return part.getAbsolutePath() + DELTA_SUFFIX;
+
+        return part.getAbsolutePath();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Consumer<ByteBuffer> chunkHandler(UUID nodeId, TransmissionMeta initMeta) {
+        throw new UnsupportedOperationException("Partition files are not supported to be received by chunks.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public Consumer<File> fileHandler(UUID nodeId, TransmissionMeta initMeta) {
+        int partId = (int)initMeta.params().get(PART_FILE_PART_ID_PARAM);
+
+        if (!(boolean)initMeta.params().get(PART_FILE_DELTA_PARAM))
+            return file -> partFiles.put(partId, file);
+
+        return delta -> {
+            File part = partFiles.remove(partId);
+
+            try {
+                if (part != null && !fut.isDone() && install(partId, part, delta))
+                    installed.add(partId);
+            }
+            catch (IgniteCheckedException | RuntimeException e) {
+                U.error(log, "Failed to install the partition file [grp=" + grp.cacheOrGroupName() +
+                    ", part=" + partId + ", file=" + part + ']', e);
+            }
+            finally {
+                U.delete(delta);
+
+                if (part != null && part.exists())
+                    U.delete(part);
+            }
+        };
+    }
+
+    /**
+     * @param partId Partition id.
+     * @param part Partition file.
+     * @param delta Delta file.
+     * @return {@code True} if the partition file has been installed.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean install(int partId, File part, File delta) throws IgniteCheckedException {
+        GridDhtLocalPartition locPart = grp.topology().localPartition(partId);
+
+        if (locPart == null || locPart.state() != MOVING)
+            return false;
+
+        grp.shared().snapshotMgr().applyDelta(delta, part, new GroupPartitionId(grp.groupId(), partId));
+
+        markMoving(partId, part);
+
+        boolean res = ((GridCacheDataStore)locPart.dataStore()).install(part);
+
+        if (res && log.isDebugEnabled()) {
+            log.debug("Partition file has been installed [grp=" + grp.cacheOrGroupName() + ", part=" + partId +
+                ", supplier=" + supplierId + ", updateCntr=" + locPart.initialUpdateCounter() + ']');
+        }
+
+        return res;
+    }
+
+    /**
+     * Writes the {@code MOVING} state to the meta page of the partition file, the state is owned by the supplier
+     * copy and must not survive a restart before the partition is rebalanced.
+     *
+     * @param partId Partition id.
+     * @param part Partition file.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void markMoving(int partId, File part) throws IgniteCheckedException {
+        FilePageStoreManager storeMgr = (FilePageStoreManager)grp.shared().pageStore();
+
+        try (FilePageStore store = (FilePageStore)storeMgr.getPageStoreFactory(grp.groupId(), false)
+            .createPageStore(FLAG_DATA, part::toPath, v -> {})
+        ) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(store.getPageSize()).order(ByteOrder.nativeOrder());
+
+            long metaPageId = PageIdUtils.pageId(partId, FLAG_DATA, 0);
+
+            store.read(metaPageId, buf, false);
+
+            long pageAddr = GridUnsafe.bufferAddress(buf);
+
+            PagePartitionMetaIO io = PageIO.getPageIO(pageAddr);
+
+            if (io.setPartitionState(pageAddr, (byte)MOVING.ordinal())) {
+                buf.rewind();
+
+                store.beginRecover();
+
+                store.write(metaPageId, buf, 0, true);
+
+                store.finishRecover();
+            }
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException(e);
+        }
+    }
+}
@@ -390,6 +390,9 @@ public class GridNearAtomicCache<K, V> extends GridNearCacheAdapter<K, V> {
                         if (updRes.removeVersion() != null)
                             ctx.onDeferredDelete(entry, updRes.removeVersion());
 
+                        if (ctx.statisticsEnabled())
+                            metrics0().onNearInvalidation();
+
                         break;
                     }
                     catch (GridCacheEntryRemovedException ignored) {
@@ -408,8 +411,12 @@ public class GridNearAtomicCache<K, V> extends GridNearCacheAdapter<K, V> {
 
             GridCacheEntryEx entry = peekEx(key);
 
-            if (entry != null && entry.markObsolete(ver))
+            if (entry != null && entry.markObsolete(ver)) {
                 removeEntry(entry);
+
+                if (ctx.statisticsEnabled())
+                    metrics0().onNearInvalidation();
+            }
         }
 
         return nearEvicted;
@@ -33,6 +33,7 @@ import javax.cache.expiry.ExpiryPolicy;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.cache.CachePeekMode;
+import org.apache.ignite.configuration.NearCacheConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheEntryPredicate;
@@ -73,6 +74,9 @@ public abstract class GridNearCacheAdapter<K, V> extends GridDistributedCacheAda
     /** */
     private static final CachePeekMode[] NEAR_PEEK_MODE = {CachePeekMode.NEAR};
 
+    /** Admission filter, {@code null} if every read key is cached. */
+    private GridNearCacheAdmissionFilter admissionFilter;
+
     /**
      * Empty constructor required for {@link Externalizable}.
      */
@@ -95,6 +99,30 @@ public abstract class GridNearCacheAdapter<K, V> extends GridDistributedCacheAda
                 entryFactory(),
                 ctx.config().getNearConfiguration().getNearStartSize());
         }
+
+        NearCacheConfiguration<K, V> nearCfg = ctx.config().getNearConfiguration();
+
+        if (nearCfg.getNearAdmissionFrequency() > 1) {
+            admissionFilter = new GridNearCacheAdmissionFilter(nearCfg.getNearAdmissionFrequency(),
+                nearCfg.getNearStartSize());
+        }
+    }
+
+    /**
+     * Records a read of the key missing in the near cache and checks whether the key is read frequently enough
+     * to be cached.
+     *
+     * @param key Key.
+     * @return {@code True} if the key should be cached.
+     */
+    boolean admit(KeyCacheObject key) {
+        if (admissionFilter == null || admissionFilter.admit(key.hashCode()))
+            return true;
+
+        if (ctx.statisticsEnabled())
+            metrics0().onNearAdmissionReject();
+
+        return false;
     }
 
     /**
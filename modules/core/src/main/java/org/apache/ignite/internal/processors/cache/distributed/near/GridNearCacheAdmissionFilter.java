@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.near;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Frequency based admission filter of the near cache. The frequencies of the read keys are estimated by
+ * a count-min sketch of 4-bit counters, four counters per key. Once the number of reads reaches ten times
+ * the sketch width all the counters are halved, so the frequencies reflect the recent reads only.
+ * <p>
+ * A counter is incremented by a CAS of its whole table slot, so the concurrent reads never carry an overflow
+ * into the neighbouring counter. Halving may race with the increments, which only makes the estimation less precise.
+ */
+class GridNearCacheAdmissionFilter {
+    /** Hash seeds. */
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    /** Mask halving all the counters of a table slot. */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Maximum counter value. */
+    static final int MAX_FREQ = 15;
+
+    /** Minimum number of table slots. */
+    private static final int MIN_WIDTH = 64;
+
+    /** Maximum number of table slots. */
+    private static final int MAX_WIDTH = 1 << 16;
+
+    /** Table of 16 counters per slot. */
+    @GridToStringExclude
+    private final AtomicLongArray table;
+
+    /** Number of reads after which the counters are halved. */
+    private final int sampleSize;
+
+    /** Number of reads required to admit a key. */
+    private final int threshold;
+
+    /** Number of reads since the counters were halved. */
+    private final AtomicInteger reads = new AtomicInteger();
+
+    /**
+     * @param threshold Number of reads required to admit a key.
+     * @param expSize Expected number of keys in the near cache.
+     */
+    GridNearCacheAdmissionFilter(int threshold, int expSize) {
+        assert threshold > 1 && threshold <= MAX_FREQ : threshold;
+
+        this.threshold = threshold;
+
+        table = new AtomicLongArray(Integer.highestOneBit(Math.min(Math.max(expSize / 4, MIN_WIDTH), MAX_WIDTH)));
+
+        sampleSize = table.length() * 10;
+    }
+
+    /**
+     * Records a read of the key and checks whether the key is read frequently enough to be cached.
+     *
+     * @param hash Key hash code.
+     * @return {@code True} if the key should be cached.
+     */
+    boolean admit(int hash) {
+        int freq = MAX_FREQ;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+
+            h ^= h >>> 32;
+
+            int idx = (int)(h >>> 4) & (table.length() - 1);
+            int offset = ((int)h & 15) << 2;
+
+            freq = Math.min(freq, increment(idx, offset));
+        }
+
+        // Only the thread which reaches the sample size halves the counters.
+        if (reads.incrementAndGet() == sampleSize)
+            reset();
+
+        return freq >= threshold;
+    }
+
+    /**
+     * Increments a counter unless it is saturated.
+     *
+     * @param idx Table slot index.
+     * @param offset Counter offset in the slot.
+     * @return Counter value after the increment.
+     */
+    private int increment(int idx, int offset) {
+        while (true) {
+            long slot = table.get(idx);
+
+            int cnt = (int)(slot >>> offset) & MAX_FREQ;
+
+            if (cnt == MAX_FREQ || table.compareAndSet(idx, slot, slot + (1L << offset)))
+                return Math.min(cnt + 1, MAX_FREQ);
+        }
+    }
+
+    /**
+     * Halves all the counters.
+     */
+    private void reset() {
+        reads.set(0);
+
+        for (int i = 0; i < table.length(); i++) {
+            long slot;
+
+            do {
+                slot = table.get(i);
+            }
+            while (!table.compareAndSet(i, slot, (slot >>> 1) & RESET_MASK));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearCacheAdmissionFilter.class, this, "width", table.length());
+    }
+}
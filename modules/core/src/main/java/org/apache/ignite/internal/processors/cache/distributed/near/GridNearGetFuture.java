@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.cluster.ClusterNode;
@@ -59,12 +61,19 @@ import org.jetbrains.annotations.Nullable;
  *
  */
 public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdapter<K, V> {
+    /** Not admitted keys updater. */
+    private static final AtomicReferenceFieldUpdater<GridNearGetFuture, Set> NOT_ADMITTED_UPD =
+        AtomicReferenceFieldUpdater.newUpdater(GridNearGetFuture.class, Set.class, "notAdmitted");
+
     /** Transaction. */
     private final IgniteTxLocalEx tx;
 
     /** */
     private GridCacheVersion ver;
 
+    /** Keys not admitted into the near cache. */
+    private volatile Set<KeyCacheObject> notAdmitted;
+
     /**
      * @param cctx Context.
      * @param keys Keys.
@@ -243,6 +252,7 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
                         expiryPlc,
                         skipVals,
                         recovery,
+                        false,
                         null
                     );
 
@@ -332,7 +342,7 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
         final GridNearCacheAdapter near = cache();
 
         // Allow to get cached value from the local node.
-        boolean allowLocRead = !forcePrimary || cctx.localNode().equals(affNodes.get(0));
+        boolean allowLocRead = !cctx.readFromPrimary(key, part, forcePrimary) || cctx.localNode().equals(affNodes.get(0));
 
         while (true) {
             GridNearCacheEntry entry = allowLocRead ? (GridNearCacheEntry)near.peekEx(key) : null;
@@ -396,8 +406,8 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
 
                     Set<ClusterNode> invalidNodesSet = getInvalidNodes(part, topVer);
 
-                    ClusterNode affNode = cctx.selectAffinityNodeBalanced(affNodes, invalidNodesSet, part, canRemap,
-                        forcePrimary);
+                    ClusterNode affNode = cctx.selectAffinityNodeBalanced(key, affNodes, invalidNodesSet, part,
+                        canRemap, forcePrimary);
 
                     if (affNode == null) {
                         onDone(serverNotFoundError(part, topVer));
@@ -411,7 +421,21 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
                     if (!checkRetryPermits(key, affNode, mapped))
                         return saved;
 
-                    if (!affNodes.contains(cctx.localNode())) {
+                    // Cold keys are read without caching them, so the primary node does not add a reader.
+                    boolean admit = tx != null || entry != null || near.admit(key);
+
+                    if (!admit) {
+                        Set<KeyCacheObject> notAdmitted0 = notAdmitted;
+
+                        if (notAdmitted0 == null) {
+                            NOT_ADMITTED_UPD.compareAndSet(this, null, ConcurrentHashMap.newKeySet());
+
+                            notAdmitted0 = notAdmitted;
+                        }
+
+                        notAdmitted0.add(key);
+                    }
+                    else if (!affNodes.contains(cctx.localNode())) {
                         GridNearCacheEntry nearEntry = entry != null ? entry : near.entryExx(key, topVer);
 
                         nearEntry.reserveEviction();
@@ -425,9 +449,9 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
                     }
 
                     // Don't add reader if transaction acquires lock anyway to avoid deadlock.
-                    boolean addRdr = tx == null || tx.optimistic();
+                    boolean addRdr = tx == null ? admit : tx.optimistic();
 
-                    if (!addRdr && tx.readCommitted() && !tx.writeSet().contains(cctx.txKey(key)))
+                    if (!addRdr && tx != null && tx.readCommitted() && !tx.writeSet().contains(cctx.txKey(key)))
                         addRdr = true;
 
                     LinkedHashMap<KeyCacheObject, Boolean> old =
@@ -624,6 +648,8 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
         if (!empty) {
             boolean atomic = cctx.atomic();
 
+            Set<KeyCacheObject> notAdmitted = this.notAdmitted;
+
             GridCacheVersion ver = atomic ? null : F.isEmpty(infos) ? null : cctx.cache().nextVersion();
 
             for (GridCacheEntryInfo info : infos) {
@@ -631,7 +657,8 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
                     info.unmarshalValue(cctx, cctx.deploy().globalLoader());
 
                     // Entries available locally in DHT should not be loaded into near cache for reading.
-                    if (!cctx.affinity().keyLocalNode(info.key(), cctx.affinity().affinityTopologyVersion())) {
+                    if (!cctx.affinity().keyLocalNode(info.key(), cctx.affinity().affinityTopologyVersion()) &&
+                        (notAdmitted == null || !notAdmitted.contains(info.key()))) {
                         GridNearCacheEntry entry = savedEntries.get(info.key());
 
                         if (entry == null)
@@ -748,6 +775,7 @@ public final class GridNearGetFuture<K, V> extends CacheDistributedGetFutureAdap
                 true,
                 skipVals,
                 recovery,
+                false,
                 null
             );
         }
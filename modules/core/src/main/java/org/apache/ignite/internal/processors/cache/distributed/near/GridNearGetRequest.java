@@ -57,6 +57,9 @@ public class GridNearGetRequest extends GridCacheIdMessage implements GridCacheD
     /** */
     public static final int RECOVERY_FLAG_MASK = 0x08;
 
+    /** */
+    private static final int CHECK_LOCKS_FLAG_MASK = 0x10;
+
     /** Future ID. */
     @Order(0)
     IgniteUuid futId;
@@ -125,6 +128,7 @@ public class GridNearGetRequest extends GridCacheIdMessage implements GridCacheD
      * @param taskNameHash Task name hash.
      * @param createTtl New TTL to set after entry is created, -1 to leave unchanged.
      * @param accessTtl New TTL to set after entry is accessed, -1 to leave unchanged.
+     * @param checkLocks If {@code true} then the request fails if a requested entry is locked.
      * @param txLbl Transaction label.
      */
     public GridNearGetRequest(
@@ -141,6 +145,7 @@ public class GridNearGetRequest extends GridCacheIdMessage implements GridCacheD
         boolean addReader,
         boolean skipVals,
         boolean recovery,
+        boolean checkLocks,
         @Nullable String txLbl
     ) {
         assert futId != null;
@@ -181,6 +186,9 @@ public class GridNearGetRequest extends GridCacheIdMessage implements GridCacheD
 
         if (recovery)
             flags |= RECOVERY_FLAG_MASK;
+
+        if (checkLocks)
+            flags |= CHECK_LOCKS_FLAG_MASK;
     }
 
     /**
@@ -245,6 +253,13 @@ public class GridNearGetRequest extends GridCacheIdMessage implements GridCacheD
         return (flags & ADD_READER_FLAG_MASK) != 0;
     }
 
+    /**
+     * @return {@code True} if the request fails if a requested entry is locked.
+     */
+    public boolean checkLocks() {
+        return (flags & CHECK_LOCKS_FLAG_MASK) != 0;
+    }
+
     /**
      * @return Topology version.
      */
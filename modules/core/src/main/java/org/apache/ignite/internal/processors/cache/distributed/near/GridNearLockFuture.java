@@ -939,6 +939,9 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
 
             assert !remap || (clientNode && (tx == null || !tx.hasRemoteLocks()));
 
+            if (tx != null && cctx.tm().orderedLocks())
+                keys = GridNearLockMapping.sortForLock(cctx, keys, topVer);
+
             synchronized (this) {
                 mappings = new ArrayDeque<>();
 
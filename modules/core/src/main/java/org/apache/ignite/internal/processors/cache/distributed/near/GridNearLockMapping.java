@@ -18,8 +18,16 @@
 package org.apache.ignite.internal.processors.cache.distributed.near;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
@@ -111,8 +119,106 @@ public class GridNearLockMapping {
         this.distributedKeys = distributedKeys;
     }
 
+    /**
+     * Sorts the keys in the global lock order: by the order of the primary node, then by partition and then by key.
+     * Locking the sorted keys produces a single mapping per primary node and the primary nodes are visited in the
+     * same order by all the transactions, see {@link IgniteSystemProperties#IGNITE_TX_ORDERED_LOCKS}.
+     *
+     * @param cctx Cache context.
+     * @param keys Keys.
+     * @param topVer Topology version.
+     * @return Sorted keys.
+     */
+    public static List<KeyCacheObject> sortForLock(
+        GridCacheContext<?, ?> cctx,
+        Iterable<KeyCacheObject> keys,
+        AffinityTopologyVersion topVer
+    ) {
+        List<LockOrderKey> sorted = new ArrayList<>();
+
+        for (KeyCacheObject key : keys) {
+            ClusterNode primary = cctx.affinity().primaryByKey(key, topVer);
+
+            sorted.add(new LockOrderKey(cctx, key, primary == null ? Long.MAX_VALUE : primary.order()));
+        }
+
+        Collections.sort(sorted);
+
+        List<KeyCacheObject> res = new ArrayList<>(sorted.size());
+
+        for (LockOrderKey key : sorted)
+            res.add(key.key);
+
+        return res;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(GridNearLockMapping.class, this);
     }
+
+    /**
+     * Key with its position in the global lock order.
+     */
+    private static class LockOrderKey implements Comparable<LockOrderKey> {
+        /** Cache context. */
+        private final GridCacheContext<?, ?> cctx;
+
+        /** Key. */
+        private final KeyCacheObject key;
+
+        /** Order of the primary node. */
+        private final long nodeOrder;
+
+        /** Partition. */
+        private final int part;
+
+        /** Marshalled key, calculated only if the hash codes of two keys are equal. */
+        private byte[] bytes;
+
+        /**
+         * @param cctx Cache context.
+         * @param key Key.
+         * @param nodeOrder Order of the primary node.
+         */
+        LockOrderKey(GridCacheContext<?, ?> cctx, KeyCacheObject key, long nodeOrder) {
+            this.cctx = cctx;
+            this.key = key;
+            this.nodeOrder = nodeOrder;
+
+            part = cctx.affinity().partition(key);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int compareTo(LockOrderKey o) {
+            int res = Long.compare(nodeOrder, o.nodeOrder);
+
+            if (res == 0)
+                res = Integer.compare(part, o.part);
+
+            if (res == 0)
+                res = Integer.compare(key.hashCode(), o.key.hashCode());
+
+            if (res == 0)
+                res = Arrays.compareUnsigned(bytes(), o.bytes());
+
+            return res;
+        }
+
+        /**
+         * @return Marshalled key.
+         */
+        private byte[] bytes() {
+            if (bytes == null) {
+                try {
+                    bytes = key.valueBytes(cctx.cacheObjectContext());
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IgniteException(e);
+                }
+            }
+
+            return bytes;
+        }
+    }
 }
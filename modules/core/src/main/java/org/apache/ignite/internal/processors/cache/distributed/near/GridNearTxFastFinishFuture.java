@@ -82,7 +82,8 @@ public class GridNearTxFastFinishFuture extends GridFutureAdapter<IgniteInternal
             }
         }
         finally {
-            onDone(tx);
+            // Commit can turn into rollback if the reads of a lock-free read-only transaction are not valid anymore.
+            onDone(tx, this.commit && !commit ? tx.commitError() : null);
         }
     }
 
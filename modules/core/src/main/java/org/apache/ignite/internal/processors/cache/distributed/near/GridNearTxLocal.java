@@ -67,6 +67,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheE
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxFinishFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxLocalAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxPrepareFuture;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridPartitionedGetFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.colocated.GridDhtDetachedCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.near.consistency.GridNearReadRepairCheckOnlyFuture;
 import org.apache.ignite.internal.processors.cache.distributed.near.consistency.GridNearReadRepairFuture;
@@ -89,6 +90,7 @@ import org.apache.ignite.internal.transactions.IgniteTxTimeoutCheckedException;
 import org.apache.ignite.internal.util.GridLeanMap;
 import org.apache.ignite.internal.util.GridStringBuilder;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.future.GridEmbeddedFuture;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
@@ -3790,8 +3792,10 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
         final NearTxFinishFuture fut0 = finishFut;
 
         boolean fastFinish;
+        boolean lockFree = false;
 
-        if (fut0 != null || !FINISH_FUT_UPD.compareAndSet(this, null, fut = finishFuture(fastFinish = fastFinish(), true)))
+        if (fut0 != null || !FINISH_FUT_UPD.compareAndSet(this, null,
+            fut = finishFuture(fastFinish = fastFinish() || (lockFree = lockFreeReadOnly()), true)))
             return chainFinishFuture(finishFut, true, true, false);
 
         if (!fastFinish) {
@@ -3840,6 +3844,20 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
                 }
             });
         }
+        else if (lockFree) {
+            checkReadVersions().listen(f -> {
+                try {
+                    f.get();
+
+                    fut.finish(true, false, false);
+                }
+                catch (IgniteCheckedException e) {
+                    COMMIT_ERR_UPD.compareAndSet(GridNearTxLocal.this, null, e);
+
+                    fut.finish(false, true, false);
+                }
+            });
+        }
         else
             fut.finish(true, false, false);
 
@@ -4034,6 +4052,106 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
         return writeMap().isEmpty() && ((optimistic() && !serializable()) || readMap().isEmpty());
     }
 
+    /**
+     * @return {@code True} if the transaction is a read-only {@code OPTIMISTIC SERIALIZABLE} transaction which
+     *      can be committed without locking, see {@link IgniteTxManager#lockFreeReadOnly()}.
+     */
+    private boolean lockFreeReadOnly() {
+        if (!cctx.tm().lockFreeReadOnly() || !optimistic() || !serializable() || !writeMap().isEmpty())
+            return false;
+
+        for (IgniteTxEntry txEntry : readMap().values()) {
+            if (!txEntry.context().isColocated() || txEntry.entryReadVersion() == null)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the current versions of the read entries from the primary nodes and compares them with the versions
+     * seen by the transaction. The versions are read after all the reads of the transaction, so if none of them
+     * has changed, the read values are a consistent snapshot and no locks are needed to commit.
+     * <p>
+     * An entry locked by a concurrent transaction fails the check on the primary node even if its version has not
+     * changed yet: a transaction committing on several nodes may have already updated another read entry, so the
+     * unchanged version does not mean the reads are consistent.
+     *
+     * @return Future completed with {@link IgniteTxOptimisticCheckedException} if a read entry has changed.
+     */
+    private IgniteInternalFuture<?> checkReadVersions() {
+        Map<GridCacheContext<Object, Object>, List<IgniteTxEntry>> entriesByCache = new HashMap<>();
+
+        for (IgniteTxEntry txEntry : readMap().values()) {
+            entriesByCache.computeIfAbsent((GridCacheContext<Object, Object>)txEntry.context(), c -> new ArrayList<>())
+                .add(txEntry);
+        }
+
+        GridCompoundFuture<Object, Object> fut = new GridCompoundFuture<>();
+
+        for (Map.Entry<GridCacheContext<Object, Object>, List<IgniteTxEntry>> e : entriesByCache.entrySet()) {
+            GridCacheContext<Object, Object> cacheCtx = e.getKey();
+            List<IgniteTxEntry> entries = e.getValue();
+
+            List<KeyCacheObject> keys = new ArrayList<>(entries.size());
+
+            for (IgniteTxEntry txEntry : entries)
+                keys.add(txEntry.key());
+
+            GridPartitionedGetFuture<Object, Object> getFut = new GridPartitionedGetFuture<>(
+                cacheCtx,
+                keys,
+                /*readThrough*/false,
+                /*forcePrimary*/true,
+                resolveTaskName(),
+                /*deserializeBinary*/false,
+                /*recovery*/false,
+                /*expiryPlc*/null,
+                /*skipVals*/false,
+                /*needVer*/true,
+                /*keepCacheObj*/true,
+                /*checkLocks*/true,
+                label(),
+                null);
+
+            getFut.init(cacheCtx.affinity().affinityTopologyVersion());
+
+            fut.add(getFut.chain(f -> {
+                try {
+                    Map<Object, Object> res = f.get();
+
+                    for (IgniteTxEntry txEntry : entries) {
+                        if (!readVersionMatches(txEntry.entryReadVersion(), (EntryGetResult)res.get(txEntry.key()))) {
+                            throw new IgniteTxOptimisticCheckedException("Failed to commit read-only transaction, " +
+                                "read entry has been changed [cache=" + cacheCtx.name() + ", xid=" + xid() + ']');
+                        }
+                    }
+
+                    return null;
+                }
+                catch (IgniteCheckedException ex) {
+                    throw new GridClosureException(ex);
+                }
+            }));
+        }
+
+        fut.markInitialized();
+
+        return fut;
+    }
+
+    /**
+     * @param serReadVer Version of the entry seen by the transaction.
+     * @param res Current value and version of the entry, {@code null} if there is no entry.
+     * @return {@code True} if the entry has not been changed since the transaction has read it.
+     */
+    private static boolean readVersionMatches(GridCacheVersion serReadVer, @Nullable EntryGetResult res) {
+        if (res == null)
+            return serReadVer.equals(IgniteTxEntry.SER_READ_EMPTY_ENTRY_VER);
+
+        return serReadVer.equals(SER_READ_NOT_EMPTY_VER) || serReadVer.equals(res.version());
+    }
+
     /**
      * Prepares next batch of entries in dht transaction.
      *
@@ -180,6 +180,8 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.MASTER_KEY_CHANGE_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.MASTER_KEY_CHANGE_RECORD_V2;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.METASTORE_DATA_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PARTITION_DESTROY;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PART_META_UPDATE_STATE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.TX_RECORD;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.fromOrdinal;
@@ -2230,7 +2232,13 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         long lastArchivedSegment = cctx.wal().lastArchivedSegment();
 
-        WALIterator it = cctx.wal().replay(recPtr, recordTypePredicate);
+        // WAL holds no page records if the pages are restored from the checkpoint recovery files, so the rest
+        // of the records are skipped without deserialization.
+        IgniteBiPredicate<WALRecord.RecordType, WALPointer> replayPredicate = restoredFromCheckpointRecoveryFiles
+            ? (type, ptr) -> recoveryFilesRecord(type) && recordTypePredicate.apply(type, ptr)
+            : recordTypePredicate;
+
+        WALIterator it = cctx.wal().replay(recPtr, replayPredicate);
 
         RestoreBinaryState restoreBinaryState = new RestoreBinaryState(status, it, lastArchivedSegment, cacheGroupsPredicate);
 
@@ -3363,6 +3371,15 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             || type.purpose() == WALRecord.RecordPurpose.MIXED;
     }
 
+    /**
+     * @param type WAL record type.
+     * @return {@code True} if the record is required by the physical recovery in addition to the checkpoint
+     * recovery files.
+     */
+    private static boolean recoveryFilesRecord(WALRecord.RecordType type) {
+        return type == CHECKPOINT_RECORD || type == PART_META_UPDATE_STATE || type == PARTITION_DESTROY;
+    }
+
     /**
      * @return WAL records predicate that passes only logical and mixed WAL records +
      * CP record (used for restoring initial partition states).
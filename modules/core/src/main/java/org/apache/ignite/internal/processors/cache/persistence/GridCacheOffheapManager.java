@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.cache.persistence;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -75,6 +76,8 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.Ign
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointListener;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.AbstractFreeList;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.CacheFreeList;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.SimpleDataRow;
@@ -117,8 +120,10 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_FILE_REBALANCE_ENABLED;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemander.DFLT_FILE_REBALANCE_ENABLED;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.EVICTED;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.RENTING;
@@ -899,6 +904,8 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
         ctx.pageStore().truncate(grp.groupId(), partId, tag);
 
+        ctx.snapshotMgr().onPartitionDestroyed(grp.groupId(), partId);
+
         if (grp.config().isEncryptionEnabled())
             ctx.kernalContext().encryption().onDestroyPartitionStore(grp, partId);
     }
@@ -1751,6 +1758,15 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         /** */
         private CacheDataTree dataTree;
 
+        /**
+         * {@code True} if the update counter set to the store which is not initialized yet is kept aside until
+         * the initialization, so that a partition file could be installed in place of the store.
+         */
+        private final boolean deferUpdCntr;
+
+        /** Update counter set before the store initialization. */
+        private volatile long pendingUpdCntr;
+
         /**
          * @param partId Partition.
          * @param exists {@code True} if store exists.
@@ -1763,6 +1779,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             this.exists = exists;
             this.busyLock = busyLock;
             this.log = log;
+
+            deferUpdCntr = !exists &&
+                IgniteSystemProperties.getBoolean(IGNITE_PDS_FILE_REBALANCE_ENABLED, DFLT_FILE_REBALANCE_ENABLED);
         }
 
         /** */
@@ -1806,10 +1825,23 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
          * @throws IgniteCheckedException If failed.
          */
         private CacheDataStore init0(boolean checkExists) throws IgniteCheckedException {
+            return init0(checkExists, null);
+        }
+
+        /**
+         * @param checkExists If {@code true} data store won't be initialized if it doesn't exists
+         * (has non empty data file). This is an optimization for lazy store initialization on writes.
+         * @param src Partition file to install before the initialization or {@code null}. If given, the file
+         * is installed only by the initializing call, otherwise {@code null} is returned.
+         *
+         * @return Store delegate.
+         * @throws IgniteCheckedException If failed.
+         */
+        private CacheDataStore init0(boolean checkExists, @Nullable File src) throws IgniteCheckedException {
             CacheDataStoreImpl delegate0 = delegate;
 
             if (delegate0 != null)
-                return delegate0;
+                return src == null ? delegate0 : null;
 
             if (checkExists) {
                 if (!exists)
@@ -1826,6 +1858,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
             if (init.compareAndSet(false, true)) {
                 try {
+                    if (src != null)
+                        ((FilePageStore)((FilePageStoreManager)ctx.pageStore()).getStore(grp.groupId(), partId)).replace(src);
+
                     Metas metas = getOrAllocatePartitionMetas();
 
                     if (PageIdUtils.partId(metas.reuseListRoot.pageId().pageId()) != partId ||
@@ -2022,6 +2057,11 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                         pageMem.releasePage(grpId, partMetaId, partMetaPage);
                     }
 
+                    long pendingUpdCntr0 = pendingUpdCntr;
+
+                    if (pendingUpdCntr0 > 0)
+                        delegate0.updateCounter(pendingUpdCntr0);
+
                     delegate = delegate0;
                 }
                 catch (Throwable ex) {
@@ -2041,6 +2081,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             else {
                 dbMgr.checkpointReadUnlock();
 
+                if (src != null)
+                    return null;
+
                 U.await(latch);
 
                 delegate0 = delegate;
@@ -2052,6 +2095,17 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             return delegate0;
         }
 
+        /**
+         * Installs the given partition file in place of the store file and initializes the store from it.
+         *
+         * @param src Partition file.
+         * @return {@code False} if the store has been already initialized, the file is not installed in this case.
+         * @throws IgniteCheckedException If failed.
+         */
+        public boolean install(File src) throws IgniteCheckedException {
+            return init0(false, src) != null;
+        }
+
         /**
          * @return Partition metas.
          */
@@ -2312,7 +2366,7 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             try {
                 CacheDataStore delegate0 = init0(true);
 
-                return delegate0 == null ? 0 : delegate0.updateCounter();
+                return delegate0 == null ? pendingUpdCntr : delegate0.updateCounter();
             }
             catch (IgniteCheckedException e) {
                 throw new IgniteException(e);
@@ -2324,7 +2378,7 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             try {
                 CacheDataStore delegate0 = init0(true);
 
-                return delegate0 == null ? 0 : delegate0.highestAppliedCounter();
+                return delegate0 == null ? pendingUpdCntr : delegate0.highestAppliedCounter();
             }
             catch (IgniteCheckedException e) {
                 throw new IgniteException(e);
@@ -2336,7 +2390,7 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             try {
                 CacheDataStore delegate0 = init0(true);
 
-                return delegate0 == null ? 0 : delegate0.reservedCounter();
+                return delegate0 == null ? pendingUpdCntr : delegate0.reservedCounter();
             }
             catch (IgniteCheckedException e) {
                 throw new IgniteException(e);
@@ -2385,6 +2439,14 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         /** {@inheritDoc} */
         @Override public void updateCounter(long val) {
             try {
+                if (deferUpdCntr && delegate == null) {
+                    pendingUpdCntr = val;
+
+                    // Applied by the initialization unless it has already started.
+                    if (!init.get())
+                        return;
+                }
+
                 CacheDataStore delegate0 = init0(false);
 
                 if (delegate0 != null)
@@ -2533,6 +2595,17 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             return null;
         }
 
+        /** {@inheritDoc} */
+        @Override public List<CacheDataRow> findAll(GridCacheContext cctx, List<KeyCacheObject> keys)
+            throws IgniteCheckedException {
+            CacheDataStore delegate = init0(true);
+
+            if (delegate != null)
+                return delegate.findAll(cctx, keys);
+
+            return Arrays.asList(new CacheDataRow[keys.size()]);
+        }
+
         /** {@inheritDoc} */
         @Override public GridCursor<? extends CacheDataRow> cursor() throws IgniteCheckedException {
             CacheDataStore delegate = init0(true);
@@ -25,6 +25,7 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
@@ -387,6 +388,31 @@ public class FilePageStore implements PageStore {
         stop0(false);
     }
 
+    /**
+     * Replaces the store file with the given one. The store is initialized from the new file on the next access.
+     *
+     * @param src File to move in place of the store file.
+     * @throws StorageException If failed.
+     */
+    public void replace(File src) throws StorageException {
+        lock.writeLock().lock();
+
+        try {
+            stop0(false);
+
+            Files.move(src.toPath(), pathProvider.apply(), StandardCopyOption.REPLACE_EXISTING);
+
+            fileExists = null;
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to replace partition file [file=" + getFileAbsolutePath() +
+                ", src=" + src.getAbsolutePath() + "]", e);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void truncate(int tag) throws StorageException {
         init();
@@ -791,6 +791,27 @@ public class NodeFileTree extends SharedFileTree {
         return new File(tmpCacheStorage(storagePath, cacheDirName), partitionFileName(partId));
     }
 
+    /**
+     * @param f File of this tree.
+     * @param to File tree of the same structure, e.g. the tree of another snapshot.
+     * @return The file at the same place of the given tree.
+     */
+    public File relocate(File f, NodeFileTree to) {
+        Path path = f.toPath();
+
+        for (Map.Entry<String, File> e : extraStorages.entrySet()) {
+            File toStorage = to.extraStorages.get(e.getKey());
+
+            if (toStorage != null && path.startsWith(e.getValue().toPath()))
+                return toStorage.toPath().resolve(e.getValue().toPath().relativize(path)).toFile();
+        }
+
+        if (path.startsWith(nodeStorage.toPath()))
+            return to.nodeStorage.toPath().resolve(nodeStorage.toPath().relativize(path)).toFile();
+
+        throw new IgniteException("File doesn't belong to the file tree [file=" + f + ", root=" + root + ']');
+    }
+
     /** */
     protected static String partitionFileName(int part, String idxName, String format) {
         assert part <= MAX_PARTITION_ID || part == INDEX_PARTITION;
@@ -50,6 +50,9 @@ public class SnapshotFileTree extends NodeFileTree {
     /** File with delta pages index suffix. */
     private static final String DELTA_IDX_SUFFIX = ".idx";
 
+    /** File with the pages of a partition changed since the base snapshot suffix. */
+    private static final String PAGES_SUFFIX = ".pages";
+
     /** Snapshot metafile extension. */
     private static final String SNAPSHOT_METAFILE_EXT = ".smf";
 
@@ -71,6 +74,9 @@ public class SnapshotFileTree extends NodeFileTree {
     /** Dump files name. */
     private static final String DUMP_FILE_EXT = ".dump";
 
+    /** Suffix of the dump files which store the entries column-wise. */
+    private static final String COLUMNS_SUFFIX = ".col";
+
     /** Snapshot name. */
     private final String name;
 
@@ -241,6 +247,15 @@ public class SnapshotFileTree extends NodeFileTree {
         return new File(resolveStorage(cacheStorages(ccfg), part), dumpPartFileName(part, compress));
     }
 
+    /**
+     * @param ccfg Cache configuration.
+     * @param part partition.
+     * @return Path to the dump partition file storing the entries column-wise.
+     */
+    public File dumpPartitionColumns(CacheConfiguration<?, ?> ccfg, int part) {
+        return new File(resolveStorage(cacheStorages(ccfg), part), dumpPartColumnsFileName(part));
+    }
+
     /**
      * @param grpId Cache group id.
      * @return Directories that match cache or cache group pattern.
@@ -263,6 +278,31 @@ public class SnapshotFileTree extends NodeFileTree {
             : Arrays.asList(files);
     }
 
+    /**
+     * @param cacheDir Cache directory to check.
+     * @return List of dump partitions storing the entries column-wise in given directory.
+     */
+    public List<File> existingCachePartitionColumnsFiles(File cacheDir) {
+        File[] files = cacheDir.listFiles(f -> f.isFile() && f.getName().endsWith(DUMP_FILE_EXT + COLUMNS_SUFFIX));
+
+        return files == null
+            ? Collections.emptyList()
+            : Arrays.asList(files);
+    }
+
+    /**
+     * @param cacheDir Cache directory to check.
+     * @return List of cache partitions saved as the pages changed since the base snapshot in given directory.
+     * @see #partPagesFile(File)
+     */
+    public List<File> existingCachePartitionPagesFiles(File cacheDir) {
+        File[] files = cacheDir.listFiles(f -> f.isFile() && partitionPagesFile(f));
+
+        return files == null
+            ? Collections.emptyList()
+            : Arrays.asList(files);
+    }
+
     /**
      * @param part Partition number.
      * @param compressed If {@code true} then compressed partition file.
@@ -272,6 +312,14 @@ public class SnapshotFileTree extends NodeFileTree {
         return PART_FILE_PREFIX + part + partExtension(true, compressed);
     }
 
+    /**
+     * @param part Partition number.
+     * @return Name of the dump partition file storing the entries column-wise.
+     */
+    public static String dumpPartColumnsFileName(int part) {
+        return PART_FILE_PREFIX + part + DUMP_FILE_EXT + COLUMNS_SUFFIX;
+    }
+
     /**
      * @param dump Extension for dump files.
      * @param compressed If {@code true} then files compressed.
@@ -289,6 +337,15 @@ public class SnapshotFileTree extends NodeFileTree {
         return partitionFile(f) && f.getName().endsWith(partExtension(true, compressed));
     }
 
+    /**
+     * @param f File.
+     * @return {@code True} if file conforms partition pages file name pattern.
+     * @see #partPagesFile(File)
+     */
+    public static boolean partitionPagesFile(File f) {
+        return partitionFile(f) && f.getName().endsWith(FILE_SUFFIX + PAGES_SUFFIX);
+    }
+
     /**
      * @param f File.
      * @return {@code True} if file conforms snapshot meta name pattern.
@@ -315,6 +372,30 @@ public class SnapshotFileTree extends NodeFileTree {
         return new File(delta.getParent(), delta.getName() + DELTA_IDX_SUFFIX);
     }
 
+    /**
+     * Partition pages file. Represents a sequence of the pages changed since the base snapshot which must be applied
+     * to the partition file of the base snapshot. Exists instead of the partition file.
+     *
+     * @param part Partition file.
+     * @return File with the partition pages.
+     */
+    public static File partPagesFile(File part) {
+        return new File(part.getParent(), part.getName() + PAGES_SUFFIX);
+    }
+
+    /**
+     * @param pages File with the partition pages.
+     * @return Partition file.
+     * @see #partPagesFile(File)
+     */
+    public static File partFileOfPages(File pages) {
+        String name = pages.getName();
+
+        assert name.endsWith(PAGES_SUFFIX) : pages;
+
+        return new File(pages.getParent(), name.substring(0, name.length() - PAGES_SUFFIX.length()));
+    }
+
     /**
      * @param consId Consistent node id.
      * @return Snapshot metadata file name.
@@ -34,6 +34,7 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
@@ -66,6 +67,7 @@ import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
@@ -122,6 +124,9 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.Gri
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.PartitionsExchangeAware;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointProgress;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.Checkpointer;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
@@ -136,7 +141,9 @@ import org.apache.ignite.internal.processors.cache.persistence.metastorage.Metas
 import org.apache.ignite.internal.processors.cache.persistence.metastorage.ReadOnlyMetastorage;
 import org.apache.ignite.internal.processors.cache.persistence.metastorage.ReadWriteMetastorage;
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.CreateDumpFutureTask;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.Dump;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPagePayload;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
@@ -147,6 +154,7 @@ import org.apache.ignite.internal.processors.cache.tree.DataRow;
 import org.apache.ignite.internal.processors.cluster.DiscoveryDataClusterState;
 import org.apache.ignite.internal.processors.cluster.IgniteChangeGlobalStateSupport;
 import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.apache.ignite.internal.processors.configuration.distributed.DistributedBooleanProperty;
 import org.apache.ignite.internal.processors.configuration.distributed.DistributedConfigurationLifecycleListener;
 import org.apache.ignite.internal.processors.configuration.distributed.DistributedLongProperty;
 import org.apache.ignite.internal.processors.configuration.distributed.DistributedPropertyDispatcher;
@@ -209,6 +217,7 @@ import static org.apache.ignite.internal.processors.cache.GridCacheUtils.baselin
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.isPersistenceEnabled;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree.cacheName;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.partDeltaIndexFile;
+import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.partPagesFile;
 import static org.apache.ignite.internal.processors.cache.persistence.metastorage.MetaStorage.METASTORAGE_CACHE_ID;
 import static org.apache.ignite.internal.processors.cache.persistence.metastorage.MetaStorage.METASTORAGE_CACHE_NAME;
 import static org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId.getTypeByPartId;
@@ -216,6 +225,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.tree.io.Pa
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getPageIO;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getType;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getVersion;
+import static org.apache.ignite.internal.processors.configuration.distributed.DistributedBooleanProperty.detachedBooleanProperty;
 import static org.apache.ignite.internal.processors.configuration.distributed.DistributedLongProperty.detachedLongProperty;
 import static org.apache.ignite.internal.processors.datastructures.DataStructuresProcessor.VOLATILE_GRP_NAME;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
@@ -269,6 +279,18 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** Snapshot transfer rate is unlimited by default. */
     public static final long DFLT_SNAPSHOT_TRANSFER_RATE_BYTES = 0L;
 
+    /** Snapshot restore rate distributed configuration key. */
+    public static final String SNAPSHOT_RESTORE_RATE_DMS_KEY = "snapshotRestoreRate";
+
+    /** Snapshot restore rate is unlimited by default. */
+    public static final long DFLT_SNAPSHOT_RESTORE_RATE_BYTES = 0L;
+
+    /** Snapshot low-impact mode distributed configuration key. */
+    public static final String SNAPSHOT_LOW_IMPACT_DMS_KEY = "snapshotLowImpactMode";
+
+    /** Snapshot low-impact mode is disabled by default. */
+    public static final boolean DFLT_SNAPSHOT_LOW_IMPACT = false;
+
     /** Maximum block size for limited snapshot transfer (64KB by default). */
     public static final int SNAPSHOT_LIMITED_TRANSFER_BLOCK_SIZE_BYTES = 64 * 1024;
 
@@ -321,6 +343,15 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** Total snapshot files count which receiver should expect to receive. */
     private static final String SNP_PARTITIONS_CNT = "partsCnt";
 
+    /** Partition file transmission parameter of cache group id. */
+    public static final String PART_FILE_GRP_ID_PARAM = "grpId";
+
+    /** Partition file transmission parameter of cache partition id. */
+    public static final String PART_FILE_PART_ID_PARAM = "partId";
+
+    /** Partition file transmission parameter which is {@code true} for a file of delta pages. */
+    public static final String PART_FILE_DELTA_PARAM = "delta";
+
     /**
      * Local buffer to perform copy-on-write operations with pages for {@code SnapshotFutureTask.PageStoreSerialWriter}s.
      * It is important to have only one buffer per thread (instead of creating each buffer per
@@ -354,7 +385,14 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     private final SnapshotRestoreProcess restoreCacheGrpProc;
 
     /** Transfer rate limiter. */
-    private final BasicRateLimiter transferRateLimiter = new BasicRateLimiter(DFLT_SNAPSHOT_TRANSFER_RATE_BYTES);
+    private final SnapshotTransferRateLimiter transferRateLimiter =
+        new SnapshotTransferRateLimiter(DFLT_SNAPSHOT_TRANSFER_RATE_BYTES, this::checkpointProgress);
+
+    /** Restore rate limiter. */
+    private final BasicRateLimiter restoreRateLimiter = new BasicRateLimiter(DFLT_SNAPSHOT_RESTORE_RATE_BYTES);
+
+    /** Tracker of the pages written to the partitions since their last snapshot. */
+    private final SnapshotPageTracker pageTracker = new SnapshotPageTracker();
 
     /** Resolved persistent data storage settings. */
     private volatile PdsFolderSettings<?> pdsSettings;
@@ -422,6 +460,15 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         "Snapshot transfer rate in bytes per second at which snapshot files are created. " +
             "0 means there is no limit.");
 
+    /** Snapshot restore rate limit in bytes/sec. */
+    private final DistributedLongProperty snapshotRestoreRate = detachedLongProperty(SNAPSHOT_RESTORE_RATE_DMS_KEY,
+        "Snapshot restore rate in bytes per second at which snapshot partition files are copied on the local node. " +
+            "0 means there is no limit.");
+
+    /** Snapshot low-impact mode: the snapshot files copy yields to the running checkpoint. */
+    private final DistributedBooleanProperty snapshotLowImpact = detachedBooleanProperty(SNAPSHOT_LOW_IMPACT_DMS_KEY,
+        "Snapshot low-impact mode. If enabled, the copy of the snapshot files yields to the running checkpoint.");
+
     /** Value of {@link IgniteSystemProperties#IGNITE_SNAPSHOT_SEQUENTIAL_WRITE}. */
     private final boolean sequentialWrite =
         IgniteSystemProperties.getBoolean(IGNITE_SNAPSHOT_SEQUENTIAL_WRITE, DFLT_IGNITE_SNAPSHOT_SEQUENTIAL_WRITE);
@@ -494,11 +541,48 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                     });
 
                     dispatcher.registerProperty(snapshotTransferRate);
+
+                    snapshotRestoreRate.addListener((name, oldVal, newVal) -> {
+                        if (!Objects.equals(oldVal, newVal)) {
+                            if (newVal < 0) {
+                                log.warning("The snapshot restore rate cannot be negative, " +
+                                    "the value '" + newVal + "' is ignored.");
+
+                                return;
+                            }
+
+                            restoreRateLimiter.setRate(newVal);
+
+                            if (log.isInfoEnabled()) {
+                                log.info("The snapshot restore rate " + (newVal == 0 ? "is not limited." :
+                                    "has been changed from '" + oldVal + "' to '" + newVal + "' bytes/sec."));
+                            }
+                        }
+                    });
+
+                    dispatcher.registerProperty(snapshotRestoreRate);
+
+                    snapshotLowImpact.addListener((name, oldVal, newVal) -> {
+                        if (!Objects.equals(oldVal, newVal)) {
+                            transferRateLimiter.lowImpact(Boolean.TRUE.equals(newVal));
+
+                            if (log.isInfoEnabled())
+                                log.info("The snapshot low-impact mode is " + (transferRateLimiter.lowImpact() ? "enabled." : "disabled."));
+                        }
+                    });
+
+                    dispatcher.registerProperty(snapshotLowImpact);
                 }
 
                 @Override public void onReadyToWrite() {
                     DistributedConfigurationUtils.setDefaultValue(snapshotTransferRate,
                         DFLT_SNAPSHOT_TRANSFER_RATE_BYTES, log);
+
+                    DistributedConfigurationUtils.setDefaultValue(snapshotRestoreRate,
+                        DFLT_SNAPSHOT_RESTORE_RATE_BYTES, log);
+
+                    DistributedConfigurationUtils.setDefaultValue(snapshotLowImpact,
+                        DFLT_SNAPSHOT_LOW_IMPACT, log);
                 }
             }
         );
@@ -536,6 +620,22 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             return task == null ? -1 : task.processedSize();
         }, "Processed size of current cluster snapshot in bytes on this node.");
 
+        mreg.register("CurrentSnapshotCopyOnWriteSize", () -> {
+            SnapshotFutureTask task = currentSnapshotTask(SnapshotFutureTask.class);
+
+            return task == null ? -1 : task.copyOnWriteSize();
+        }, "Size of the pages of current cluster snapshot in bytes copied on write by the checkpoint threads on this node.");
+
+        mreg.register("CurrentSnapshotRateLimitedSize", () -> currentTransferMetric(transferRateLimiter::acquired),
+            "Size of current snapshot or dump in bytes copied under the transfer rate limit on this node.");
+
+        mreg.register("CurrentSnapshotThrottleTime", () -> currentTransferMetric(transferRateLimiter::throttleTime),
+            "Time in milliseconds current snapshot or dump has waited for the transfer rate limit on this node.");
+
+        mreg.register("CurrentSnapshotCheckpointYieldTime",
+            () -> currentTransferMetric(transferRateLimiter::checkpointYieldTime),
+            "Time in milliseconds current snapshot or dump has yielded to the checkpoints in the low-impact mode on this node.");
+
         MetricRegistry incSnpMReg = cctx.kernalContext().metric().registry(INCREMENTAL_SNAPSHOT_METRICS);
 
         incSnpMReg.register("snapshotName",
@@ -1025,6 +1125,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             req.compress(),
             req.encrypt(),
             req.configOnly(),
+            req.columnar(),
             locSndrFactory.apply(snpOp.snapshotFileTree())
         );
 
@@ -1035,6 +1136,11 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 .suspend(((SnapshotFutureTask)task0).started());
         }
 
+        String baseSnpName = localBaseSnapshotName(req);
+
+        if (task0 instanceof SnapshotFutureTask)
+            ((SnapshotFutureTask)task0).trackPages(pageTracker, baseSnpName);
+
         return task0.chain(() -> {
             if (task0.error() != null)
                 throw F.wrap(task0.error());
@@ -1070,6 +1176,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                     encKey == null ? null : encSpi.encryptKey(encKey)
                 );
 
+                meta.baseSnapshotName(baseSnpName);
+                meta.columnarDump(req.columnar());
+
                 SnapshotHandlerContext ctx = new SnapshotHandlerContext(meta, req.groups(), cctx.localNode(), snpOp.snapshotFileTree(),
                     snpOp.streamerWarning(), true, null, null);
 
@@ -1087,6 +1196,22 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }, snapshotExecutorService());
     }
 
+    /**
+     * @param req Request on snapshot creation.
+     * @return Name of the base snapshot if it exists on the local node, {@code null} otherwise.
+     */
+    private @Nullable String localBaseSnapshotName(SnapshotOperationRequest req) {
+        String baseSnpName = req.baseSnapshotName();
+
+        if (baseSnpName == null || new SnapshotFileTree(cctx.kernalContext(), baseSnpName, req.snapshotPath()).meta().exists())
+            return baseSnpName;
+
+        log.warning("Base snapshot doesn't exist on the local node, all the partition files will be copied " +
+            "[snpName=" + req.snapshotName() + ", baseSnpName=" + baseSnpName + ']');
+
+        return null;
+    }
+
     /**
      * @param id Request id.
      * @param res Results.
@@ -1677,6 +1802,22 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         return createSnapshot(name, null, cacheGrpNames, false, false, true, false, false, false, false);
     }
 
+    /**
+     * Creates the cache dump storing the entries of each partition column-wise: the fields of the binary object values
+     * are saved as the separate columns with the min/max statistics, so the offline analytics reads only the columns
+     * of the fields it uses. Such dump is an export format and can't be restored, use {@link ColumnarDumpReader}
+     * to read it.
+     *
+     * @param name Dump name.
+     * @param cacheGrpNames Cache groups to include in the dump or {@code null} to include all.
+     * @param compress If {@code true} then compress each column chunk.
+     * @return Future which will be completed when a process ends.
+     * @see Dump#columnarReader(String, int, int)
+     */
+    public IgniteFutureImpl<Void> createColumnarDump(String name, @Nullable Collection<String> cacheGrpNames, boolean compress) {
+        return createSnapshot(name, null, cacheGrpNames, false, false, true, compress, false, false, false, true, null);
+    }
+
     /**
      * @param name Snapshot name.
      *
@@ -1951,6 +2092,59 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         boolean encrypt,
         boolean inclDs,
         boolean configOnly
+    ) {
+        return createSnapshot(name, snpPath, cacheGrpNames, incremental, onlyPrimary, dump, compress, encrypt, inclDs,
+            configOnly, false, null);
+    }
+
+    /**
+     * Create a consistent copy of all persistence cache groups from the whole cluster. The partitions which are not
+     * changed since the base snapshot are not copied, only the pages written to them since the base snapshot are saved
+     * instead. Such partitions are restored from the partition files of the base snapshot with the saved pages applied,
+     * so the base snapshot must be kept while the snapshot is used.
+     * <p>
+     * The pages are tracked in memory since the last snapshot of each partition taken on the local node. A partition
+     * is copied entirely if the base snapshot isn't the last one of the partition, e.g. after the node restart.
+     *
+     * @param name Snapshot unique name which satisfies the following name pattern [a-zA-Z0-9_].
+     * @param snpPath Snapshot directory path.
+     * @param baseSnpName Name of the base snapshot located at the same directory path.
+     * @return Future which will be completed when a process ends.
+     */
+    public IgniteFutureImpl<Void> createSnapshot(String name, @Nullable String snpPath, String baseSnpName) {
+        A.notNullOrEmpty(baseSnpName, "Base snapshot name cannot be null or empty.");
+
+        return createSnapshot(name, snpPath, null, false, false, false, false, false, false, false, false, baseSnpName);
+    }
+
+    /**
+     * @param name Snapshot unique name which satisfies the following name pattern [a-zA-Z0-9_].
+     * @param snpPath Snapshot directory path.
+     * @param cacheGrpNames Cache groups to include in snapshot or {@code null} to include all.
+     * @param incremental Incremental snapshot flag.
+     * @param onlyPrimary If {@code true} snapshot only primary copies of partitions.
+     * @param dump If {@code true} cache dump must be created.
+     * @param compress If {@code true} then compress partition files.
+     * @param encrypt If {@code true} then content of dump encrypted.
+     * @param inclDs If {@code true} then data structures caches will be included in dump.
+     * @param configOnly If {@code true} then only cache config and metadata included in snapshot.
+     * @param columnar If {@code true} then the dump entries are stored column-wise.
+     * @param baseSnpName Name of the base snapshot to save the partitions changed since it as the pages or {@code null}.
+     * @return Future which will be completed when a process ends.
+     */
+    private IgniteFutureImpl<Void> createSnapshot(
+        String name,
+        @Nullable String snpPath,
+        @Nullable Collection<String> cacheGrpNames,
+        boolean incremental,
+        boolean onlyPrimary,
+        boolean dump,
+        boolean compress,
+        boolean encrypt,
+        boolean inclDs,
+        boolean configOnly,
+        boolean columnar,
+        @Nullable String baseSnpName
     ) {
         A.notNullOrEmpty(name, "Snapshot name cannot be null or empty.");
         A.ensure(U.alphanumericUnderscore(name), "Snapshot name must satisfy the following name pattern: a-zA-Z0-9_");
@@ -1960,6 +2154,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         A.ensure(!compress || dump, "Compression is supported only for dumps");
         A.ensure(!inclDs || dump, "Data structures can't be written into snapshot");
         A.ensure(!configOnly || dump, "Config only supported only for dump");
+        A.ensure(baseSnpName == null || !(dump || incremental), "Base snapshot supported only for full snapshots");
+        A.ensure(!columnar || dump, "Columnar format is supported only for dumps");
+        A.ensure(!(columnar && encrypt), "Columnar dump can't be encrypted");
 
         try {
             cctx.kernalContext().security().authorize(ADMIN_SNAPSHOT);
@@ -1990,7 +2187,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                             compress,
                             encrypt,
                             inclDs,
-                            configOnly
+                            configOnly,
+                            columnar,
+                            baseSnpName
                         ),
                         options(Collections.singletonList(crd)).withFailoverDisabled()
                     ));
@@ -2041,6 +2240,11 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                     incIdx = maxLocalIncrementSnapshot(name, snpPath) + 1;
                 }
 
+                if (baseSnpName != null && !localSnapshotNames(snpPath).contains(baseSnpName)) {
+                    throw new IgniteException("Create snapshot request has been rejected. " +
+                        "Base snapshot with given name doesn't exist on local node.");
+                }
+
                 if (isRestoring()) {
                     throw new IgniteException(
                         "Snapshot operation has been rejected. Cache group restore operation is currently in progress."
@@ -2112,7 +2316,10 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                     dump,
                     compress,
                     encrypt,
-                    configOnly
+                    configOnly,
+                    columnar,
+                    baseSnpName,
+                    false
             );
 
             startSnpProc.start(snpFut0.rqId, snpOpReq);
@@ -2213,15 +2420,43 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         @Nullable Collection<String> grpNames,
         int incIdx,
         boolean check
+    ) {
+        return restoreSnapshot(name, snpPath, grpNames, incIdx, check, false);
+    }
+
+    /**
+     * Restore cache group(s) from the snapshot.
+     * <p>
+     * If {@code earlyStart} is set, the caches are started as soon as the partition files stored on the local nodes
+     * are copied. The partitions which are missing locally but are stored on another owner of the partition are not
+     * transferred between the nodes, they are created as {@code MOVING} and are loaded by the
+     * rebalancing from the owners. The page checksums are verified while the partition files are copied.
+     *
+     * @param name Snapshot name.
+     * @param snpPath Snapshot directory path.
+     * @param grpNames Cache groups to be restored or {@code null} to restore all cache groups from the snapshot.
+     * @param incIdx Index of incremental snapshot.
+     * @param check If {@code true} check snapshot before restore.
+     * @param earlyStart If {@code true} start the caches as soon as the local partitions are copied.
+     * @return Future which will be completed when restore operation finished.
+     */
+    public IgniteFutureImpl<Void> restoreSnapshot(
+        String name,
+        @Nullable String snpPath,
+        @Nullable Collection<String> grpNames,
+        int incIdx,
+        boolean check,
+        boolean earlyStart
     ) {
         A.notNullOrEmpty(name, "Snapshot name cannot be null or empty.");
         A.ensure(U.alphanumericUnderscore(name), "Snapshot name must satisfy the following name pattern: a-zA-Z0-9_");
         A.ensure(grpNames == null || !grpNames.isEmpty(), "List of cache group names cannot be empty.");
         A.ensure(grpNames == null || grpNames.size() == new HashSet<>(grpNames).size(), "Cache group names must be unique.");
+        A.ensure(!earlyStart || incIdx == 0, "Early start of the caches is not supported for incremental snapshots.");
 
         cctx.kernalContext().security().authorize(ADMIN_SNAPSHOT);
 
-        return restoreCacheGrpProc.start(name, snpPath, grpNames, incIdx, check);
+        return restoreCacheGrpProc.start(name, snpPath, grpNames, incIdx, check, earlyStart);
     }
 
     /** {@inheritDoc} */
@@ -2360,6 +2595,8 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
      * @param grps List of cache groups which will be destroyed.
      */
     public void onCacheGroupsStopped(List<Integer> grps) {
+        pageTracker.onCacheGroupsStopped(grps);
+
         Collection<AbstractSnapshotFutureTask<?>> tasks =
             F.view(locSnpTasks.values(), t -> t instanceof SnapshotFutureTask || t instanceof CreateDumpFutureTask);
 
@@ -2375,6 +2612,16 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }
     }
 
+    /**
+     * Drops the pages written to the partition since its last snapshot, so the next snapshot copies the partition file.
+     *
+     * @param grpId Cache group id.
+     * @param partId Partition id.
+     */
+    public void onPartitionDestroyed(int grpId, int partId) {
+        pageTracker.onPartitionDestroyed(grpId, partId);
+    }
+
     /**
      * @param grpName Cache group name.
      * @param partId Partition id.
@@ -2406,6 +2653,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
      * @param compress If {@code true} then compress partition files.
      * @param encrypt If {@code true} then content of dump encrypted.
      * @param configOnly If {@code true} then only cache config and metadata included in snapshot.
+     * @param columnar If {@code true} then the dump entries are stored column-wise.
      * @param snpSndr Factory which produces snapshot receiver instance.
      * @return Snapshot operation task which should be registered on checkpoint to run.
      */
@@ -2419,8 +2667,11 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         boolean compress,
         boolean encrypt,
         boolean configOnly,
+        boolean columnar,
         SnapshotSender snpSndr
     ) {
+        transferRateLimiter.resetMetrics();
+
         AbstractSnapshotFutureTask<?> task = registerTask(sft.name(), dump
             ? new CreateDumpFutureTask(cctx,
                 srcNodeId,
@@ -2432,7 +2683,8 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 parts,
                 compress,
                 encrypt,
-                configOnly
+                configOnly,
+                columnar
             )
             : new SnapshotFutureTask(
                 cctx,
@@ -2441,6 +2693,7 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 sft,
                 ft,
                 ioFactory,
+                transferRateLimiter,
                 snpSndr,
                 parts,
                 withMetaStorage,
@@ -2498,6 +2751,24 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }
     }
 
+    /** @return Progress of the current checkpoint or {@code null} if there is no checkpointer on the local node. */
+    private @Nullable CheckpointProgress checkpointProgress() {
+        if (!(cctx.database() instanceof GridCacheDatabaseSharedManager))
+            return null;
+
+        Checkpointer cp = ((GridCacheDatabaseSharedManager)cctx.database()).getCheckpointer();
+
+        return cp == null ? null : cp.currentProgress();
+    }
+
+    /**
+     * @param metric Transfer metric of the current snapshot operation.
+     * @return Metric value or {@code -1} if there is no snapshot operation in progress.
+     */
+    private long currentTransferMetric(LongSupplier metric) {
+        return curSnpOp == null ? -1 : metric.getAsLong();
+    }
+
     /** @return Current snapshot task. */
     public <T extends AbstractSnapshotFutureTask<?>> T currentSnapshotTask(Class<T> snpTaskCls) {
         SnapshotOperation snpOp = curSnpOp;
@@ -2546,6 +2817,180 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             rqId);
     }
 
+    /**
+     * Copies the given partitions of a cache group on a checkpoint and streams the partition files followed by
+     * the deltas of the pages changed while copying to the remote node. Each file is sent with the
+     * {@link #PART_FILE_GRP_ID_PARAM}, {@link #PART_FILE_PART_ID_PARAM} and {@link #PART_FILE_DELTA_PARAM} parameters,
+     * partitions with no pages on disk are skipped.
+     *
+     * @param rmtNodeId Node to send the files to.
+     * @param topic Transmission topic.
+     * @param grpId Cache group id.
+     * @param parts Partitions to send.
+     * @return Future which is completed when all the files have been sent.
+     */
+    public IgniteInternalFuture<?> sendPartitionFiles(UUID rmtNodeId, Object topic, int grpId, Set<Integer> parts) {
+        UUID reqId = UUID.randomUUID();
+
+        String name = "rebalance_" + reqId.toString().replace('-', '_');
+
+        AbstractSnapshotFutureTask<?> task = registerSnapshotTask(
+            new SnapshotFileTree(cctx.kernalContext(), name, null),
+            cctx.localNodeId(),
+            reqId,
+            F.asMap(grpId, parts),
+            false,
+            false,
+            false,
+            false,
+            false,
+            false,
+            new PartitionFilesSender(log,
+                cctx.kernalContext().pools().getSnapshotExecutorService(),
+                cctx.gridIO().openTransmissionSender(rmtNodeId, topic)));
+
+        if (task.start())
+            cctx.database().forceNewCheckpoint("Send partition files: " + name, lsnr -> {});
+
+        return task;
+    }
+
+    /**
+     * Writes the pages of the given delta file to the partition file.
+     *
+     * @param delta Delta file.
+     * @param part Partition file.
+     * @param pair Cache group id with corresponding partition id.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void applyDelta(File delta, File part, GroupPartitionId pair) throws IgniteCheckedException {
+        applyDelta(delta, part, pair, null);
+    }
+
+    /**
+     * @param delta Delta file.
+     * @param part Partition file.
+     * @param pair Cache group id with corresponding partition id.
+     * @param limiter Rate limiter of the written pages or {@code null} if not limited.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void applyDelta(
+        File delta,
+        File part,
+        GroupPartitionId pair,
+        @Nullable BasicRateLimiter limiter
+    ) throws IgniteCheckedException {
+        applyDelta(delta, part, pair, limiter, sequentialWrite() ? DeltaSortedIterator::new : DeltaIterator::new);
+    }
+
+    /**
+     * @param delta Delta file.
+     * @param part Partition file.
+     * @param pair Cache group id with corresponding partition id.
+     * @param limiter Rate limiter of the written pages or {@code null} if not limited.
+     * @param deltaIterFactory Factory of the delta file iterator.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void applyDelta(
+        File delta,
+        File part,
+        GroupPartitionId pair,
+        @Nullable BasicRateLimiter limiter,
+        Factory<File, FileIOFactory, DeltaIterator> deltaIterFactory
+    ) throws IgniteCheckedException {
+        boolean encrypted = cctx.cache().isEncrypted(pair.getGroupId());
+
+        FileIOFactory ioFactory = encrypted ? ((FilePageStoreManager)cctx.pageStore())
+            .encryptedFileIoFactory(this.ioFactory, pair.getGroupId()) : this.ioFactory;
+
+        int pageSize = cctx.kernalContext().config().getDataStorageConfiguration().getPageSize();
+
+        try (DeltaIterator deltaIter = deltaIterFactory.create(delta, ioFactory);
+             FilePageStore pageStore = (FilePageStore)storeMgr.getPageStoreFactory(pair.getGroupId(), encrypted)
+                 .createPageStore(getTypeByPartId(pair.getPartitionId()), part::toPath, v -> {})
+        ) {
+            pageStore.beginRecover();
+
+            while (deltaIter.hasNext()) {
+                if (limiter != null)
+                    limiter.acquire(pageSize);
+
+                ByteBuffer page = deltaIter.next();
+                long pageId = PageIO.getPageId(page);
+
+                pageStore.write(pageId, page, 0, false);
+            }
+
+            pageStore.finishRecover();
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException(e);
+        }
+    }
+
+    /**
+     * Restores the partition of the snapshot saved as the pages written since the base snapshot. The partition file
+     * of the first snapshot in the chain of the base snapshots which holds it is copied, then the pages of each next
+     * snapshot are applied to the copy.
+     *
+     * @param sft Snapshot file tree.
+     * @param part Partition file of the snapshot. Doesn't exist, the pages file exists instead.
+     * @param target Partition file to restore.
+     * @param pair Cache group id with corresponding partition id.
+     * @throws IgniteCheckedException If failed.
+     * @see SnapshotFileTree#partPagesFile(File)
+     */
+    public void restorePartitionFromPages(
+        SnapshotFileTree sft,
+        File part,
+        File target,
+        GroupPartitionId pair
+    ) throws IgniteCheckedException {
+        Deque<File> pagesFiles = new ArrayDeque<>();
+
+        while (!part.exists()) {
+            File pages = partPagesFile(part);
+
+            if (!pages.exists()) {
+                throw new IgniteCheckedException("Snapshot partition file not found [snpName=" + sft.name() +
+                    ", part=" + part.getAbsolutePath() + ']');
+            }
+
+            pagesFiles.push(pages);
+
+            String baseSnpName;
+
+            try {
+                baseSnpName = readSnapshotMetadata(sft.meta()).baseSnapshotName();
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException(e);
+            }
+
+            if (baseSnpName == null)
+                throw new IgniteCheckedException("Base snapshot is not defined [snpName=" + sft.name() + ']');
+
+            SnapshotFileTree baseSft =
+                new SnapshotFileTree(cctx.kernalContext(), baseSnpName, sft.path(), sft.folderName(), sft.consistentId());
+
+            if (!baseSft.meta().exists()) {
+                throw new IgniteCheckedException("Base snapshot doesn't exist on the local node [snpName=" + sft.name() +
+                    ", baseSnpName=" + baseSnpName + ']');
+            }
+
+            part = sft.relocate(part, baseSft);
+            sft = baseSft;
+        }
+
+        U.mkdirs(target.getParentFile());
+
+        copy(ioFactory, part, target, part.length());
+
+        // Pages of the latest snapshot are applied last.
+        while (!pagesFiles.isEmpty())
+            applyDelta(pagesFiles.pop(), target, pair, null, DeltaIterator::new);
+    }
+
     /** @param sft Snapshot file tree. */
     public void writeSnapshotDirectoryToMetastorage(NodeFileTree sft) {
         cctx.database().checkpointReadLock();
@@ -2657,6 +3102,13 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         return cctx.kernalContext().pools().getSnapshotExecutorService();
     }
 
+    /**
+     * @return Rate limiter of the partition files copied on the local node by the snapshot restore.
+     */
+    BasicRateLimiter restoreRateLimiter() {
+        return restoreRateLimiter;
+    }
+
     /**
      * @param ioFactory Factory to create IO interface over a page stores.
      */
@@ -3794,6 +4246,68 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         }
     }
 
+    /**
+     * Sends partition files and the delta pages of the partitions to the node which rebalances them.
+     */
+    private static class PartitionFilesSender extends SnapshotSender {
+        /** The sender which sends files to remote node. */
+        private final GridIoManager.TransmissionSender sndr;
+
+        /**
+         * @param log Ignite logger.
+         * @param exec Executor.
+         * @param sndr File sender instance.
+         */
+        public PartitionFilesSender(IgniteLogger log, Executor exec, GridIoManager.TransmissionSender sndr) {
+            super(log, exec);
+
+            this.sndr = sndr;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void init(int partsCnt) {
+            // No-op.
+        }
+
+        /** {@inheritDoc} */
+        @Override public void sendPart0(File from, File to, @Nullable String storagePath, GroupPartitionId pair, Long len) {
+            if (len > 0)
+                send(from, len, pair, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void sendDelta0(File delta, File snpPart, GroupPartitionId pair) {
+            send(delta, delta.length(), pair, true);
+        }
+
+        /**
+         * @param file File to send.
+         * @param len Number of bytes to send.
+         * @param pair Cache group id with corresponding partition id.
+         * @param delta {@code True} if the file contains delta pages.
+         */
+        private synchronized void send(File file, long len, GroupPartitionId pair, boolean delta) {
+            Map<String, Serializable> params = new HashMap<>();
+
+            params.put(PART_FILE_GRP_ID_PARAM, pair.getGroupId());
+            params.put(PART_FILE_PART_ID_PARAM, pair.getPartitionId());
+            params.put(PART_FILE_DELTA_PARAM, delta);
+
+            try {
+                sndr.send(file, 0, len, params, TransmissionPolicy.FILE);
+            }
+            catch (IgniteCheckedException | InterruptedException | IOException e) {
+                throw new IgniteException("Error sending partition file [file=" + file.getName() + ", pair=" + pair +
+                    ", length=" + len + ']', e);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close0(@Nullable Throwable th) {
+            U.closeQuiet(sndr);
+        }
+    }
+
     /**
      * Snapshot sender which writes all data to local directory.
      */
@@ -3801,13 +4315,6 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         /** Snapshot file tree. */
         private final SnapshotFileTree sft;
 
-        /** Size of page. */
-        private final int pageSize;
-
-        /** Delta iterator factory. */
-        private final Factory<File, FileIOFactory, DeltaIterator> deltaIterFactory =
-            sequentialWrite() ? DeltaSortedIterator::new : DeltaIterator::new;
-
         /**
          * @param sft Snapshot file tree.
          */
@@ -3815,7 +4322,6 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             super(IgniteSnapshotManager.this.log, cctx.kernalContext().pools().getSnapshotExecutorService());
 
             this.sft = sft;
-            pageSize = cctx.kernalContext().config().getDataStorageConfiguration().getPageSize();
         }
 
         /** {@inheritDoc} */
@@ -3918,30 +4424,10 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                     ", delta=" + delta + ']');
             }
 
-            boolean encrypted = cctx.cache().isEncrypted(pair.getGroupId());
-
-            FileIOFactory ioFactory = encrypted ? ((FilePageStoreManager)cctx.pageStore())
-                .encryptedFileIoFactory(IgniteSnapshotManager.this.ioFactory, pair.getGroupId()) :
-                IgniteSnapshotManager.this.ioFactory;
-
-            try (DeltaIterator deltaIter = deltaIterFactory.create(delta, ioFactory);
-                 FilePageStore pageStore = (FilePageStore)storeMgr.getPageStoreFactory(pair.getGroupId(), encrypted)
-                     .createPageStore(getTypeByPartId(pair.getPartitionId()), snpPart::toPath, v -> {})
-            ) {
-                pageStore.beginRecover();
-
-                while (deltaIter.hasNext()) {
-                    transferRateLimiter.acquire(pageSize);
-
-                    ByteBuffer page = deltaIter.next();
-                    long pageId = PageIO.getPageId(page);
-
-                    pageStore.write(pageId, page, 0, false);
-                }
-
-                pageStore.finishRecover();
+            try {
+                applyDelta(delta, snpPart, pair, transferRateLimiter);
             }
-            catch (IOException | IgniteCheckedException e) {
+            catch (IgniteCheckedException e) {
                 throw new IgniteException(e);
             }
         }
@@ -4227,6 +4713,12 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
         /** If {@code true} then only cache config and metadata included in snapshot. */
         private final boolean configOnly;
 
+        /** If {@code true} then the dump entries are stored column-wise. */
+        private final boolean columnar;
+
+        /** Name of the base snapshot to save the partitions changed since it as the pages or {@code null}. */
+        private final @Nullable String baseSnpName;
+
         /** Auto-injected grid instance. */
         @IgniteInstanceResource
         private transient IgniteEx ignite;
@@ -4241,6 +4733,8 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
          * @param encrypt If {@code true} then content of dump encrypted.
          * @param inclDs If {@code true} then data structures caches will be included in dump.
          * @param configOnly If {@code true} then only cache config and metadata included in snapshot.
+         * @param columnar If {@code true} then the dump entries are stored column-wise.
+         * @param baseSnpName Name of the base snapshot to save the partitions changed since it as the pages or {@code null}.
          */
         public CreateSnapshotCallable(
             String snpName,
@@ -4251,7 +4745,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             boolean comprParts,
             boolean encrypt,
             boolean inclDs,
-            boolean configOnly
+            boolean configOnly,
+            boolean columnar,
+            @Nullable String baseSnpName
         ) {
             this.snpName = snpName;
             this.cacheGrpNames = cacheGrpNames;
@@ -4262,6 +4758,8 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             this.encrypt = encrypt;
             this.inclDs = inclDs;
             this.configOnly = configOnly;
+            this.columnar = columnar;
+            this.baseSnpName = baseSnpName;
         }
 
         /** {@inheritDoc} */
@@ -4279,7 +4777,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                     comprParts,
                     encrypt,
                     inclDs,
-                    configOnly
+                    configOnly,
+                    columnar,
+                    baseSnpName
                 ).get();
             }
 
@@ -19,10 +19,13 @@ package org.apache.ignite.internal.processors.cache.persistence.snapshot;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -55,6 +58,7 @@ import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabase
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointListener;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
 import org.apache.ignite.internal.processors.cache.persistence.filename.FileTreeUtils;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
@@ -67,6 +71,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
 import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.processors.metastorage.persistence.DistributedMetaStorageImpl;
 import org.apache.ignite.internal.thread.context.concurrent.IgniteCompletableFuture;
+import org.apache.ignite.internal.util.BasicRateLimiter;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
@@ -76,7 +81,11 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static java.nio.file.StandardOpenOption.READ;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.partDeltaIndexFile;
+import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.partPagesFile;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.copy;
 
 /**
@@ -100,6 +109,9 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
     /** IO factory which will be used for creating snapshot delta-writers. */
     private final FileIOFactory ioFactory;
 
+    /** Transfer rate limiter of the pages saved since the base snapshot. */
+    private final BasicRateLimiter rateLimiter;
+
     /**
      * The length of file size per each cache partition file.
      * Partition has value greater than zero only for partitions in OWNING state.
@@ -142,6 +154,18 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
     /** Processed snapshot size in bytes. */
     private final AtomicLong processedSize = new AtomicLong();
 
+    /** Size of the pages in bytes copied to the delta files on write by the checkpoint threads. */
+    private final AtomicLong copyOnWriteSize = new AtomicLong();
+
+    /** Tracker of the pages written to the partitions or {@code null} if the pages are not tracked by this snapshot. */
+    private @Nullable SnapshotPageTracker pageTracker;
+
+    /** Name of the base snapshot, the partitions tracked since it are saved as the written pages. */
+    private @Nullable String baseSnpName;
+
+    /** Page tracking epochs of the partitions finished by this snapshot. Collected under checkpoint write lock. */
+    private final Map<GroupPartitionId, SnapshotPageTracker.Epoch> prevEpochs = new HashMap<>();
+
     /** Delta writer factory. */
     private final C3<PageStore, File, Integer, PageStoreSerialWriter> deltaWriterFactory =
         cctx.snapshotMgr().sequentialWrite() ? IndexedPageStoreSerialWriter::new : PageStoreSerialWriter::new;
@@ -153,6 +177,7 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
      * @param sft Snapshot file tree.
      * @param ft Node file tree.
      * @param ioFactory Factory to working with snapshot files.
+     * @param rateLimiter Transfer rate limiter.
      * @param snpSndr Factory which produces snapshot receiver instance.
      * @param parts Map of cache groups and its partitions to include into snapshot, if set of partitions
      * is {@code null} than all OWNING partitions for given cache groups will be included into snapshot.
@@ -164,6 +189,7 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
         SnapshotFileTree sft,
         NodeFileTree ft,
         FileIOFactory ioFactory,
+        BasicRateLimiter rateLimiter,
         SnapshotSender snpSndr,
         Map<Integer, Set<Integer>> parts,
         boolean withMetaStorage,
@@ -179,6 +205,7 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
 
         this.ft = ft;
         this.ioFactory = ioFactory;
+        this.rateLimiter = rateLimiter;
         this.withMetaStorage = withMetaStorage;
         this.pageStore = (FilePageStoreManager)cctx.pageStore();
         this.locBuff = locBuff;
@@ -196,11 +223,27 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
         startedFut.onDone(th);
     }
 
+    /**
+     * Enables the tracking of the pages written to the snapshot partitions. Must be called prior to the task start.
+     *
+     * @param pageTracker Tracker of the written pages.
+     * @param baseSnpName Name of the base snapshot, the partitions tracked since it are saved as the written pages.
+     * If {@code null} then all the partition files are copied.
+     */
+    void trackPages(SnapshotPageTracker pageTracker, @Nullable String baseSnpName) {
+        this.pageTracker = pageTracker;
+        this.baseSnpName = baseSnpName;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean onDone(@Nullable SnapshotFutureTaskResult res, @Nullable Throwable err) {
         for (PageStoreSerialWriter writer : partDeltaWriters.values())
             U.closeQuiet(writer);
 
+        // The failed snapshot can't be a base one, the pages written since the previous snapshot are kept.
+        if (err != null && pageTracker != null)
+            prevEpochs.forEach((pair, prev) -> pageTracker.rollbackEpoch(pair, snpName, prev));
+
         for (CacheConfigurationSender ccfgSndr : ccfgSndrs)
             U.closeQuiet(ccfgSndr);
 
@@ -338,6 +381,9 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
                 ccfgs.add(gctx.config());
 
                 addPartitionWriters(grpId, e.getValue(), part -> sft.partDeltaFile(gctx.config(), part));
+
+                if (pageTracker != null)
+                    startPageTracking(grpId, e.getValue());
             }
 
             if (withMetaStorage) {
@@ -386,6 +432,11 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
 
             Long partLen = partFileLengths.get(pair);
 
+            SnapshotPageTracker.Epoch prev = prevEpochs.get(pair);
+
+            if (partLen > 0 && prev != null && prev.snapshotName().equals(baseSnpName) && !cctx.cache().isEncrypted(grpId))
+                return savePages(pair, prev.pages());
+
             totalSize.addAndGet(partLen);
 
             return runAsync(() -> {
@@ -437,6 +488,80 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Saves the pages of the partition written since the base snapshot followed by the pages of the delta file.
+     * Applied to the partition file of the base snapshot, the pages give the partition file of this snapshot.
+     *
+     * @param pair Cache group id with corresponding partition id.
+     * @param pages Indexes of the pages written since the base snapshot.
+     * @return Future which is completed when the pages are saved.
+     */
+    private IgniteCompletableFuture<Void> savePages(GroupPartitionId pair, BitSet pages) {
+        PageStoreSerialWriter writer = partDeltaWriters.get(pair);
+
+        FilePageStore store = (FilePageStore)writer.store;
+
+        totalSize.addAndGet((long)pages.cardinality() * store.getPageSize());
+
+        return runAsync(() -> {
+            File pagesFile = partPagesFile(partitionFile(sft, pair));
+
+            U.mkdirs(pagesFile.getParentFile());
+
+            ByteBuffer buf = locBuff.get();
+
+            try (FileIO io = ioFactory.create(pagesFile)) {
+                for (int idx = pages.nextSetBit(0); idx >= 0; idx = pages.nextSetBit(idx + 1)) {
+                    buf.clear();
+
+                    // CRC is not checked since the page may be concurrently written by the snapshot checkpoint
+                    // or later on. The delta file written after the pages holds the consistent copy of such a page.
+                    if (!store.read(PageIdUtils.pageId(pair.getPartitionId(), FLAG_DATA, idx), buf, false, true))
+                        continue;
+
+                    buf.clear();
+
+                    rateLimiter.acquire(buf.remaining());
+
+                    processedSize.addAndGet(io.writeFully(buf));
+                }
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException(e);
+            }
+
+            // Stop partition writer.
+            writer.markPartitionProcessed();
+
+            // Wait for the completion of both futures - checkpoint end, save pages.
+        }).runAfterBothAsync(cpEndFut, wrapExceptionIfStarted(() -> {
+            writer.close();
+
+            File delta = writer.deltaFile;
+
+            if (!delta.exists())
+                return;
+
+            try (FileIO src = ioFactory.create(delta, READ);
+                 FileChannel dest = new FileOutputStream(partPagesFile(partitionFile(sft, pair)), true).getChannel()
+            ) {
+                long len = src.size();
+                long written = 0;
+
+                while (written < len)
+                    written += src.transferTo(written, len - written, dest);
+
+                processedSize.addAndGet(len);
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException(e);
+            }
+
+            U.delete(delta);
+            U.delete(partDeltaIndexFile(delta));
+        }), snpSndr.executor());
+    }
+
     /** {@inheritDoc} */
     @Override protected List<IgniteCompletableFuture<Void>> saveCacheConfigs() {
         // Send configuration files of all cache groups.
@@ -466,6 +591,27 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
         }
     }
 
+    /**
+     * Starts the new page tracking epoch of the partitions. Must be called under checkpoint write lock.
+     *
+     * @param grpId Cache group id.
+     * @param parts Set of partitions to be processed.
+     */
+    private void startPageTracking(int grpId, Set<Integer> parts) {
+        for (int partId : parts) {
+            // The index partition is always copied as a whole.
+            if (partId == INDEX_PARTITION)
+                continue;
+
+            GroupPartitionId pair = new GroupPartitionId(grpId, partId);
+
+            SnapshotPageTracker.Epoch prev = pageTracker.startEpoch(pair, partDeltaWriters.get(pair).store, snpName);
+
+            if (prev != null)
+                prevEpochs.put(pair, prev);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public synchronized IgniteCompletableFuture<Void> closeAsync() {
         if (closeFut == null) {
@@ -496,6 +642,11 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
         return processedSize.get();
     }
 
+    /** @return Size of the pages in bytes copied to the delta files on write by the checkpoint threads. */
+    public long copyOnWriteSize() {
+        return copyOnWriteSize.get();
+    }
+
     /**
      * @param grps List of processing pairs.
      *
@@ -866,6 +1017,7 @@ class SnapshotFutureTask extends AbstractCreateSnapshotFutureTask implements Che
             assert len == pageBuf.capacity();
 
             totalSize.addAndGet(len);
+            copyOnWriteSize.addAndGet(len);
         }
 
         /** {@inheritDoc} */
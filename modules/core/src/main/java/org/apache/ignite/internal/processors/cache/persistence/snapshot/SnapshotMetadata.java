@@ -140,6 +140,15 @@ public class SnapshotMetadata implements Message, Serializable {
     @Order(17)
     @Nullable byte[] encKey;
 
+    /** Name of the base snapshot if the partitions changed since it are saved as the pages, {@code null} otherwise. */
+    @GridToStringInclude
+    @Order(18)
+    @Nullable String baseSnpName;
+
+    /** If {@code true} then the dump entries are stored column-wise. */
+    @Order(19)
+    boolean columnarDump;
+
     /** Empty constructor for a {@link MessageFactory}. */
     public SnapshotMetadata() {
         // No-op.
@@ -301,6 +310,30 @@ public class SnapshotMetadata implements Message, Serializable {
         return snapshotTime;
     }
 
+    /**
+     * @return Name of the base snapshot if the partitions changed since it are saved as the pages, {@code null} otherwise.
+     */
+    public @Nullable String baseSnapshotName() {
+        return baseSnpName;
+    }
+
+    /**
+     * @param baseSnpName Name of the base snapshot if the partitions changed since it are saved as the pages.
+     */
+    public void baseSnapshotName(@Nullable String baseSnpName) {
+        this.baseSnpName = baseSnpName;
+    }
+
+    /** @return {@code True} if the dump entries are stored column-wise. */
+    public boolean columnarDump() {
+        return columnarDump;
+    }
+
+    /** @param columnarDump If {@code true} then the dump entries are stored column-wise. */
+    public void columnarDump(boolean columnarDump) {
+        this.columnarDump = columnarDump;
+    }
+
     /** Save the state of this <tt>HashMap</tt> partitions and cache groups to a stream. */
     private void writeObject(java.io.ObjectOutputStream s)
         throws java.io.IOException {
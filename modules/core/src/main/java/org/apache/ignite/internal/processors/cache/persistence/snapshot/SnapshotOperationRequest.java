@@ -62,6 +62,18 @@ public class SnapshotOperationRequest extends AbstractSnapshotOperationRequest {
     @Order(7)
     boolean configOnly;
 
+    /** Name of the base snapshot to save the partitions changed since it as the pages or {@code null}. */
+    @Order(8)
+    @Nullable String baseSnpName;
+
+    /** If {@code true} then the restored caches are started as soon as the local partitions are copied. */
+    @Order(9)
+    boolean earlyStart;
+
+    /** If {@code true} then the dump entries are stored column-wise. */
+    @Order(10)
+    boolean columnar;
+
     /** Default constructor for {@link MessageFactory}. */
     public SnapshotOperationRequest() {
         // No-op.
@@ -81,6 +93,9 @@ public class SnapshotOperationRequest extends AbstractSnapshotOperationRequest {
      * @param compress If {@code true} then compress partition files.
      * @param encrypt If {@code true} then content of dump encrypted.
      * @param configOnly If {@code true} then only cache config and metadata included in snapshot.
+     * @param columnar If {@code true} then the dump entries are stored column-wise.
+     * @param baseSnpName Name of the base snapshot to save the partitions changed since it as the pages or {@code null}.
+     * @param earlyStart If {@code true} then the restored caches are started as soon as the local partitions are copied.
      */
     public SnapshotOperationRequest(
         UUID reqId,
@@ -95,7 +110,10 @@ public class SnapshotOperationRequest extends AbstractSnapshotOperationRequest {
         boolean dump,
         boolean compress,
         boolean encrypt,
-        boolean configOnly
+        boolean configOnly,
+        boolean columnar,
+        @Nullable String baseSnpName,
+        boolean earlyStart
     ) {
         super(reqId, snpName, snpPath, grps, nodes);
 
@@ -107,6 +125,9 @@ public class SnapshotOperationRequest extends AbstractSnapshotOperationRequest {
         this.compress = compress;
         this.encrypt = encrypt;
         this.configOnly = configOnly;
+        this.columnar = columnar;
+        this.baseSnpName = baseSnpName;
+        this.earlyStart = earlyStart;
     }
 
     /**
@@ -151,6 +172,20 @@ public class SnapshotOperationRequest extends AbstractSnapshotOperationRequest {
         return configOnly;
     }
 
+    /** @return If {@code true} then the dump entries are stored column-wise. */
+    public boolean columnar() {
+        return columnar;
+    }
+
+    /** @return Name of the base snapshot to save the partitions changed since it as the pages or {@code null}. */
+    public @Nullable String baseSnapshotName() {
+        return baseSnpName;
+    }
+
+    /** @return If {@code true} then the restored caches are started as soon as the local partitions are copied. */
+    public boolean earlyStart() {
+        return earlyStart;
+    }
 
     /** {@inheritDoc} */
     @Override public String toString() {
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.pagemem.store.PageWriteListener;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks the pages of the partition files written since the last snapshot of each partition taken on the local node.
+ * A snapshot taken over such a base snapshot saves only the written pages instead of the whole partition file.
+ * <p>
+ * The pages are tracked by the page store write listeners, so the pages written by checkpoints and by the page
+ * replacement are both taken into account. The tracking epoch of a partition is started by the snapshot under
+ * the checkpoint write lock. The tracked pages are kept in memory only and are dropped once the partition store
+ * is destroyed, so the first snapshot after the node restart copies the whole partition files.
+ */
+class SnapshotPageTracker {
+    /** Tracked partitions. */
+    private final Map<GroupPartitionId, PartitionPages> parts = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a new tracking epoch of the partition. Must be called under the checkpoint write lock.
+     *
+     * @param pair Cache group id with corresponding partition id.
+     * @param store Partition page store.
+     * @param snpName Name of the snapshot which starts the epoch.
+     * @return The previous epoch or {@code null} if the partition hasn't been tracked.
+     */
+    @Nullable Epoch startEpoch(GroupPartitionId pair, PageStore store, String snpName) {
+        PartitionPages pages = parts.get(pair);
+
+        if (pages != null && pages.store != store) {
+            // The store has been recreated, the pages written to the previous one are unknown.
+            stopTracking(pair);
+
+            pages = null;
+        }
+
+        if (pages == null) {
+            parts.put(pair, new PartitionPages(store, snpName));
+
+            return null;
+        }
+
+        return pages.startEpoch(snpName);
+    }
+
+    /**
+     * Merges back the pages of the previous epoch if the snapshot which started the current one has failed.
+     *
+     * @param pair Cache group id with corresponding partition id.
+     * @param snpName Name of the failed snapshot.
+     * @param prev Previous epoch.
+     */
+    void rollbackEpoch(GroupPartitionId pair, String snpName, Epoch prev) {
+        PartitionPages pages = parts.get(pair);
+
+        if (pages != null)
+            pages.rollbackEpoch(snpName, prev);
+    }
+
+    /**
+     * @param grpId Cache group id.
+     * @param partId Partition id.
+     */
+    void onPartitionDestroyed(int grpId, int partId) {
+        stopTracking(new GroupPartitionId(grpId, partId));
+    }
+
+    /**
+     * @param grpIds Stopped cache groups.
+     */
+    void onCacheGroupsStopped(Collection<Integer> grpIds) {
+        for (GroupPartitionId pair : parts.keySet()) {
+            if (grpIds.contains(pair.getGroupId()))
+                stopTracking(pair);
+        }
+    }
+
+    /**
+     * @param pair Cache group id with corresponding partition id.
+     */
+    private void stopTracking(GroupPartitionId pair) {
+        PartitionPages pages = parts.remove(pair);
+
+        if (pages != null)
+            pages.store.removeWriteListener(pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(SnapshotPageTracker.class, this);
+    }
+
+    /** Pages of a partition written since the snapshot. */
+    static class Epoch {
+        /** Name of the snapshot which started the epoch. */
+        private final String snpName;
+
+        /** Indexes of the written pages. */
+        @GridToStringExclude
+        private final BitSet pages;
+
+        /**
+         * @param snpName Name of the snapshot which started the epoch.
+         * @param pages Indexes of the written pages.
+         */
+        Epoch(String snpName, BitSet pages) {
+            this.snpName = snpName;
+            this.pages = pages;
+        }
+
+        /** @return Name of the snapshot which started the epoch. */
+        String snapshotName() {
+            return snpName;
+        }
+
+        /** @return Indexes of the written pages. */
+        BitSet pages() {
+            return pages;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Epoch.class, this, "pagesCnt", pages.cardinality());
+        }
+    }
+
+    /** Written pages of a partition page store. */
+    private static class PartitionPages implements PageWriteListener {
+        /** Partition page store. */
+        private final PageStore store;
+
+        /** Name of the snapshot which started the current epoch. */
+        private String snpName;
+
+        /** Indexes of the pages written in the current epoch. */
+        private BitSet pages = new BitSet();
+
+        /**
+         * @param store Partition page store.
+         * @param snpName Name of the snapshot which starts the epoch.
+         */
+        PartitionPages(PageStore store, String snpName) {
+            this.store = store;
+            this.snpName = snpName;
+
+            store.addWriteListener(this);
+        }
+
+        /** {@inheritDoc} */
+        @Override public synchronized void accept(long pageId, ByteBuffer buf) {
+            pages.set(PageIdUtils.pageIndex(pageId));
+        }
+
+        /**
+         * @param snpName Name of the snapshot which starts the epoch.
+         * @return The previous epoch.
+         */
+        synchronized Epoch startEpoch(String snpName) {
+            Epoch prev = new Epoch(this.snpName, pages);
+
+            this.snpName = snpName;
+
+            pages = new BitSet();
+
+            return prev;
+        }
+
+        /**
+         * @param snpName Name of the failed snapshot.
+         * @param prev Previous epoch.
+         */
+        synchronized void rollbackEpoch(String snpName, Epoch prev) {
+            if (!snpName.equals(this.snpName))
+                return;
+
+            this.snpName = prev.snpName;
+
+            pages.or(prev.pages);
+        }
+    }
+}
@@ -55,6 +55,8 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStor
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.metastorage.MetaStorage;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.Dump;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusMetaIO;
@@ -152,7 +154,17 @@ public class SnapshotPartitionsVerifyHandler implements SnapshotHandler<Snapshot
             if (parts == null)
                 continue;
 
-            for (File part : opCtx.snapshotFileTree().existingCachePartitionFiles(dir, meta.dump(), meta.compressPartitions())) {
+            List<File> files = meta.columnarDump()
+                ? opCtx.snapshotFileTree().existingCachePartitionColumnsFiles(dir)
+                : opCtx.snapshotFileTree().existingCachePartitionFiles(dir, meta.dump(), meta.compressPartitions());
+
+            if (meta.baseSnapshotName() != null) {
+                files = new ArrayList<>(files);
+
+                files.addAll(opCtx.snapshotFileTree().existingCachePartitionPagesFiles(dir));
+            }
+
+            for (File part : files) {
                 int partId = partId(part);
 
                 if (!parts.remove(partId))
@@ -188,12 +200,62 @@ public class SnapshotPartitionsVerifyHandler implements SnapshotHandler<Snapshot
             return new SnapshotPartitionsVerifyHandlerResponse(Collections.emptyMap());
         }
 
-        return new SnapshotPartitionsVerifyHandlerResponse(
-            meta.dump()
-                ? checkDumpFiles(opCtx, partFiles)
-                : checkSnapshotFiles(opCtx.snapshotFileTree(), grpDirs, meta, partFiles, isPunchHoleEnabled(opCtx, grpDirs.keySet()),
+        if (meta.dump())
+            return new SnapshotPartitionsVerifyHandlerResponse(checkDumpFiles(opCtx, partFiles));
+
+        Set<File> pagesFiles = partFiles.stream().filter(SnapshotFileTree::partitionPagesFile).collect(Collectors.toSet());
+
+        partFiles.removeAll(pagesFiles);
+
+        Set<File> restored = skipHash() ? Collections.emptySet() : restorePartitions(opCtx.snapshotFileTree(), pagesFiles);
+
+        if (skipHash() && !pagesFiles.isEmpty() && log.isInfoEnabled()) {
+            log.info("Partitions saved as the pages changed since the base snapshot are not checked [snpName=" +
+                meta.snapshotName() + ", baseSnpName=" + meta.baseSnapshotName() + ", parts=" + pagesFiles.size() + ']');
+        }
+
+        partFiles.addAll(restored);
+
+        try {
+            return new SnapshotPartitionsVerifyHandlerResponse(
+                checkSnapshotFiles(opCtx.snapshotFileTree(), grpDirs, meta, partFiles, isPunchHoleEnabled(opCtx, grpDirs.keySet()),
                     opCtx.progressConsumer() == null ? null : partId -> opCtx.progressConsumer().accept(getClass(), partId))
-        );
+            );
+        }
+        finally {
+            restored.forEach(U::delete);
+        }
+    }
+
+    /**
+     * Restores the partitions saved as the pages changed since the base snapshot to the snapshot temp directory.
+     *
+     * @param sft Snapshot file tree.
+     * @param pagesFiles Partition pages files.
+     * @return Restored partition files.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Set<File> restorePartitions(SnapshotFileTree sft, Set<File> pagesFiles) throws IgniteCheckedException {
+        Set<File> restored = new HashSet<>();
+
+        try {
+            for (File pages : pagesFiles) {
+                File part = SnapshotFileTree.partFileOfPages(pages);
+                File tmp = sft.relocate(part, sft.tempFileTree());
+
+                restored.add(tmp);
+
+                cctx.snapshotMgr().restorePartitionFromPages(sft, part, tmp,
+                    new GroupPartitionId(CU.cacheId(cacheName(pages.getParentFile())), partId(pages)));
+            }
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            restored.forEach(U::delete);
+
+            throw e;
+        }
+
+        return restored;
     }
 
     /** */
@@ -426,6 +488,25 @@ public class SnapshotPartitionsVerifyHandler implements SnapshotHandler<Snapshot
             );
         }
 
+        // The values of the columnar dump are split by the fields, so only the chunks checksums and the count of
+        // the entries are checked.
+        if (dump.columnar()) {
+            try (ColumnarDumpReader reader = dump.columnarReader(folderName, CU.cacheId(grpName), part)) {
+                return new PartitionHashRecord(
+                    new PartitionKey(CU.cacheId(grpName), part, grpName),
+                    false,
+                    cctx.localNode().consistentId(),
+                    null,
+                    reader.verify(),
+                    PartitionHashRecord.PartitionState.OWNING,
+                    new VerifyPartitionContext()
+                );
+            }
+            catch (IOException e) {
+                throw new IgniteException(e);
+            }
+        }
+
         try {
             try (Dump.DumpedPartitionIterator iter = dump.iterator(folderName, CU.cacheId(grpName), part, null)) {
                 long size = 0;
@@ -39,8 +39,11 @@ import org.apache.ignite.internal.processors.cache.persistence.filename.Snapshot
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
 import org.apache.ignite.internal.thread.context.concurrent.IgniteCompletableFuture;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.partPagesFile;
+
 /** */
 public class SnapshotResponseRemoteFutureTask extends AbstractSnapshotFutureTask<Void> {
     /** Snapshot file tree. */
@@ -114,19 +117,43 @@ public class SnapshotResponseRemoteFutureTask extends AbstractSnapshotFutureTask
 
                 File snpPart = sinfo.sft.partitionFile(ccfg, gp.getPartitionId());
 
+                File restored = null;
+
+                if (!snpPart.exists() && partPagesFile(snpPart).exists()) {
+                    // Partition saved as the pages changed since the base snapshot is restored to the temp file.
+                    restored = sinfo.sft.relocate(snpPart, sinfo.sft.tempFileTree());
+
+                    try {
+                        cctx.snapshotMgr().restorePartitionFromPages(sinfo.sft, snpPart, restored, gp);
+                    }
+                    catch (IgniteCheckedException e) {
+                        U.delete(restored);
+
+                        throw new IgniteException(e);
+                    }
+
+                    snpPart = restored;
+                }
+
                 if (!snpPart.exists()) {
                     throw new IgniteException("Snapshot partition file not found [" +
                         "cacheDirs=" + Arrays.toString(sinfo.sft.cacheStorages(ccfg)) +
                         ", pair=" + gp + ']');
                 }
 
-                snpSndr.sendPart(
-                    snpPart,
-                    sft.partitionFile(ccfg, gp.getPartitionId()),
-                    FileTreeUtils.partitionStorage(ccfg, gp.getPartitionId()),
-                    gp,
-                    snpPart.length()
-                );
+                try {
+                    snpSndr.sendPart(
+                        snpPart,
+                        sft.partitionFile(ccfg, gp.getPartitionId()),
+                        FileTreeUtils.partitionStorage(ccfg, gp.getPartitionId()),
+                        gp,
+                        snpPart.length()
+                    );
+                }
+                finally {
+                    if (restored != null)
+                        U.delete(restored);
+                }
             }), snpSndr.executor())
                 .whenComplete((r, t) -> {
                     if (t != null)
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.cache.persistence.snapshot;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -74,16 +75,19 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.persistence.CacheStripedExecutor;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointProgress;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStore;
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileVersionCheckingFactory;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.ClusterSnapshotFuture;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cluster.DiscoveryDataClusterState;
 import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.thread.context.concurrent.IgniteCompletableFuture;
+import org.apache.ignite.internal.util.BasicRateLimiter;
 import org.apache.ignite.internal.util.distributed.DistributedProcess;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
@@ -100,9 +104,13 @@ import org.apache.ignite.plugin.extensions.communication.Message;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.Optional.ofNullable;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_IDX;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree.partId;
+import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.partPagesFile;
 import static org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId.getTypeByPartId;
+import static org.apache.ignite.internal.processors.cache.verify.IdleVerifyUtility.checkPartitionsPageCrcSum;
 import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.RESTORE_CACHE_GROUP_SNAPSHOT_PRELOAD;
 import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.RESTORE_CACHE_GROUP_SNAPSHOT_PREPARE;
 import static org.apache.ignite.internal.util.distributed.DistributedProcess.DistributedProcessType.RESTORE_CACHE_GROUP_SNAPSHOT_ROLLBACK;
@@ -251,6 +259,7 @@ public class SnapshotRestoreProcess {
      * @param cacheGrpNames Cache groups to be restored or {@code null} to restore all cache groups from the snapshot.
      * @param incIdx Index of incremental snapshot.
      * @param check If {@code true} check snapshot before restore.
+     * @param earlyStart If {@code true} start the caches as soon as the local partitions are copied.
      * @return Future that will be completed when the restore operation is complete and the cache groups are started.
      */
     public IgniteFutureImpl<Void> start(
@@ -258,7 +267,8 @@ public class SnapshotRestoreProcess {
         @Nullable String snpPath,
         @Nullable Collection<String> cacheGrpNames,
         int incIdx,
-        boolean check
+        boolean check,
+        boolean earlyStart
     ) {
         IgniteSnapshotManager snpMgr = ctx.cache().context().snapshotMgr();
         ClusterSnapshotFuture fut0;
@@ -315,7 +325,8 @@ public class SnapshotRestoreProcess {
         });
 
         String msg = "Cluster-wide snapshot restore operation started [reqId=" + fut0.rqId + ", snpName=" + snpName +
-            (cacheGrpNames == null ? "" : ", caches=" + cacheGrpNames) + (incIdx > 0 ? ", incrementIndex=" + incIdx : "") + ']';
+            (cacheGrpNames == null ? "" : ", caches=" + cacheGrpNames) + (incIdx > 0 ? ", incrementIndex=" + incIdx : "") +
+            (earlyStart ? ", earlyStart=true" : "") + ']';
 
         if (log.isInfoEnabled())
             log.info(msg);
@@ -409,7 +420,10 @@ public class SnapshotRestoreProcess {
                 false,
                 false,
                 false,
-                false
+                false,
+                false,
+                null,
+                earlyStart
             );
 
             prepareRestoreProc.start(req.requestId(), req);
@@ -1042,6 +1056,7 @@ public class SnapshotRestoreProcess {
                         if (snpGrpParts.contains(partFut.partId)) {
                             copyLocalAsync(
                                 opCtx0,
+                                sft,
                                 sft.partitionFile(ccfg, partFut.partId),
                                 ft.tmpPartition(ccfg, partFut.partId),
                                 grpId,
@@ -1071,10 +1086,27 @@ public class SnapshotRestoreProcess {
                             allParts.computeIfAbsent(grpId, g -> new HashSet<>())
                                 .add(idxFut = new PartitionRestoreFuture(INDEX_PARTITION, opCtx0.processedParts));
 
-                            copyLocalAsync(opCtx0, snpFile, ft.tmpPartition(ccfg, INDEX_PARTITION), grpId, idxFut);
+                            copyLocalAsync(opCtx0, sft, snpFile, ft.tmpPartition(ccfg, INDEX_PARTITION), grpId, idxFut);
                         }
                     }
                 }
+
+                if (opCtx0.earlyStart && !leftParts.isEmpty()) {
+                    // Partitions copied by another owner are loaded by the rebalancing once the caches are started.
+                    Set<PartitionRestoreFuture> rebalanceParts = leftParts.stream()
+                        .filter(partFut -> assignment.get(partFut.partId).stream()
+                            .anyMatch(n -> !n.isLocal() && storedOnNode(opCtx0, n.id(), grpId, partFut.partId)))
+                        .collect(Collectors.toSet());
+
+                    leftParts.removeAll(rebalanceParts);
+                    partFuts.removeAll(rebalanceParts);
+
+                    if (log.isInfoEnabled() && !rebalanceParts.isEmpty()) {
+                        log.info("Partitions will be loaded by the rebalancing after the cache group start " +
+                            "[reqId=" + req.requestId() + ", snapshot=" + opCtx0.snpName + ", grp=" + cacheOrGrpName +
+                            ", parts=" + F.transform(rebalanceParts, p -> p.partId) + ']');
+                    }
+                }
             }
 
             // Load other partitions from remote nodes.
@@ -1133,7 +1165,9 @@ public class SnapshotRestoreProcess {
 
                                 assert partFut != null : snpFile.getAbsolutePath();
 
-                                if (!opCtx0.isGroupCompressed(grpId)) {
+                                boolean checkCrc = opCtx0.checkCrcOnCopy(grpId);
+
+                                if (!opCtx0.isGroupCompressed(grpId) && !checkCrc) {
                                     partFut.complete(snpFile.toPath());
 
                                     return;
@@ -1142,7 +1176,11 @@ public class SnapshotRestoreProcess {
                                 IgniteCompletableFuture.runAsync(
                                     () -> {
                                         try {
-                                            punchHole(grpId, partId, snpFile);
+                                            if (checkCrc)
+                                                checkCrc(opCtx0, grpId, partId, snpFile);
+
+                                            if (opCtx0.isGroupCompressed(grpId))
+                                                punchHole(grpId, partId, snpFile);
 
                                             partFut.complete(snpFile.toPath());
                                         }
@@ -1742,11 +1780,13 @@ public class SnapshotRestoreProcess {
 
     /**
      * @param opCtx Snapshot operation context.
+     * @param sft Snapshot file tree.
      * @param snpFile Snapshot file.
      * @param tmpPartFile Temp partition file.
      */
     private void copyLocalAsync(
         SnapshotRestoreContext opCtx,
+        SnapshotFileTree sft,
         File snpFile,
         File tmpPartFile,
         int grpId,
@@ -1761,12 +1801,26 @@ public class SnapshotRestoreProcess {
             if (Thread.interrupted())
                 throw new IgniteInterruptedException("Thread has been interrupted: " + Thread.currentThread().getName());
 
+            if (!snpFile.exists() && partPagesFile(snpFile).exists()) {
+                try {
+                    snapMgr.restorePartitionFromPages(sft, snpFile, tmpPartFile, new GroupPartitionId(grpId, partFut.partId));
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IgniteException(e);
+                }
+
+                return tmpPartFile.toPath();
+            }
+
             if (!snpFile.exists()) {
                 throw new IgniteException("Partition snapshot file doesn't exist [snpName=" + opCtx.snpName +
                     ", snpDir=" + snpFile.getAbsolutePath() + ", name=" + snpFile.getName() + ']');
             }
 
-            IgniteSnapshotManager.copy(snapMgr.ioFactory(), snpFile, tmpPartFile, snpFile.length());
+            if (opCtx.checkCrcOnCopy(grpId))
+                copyAndCheckCrc(opCtx, grpId, partFut.partId, snpFile, tmpPartFile);
+            else
+                IgniteSnapshotManager.copy(snapMgr.ioFactory(), snpFile, tmpPartFile, snpFile.length(), snapMgr.restoreRateLimiter());
 
             return tmpPartFile.toPath();
         }, snapMgr.snapshotExecutorService());
@@ -1799,6 +1853,85 @@ public class SnapshotRestoreProcess {
             });
     }
 
+    /**
+     * Copies the partition file page by page verifying the page checksums in the same pass.
+     *
+     * @param opCtx Snapshot restore operation context.
+     * @param grpId Cache group id.
+     * @param partId Partition id.
+     * @param snpFile Snapshot partition file.
+     * @param target Target partition file.
+     */
+    private void copyAndCheckCrc(SnapshotRestoreContext opCtx, int grpId, int partId, File snpFile, File target) {
+        IgniteSnapshotManager snapMgr = ctx.cache().context().snapshotMgr();
+        FilePageStoreManager storeMgr = (FilePageStoreManager)ctx.cache().context().pageStore();
+        BasicRateLimiter limiter = snapMgr.restoreRateLimiter();
+
+        try (FilePageStore src = (FilePageStore)storeMgr.getPageStoreFactory(grpId, null)
+                .createPageStore(getTypeByPartId(partId), snpFile, val -> {});
+             FileIO dest = snapMgr.ioFactory().create(target)
+        ) {
+            src.init();
+
+            ByteBuffer hdr = ByteBuffer.allocate(src.headerSize()).order(ByteOrder.nativeOrder());
+
+            src.readHeader(hdr);
+
+            hdr.flip();
+
+            dest.writeFully(hdr, 0);
+
+            checkPartitionsPageCrcSum(() -> src, partId, partId == INDEX_PARTITION ? FLAG_IDX : FLAG_DATA, (pageId, buf) -> {
+                try {
+                    limiter.acquire(buf.remaining());
+
+                    dest.writeFully(buf, src.pageOffset(pageId));
+                }
+                catch (IOException | IgniteInterruptedCheckedException e) {
+                    throw new IgniteException(e);
+                }
+            }, opCtx.stopChecker);
+        }
+        catch (IOException | IgniteCheckedException e) {
+            throw new IgniteException("Unable to copy the snapshot partition file [snpName=" + opCtx.snpName +
+                ", file=" + snpFile.getAbsolutePath() + ']', e);
+        }
+    }
+
+    /**
+     * @param opCtx Snapshot restore operation context.
+     * @param grpId Cache group id.
+     * @param partId Partition id.
+     * @param partFile Partition file.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void checkCrc(SnapshotRestoreContext opCtx, int grpId, int partId, File partFile) throws IgniteCheckedException {
+        FilePageStoreManager storeMgr = (FilePageStoreManager)ctx.cache().context().pageStore();
+
+        try (FilePageStore pageStore = (FilePageStore)storeMgr.getPageStoreFactory(grpId, null)
+            .createPageStore(getTypeByPartId(partId), partFile, val -> {})
+        ) {
+            checkPartitionsPageCrcSum(() -> pageStore, partId, partId == INDEX_PARTITION ? FLAG_IDX : FLAG_DATA, opCtx.stopChecker);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException(e);
+        }
+    }
+
+    /**
+     * @param opCtx Snapshot restore operation context.
+     * @param nodeId Node id.
+     * @param grpId Cache group id.
+     * @param partId Partition id.
+     * @return {@code True} if the partition is stored in the snapshot on the given node.
+     */
+    private static boolean storedOnNode(SnapshotRestoreContext opCtx, UUID nodeId, int grpId, int partId) {
+        List<SnapshotMetadata> metas = opCtx.metasPerNode.get(nodeId);
+
+        return metas != null && metas.stream()
+            .anyMatch(meta -> meta.partitions().getOrDefault(grpId, Collections.emptySet()).contains(partId));
+    }
+
     /** */
     private void punchHole(int grpId, int partId, File partFile) throws Exception {
         FilePageStoreManager storeMgr = (FilePageStoreManager)ctx.cache().context().pageStore();
@@ -1880,6 +2013,9 @@ public class SnapshotRestoreProcess {
         /** Index of incremental snapshot, {@code 0} if no incremental snapshot to restore. */
         private final int incIdx;
 
+        /** If {@code true} then the caches are started as soon as the local partitions are copied. */
+        private final boolean earlyStart;
+
         /**
          * Map of restored cache groups path on local node. Collected when all cache configurations received
          * from the <tt>prepare</tt> distributed process.
@@ -1937,6 +2073,7 @@ public class SnapshotRestoreProcess {
             nodes = null;
             snpPath = null;
             incIdx = 0;
+            earlyStart = false;
         }
 
         /**
@@ -1948,6 +2085,7 @@ public class SnapshotRestoreProcess {
             snpPath = req.snapshotPath();
             opNodeId = req.operationalNodeId();
             incIdx = req.incrementIndex();
+            earlyStart = req.earlyStart();
             startTime = U.currentTimeMillis();
             nodes = req.nodes();
         }
@@ -1968,6 +2106,12 @@ public class SnapshotRestoreProcess {
         void addCompressedGroup(int grpId) {
             comprGrps.add(grpId);
         }
+
+        /** @return {@code True} if the page checksums of the group partitions are verified while the files are copied. */
+        boolean checkCrcOnCopy(int grpId) {
+            return earlyStart && cfgs.values().stream()
+                .noneMatch(data -> CU.cacheGroupId(data.config()) == grpId && data.config().isEncryptionEnabled());
+        }
     }
 
     /** Future will be completed when partition processing ends. */
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointProgress;
+import org.apache.ignite.internal.util.BasicRateLimiter;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.MARKER_STORED_TO_DISK;
+
+/**
+ * Rate limiter of the snapshot and dump files created on the local node.
+ * <p>
+ * In the low-impact mode the background copy of the files yields to the foreground checkpoint: a permit is not granted
+ * while the running checkpoint writes its pages, so the checkpoint gets the whole disk bandwidth. The copy waits for
+ * each checkpoint no longer than {@link #MAX_CHECKPOINT_YIELD_TIME_MS}, so the snapshot is completed even under
+ * the continuous checkpoints. Note, the pages copied to the delta files on write by the checkpoint threads are never
+ * throttled, since it would block the checkpoint itself.
+ */
+class SnapshotTransferRateLimiter extends BasicRateLimiter {
+    /** Maximum time the copy waits for the pages of a checkpoint to be written. */
+    static final long MAX_CHECKPOINT_YIELD_TIME_MS = 5_000L;
+
+    /** Progress of the current checkpoint or {@code null} if there is no checkpointer. */
+    private final Supplier<CheckpointProgress> cpProgress;
+
+    /** If {@code true} then the copy yields to the running checkpoint. */
+    private volatile boolean lowImpact;
+
+    /** The last checkpoint the copy has waited for. */
+    private volatile CheckpointProgress yieldedCp;
+
+    /** Time the copy has waited for the permits since the last {@link #resetMetrics()}, in nanoseconds. */
+    private final LongAdder throttleTime = new LongAdder();
+
+    /** Time the copy has yielded to the checkpoints since the last {@link #resetMetrics()}, in nanoseconds. */
+    private final LongAdder cpYieldTime = new LongAdder();
+
+    /** Permits acquired since the last {@link #resetMetrics()}. */
+    private final LongAdder acquired = new LongAdder();
+
+    /**
+     * @param permitsPerSecond Estimated number of permits per second.
+     * @param cpProgress Progress of the current checkpoint.
+     */
+    SnapshotTransferRateLimiter(double permitsPerSecond, Supplier<CheckpointProgress> cpProgress) {
+        super(permitsPerSecond);
+
+        this.cpProgress = cpProgress;
+    }
+
+    /** @param lowImpact If {@code true} then the copy yields to the running checkpoint. */
+    void lowImpact(boolean lowImpact) {
+        this.lowImpact = lowImpact;
+    }
+
+    /** @return {@code True} if the copy yields to the running checkpoint. */
+    boolean lowImpact() {
+        return lowImpact;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The copy is never unlimited in the low-impact mode, so the files are copied by blocks yielding to the checkpoint.
+     */
+    @Override public boolean isUnlimited() {
+        return !lowImpact && super.isUnlimited();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void acquire(long permits) throws IgniteInterruptedCheckedException {
+        acquired.add(permits);
+
+        if (lowImpact)
+            yieldToCheckpoint();
+
+        if (getRate() == 0)
+            return;
+
+        long start = System.nanoTime();
+
+        super.acquire(permits);
+
+        throttleTime.add(System.nanoTime() - start);
+    }
+
+    /** Waits for the pages of the running checkpoint to be written. */
+    private void yieldToCheckpoint() throws IgniteInterruptedCheckedException {
+        CheckpointProgress cp = cpProgress.get();
+
+        if (cp == null || cp == yieldedCp || !cp.inProgress() || cp.futureFor(MARKER_STORED_TO_DISK).isDone())
+            return;
+
+        long start = System.nanoTime();
+
+        try {
+            cp.futureFor(MARKER_STORED_TO_DISK).get(MAX_CHECKPOINT_YIELD_TIME_MS);
+        }
+        catch (IgniteInterruptedCheckedException e) {
+            throw e;
+        }
+        catch (IgniteCheckedException ignore) {
+            // The checkpoint is too long or has failed, the copy proceeds anyway.
+        }
+        finally {
+            yieldedCp = cp;
+
+            cpYieldTime.add(System.nanoTime() - start);
+        }
+    }
+
+    /** Resets the metrics of the copy, e.g. once a new snapshot operation is started. */
+    void resetMetrics() {
+        throttleTime.reset();
+        cpYieldTime.reset();
+        acquired.reset();
+    }
+
+    /** @return Time the copy has waited for the permits, in milliseconds. */
+    long throttleTime() {
+        return NANOSECONDS.toMillis(throttleTime.sum());
+    }
+
+    /** @return Time the copy has yielded to the checkpoints, in milliseconds. */
+    long checkpointYieldTime() {
+        return NANOSECONDS.toMillis(cpYieldTime.sum());
+    }
+
+    /** @return Permits acquired, i.e. the bytes copied under the rate limit. */
+    long acquired() {
+        return acquired.sum();
+    }
+}
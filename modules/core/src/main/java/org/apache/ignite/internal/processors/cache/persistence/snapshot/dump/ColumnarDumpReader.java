@@ -0,0 +1,571 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot.dump;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.pagemem.wal.record.UnwrapDataEntry;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProcessor;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads the dump partition stored column-wise. Only the chunks of the projected columns are read from the file,
+ * the row groups can be skipped by the min/max statistics of the columns.
+ *
+ * @see ColumnarDumpWriter
+ */
+public class ColumnarDumpReader implements AutoCloseable {
+    /** Cache id column. */
+    public static final String CACHE_ID_COL = "_CACHE_ID";
+
+    /** Expire time column. */
+    public static final String EXPIRE_TIME_COL = "_EXPIRE_TIME";
+
+    /** Key column. */
+    public static final String KEY_COL = "_KEY";
+
+    /** Type id column of the binary object values. */
+    public static final String TYPE_ID_COL = "_TYPE_ID";
+
+    /** Column of the values which are not the binary objects. */
+    public static final String VAL_COL = "_VAL";
+
+    /** Magic number of the columnar dump file. */
+    static final int MAGIC = 0x49434F4C;
+
+    /** Size of the file trailer: row groups count, footer size and magic. */
+    private static final int TRAILER_SZ = 3 * Integer.BYTES;
+
+    /** Partition dump file. */
+    private final FileIO file;
+
+    /** Row groups. */
+    private final List<RowGroup> rowGroups;
+
+    /** Cache object processor. */
+    private final IgniteCacheObjectProcessor co;
+
+    /** Fake context. */
+    private final CacheObjectContext fakeCacheObjCtx;
+
+    /** If {@code true} then return the binary objects as is. */
+    private final boolean keepBinary;
+
+    /** If {@code true} then return the values of other types as {@link CacheObject}. */
+    private final boolean raw;
+
+    /** Chunk decompressor. */
+    private final Inflater inflater = new Inflater();
+
+    /**
+     * @param cctx Kernal context.
+     * @param dumpFile Partition dump file.
+     * @param keepBinary If {@code true} then return the binary objects as is.
+     * @param raw If {@code true} then return the values of other types as {@link CacheObject}.
+     * @throws IOException If failed.
+     */
+    public ColumnarDumpReader(GridKernalContext cctx, File dumpFile, boolean keepBinary, boolean raw) throws IOException {
+        this.keepBinary = keepBinary;
+        this.raw = raw;
+
+        co = cctx.cacheObjects();
+        fakeCacheObjCtx = new CacheObjectContext(cctx, null, null, false, false, false, false);
+
+        file = new RandomAccessFileIO(dumpFile, READ);
+
+        try {
+            rowGroups = readFooter();
+        }
+        catch (IOException | RuntimeException e) {
+            U.closeQuiet(file);
+
+            throw e;
+        }
+    }
+
+    /** @return Row groups. */
+    public List<RowGroup> rowGroups() {
+        return Collections.unmodifiableList(rowGroups);
+    }
+
+    /**
+     * @param cols Projected columns.
+     * @param filter Filter of the row groups to read, e.g. by the column statistics, or {@code null} to read all.
+     * @return Iterator of the entries. Each entry is an array of the projected columns values in the given order.
+     * The value is {@code null} if the entry has no such column.
+     */
+    public Iterator<Object[]> rows(List<String> cols, @Nullable Predicate<RowGroup> filter) {
+        Iterator<RowGroup> grps = rowGroups.iterator();
+
+        return new Iterator<Object[]>() {
+            /** Values of the current row group by the projected columns. */
+            private Object[][] vals;
+
+            /** Count of the entries of the current row group. */
+            private int rows;
+
+            /** Index of the next entry of the current row group. */
+            private int row;
+
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                while (row == rows) {
+                    if (!grps.hasNext())
+                        return false;
+
+                    RowGroup grp = grps.next();
+
+                    if (filter != null && !filter.test(grp))
+                        continue;
+
+                    vals = new Object[cols.size()][];
+
+                    for (int i = 0; i < cols.size(); i++)
+                        vals[i] = readColumn(grp, cols.get(i));
+
+                    rows = grp.rows;
+                    row = 0;
+                }
+
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override public Object[] next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                Object[] res = new Object[cols.size()];
+
+                for (int i = 0; i < res.length; i++)
+                    res[i] = vals[i][row];
+
+                row++;
+
+                return res;
+            }
+        };
+    }
+
+    /**
+     * Reads all the column chunks and checks their checksums.
+     *
+     * @return Count of the entries.
+     */
+    public long verify() {
+        long cnt = 0;
+
+        for (RowGroup grp : rowGroups) {
+            for (String col : grp.cols.keySet())
+                readColumn(grp, col);
+
+            cnt += grp.rows;
+        }
+
+        return cnt;
+    }
+
+    /**
+     * @param grp Row group.
+     * @param name Column name.
+     * @return Column values.
+     */
+    private Object[] readColumn(RowGroup grp, String name) {
+        Object[] vals = new Object[grp.rows];
+
+        Column col = grp.column(name);
+
+        if (col == null)
+            return vals;
+
+        try {
+            ByteBuffer buf = ByteBuffer.allocate(col.size);
+
+            if (file.readFully(buf, col.off) != col.size)
+                throw new IOException("Can't read column chunk [col=" + name + ", off=" + col.off + ']');
+
+            buf.flip();
+
+            int crc = FastCrc.calcCrc(buf, col.size);
+
+            if (crc != col.crc)
+                throw new IOException("Column chunk corrupted [col=" + name + ", expCrc=" + col.crc + ", crc=" + crc + ']');
+
+            byte[] bytes = buf.array();
+
+            if (col.size < col.plainSize) {
+                byte[] plain = new byte[col.plainSize];
+
+                inflater.reset();
+                inflater.setInput(bytes);
+
+                if (inflater.inflate(plain) != col.plainSize)
+                    throw new IOException("Can't decompress column chunk [col=" + name + ']');
+
+                bytes = plain;
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+            byte[] nulls = new byte[(grp.rows + 7) / 8];
+
+            in.readFully(nulls);
+
+            for (int i = 0; i < grp.rows; i++) {
+                if ((nulls[i >> 3] & (1 << (i & 7))) == 0)
+                    vals[i] = col.type == ColumnType.OBJECT ? readObject(in) : readValue(in, col.type);
+            }
+
+            return vals;
+        }
+        catch (IOException | DataFormatException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * @param in Input.
+     * @return Value.
+     */
+    private Object readObject(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        byte[] bytes = new byte[in.readInt()];
+
+        in.readFully(bytes);
+
+        CacheObject obj = co.toCacheObject(fakeCacheObjCtx, type, bytes);
+
+        return raw ? obj : UnwrapDataEntry.unwrapValue(obj, keepBinary, fakeCacheObjCtx);
+    }
+
+    /** @return Row groups read from the footer. */
+    private List<RowGroup> readFooter() throws IOException {
+        long len = file.size();
+
+        if (len < TRAILER_SZ)
+            throw new IOException("Columnar dump file is too short: " + len);
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SZ);
+
+        if (file.readFully(trailer, len - TRAILER_SZ) != TRAILER_SZ)
+            throw new IOException("Can't read columnar dump trailer");
+
+        trailer.flip();
+
+        int grpsCnt = trailer.getInt();
+        int footerSz = trailer.getInt();
+
+        if (trailer.getInt() != MAGIC)
+            throw new IOException("Not a columnar dump file");
+
+        ByteBuffer footer = ByteBuffer.allocate(footerSz);
+
+        if (file.readFully(footer, len - TRAILER_SZ - footerSz) != footerSz)
+            throw new IOException("Can't read columnar dump footer");
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer.array()));
+
+        List<RowGroup> grps = new ArrayList<>(grpsCnt);
+
+        for (int i = 0; i < grpsCnt; i++) {
+            int rows = in.readInt();
+            int colsCnt = in.readInt();
+
+            Map<String, Column> cols = new LinkedHashMap<>();
+
+            for (int j = 0; j < colsCnt; j++) {
+                String name = readString(in);
+                ColumnType type = ColumnType.values()[in.readByte()];
+                long off = in.readLong();
+                int size = in.readInt();
+                int plainSize = in.readInt();
+                int crc = in.readInt();
+                int nulls = in.readInt();
+
+                Object min = null;
+                Object max = null;
+
+                if (in.readBoolean()) {
+                    min = readValue(in, type);
+                    max = readValue(in, type);
+                }
+
+                cols.put(name, new Column(name, type, off, size, plainSize, crc, nulls, min, max));
+            }
+
+            grps.add(new RowGroup(rows, cols));
+        }
+
+        return grps;
+    }
+
+    /**
+     * @param in Input.
+     * @param type Column type.
+     * @return Value.
+     */
+    private static Object readValue(DataInputStream in, ColumnType type) throws IOException {
+        switch (type) {
+            case INT:
+                return in.readInt();
+
+            case LONG:
+                return in.readLong();
+
+            case DOUBLE:
+                return in.readDouble();
+
+            case STRING:
+                return readString(in);
+
+            default:
+                throw new IllegalArgumentException("Unexpected column type: " + type);
+        }
+    }
+
+    /**
+     * @param in Input.
+     * @return String.
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param name Column name.
+     * @return {@code True} if the column is written for each entry regardless of its value.
+     */
+    static boolean systemColumn(String name) {
+        return CACHE_ID_COL.equals(name) || EXPIRE_TIME_COL.equals(name) || KEY_COL.equals(name) ||
+            TYPE_ID_COL.equals(name) || VAL_COL.equals(name);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IOException {
+        inflater.end();
+
+        file.close();
+    }
+
+    /** Type of the column chunk. */
+    public enum ColumnType {
+        /** {@link Integer} values. */
+        INT,
+
+        /** {@link Long} values. */
+        LONG,
+
+        /** {@link Double} values. */
+        DOUBLE,
+
+        /** {@link String} values. */
+        STRING,
+
+        /** Values of other or mixed types stored as the cache objects. The column has no statistics. */
+        OBJECT;
+
+        /**
+         * @param val Value.
+         * @return Type of the column which stores the value as is.
+         */
+        static ColumnType of(Object val) {
+            if (val instanceof Integer)
+                return INT;
+
+            if (val instanceof Long)
+                return LONG;
+
+            if (val instanceof Double)
+                return DOUBLE;
+
+            if (val instanceof String)
+                return STRING;
+
+            return OBJECT;
+        }
+    }
+
+    /** Group of the entries stored column-wise. */
+    public static class RowGroup {
+        /** Count of the entries. */
+        private final int rows;
+
+        /** Column chunks. */
+        private final Map<String, Column> cols;
+
+        /**
+         * @param rows Count of the entries.
+         * @param cols Column chunks.
+         */
+        private RowGroup(int rows, Map<String, Column> cols) {
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        /** @return Count of the entries. */
+        public int rows() {
+            return rows;
+        }
+
+        /** @return Names of the columns. */
+        public Collection<String> columns() {
+            return Collections.unmodifiableCollection(cols.keySet());
+        }
+
+        /**
+         * @param name Column name.
+         * @return Column chunk or {@code null} if no entry of the group has such column.
+         */
+        public @Nullable Column column(String name) {
+            return cols.get(name);
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(RowGroup.class, this);
+        }
+    }
+
+    /** Column chunk of a row group. */
+    public static class Column {
+        /** Column name. */
+        private final String name;
+
+        /** Column type. */
+        private final ColumnType type;
+
+        /** Position of the chunk in the file. */
+        private final long off;
+
+        /** Size of the stored chunk. */
+        private final int size;
+
+        /** Size of the decompressed chunk. */
+        private final int plainSize;
+
+        /** Checksum of the stored chunk. */
+        private final int crc;
+
+        /** Count of the null values. */
+        private final int nulls;
+
+        /** Min value. */
+        private final @Nullable Object min;
+
+        /** Max value. */
+        private final @Nullable Object max;
+
+        /**
+         * @param name Column name.
+         * @param type Column type.
+         * @param off Position of the chunk in the file.
+         * @param size Size of the stored chunk.
+         * @param plainSize Size of the decompressed chunk.
+         * @param crc Checksum of the stored chunk.
+         * @param nulls Count of the null values.
+         * @param min Min value.
+         * @param max Max value.
+         */
+        private Column(
+            String name,
+            ColumnType type,
+            long off,
+            int size,
+            int plainSize,
+            int crc,
+            int nulls,
+            @Nullable Object min,
+            @Nullable Object max
+        ) {
+            this.name = name;
+            this.type = type;
+            this.off = off;
+            this.size = size;
+            this.plainSize = plainSize;
+            this.crc = crc;
+            this.nulls = nulls;
+            this.min = min;
+            this.max = max;
+        }
+
+        /** @return Column name. */
+        public String name() {
+            return name;
+        }
+
+        /** @return Column type. */
+        public ColumnType type() {
+            return type;
+        }
+
+        /** @return Size of the stored chunk in bytes. */
+        public int size() {
+            return size;
+        }
+
+        /** @return Count of the null values. */
+        public int nullCount() {
+            return nulls;
+        }
+
+        /** @return Min value or {@code null} if the column has no statistics or all the values are {@code null}. */
+        public @Nullable Object min() {
+            return min;
+        }
+
+        /** @return Max value or {@code null} if the column has no statistics or all the values are {@code null}. */
+        public @Nullable Object max() {
+            return max;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Column.class, this);
+        }
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot.dump;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.ColumnType;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.CACHE_ID_COL;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.EXPIRE_TIME_COL;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.KEY_COL;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.MAGIC;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.TYPE_ID_COL;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.VAL_COL;
+
+/**
+ * Writes the entries of a dump partition column-wise.
+ * The entries are buffered and written by the row groups of {@link #ROW_GROUP_SIZE} entries. Each field of the binary
+ * object values is written as a separate column, other values are written to the {@link ColumnarDumpReader#VAL_COL}
+ * column. A row group stores a chunk per column, the positions and the statistics of the chunks are written to
+ * the footer once all the entries are written:
+ * <pre>
+ * +----------------+-----+----------------+--------+-------------+-------------+---------+
+ * |                |     |                |        | 4 bytes     | 4 bytes     | 4 bytes |
+ * +----------------+-----+----------------+--------+-------------+-------------+---------+
+ * | column chunks  | ... | column chunks  | footer | row groups  | footer size | magic   |
+ * | of row group 0 |     | of row group N |        | count       |             |         |
+ * +----------------+-----+----------------+--------+-------------+-------------+---------+
+ * </pre>
+ * A column chunk is a bit set of the null values followed by the non-null values. The chunk is compressed if
+ * the dump is compressed and the compressed chunk is smaller. The integer, long, double and string columns are
+ * stored as is and have the min/max statistics, the values of other types are stored as the cache objects.
+ *
+ * @see ColumnarDumpReader
+ */
+class ColumnarDumpWriter implements Closeable {
+    /** Count of the entries in a row group. */
+    static final int ROW_GROUP_SIZE = 4096;
+
+    /** Partition dump file. */
+    private final FileIO file;
+
+    /** If {@code true} then compress the column chunks. */
+    private final boolean compress;
+
+    /** Processed dump size in bytes. */
+    private final AtomicLong processedSize;
+
+    /** Values of the buffered row group. Key is the column name. */
+    private final Map<String, Object[]> cols = new LinkedHashMap<>();
+
+    /** Count of the buffered entries. */
+    private int rows;
+
+    /** Count of the written row groups. */
+    private int rowGroups;
+
+    /** Position of the next chunk in the file. */
+    private long pos;
+
+    /** Context of the last written entry. */
+    private CacheObjectContext coCtx;
+
+    /** Chunk bytes. */
+    private final ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+
+    /** Footer bytes. */
+    private final ByteArrayOutputStream footer = new ByteArrayOutputStream();
+
+    /** Chunk compressor. */
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    /**
+     * @param file Partition dump file.
+     * @param compress If {@code true} then compress the column chunks.
+     * @param processedSize Processed dump size in bytes.
+     */
+    ColumnarDumpWriter(FileIO file, boolean compress, AtomicLong processedSize) {
+        this.file = file;
+        this.compress = compress;
+        this.processedSize = processedSize;
+    }
+
+    /**
+     * @param cache Cache id.
+     * @param expireTime Expire time.
+     * @param key Key.
+     * @param val Value.
+     * @param coCtx Cache object context.
+     * @return Count of bytes written to the file, {@code 0} if the entry is buffered.
+     */
+    long write(
+        int cache,
+        long expireTime,
+        KeyCacheObject key,
+        CacheObject val,
+        CacheObjectContext coCtx
+    ) throws IgniteCheckedException, IOException {
+        this.coCtx = coCtx;
+
+        put(CACHE_ID_COL, cache);
+        put(EXPIRE_TIME_COL, expireTime);
+        put(KEY_COL, columnValue(key, coCtx));
+
+        if (val.cacheObjectType() == CacheObject.TYPE_BINARY) {
+            BinaryObject obj = (BinaryObject)val;
+
+            put(TYPE_ID_COL, obj.type().typeId());
+
+            for (String fld : obj.type().fieldNames()) {
+                if (ColumnarDumpReader.systemColumn(fld))
+                    throw new IgniteCheckedException("Field name clashes with the dump system column: " + fld);
+
+                Object fldVal = obj.field(fld);
+
+                if (fldVal != null)
+                    put(fld, columnValue(fldVal, coCtx));
+            }
+        }
+        else
+            put(VAL_COL, columnValue(val, coCtx));
+
+        return ++rows == ROW_GROUP_SIZE ? flush() : 0;
+    }
+
+    /**
+     * @param col Column name.
+     * @param val Value.
+     */
+    private void put(String col, Object val) {
+        cols.computeIfAbsent(col, c -> new Object[ROW_GROUP_SIZE])[rows] = val;
+    }
+
+    /**
+     * @param val Value.
+     * @param coCtx Cache object context.
+     * @return Value stored as is if the column of its type has the statistics, the cache object otherwise.
+     */
+    private static Object columnValue(Object val, CacheObjectContext coCtx) throws IgniteCheckedException {
+        if (val instanceof CacheObject && ((CacheObject)val).cacheObjectType() == CacheObject.TYPE_REGULAR) {
+            Object val0 = ((CacheObject)val).value(coCtx, false);
+
+            if (ColumnType.of(val0) != ColumnType.OBJECT)
+                return val0;
+        }
+        else if (ColumnType.of(val) != ColumnType.OBJECT)
+            return val;
+
+        CacheObject obj = val instanceof CacheObject
+            ? (CacheObject)val
+            : coCtx.kernalContext().cacheObjects().toCacheObject(coCtx, val, false);
+
+        // Keeps the bytes, so the value isn't marshalled with a context of other cache.
+        obj.valueBytes(coCtx);
+
+        return obj;
+    }
+
+    /**
+     * Writes the buffered row group.
+     *
+     * @return Count of bytes written to the file.
+     */
+    private long flush() throws IgniteCheckedException, IOException {
+        if (rows == 0)
+            return 0;
+
+        long start = pos;
+
+        DataOutputStream out = new DataOutputStream(footer);
+
+        out.writeInt(rows);
+        out.writeInt(cols.size());
+
+        for (Map.Entry<String, Object[]> e : cols.entrySet())
+            writeChunk(out, e.getKey(), e.getValue());
+
+        cols.clear();
+
+        rows = 0;
+
+        rowGroups++;
+
+        return pos - start;
+    }
+
+    /**
+     * @param meta Footer output.
+     * @param name Column name.
+     * @param vals Column values.
+     */
+    private void writeChunk(DataOutputStream meta, String name, Object[] vals) throws IgniteCheckedException, IOException {
+        ColumnType type = null;
+        int nulls = 0;
+
+        for (int i = 0; i < rows; i++) {
+            if (vals[i] == null) {
+                nulls++;
+
+                continue;
+            }
+
+            ColumnType valType = ColumnType.of(vals[i]);
+
+            type = type == null || type == valType ? valType : ColumnType.OBJECT;
+        }
+
+        if (type == null)
+            type = ColumnType.OBJECT;
+
+        chunk.reset();
+
+        DataOutputStream out = new DataOutputStream(chunk);
+
+        byte[] nullsBits = new byte[(rows + 7) / 8];
+
+        for (int i = 0; i < rows; i++) {
+            if (vals[i] == null)
+                nullsBits[i >> 3] |= 1 << (i & 7);
+        }
+
+        out.write(nullsBits);
+
+        Comparable<Object> min = null;
+        Comparable<Object> max = null;
+
+        for (int i = 0; i < rows; i++) {
+            Object val = vals[i];
+
+            if (val == null)
+                continue;
+
+            if (type == ColumnType.OBJECT) {
+                CacheObject obj = val instanceof CacheObject
+                    ? (CacheObject)val
+                    : coCtx.kernalContext().cacheObjects().toCacheObject(coCtx, val, false);
+
+                byte[] bytes = obj.valueBytes(coCtx);
+
+                out.writeByte(obj.cacheObjectType());
+                out.writeInt(bytes.length);
+                out.write(bytes);
+
+                continue;
+            }
+
+            writeValue(out, type, val);
+
+            Comparable<Object> cmp = (Comparable<Object>)val;
+
+            if (min == null || cmp.compareTo(min) < 0)
+                min = cmp;
+
+            if (max == null || cmp.compareTo(max) > 0)
+                max = cmp;
+        }
+
+        int plainSize = chunk.size();
+        byte[] bytes = chunk.toByteArray();
+        int size = plainSize;
+
+        if (compress) {
+            byte[] compressed = new byte[plainSize];
+
+            deflater.reset();
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            int comprSize = deflater.deflate(compressed);
+
+            // Keeps the plain chunk if the compressed one isn't smaller.
+            if (deflater.finished() && comprSize < plainSize) {
+                bytes = compressed;
+                size = comprSize;
+            }
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(bytes, 0, size);
+
+        int crc = FastCrc.calcCrc(buf, size);
+
+        buf.position(0);
+
+        if (file.writeFully(buf) != size)
+            throw new IOException("Can't write column chunk [col=" + name + ", size=" + size + ']');
+
+        processedSize.addAndGet(size);
+
+        writeString(meta, name);
+        meta.writeByte(type.ordinal());
+        meta.writeLong(pos);
+        meta.writeInt(size);
+        meta.writeInt(plainSize);
+        meta.writeInt(crc);
+        meta.writeInt(nulls);
+
+        meta.writeBoolean(min != null);
+
+        if (min != null) {
+            writeValue(meta, type, min);
+            writeValue(meta, type, max);
+        }
+
+        pos += size;
+    }
+
+    /**
+     * @param out Output.
+     * @param type Column type.
+     * @param val Value.
+     */
+    static void writeValue(DataOutputStream out, ColumnType type, Object val) throws IOException {
+        switch (type) {
+            case INT:
+                out.writeInt((Integer)val);
+
+                break;
+
+            case LONG:
+                out.writeLong((Long)val);
+
+                break;
+
+            case DOUBLE:
+                out.writeDouble((Double)val);
+
+                break;
+
+            case STRING:
+                writeString(out, (String)val);
+
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unexpected column type: " + type);
+        }
+    }
+
+    /**
+     * @param out Output.
+     * @param str String.
+     */
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** Writes the buffered entries and the footer. */
+    @Override public void close() throws IOException {
+        try {
+            flush();
+
+            DataOutputStream out = new DataOutputStream(footer);
+
+            out.writeInt(rowGroups);
+            out.writeInt(footer.size() - Integer.BYTES);
+            out.writeInt(MAGIC);
+
+            ByteBuffer buf = ByteBuffer.wrap(footer.toByteArray());
+
+            if (file.writeFully(buf) != footer.size())
+                throw new IOException("Can't write dump footer");
+
+            processedSize.addAndGet(footer.size());
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException(e);
+        }
+        finally {
+            deflater.end();
+        }
+    }
+}
@@ -75,6 +75,7 @@ import org.apache.ignite.internal.util.lang.GridCloseableIterator;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.DumpEntrySerializer.plainDataSize;
 import static org.apache.ignite.internal.util.IgniteUtils.toLong;
 
 /**
@@ -82,6 +83,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.toLong;
  * Dump is a consistent snapshot of cache entries.
  * Directories structure is same as a full snapshot but each partitions saved in "part-0.dump" file.
  * Files structure is a set of {@link DumpEntry} written one by one.
+ * The columnar dump stores the entries of each partition column-wise in "part-0.dump.col" file, see {@link ColumnarDumpWriter}.
  *
  * @see Dump
  * @see DumpEntry
@@ -96,6 +98,9 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
     /** If {@code true} then only cache config and metadata included in snapshot. */
     private final boolean configOnly;
 
+    /** If {@code true} then the entries are stored column-wise. */
+    private final boolean columnar;
+
     /** Dump transfer rate limiter. */
     private final BasicRateLimiter rateLimiter;
 
@@ -151,6 +156,7 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
      * @param compress If {@code true} then compress partition files.
      * @param encrypt If {@code true} then content of dump encrypted.
      * @param configOnly If {@code true} then only cache config and metadata included in snapshot.
+     * @param columnar If {@code true} then the entries are stored column-wise.
      */
     public CreateDumpFutureTask(
         GridCacheSharedContext<?, ?> cctx,
@@ -163,7 +169,8 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
         Map<Integer, Set<Integer>> parts,
         boolean compress,
         boolean encrypt,
-        boolean configOnly
+        boolean configOnly,
+        boolean columnar
     ) {
         super(
             cctx,
@@ -174,10 +181,12 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
             parts
         );
 
-        this.ioFactory = compress ? new WriteOnlyZipFileIOFactory(ioFactory) : new BufferedFileIOFactory(ioFactory);
+        // The columnar dump compresses each column chunk separately.
+        this.ioFactory = compress && !columnar ? new WriteOnlyZipFileIOFactory(ioFactory) : new BufferedFileIOFactory(ioFactory);
 
         this.compress = compress;
         this.configOnly = configOnly;
+        this.columnar = columnar;
         this.rateLimiter = rateLimiter;
         this.encKey = encrypt ? cctx.gridConfig().getEncryptionSpi().create() : null;
         this.encThLocBufs = encrypt ? new ConcurrentHashMap<>() : null;
@@ -449,6 +458,12 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
         /** Count of entries changed during dump creation. */
         private final LongAdder changedCnt = new LongAdder();
 
+        /**
+         * Bytes written on behalf of the user threads changing the entries. The user threads are never throttled,
+         * the rate limit permits of these bytes are acquired by the partition iterator instead.
+         */
+        private final AtomicLong unpaidSize = new AtomicLong();
+
         /** Partition dump file. Lazily initialized to prevent creation files for empty partitions. */
         private final FileIO file;
 
@@ -458,6 +473,9 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
         /** Partition serializer. */
         private final DumpEntrySerializer serializer;
 
+        /** Writer of the entries column-wise or {@code null} if the entries are written by {@link #serializer}. */
+        private final @Nullable ColumnarDumpWriter colWriter;
+
         /** If {@code true} context is closed. */
         private volatile boolean closed;
 
@@ -497,12 +515,16 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
                 for (int cache : gctx.cacheIds())
                     changed.put(cache, new GridConcurrentHashSet<>());
 
-                File dumpFile = sft.dumpPartition(gctx.config(), part, compress);
+                File dumpFile = columnar
+                    ? sft.dumpPartitionColumns(gctx.config(), part)
+                    : sft.dumpPartition(gctx.config(), part, compress);
 
                 if (!dumpFile.createNewFile())
                     throw new IgniteException("Dump file can't be created: " + dumpFile);
 
                 file = ioFactory.create(dumpFile);
+
+                colWriter = columnar ? new ColumnarDumpWriter(file, compress, processedSize) : null;
             }
             catch (IOException e) {
                 throw new IgniteException(e);
@@ -548,7 +570,7 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
                                 // Previous value is null. Entry created after dump start, skip.
                                 reasonToSkip = "newly created or already removed";
                             else
-                                write(cache, expireTime, key, val, ver, coCtx);
+                                unpaidSize.addAndGet(write(cache, expireTime, key, val, ver, coCtx));
                         }
 
                         if (reasonToSkip == null)
@@ -595,6 +617,10 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
             if (afterStart(ver))
                 reason = "greater version";
             else {
+                // Throttles out of the lock by the estimated entry size, so the user threads changing the entries
+                // aren't blocked by the rate limit.
+                rateLimiter.acquire(Integer.BYTES + plainDataSize(key, val, ver, coCtx) + unpaidSize.getAndSet(0));
+
                 synchronized (serializer) { // Prevent concurrent access to the dump file.
                     iterLastKeyCache = cache;
                     iterLastKey = key;
@@ -620,8 +646,8 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
             return reason == null;
         }
 
-        /** */
-        private void write(
+        /** @return Count of bytes written to the dump file. */
+        private long write(
             int cache,
             long expireTime,
             KeyCacheObject key,
@@ -629,14 +655,17 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
             GridCacheVersion ver,
             CacheObjectContext coCtx
         ) throws IgniteCheckedException, IOException {
-            ByteBuffer buf = serializer.writeToBuffer(cache, expireTime, key, val, ver, coCtx);
+            if (colWriter != null)
+                return colWriter.write(cache, expireTime, key, val, coCtx);
 
-            rateLimiter.acquire(buf.limit());
+            ByteBuffer buf = serializer.writeToBuffer(cache, expireTime, key, val, ver, coCtx);
 
             if (file.writeFully(buf) != buf.limit())
                 throw new IgniteException("Can't write row");
 
             processedSize.addAndGet(buf.limit());
+
+            return buf.limit();
         }
 
         /**
@@ -698,8 +727,9 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
             while (writers.get() > 0) // Waiting for all on the fly listeners to complete.
                 LockSupport.parkNanos(1_000_000);
 
-            try {
-                file.close();
+            try (FileIO file0 = file) {
+                if (colWriter != null)
+                    colWriter.close();
             }
             catch (IOException e) {
                 throw new IgniteException(e);
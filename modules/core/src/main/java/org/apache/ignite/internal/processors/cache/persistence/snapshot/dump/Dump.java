@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -51,6 +52,7 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactor
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.SnapshotMetadata;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.A;
@@ -61,6 +63,7 @@ import org.jetbrains.annotations.Nullable;
 
 import static java.nio.file.StandardOpenOption.READ;
 import static org.apache.ignite.internal.processors.cache.GridLocalConfigManager.readCacheData;
+import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.dumpPartColumnsFileName;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.dumpPartFileName;
 
 /**
@@ -96,6 +99,9 @@ public class Dump implements AutoCloseable {
     /** If {@code true} then compress partition files. */
     private final boolean comprParts;
 
+    /** If {@code true} then the entries are stored column-wise. */
+    private final boolean columnar;
+
     /**
      * @param cctx Kernal context.
      * @param sfts File trees to read.
@@ -127,6 +133,7 @@ public class Dump implements AutoCloseable {
         this.metadata = metadata;
 
         this.comprParts = this.metadata.get(0).compressPartitions();
+        this.columnar = this.metadata.get(0).columnarDump();
 
         for (SnapshotMetadata meta : this.metadata) {
             if (meta.encryptionKey() != null && encSpi == null)
@@ -182,8 +189,11 @@ public class Dump implements AutoCloseable {
     public List<Integer> partitions(String node, int grp) {
         List<File> parts = new ArrayList<>();
 
-        for (File cacheDir : sft(node).existingCacheDirectories(grp))
-            parts.addAll(sft(node).existingCachePartitionFiles(cacheDir, true, comprParts));
+        for (File cacheDir : sft(node).existingCacheDirectories(grp)) {
+            parts.addAll(columnar
+                ? sft(node).existingCachePartitionColumnsFiles(cacheDir)
+                : sft(node).existingCachePartitionFiles(cacheDir, true, comprParts));
+        }
 
         return parts.stream()
             .map(NodeFileTree::partId)
@@ -197,6 +207,9 @@ public class Dump implements AutoCloseable {
      * @return Dump iterator.
      */
     public DumpedPartitionIterator iterator(String node, int grp, int part, @Nullable Set<Integer> cacheIds) {
+        if (columnar)
+            throw new IgniteException("The entries of the columnar dump can't be iterated, use the columnar reader instead.");
+
         FileIOFactory ioFactory = comprParts
             ? (file, modes) -> new ReadOnlyUnzipFileIO(file)
             : (file, modes) -> new ReadOnlyBufferedFileIO(file);
@@ -279,10 +292,34 @@ public class Dump implements AutoCloseable {
         };
     }
 
+    /**
+     * @param node Node directory name.
+     * @param grp Group id.
+     * @param part Partition id.
+     * @return Reader of the partition stored column-wise.
+     * @see IgniteSnapshotManager#createColumnarDump(String, Collection, boolean)
+     */
+    public ColumnarDumpReader columnarReader(String node, int grp, int part) {
+        if (!columnar)
+            throw new IgniteException("The dump entries aren't stored column-wise.");
+
+        try {
+            return new ColumnarDumpReader(cctx, dumpFile(node, grp, part), keepBinary, raw);
+        }
+        catch (IOException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /** @return {@code True} if the entries are stored column-wise. */
+    public boolean columnar() {
+        return columnar;
+    }
+
     /** */
     private File dumpFile(String node, int grp, int part) {
         for (File cacheDir : sft(node).existingCacheDirectories(grp)) {
-            File partFile = new File(cacheDir, dumpPartFileName(part, comprParts));
+            File partFile = new File(cacheDir, columnar ? dumpPartColumnsFileName(part) : dumpPartFileName(part, comprParts));
 
             if (partFile.exists())
                 return partFile;
@@ -226,8 +226,14 @@ public class DumpEntrySerializer {
         return buf;
     }
 
-    /** */
-    private static int plainDataSize(
+    /**
+     * @param key Key.
+     * @param val Value.
+     * @param ver Version.
+     * @param coCtx Cache object context.
+     * @return Size of the plain entry data excluding the data size field.
+     */
+    static int plainDataSize(
         KeyCacheObject key,
         CacheObject val,
         GridCacheVersion ver,
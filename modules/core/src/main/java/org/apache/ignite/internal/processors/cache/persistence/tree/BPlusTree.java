@@ -1580,6 +1580,68 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return findOne(row, null, null);
     }
 
+    /**
+     * Finds exact matches for a batch of lookup rows. Rows sorted in the tree order mostly share leaf pages, so
+     * a single descent resolves all the rows of a leaf under one read lock of the page instead of a descent per row.
+     *
+     * @param rows Lookup rows, preferably sorted in the tree order.
+     * @param x Implementation specific argument, {@code null} always means that we need to return full detached data row.
+     * @return Found rows in the order of the lookup rows, {@code null} elements for the rows which are not found.
+     * @throws IgniteCheckedException If failed.
+     */
+    public final List<T> findAll(List<L> rows, Object x) throws IgniteCheckedException {
+        checkDestroyed();
+
+        if (rows.isEmpty())
+            return Collections.emptyList();
+
+        GetAll g = new GetAll(rows, x);
+
+        try {
+            while (g.next < rows.size()) {
+                g.row = rows.get(g.next);
+
+                // Each descent is a separate lookup, so it gets its own retry budget.
+                g.lockRetriesCnt = getLockRetries();
+
+                doFind(g);
+            }
+
+            return (List<T>)Arrays.asList(g.res);
+        }
+        catch (CorruptedDataStructureException e) {
+            throw e;
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteCheckedException("Runtime failure on lookup row: " + g.row, e);
+        }
+        catch (RuntimeException | AssertionError e) {
+            throw corruptedTreeException("Runtime failure on lookup row: " + g.row, e, grpId, g.pageId);
+        }
+        finally {
+            checkDestroyed();
+        }
+    }
+
+    /**
+     * Gets found rows of a leaf page for {@link #findAll(List, Object)}. Implementations may reorder the reads to
+     * improve the locality of data page accesses.
+     *
+     * @param io IO.
+     * @param pageAddr Leaf page address.
+     * @param idxs Indexes of the found items in the page.
+     * @param pos Positions of the found rows in the result.
+     * @param cnt Number of the found items.
+     * @param x Implementation specific argument.
+     * @param res Result, an array of the found rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    protected void getRows(BPlusIO<L> io, long pageAddr, int[] idxs, int[] pos, int cnt, Object x, Object[] res)
+        throws IgniteCheckedException {
+        for (int i = 0; i < cnt; i++)
+            res[pos[i]] = getRow(io, pageAddr, idxs[i], x);
+    }
+
     /**
      * @param g Get.
      * @throws IgniteCheckedException If failed.
@@ -3318,6 +3380,116 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Get exact matches for a batch of rows, see {@link #findAll(List, Object)}.
+     */
+    private final class GetAll extends Get {
+        /** Lookup rows. */
+        final List<L> rows;
+
+        /** */
+        final Object x;
+
+        /** Result. */
+        final Object[] res;
+
+        /** Index of the next lookup row to descend for. */
+        int next;
+
+        /** Indexes of the found items in the current leaf. */
+        final int[] idxs;
+
+        /** Positions of the found items in the result. */
+        final int[] pos;
+
+        /**
+         * @param rows Lookup rows.
+         * @param x Implementation specific argument.
+         */
+        private GetAll(List<L> rows, Object x) {
+            super(rows.get(0), false);
+
+            this.rows = rows;
+            this.x = x;
+
+            res = new Object[rows.size()];
+            idxs = new int[rows.size()];
+            pos = new int[rows.size()];
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean found(BPlusIO<L> io, long pageAddr, int idx, int lvl) throws IgniteCheckedException {
+            // Need to reach the leaf page to resolve the following rows.
+            if (lvl != 0)
+                return false;
+
+            onLeaf(io, pageAddr, idx);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean notFound(BPlusIO<L> io, long pageAddr, int idx, int lvl) throws IgniteCheckedException {
+            if (lvl != 0)
+                return false;
+
+            onLeaf(io, pageAddr, -1);
+
+            return true;
+        }
+
+        /**
+         * Resolves the current row and all the following rows which belong to the locked leaf page.
+         *
+         * @param io IO.
+         * @param pageAddr Leaf page address.
+         * @param idx Index of the current row or {@code -1} if it is not found.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void onLeaf(BPlusIO<L> io, long pageAddr, int idx) throws IgniteCheckedException {
+            int cnt = io.getCount(pageAddr);
+            boolean last = io.getForward(pageAddr) == 0L;
+
+            int found = 0;
+
+            if (idx >= 0) {
+                idxs[found] = idx;
+                pos[found++] = next;
+            }
+
+            next++;
+
+            for (; next < rows.size(); next++) {
+                int ip = findInsertionPoint(0, io, pageAddr, 0, cnt, rows.get(next), 0);
+
+                if (ip >= 0) {
+                    idxs[found] = ip;
+                    pos[found++] = next;
+
+                    continue;
+                }
+
+                ip = fix(ip);
+
+                // The row is greater than all the rows of the page, it may be in the forward pages.
+                if (ip == cnt) {
+                    if (last)
+                        continue;
+
+                    break;
+                }
+
+                // The row is less than all the rows of the page, it may be in the backward pages.
+                if (ip == 0)
+                    break;
+
+                // Otherwise the row is inside the range of the page and does not exist.
+            }
+
+            getRows(io, pageAddr, idxs, pos, found, x, res);
+        }
+    }
+
     /**
      * Get a cursor for range.
      */
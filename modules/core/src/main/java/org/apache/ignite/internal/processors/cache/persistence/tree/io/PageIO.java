@@ -21,6 +21,12 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.bitmap.io.BitmapContainerIO;
+import org.apache.ignite.internal.cache.query.index.bitmap.io.BitmapInnerIO;
+import org.apache.ignite.internal.cache.query.index.bitmap.io.BitmapLeafIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashBucketIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashDirectoryIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashMetaIO;
 import org.apache.ignite.internal.metric.IndexPageType;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
@@ -226,6 +232,24 @@ public abstract class PageIO {
     /** */
     public static final short T_DEFRAG_LINK_MAPPING_LEAF = 35;
 
+    /** */
+    public static final short T_HASH_IDX_META = 36;
+
+    /** */
+    public static final short T_HASH_IDX_DIRECTORY = 37;
+
+    /** */
+    public static final short T_HASH_IDX_BUCKET = 38;
+
+    /** */
+    public static final short T_BITMAP_IDX_INNER = 39;
+
+    /** */
+    public static final short T_BITMAP_IDX_LEAF = 40;
+
+    /** */
+    public static final short T_BITMAP_IDX_CONTAINER = 41;
+
     /** Index for payload == 1. */
     public static final short T_H2_EX_REF_LEAF_START = 10_000;
 
@@ -567,6 +591,12 @@ public abstract class PageIO {
      * @param pageType Page type (can be obtained by {@link #getType(long)} or {@link #getType(ByteBuffer)} methods).
      */
     public static boolean isIndexPage(int pageType) {
+        if (T_HASH_IDX_META <= pageType && pageType <= T_HASH_IDX_BUCKET)
+            return true;
+
+        if (T_BITMAP_IDX_INNER <= pageType && pageType <= T_BITMAP_IDX_CONTAINER)
+            return true;
+
         if (T_H2_EX_REF_LEAF_START <= pageType && pageType <= T_H2_EX_REF_LEAF_END)
             return true;
 
@@ -637,6 +667,18 @@ public abstract class PageIO {
             case T_DATA_PART:
                 return (Q)SimpleDataPageIO.VERSIONS.forVersion(ver);
 
+            case T_HASH_IDX_META:
+                return (Q)HashMetaIO.VERSIONS.forVersion(ver);
+
+            case T_HASH_IDX_DIRECTORY:
+                return (Q)HashDirectoryIO.VERSIONS.forVersion(ver);
+
+            case T_HASH_IDX_BUCKET:
+                return (Q)HashBucketIO.VERSIONS.forVersion(ver);
+
+            case T_BITMAP_IDX_CONTAINER:
+                return (Q)BitmapContainerIO.VERSIONS.forVersion(ver);
+
             default:
                 if (testIO != null) {
                     if (testIO.type == type && testIO.ver == ver)
@@ -727,6 +769,12 @@ public abstract class PageIO {
             case T_DEFRAG_LINK_MAPPING_LEAF:
                 return (Q)LinkMap.LEAF_IO_VERSIONS.forVersion(ver);
 
+            case T_BITMAP_IDX_INNER:
+                return (Q)BitmapInnerIO.VERSIONS.forVersion(ver);
+
+            case T_BITMAP_IDX_LEAF:
+                return (Q)BitmapLeafIO.VERSIONS.forVersion(ver);
+
             default:
                 // For tests.
                 if (innerTestIO != null && innerTestIO.getType() == type && innerTestIO.getVersion() == ver)
@@ -749,11 +797,13 @@ public abstract class PageIO {
             case T_DATA_REF_INNER:
             case T_H2_REF_INNER:
             case T_CACHE_ID_AWARE_DATA_REF_INNER:
+            case T_BITMAP_IDX_INNER:
                 return IndexPageType.INNER;
 
             case T_DATA_REF_LEAF:
             case T_H2_REF_LEAF:
             case T_CACHE_ID_AWARE_DATA_REF_LEAF:
+            case T_BITMAP_IDX_LEAF:
                 return IndexPageType.LEAF;
 
             default:
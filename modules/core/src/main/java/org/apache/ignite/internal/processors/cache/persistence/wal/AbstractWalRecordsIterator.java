@@ -363,8 +363,15 @@ public abstract class AbstractWalRecordsIterator
 
             if (start != null && desc.idx() == start.index()) {
                 if (isCompacted) {
-                    if (start.fileOffset() != 0)
+                    if (start.fileOffset() != 0) {
+                        // Block compressed segments allow to skip the records logged before the start.
+                        long startOff = fileIO.compactedRecordPosition(start.fileOffset());
+
+                        if (startOff > fileIO.position())
+                            in.seek(startOff);
+
                         serializerFactory.recordDeserializeFilter(new StartSeekingFilter(start));
+                    }
                 }
                 else {
                     // Make sure we skip header with serializer version.
@@ -23,6 +23,7 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.UnzipFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
@@ -123,11 +124,38 @@ public class FileDescriptor implements Comparable<FileDescriptor>, AbstractWalRe
 
     /** {@inheritDoc} */
     @Override public SegmentIO toReadOnlyIO(FileIOFactory fileIOFactory) throws IOException {
-        FileIO fileIO = isCompressed() ? new UnzipFileIO(file()) : fileIOFactory.create(file(), READ);
+        FileIO fileIO = isCompressed() ? compressedIO(file(), fileIOFactory) : fileIOFactory.create(file(), READ);
 
         return new SegmentIO(idx, fileIO);
     }
 
+    /**
+     * @param zip Compacted segment.
+     * @param fileIOFactory File I/O factory.
+     * @return Read only I/O of the decompressed segment.
+     * @throws IOException If failed.
+     */
+    static FileIO compressedIO(File zip, FileIOFactory fileIOFactory) throws IOException {
+        return BlockCompressedSegmentFileIO.isBlockCompressed(zip, fileIOFactory)
+            ? new BlockCompressedSegmentFileIO(zip, fileIOFactory)
+            : new UnzipFileIO(zip);
+    }
+
+    /**
+     * @param zip Compacted segment.
+     * @param fileIOFactory File I/O factory.
+     * @return Size of the decompressed segment.
+     * @throws IOException If failed.
+     */
+    static long uncompressedSize(File zip, FileIOFactory fileIOFactory) throws IOException {
+        if (!BlockCompressedSegmentFileIO.isBlockCompressed(zip, fileIOFactory))
+            return U.uncompressedSize(zip);
+
+        try (FileIO io = new BlockCompressedSegmentFileIO(zip, fileIOFactory)) {
+            return io.size();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return getClass().getSimpleName() + " [file=" + (file == null ? null : file.getAbsolutePath()) + ", idx=" + idx + ']';
@@ -17,16 +17,15 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.wal;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInput;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedByInterruptException;
@@ -51,7 +50,6 @@ import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
@@ -97,6 +95,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.Ab
 import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManager;
 import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileWriteHandle;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentWriter;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.FileInput;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.LockedSegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFileInputFactory;
@@ -107,6 +106,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.Re
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactoryImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer;
+import org.apache.ignite.internal.processors.compress.BlockCompressor;
 import org.apache.ignite.internal.processors.configuration.distributed.DistributedBooleanProperty;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
@@ -372,6 +372,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Page snapshot records compression level. */
     private int pageCompressionLevel;
 
+    /** WAL compaction compression algorithm, {@link DiskPageCompression#DISABLED} for ZIP. */
+    private DiskPageCompression compactionCompression;
+
+    /** WAL compaction compression level. */
+    private int compactionCompressionLevel;
+
     /**
      * Local segment sizes: absolute segment index -> size in bytes.
      * For segments from {@link #ft} and {@link #ft#walArchiveFiles()}.
@@ -519,6 +525,15 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             // We have to initialize compressor before archiver in order to setup already compressed segments.
             // Otherwise, FileArchiver initialization will trigger redundant work for FileCompressor.
             if (dsCfg.isWalCompactionEnabled()) {
+                compactionCompression = dsCfg.getWalCompactionCompression();
+
+                if (compactionCompression != DiskPageCompression.DISABLED) {
+                    BlockCompressor.instance().checkSupported(compactionCompression);
+
+                    compactionCompressionLevel = getCompressionLevel(dsCfg.getWalCompactionCompressionLevel(),
+                        compactionCompression);
+                }
+
                 compressor = new FileCompressor(log);
 
                 decompressor = new FileDecompressor(log);
@@ -2434,10 +2449,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     .getSerializerVersion();
             }
 
-            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)))) {
-                zos.setLevel(dsCfg.getWalCompactionLevel());
-                zos.putNextEntry(new ZipEntry(idx + WAL_SEGMENT_FILE_EXT));
+            BlockCompressedSegmentWriter blockWriter = compactionCompression == DiskPageCompression.DISABLED ? null :
+                new BlockCompressedSegmentWriter(ioFactory.create(zip), compactionCompression, compactionCompressionLevel);
 
+            try (OutputStream zos = blockWriter != null ? blockWriter : zipOutputStream(idx, zip)) {
                 ByteBuffer buf = ByteBuffer.allocate(HEADER_RECORD_SIZE);
                 buf.order(ByteOrder.nativeOrder());
 
@@ -2447,6 +2462,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     @Override public void applyx(WALRecord record) throws IgniteCheckedException {
                         final MarshalledRecord marshRec = (MarshalledRecord)record;
 
+                        if (blockWriter != null)
+                            blockWriter.startRecord(marshRec.position().fileOffset());
+
                         try {
                             zos.write(marshRec.buffer().array(), 0, marshRec.buffer().remaining());
                         }
@@ -2471,6 +2489,28 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             }
         }
 
+        /**
+         * @param idx Segment index.
+         * @param zip Zip file to writing.
+         * @return Output stream of the segment entry of the zip file.
+         * @throws IOException If failed.
+         */
+        private OutputStream zipOutputStream(long idx, File zip) throws IOException {
+            ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)));
+
+            try {
+                zos.setLevel(dsCfg.getWalCompactionLevel());
+                zos.putNextEntry(new ZipEntry(idx + WAL_SEGMENT_FILE_EXT));
+            }
+            catch (IOException e) {
+                U.closeQuiet(zos);
+
+                throw e;
+            }
+
+            return zos;
+        }
+
         /**
          * @param idx Segment index.
          * @param ser Record Serializer.
@@ -2577,7 +2617,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     File unzip = ft.walArchiveSegment(segmentToDecompress);
 
                     long currSize = 0;
-                    long reservedSize = U.uncompressedSize(zip);
+                    long reservedSize = FileDescriptor.uncompressedSize(zip, ioFactory);
 
                     segmentAware.addSize(segmentToDecompress, reservedSize);
 
@@ -2587,12 +2627,19 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         if (unzip.exists())
                             throw new FileAlreadyExistsException(unzip.getAbsolutePath());
 
-                        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
+                        try (FileIO in = FileDescriptor.compressedIO(zip, ioFactory);
                              FileIO io = ioFactory.create(unzipTmp)) {
-                            zis.getNextEntry();
+                            ByteBuffer buf = ByteBuffer.wrap(arr);
+
+                            while (in.read(buf) > 0) {
+                                buf.flip();
+
+                                io.writeFully(buf);
+
+                                buf.clear();
 
-                            while (io.writeFully(arr, 0, zis.read(arr)) > 0)
                                 updateHeartbeat();
+                            }
                         }
 
                         Files.move(unzipTmp.toPath(), unzip.toPath());
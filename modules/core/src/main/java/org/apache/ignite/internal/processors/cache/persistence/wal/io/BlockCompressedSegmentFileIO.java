@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.file.AbstractFileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.compress.BlockCompressor;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Read only {@link FileIO} of a compacted WAL segment written by {@link BlockCompressedSegmentWriter}.
+ * <p>
+ * The segment is split into the blocks of the same size which are compressed independently, so any position
+ * of the segment is read by the decompression of a single block. The file consists of:
+ * <ul>
+ *     <li>header: magic, format version, compression algorithm and block size;</li>
+ *     <li>compressed blocks;</li>
+ *     <li>block index: the compressed size of each block, the offset of the first record started in the block
+ *     and the file offset of that record in the raw segment;</li>
+ *     <li>footer: the size of the decompressed segment, the number of blocks and magic.</li>
+ * </ul>
+ * The block index allows to find a record of the raw segment without the decompression of the preceding blocks.
+ */
+public class BlockCompressedSegmentFileIO extends AbstractFileIO {
+    /** Magic of the file, differs from the signature of the ZIP files. */
+    public static final int MAGIC = 0x49474243;
+
+    /** Format version. */
+    static final byte VERSION = 1;
+
+    /** Header size. */
+    static final int HEADER_SIZE = 12;
+
+    /** Size of the block index entry. */
+    static final int INDEX_ENTRY_SIZE = 12;
+
+    /** Footer size. */
+    static final int FOOTER_SIZE = 16;
+
+    /** Underlying file I/O. */
+    private final FileIO io;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Size of the decompressed block. */
+    private final int blockSize;
+
+    /** Size of the decompressed segment. */
+    private final long size;
+
+    /** File offsets of the blocks, the last element is the offset of the block index. */
+    private final long[] blockOffs;
+
+    /** Offsets of the first records started in the blocks, {@code -1} if none. */
+    private final int[] recOffs;
+
+    /** File offsets of the first records started in the blocks in the raw segment. */
+    private final int[] recPtrs;
+
+    /** Compressed block. */
+    private ByteBuffer compressed;
+
+    /** Decompressed block. */
+    private ByteBuffer block;
+
+    /** Index of the decompressed block. */
+    private int blockIdx = -1;
+
+    /** Position. */
+    private long pos;
+
+    /**
+     * @param file Compacted segment.
+     * @param fileIOFactory File I/O factory.
+     * @throws IOException If failed to read the block index.
+     */
+    public BlockCompressedSegmentFileIO(File file, FileIOFactory fileIOFactory) throws IOException {
+        io = fileIOFactory.create(file, READ);
+
+        try {
+            ByteBuffer hdr = ByteBuffer.allocate(HEADER_SIZE);
+
+            io.readFully(hdr, 0);
+            hdr.flip();
+
+            if (hdr.getInt() != MAGIC)
+                throw new IOException("Not a block compressed segment: " + file.getAbsolutePath());
+
+            byte ver = hdr.get();
+
+            if (ver != VERSION)
+                throw new IOException("Unsupported block compressed segment version [file=" + file.getAbsolutePath() +
+                    ", ver=" + ver + ']');
+
+            byte compressionOrd = hdr.get();
+
+            if (compressionOrd < 0 || compressionOrd >= DiskPageCompression.values().length)
+                throw new IOException("Unknown compression of block compressed segment [file=" + file.getAbsolutePath() +
+                    ", compression=" + compressionOrd + ']');
+
+            compression = DiskPageCompression.values()[compressionOrd];
+
+            if (compression != DiskPageCompression.ZSTD && compression != DiskPageCompression.LZ4)
+                throw new IOException("Unsupported compression of block compressed segment [file=" +
+                    file.getAbsolutePath() + ", compression=" + compression + ']');
+
+            hdr.getShort();
+
+            blockSize = hdr.getInt();
+
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_SIZE);
+
+            long footerOff = io.size() - FOOTER_SIZE;
+
+            io.readFully(footer, footerOff);
+            footer.flip();
+
+            size = footer.getLong();
+
+            int blocks = footer.getInt();
+
+            if (footer.getInt() != MAGIC)
+                throw new IOException("Block compressed segment is corrupted: " + file.getAbsolutePath());
+
+            ByteBuffer idx = ByteBuffer.allocate(blocks * INDEX_ENTRY_SIZE);
+
+            io.readFully(idx, footerOff - idx.capacity());
+            idx.flip();
+
+            blockOffs = new long[blocks + 1];
+            recOffs = new int[blocks];
+            recPtrs = new int[blocks];
+
+            blockOffs[0] = HEADER_SIZE;
+
+            for (int i = 0; i < blocks; i++) {
+                blockOffs[i + 1] = blockOffs[i] + idx.getInt();
+                recOffs[i] = idx.getInt();
+                recPtrs[i] = idx.getInt();
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            io.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * @param file Compacted segment.
+     * @param fileIOFactory File I/O factory.
+     * @return {@code True} if the file is written by {@link BlockCompressedSegmentWriter}.
+     * @throws IOException If failed.
+     */
+    public static boolean isBlockCompressed(File file, FileIOFactory fileIOFactory) throws IOException {
+        try (FileIO io = fileIOFactory.create(file, READ)) {
+            if (io.size() < HEADER_SIZE + FOOTER_SIZE)
+                return false;
+
+            ByteBuffer buf = ByteBuffer.allocate(4);
+
+            io.readFully(buf, 0);
+            buf.flip();
+
+            return buf.getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Finds the position to read the compacted segment from to reach the record logged at the given file offset
+     * of the raw segment.
+     *
+     * @param fileOff File offset of the record in the raw segment.
+     * @return Position of the latest record which was logged not after the given one, {@code 0} if there is none.
+     */
+    public long recordPosition(int fileOff) {
+        long res = 0;
+
+        for (int i = 0; i < recOffs.length; i++) {
+            if (recOffs[i] < 0)
+                continue;
+
+            if (recPtrs[i] > fileOff)
+                break;
+
+            res = (long)i * blockSize + recOffs[i];
+        }
+
+        return res;
+    }
+
+    /**
+     * @param idx Index of the block to decompress.
+     * @throws IOException If failed.
+     */
+    private void decompress(int idx) throws IOException {
+        if (idx == blockIdx)
+            return;
+
+        int compressedSize = (int)(blockOffs[idx + 1] - blockOffs[idx]);
+
+        if (block == null) {
+            block = GridUnsafe.allocateBuffer(blockSize);
+            compressed = GridUnsafe.allocateBuffer(compressedSize);
+        }
+        else if (compressed.capacity() < compressedSize)
+            compressed = GridUnsafe.reallocateBuffer(compressed, compressedSize);
+
+        compressed.clear().limit(compressedSize);
+
+        io.readFully(compressed, blockOffs[idx]);
+        compressed.flip();
+
+        block.clear().limit((int)Math.min(blockSize, size - (long)idx * blockSize));
+
+        // Resets the block in case of a failure.
+        blockIdx = -1;
+
+        try {
+            BlockCompressor.instance().decompress(compression, compressed, block);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException("Failed to decompress WAL segment block: " + idx, e);
+        }
+
+        blockIdx = idx;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFileSystemBlockSize() {
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getSparseSize() {
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int punchHole(long position, int len) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long position() throws IOException {
+        return pos;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void position(long newPosition) throws IOException {
+        if (newPosition < 0 || newPosition > size)
+            throw new EOFException("Position is out of the segment [pos=" + newPosition + ", size=" + size + ']');
+
+        pos = newPosition;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer dstBuf) throws IOException {
+        int read = read(dstBuf, pos);
+
+        if (read > 0)
+            pos += read;
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer dstBuf, long position) throws IOException {
+        if (position >= size)
+            return -1;
+
+        int read = 0;
+
+        while (dstBuf.hasRemaining() && position < size) {
+            int idx = (int)(position / blockSize);
+
+            decompress(idx);
+
+            int off = (int)(position - (long)idx * blockSize);
+            int len = Math.min(dstBuf.remaining(), block.limit() - off);
+
+            ByteBuffer src = block.duplicate();
+
+            src.limit(off + len).position(off);
+
+            dstBuf.put(src);
+
+            position += len;
+            read += len;
+        }
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(byte[] buf, int off, int len) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force(boolean withMetadata) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long size() throws IOException {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void clear() throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public MappedByteBuffer map(int sizeBytes) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IOException {
+        if (block != null) {
+            GridUnsafe.freeBuffer(block);
+            GridUnsafe.freeBuffer(compressed);
+
+            block = null;
+            compressed = null;
+        }
+
+        io.close();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.compress.BlockCompressor;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+import static org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentFileIO.FOOTER_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentFileIO.HEADER_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentFileIO.INDEX_ENTRY_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentFileIO.MAGIC;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.io.BlockCompressedSegmentFileIO.VERSION;
+
+/**
+ * Writer of a compacted WAL segment which compresses the segment by the blocks.
+ *
+ * @see BlockCompressedSegmentFileIO
+ */
+public class BlockCompressedSegmentWriter extends OutputStream {
+    /** Size of the decompressed block. */
+    public static final int BLOCK_SIZE = 1024 * 1024;
+
+    /** Underlying file I/O. */
+    private final FileIO io;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Compression level. */
+    private final int level;
+
+    /** Block to compress. */
+    private final ByteBuffer block;
+
+    /** Compressed block. */
+    private final ByteBuffer compressed;
+
+    /** Block index: the compressed size, the first record offset and the first record file offset of each block. */
+    private int[] idx = new int[INDEX_ENTRY_SIZE / 4 * 64];
+
+    /** Number of the written blocks. */
+    private int blocks;
+
+    /** Offset of the first record started in the current block, {@code -1} if none. */
+    private int recOff = -1;
+
+    /** File offset of the first record started in the current block in the raw segment. */
+    private int recPtr;
+
+    /** Size of the decompressed segment. */
+    private long size;
+
+    /** Closed flag. */
+    private boolean closed;
+
+    /**
+     * @param io File I/O to write to, closed with the writer.
+     * @param compression Compression algorithm.
+     * @param level Compression level.
+     * @throws IOException If failed.
+     */
+    public BlockCompressedSegmentWriter(FileIO io, DiskPageCompression compression, int level) throws IOException {
+        this.io = io;
+        this.compression = compression;
+        this.level = level;
+
+        int maxCompressedSize;
+
+        try {
+            maxCompressedSize = BlockCompressor.instance().maxCompressedSize(compression, BLOCK_SIZE);
+        }
+        catch (IgniteCheckedException e) {
+            io.close();
+
+            throw new IOException(e);
+        }
+
+        ByteBuffer hdr = ByteBuffer.allocate(HEADER_SIZE);
+
+        hdr.putInt(MAGIC)
+            .put(VERSION)
+            .put((byte)compression.ordinal())
+            .putShort((short)0)
+            .putInt(BLOCK_SIZE)
+            .flip();
+
+        io.writeFully(hdr);
+
+        block = GridUnsafe.allocateBuffer(BLOCK_SIZE);
+        compressed = GridUnsafe.allocateBuffer(maxCompressedSize);
+    }
+
+    /**
+     * Notifies the writer that the next written bytes start a record.
+     *
+     * @param fileOff File offset of the record in the raw segment.
+     */
+    public void startRecord(int fileOff) {
+        if (recOff < 0) {
+            recOff = block.position();
+            recPtr = fileOff;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void write(int b) throws IOException {
+        if (!block.hasRemaining())
+            flushBlock();
+
+        block.put((byte)b);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (!block.hasRemaining())
+                flushBlock();
+
+            int n = Math.min(len, block.remaining());
+
+            block.put(b, off, n);
+
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Compresses and writes the current block.
+     *
+     * @throws IOException If failed.
+     */
+    private void flushBlock() throws IOException {
+        block.flip();
+        compressed.clear();
+
+        size += block.remaining();
+
+        try {
+            BlockCompressor.instance().compress(compression, level, block, compressed);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException("Failed to compress WAL segment block: " + blocks, e);
+        }
+
+        compressed.flip();
+
+        int compressedSize = compressed.remaining();
+
+        io.writeFully(compressed);
+
+        int pos = blocks * INDEX_ENTRY_SIZE / 4;
+
+        if (pos + INDEX_ENTRY_SIZE / 4 > idx.length)
+            idx = Arrays.copyOf(idx, idx.length * 2);
+
+        idx[pos] = compressedSize;
+        idx[pos + 1] = recOff;
+        idx[pos + 2] = recPtr;
+
+        blocks++;
+
+        block.clear();
+
+        recOff = -1;
+        recPtr = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IOException {
+        if (closed)
+            return;
+
+        closed = true;
+
+        try {
+            if (block.position() > 0)
+                flushBlock();
+
+            ByteBuffer buf = ByteBuffer.allocate(blocks * INDEX_ENTRY_SIZE + FOOTER_SIZE);
+
+            for (int i = 0; i < blocks * INDEX_ENTRY_SIZE / 4; i++)
+                buf.putInt(idx[i]);
+
+            buf.putLong(size)
+                .putInt(blocks)
+                .putInt(MAGIC)
+                .flip();
+
+            io.writeFully(buf);
+        }
+        finally {
+            GridUnsafe.freeBuffer(block);
+            GridUnsafe.freeBuffer(compressed);
+
+            io.close();
+        }
+    }
+}
@@ -42,4 +42,17 @@ public class SegmentIO extends FileIODecorator {
     public long getSegmentId() {
         return segmentId;
     }
+
+    /**
+     * Finds the position to read a compacted segment from to reach the record logged at the given file offset
+     * of the raw segment.
+     *
+     * @param fileOff File offset of the record in the raw segment.
+     * @return Position of a record logged not after the given one, {@code 0} if unknown.
+     */
+    public long compactedRecordPosition(int fileOff) {
+        return delegate instanceof BlockCompressedSegmentFileIO
+            ? ((BlockCompressedSegmentFileIO)delegate).recordPosition(fileOff)
+            : 0;
+    }
 }
@@ -39,6 +39,7 @@ import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
@@ -52,6 +53,7 @@ import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -186,6 +188,8 @@ public class IgniteWalIteratorFactory {
                 iteratorParametersBuilder.ioFactory,
                 resolveWalFiles(iteratorParametersBuilder),
                 iteratorParametersBuilder.filter,
+                iteratorParametersBuilder.entryCacheFilter,
+                iteratorParametersBuilder.entryOpFilter,
                 iteratorParametersBuilder.lowBound,
                 iteratorParametersBuilder.highBound,
                 iteratorParametersBuilder.keepBinary,
@@ -206,6 +210,8 @@ public class IgniteWalIteratorFactory {
                 iteratorParametersBuilder.ioFactory,
                 resolveWalFiles(iteratorParametersBuilder),
                 iteratorParametersBuilder.filter,
+                iteratorParametersBuilder.entryCacheFilter,
+                iteratorParametersBuilder.entryOpFilter,
                 iteratorParametersBuilder.lowBound,
                 iteratorParametersBuilder.highBound,
                 iteratorParametersBuilder.keepBinary,
@@ -459,6 +465,12 @@ public class IgniteWalIteratorFactory {
         /** */
         @Nullable private IgniteBiPredicate<RecordType, WALPointer> filter;
 
+        /** Filter of the data entries by cache id. */
+        @Nullable private IgnitePredicate<Integer> entryCacheFilter;
+
+        /** Filter of the data entries by operation. */
+        @Nullable private IgnitePredicate<GridCacheOperation> entryOpFilter;
+
         /** */
         private WALPointer lowBound = DFLT_LOW_BOUND;
 
@@ -603,6 +615,24 @@ public class IgniteWalIteratorFactory {
             return this;
         }
 
+        /**
+         * Sets the filters of the data entries. The entries filtered out are skipped without reading of the keys and
+         * the values, the indexes of the rest entries of {@link DataRecord} are kept.
+         *
+         * @param cacheFilter Filter of the data entries by cache id.
+         * @param opFilter Filter of the data entries by operation.
+         * @return IteratorParametersBuilder Self reference.
+         */
+        public IteratorParametersBuilder dataEntryFilter(
+            @Nullable IgnitePredicate<Integer> cacheFilter,
+            @Nullable IgnitePredicate<GridCacheOperation> opFilter
+        ) {
+            entryCacheFilter = cacheFilter;
+            entryOpFilter = opFilter;
+
+            return this;
+        }
+
         /**
          * @param lowBound WAL pointer to start from.
          * @return IteratorParametersBuilder Self reference.
@@ -650,6 +680,7 @@ public class IgniteWalIteratorFactory {
                 .from(lowBound)
                 .to(highBound)
                 .filter(filter)
+                .dataEntryFilter(entryCacheFilter, entryOpFilter)
                 .strictBoundsCheck(strictBoundsCheck);
         }
 
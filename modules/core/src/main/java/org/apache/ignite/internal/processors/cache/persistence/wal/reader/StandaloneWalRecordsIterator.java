@@ -34,6 +34,7 @@ import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
@@ -48,6 +49,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFil
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SimpleSegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordDataV1Serializer.EncryptedDataEntry;
+import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordDataV1Serializer.FilteredDataEntry;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactoryImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.SegmentHeader;
@@ -57,6 +59,7 @@ import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -106,6 +109,8 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
      * @param keepBinary Keep binary. This flag disables converting of non primitive types (BinaryObjects will be used
      * instead)
      * @param walFiles Wal files.
+     * @param entryCacheFilter Filter of the data entries by cache id.
+     * @param entryOpFilter Filter of the data entries by operation.
      */
     StandaloneWalRecordsIterator(
         @NotNull IgniteLogger log,
@@ -113,6 +118,8 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         @NotNull FileIOFactory ioFactory,
         @NotNull List<FileDescriptor> walFiles,
         IgniteBiPredicate<RecordType, WALPointer> readTypeFilter,
+        @Nullable IgnitePredicate<Integer> entryCacheFilter,
+        @Nullable IgnitePredicate<GridCacheOperation> entryOpFilter,
         WALPointer lowBound,
         WALPointer highBound,
         boolean keepBinary,
@@ -122,7 +129,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         super(
             log,
             sharedCtx,
-            new RecordSerializerFactoryImpl(sharedCtx, readTypeFilter),
+            new RecordSerializerFactoryImpl(sharedCtx, readTypeFilter).dataEntryFilter(entryCacheFilter, entryOpFilter),
             ioFactory,
             initialReadBufferSize,
             highBound,
@@ -431,7 +438,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         final IgniteCacheObjectProcessor processor,
         final CacheObjectContext fakeCacheObjCtx,
         final DataEntry dataEntry) throws IgniteCheckedException {
-        if (dataEntry instanceof EncryptedDataEntry)
+        if (dataEntry instanceof EncryptedDataEntry || dataEntry instanceof FilteredDataEntry)
             return dataEntry;
 
         final KeyCacheObject key;
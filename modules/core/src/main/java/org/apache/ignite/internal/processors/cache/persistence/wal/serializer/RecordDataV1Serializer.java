@@ -57,6 +57,8 @@ import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
 import org.apache.ignite.internal.pagemem.wal.record.WalRecordCacheGroupAware;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BitmapIndexContainerAddRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BitmapIndexContainerRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.ClusterSnapshotRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertFragmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertRecord;
@@ -66,6 +68,8 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageUpdateRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixLeftmostChildRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixRemoveId;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketInsertRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InnerReplaceRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InsertRecord;
@@ -119,6 +123,7 @@ import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProces
 import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.lang.IgniteProductVersion;
 import org.apache.ignite.spi.encryption.EncryptionSpi;
 import org.apache.ignite.spi.encryption.noop.NoopEncryptionSpi;
@@ -176,6 +181,12 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
     /** */
     private static final byte PLAIN = 0;
 
+    /** Filter of the data entries by cache id, the entries filtered out are skipped without reading. */
+    @Nullable private IgnitePredicate<Integer> entryCacheFilter;
+
+    /** Filter of the data entries by operation, the entries filtered out are skipped without reading. */
+    @Nullable private IgnitePredicate<GridCacheOperation> entryOpFilter;
+
     /**
      * @param cctx Cache shared context.
      */
@@ -198,6 +209,23 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         log = cctx.logger(getClass());
     }
 
+    /**
+     * Sets the filters of the data entries. The entries filtered out are read as {@link FilteredDataEntry}.
+     *
+     * @param cacheFilter Filter of the data entries by cache id.
+     * @param opFilter Filter of the data entries by operation.
+     * @return {@code this} for chaining.
+     */
+    public RecordDataV1Serializer dataEntryFilter(
+        @Nullable IgnitePredicate<Integer> cacheFilter,
+        @Nullable IgnitePredicate<GridCacheOperation> opFilter
+    ) {
+        entryCacheFilter = cacheFilter;
+        entryOpFilter = opFilter;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public int size(WALRecord record) throws IgniteCheckedException {
         int clSz = plainSize(record);
@@ -502,6 +530,16 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case PAGES_LIST_ADD_PAGE:
                 return 4 + 8 + 8;
 
+            case HASH_INDEX_BUCKET_INSERT:
+                return 4 + 8 + 4 + 8;
+
+            case HASH_INDEX_BUCKET_REMOVE:
+                return 4 + 8 + 4;
+
+            case BITMAP_INDEX_CONTAINER_ADD:
+            case BITMAP_INDEX_CONTAINER_REMOVE:
+                return 4 + 8 + 4;
+
             case PAGES_LIST_REMOVE_PAGE:
                 return 4 + 8 + 8;
 
@@ -1087,6 +1125,43 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case HASH_INDEX_BUCKET_INSERT:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+                int hashIdxHash = in.readInt();
+                long hashIdxLink = in.readLong();
+
+                res = new HashIndexBucketInsertRecord(cacheId, pageId, hashIdxHash, hashIdxLink);
+
+                break;
+
+            case HASH_INDEX_BUCKET_REMOVE:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+                int hashIdxItem = in.readInt();
+
+                res = new HashIndexBucketRemoveRecord(cacheId, pageId, hashIdxItem);
+
+                break;
+
+            case BITMAP_INDEX_CONTAINER_ADD:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+                int bitmapAddVal = in.readInt();
+
+                res = new BitmapIndexContainerAddRecord(cacheId, pageId, bitmapAddVal);
+
+                break;
+
+            case BITMAP_INDEX_CONTAINER_REMOVE:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+                int bitmapRmvVal = in.readInt();
+
+                res = new BitmapIndexContainerRemoveRecord(cacheId, pageId, bitmapRmvVal);
+
+                break;
+
             case PAGES_LIST_REMOVE_PAGE:
                 cacheId = in.readInt();
                 pageId = in.readLong();
@@ -1738,6 +1813,47 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case HASH_INDEX_BUCKET_INSERT:
+                HashIndexBucketInsertRecord hashInsRec = (HashIndexBucketInsertRecord)rec;
+
+                buf.putInt(hashInsRec.groupId());
+                buf.putLong(hashInsRec.pageId());
+
+                buf.putInt(hashInsRec.hash());
+                buf.putLong(hashInsRec.link());
+
+                break;
+
+            case HASH_INDEX_BUCKET_REMOVE:
+                HashIndexBucketRemoveRecord hashRmvRec = (HashIndexBucketRemoveRecord)rec;
+
+                buf.putInt(hashRmvRec.groupId());
+                buf.putLong(hashRmvRec.pageId());
+
+                buf.putInt(hashRmvRec.index());
+
+                break;
+
+            case BITMAP_INDEX_CONTAINER_ADD:
+                BitmapIndexContainerAddRecord bitmapAddRec = (BitmapIndexContainerAddRecord)rec;
+
+                buf.putInt(bitmapAddRec.groupId());
+                buf.putLong(bitmapAddRec.pageId());
+
+                buf.putInt(bitmapAddRec.value());
+
+                break;
+
+            case BITMAP_INDEX_CONTAINER_REMOVE:
+                BitmapIndexContainerRemoveRecord bitmapRmvRec = (BitmapIndexContainerRemoveRecord)rec;
+
+                buf.putInt(bitmapRmvRec.groupId());
+                buf.putLong(bitmapRmvRec.pageId());
+
+                buf.putInt(bitmapRmvRec.value());
+
+                break;
+
             case PAGES_LIST_REMOVE_PAGE:
                 PagesListRemovePageRecord plRmvRec = (PagesListRemovePageRecord)rec;
 
@@ -2094,6 +2210,9 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
      * @return Read entry.
      */
     DataEntry readPlainDataEntry(ByteBufferBackedDataInput in, RecordType type) throws IOException, IgniteCheckedException {
+        if ((entryCacheFilter != null || entryOpFilter != null) && skipFilteredDataEntry(in, type))
+            return new FilteredDataEntry();
+
         int cacheId = in.readInt();
 
         int keySize = in.readInt();
@@ -2167,6 +2286,66 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             );
     }
 
+    /**
+     * Skips the data entry without reading of the key and the value if it is filtered out.
+     *
+     * @param in Input to read from.
+     * @param type Record type.
+     * @return {@code True} if the entry is skipped.
+     */
+    private boolean skipFilteredDataEntry(ByteBufferBackedDataInput in, RecordType type) throws IOException {
+        // Cache id, key size.
+        in.ensure(4 + 4);
+
+        ByteBuffer buf = in.buffer();
+
+        int cacheId = buf.getInt(buf.position());
+        int keySize = buf.getInt(buf.position() + 4);
+
+        boolean skip = entryCacheFilter != null && !entryCacheFilter.apply(cacheId);
+
+        if (!skip && entryOpFilter != null) {
+            // Cache id, key size, key type, key, value size.
+            int off = 4 + 4 + 1 + keySize;
+
+            in.ensure(off + 4);
+
+            buf = in.buffer();
+
+            int valSize = buf.getInt(buf.position() + off);
+
+            // Value size, value type, value.
+            off += valSize >= 0 ? 4 + 1 + valSize : 4;
+
+            in.ensure(off + 1);
+
+            buf = in.buffer();
+
+            skip = !entryOpFilter.apply(GridCacheOperation.fromOrdinal(buf.get(buf.position() + off) & 0xFF));
+        }
+
+        if (!skip)
+            return false;
+
+        in.skipBytes(4 + 4 + 1 + keySize);
+
+        int valSize = in.readInt();
+
+        if (valSize >= 0)
+            in.skipBytes(1 + valSize);
+
+        // Operation.
+        in.skipBytes(1);
+
+        skipVersion(in, true);
+        skipVersion(in, false);
+
+        // Partition id, partition counter, expire time, flags.
+        in.skipBytes(4 + 8 + 8 + (type == DATA_RECORD_V2 || type == CDC_DATA_RECORD ? 1 : 0));
+
+        return true;
+    }
+
     /**
      * @param rec Record.
      * @return Real record type.
@@ -2260,6 +2439,24 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         }
     }
 
+    /**
+     * Skips version.
+     *
+     * @param in Data input to read from.
+     * @param allowNull Is {@code null} version allowed.
+     */
+    private void skipVersion(ByteBufferBackedDataInput in, boolean allowNull) throws IOException {
+        // To be able to read serialization protocol version.
+        in.ensure(1);
+
+        try {
+            in.skipBytes(CacheVersionIO.readSize(in.buffer(), allowNull));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException(e);
+        }
+    }
+
     /**
      * Read set of versions.
      *
@@ -2364,4 +2561,15 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             super(0, null, null, READ, null, null, 0, 0, 0, EMPTY_FLAGS);
         }
     }
+
+    /**
+     * Represents Data Entry skipped by the {@link #dataEntryFilter(IgnitePredicate, IgnitePredicate) filter}.
+     * Keeps the indexes of the rest entries of the record.
+     */
+    public static class FilteredDataEntry extends DataEntry {
+        /** Constructor. */
+        FilteredDataEntry() {
+            super(0, null, null, READ, null, null, 0, 0, 0, EMPTY_FLAGS);
+        }
+    }
 }
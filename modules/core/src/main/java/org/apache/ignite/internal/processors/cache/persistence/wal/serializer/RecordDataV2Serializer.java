@@ -40,10 +40,13 @@ import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
 import org.apache.ignite.internal.pagemem.wal.record.delta.TrackingPageRepairDeltaRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferBackedDataInput;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.record.HeaderRecord;
+import org.apache.ignite.lang.IgnitePredicate;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Record data V2 serializer.
@@ -66,6 +69,16 @@ public class RecordDataV2Serializer extends RecordDataV1Serializer {
         this.txRecordSerializer = new TxRecordSerializer();
     }
 
+    /** {@inheritDoc} */
+    @Override public RecordDataV2Serializer dataEntryFilter(
+        @Nullable IgnitePredicate<Integer> cacheFilter,
+        @Nullable IgnitePredicate<GridCacheOperation> opFilter
+    ) {
+        super.dataEntryFilter(cacheFilter, opFilter);
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override protected int plainSize(WALRecord rec) throws IgniteCheckedException {
         switch (rec.type()) {
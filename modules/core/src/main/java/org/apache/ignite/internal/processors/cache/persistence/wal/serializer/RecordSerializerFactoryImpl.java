@@ -19,9 +19,11 @@ package org.apache.ignite.internal.processors.cache.persistence.wal.serializer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgnitePredicate;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -46,6 +48,12 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
     /** Skip position check flag. Should be set for reading compacted wal file with skipped physical records. */
     private boolean skipPositionCheck;
 
+    /** Filter of the data entries by cache id. */
+    private @Nullable IgnitePredicate<Integer> entryCacheFilter;
+
+    /** Filter of the data entries by operation. */
+    private @Nullable IgnitePredicate<GridCacheOperation> entryOpFilter;
+
     /**
      * @param cctx Cctx.
      */
@@ -72,7 +80,7 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
         switch (ver) {
             case 1:
                 return new RecordV1Serializer(
-                    new RecordDataV1Serializer(cctx),
+                    new RecordDataV1Serializer(cctx).dataEntryFilter(entryCacheFilter, entryOpFilter),
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
@@ -80,7 +88,7 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
 
             case 2:
                 return new RecordV2Serializer(
-                    new RecordDataV2Serializer(cctx),
+                    new RecordDataV2Serializer(cctx).dataEntryFilter(entryCacheFilter, entryOpFilter),
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
@@ -150,4 +158,22 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
 
         return this;
     }
+
+    /**
+     * Sets the filters of the data entries. The entries filtered out are skipped without reading and returned
+     * as {@link RecordDataV1Serializer.FilteredDataEntry}.
+     *
+     * @param cacheFilter Filter of the data entries by cache id.
+     * @param opFilter Filter of the data entries by operation.
+     * @return {@code this} for chaining.
+     */
+    public RecordSerializerFactoryImpl dataEntryFilter(
+        @Nullable IgnitePredicate<Integer> cacheFilter,
+        @Nullable IgnitePredicate<GridCacheOperation> opFilter
+    ) {
+        entryCacheFilter = cacheFilter;
+        entryOpFilter = opFilter;
+
+        return this;
+    }
 }
@@ -46,5 +46,8 @@ public enum CacheQueryType {
     SPI,
 
     /** Index query. */
-    INDEX
+    INDEX,
+
+    /** Vector similarity query. */
+    VECTOR
 }
@@ -44,6 +44,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.INDEX;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.TEXT;
+import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.VECTOR;
 import static org.apache.ignite.internal.processors.performancestatistics.PerformanceStatisticsProcessor.indexQueryText;
 
 /**
@@ -113,7 +114,10 @@ public class GridCacheDistributedQueryFuture<K, V, R> extends GridCacheQueryFutu
         else {
             idxQryMetaFut = null;
 
-            reducer = qry.query().type() == TEXT ? new TextQueryReducer<>(streamsMap) : new UnsortedCacheQueryReducer<>(streamsMap);
+            GridCacheQueryType type = qry.query().type();
+
+            reducer = type == TEXT || type == VECTOR ? new TextQueryReducer<>(streamsMap)
+                : new UnsortedCacheQueryReducer<>(streamsMap);
         }
 
         startTimeNanos = ctx.kernalContext().performanceStatistics().enabled() ? System.nanoTime() : 0;
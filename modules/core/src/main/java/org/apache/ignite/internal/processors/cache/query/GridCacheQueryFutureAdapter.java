@@ -248,7 +248,7 @@ public abstract class GridCacheQueryFutureAdapter<K, V, R> extends GridFutureAda
                 if (data == null)
                     data = Collections.emptyList();
 
-                if (qry.query().type() == GridCacheQueryType.TEXT) {
+                if (qry.query().type() == GridCacheQueryType.TEXT || qry.query().type() == GridCacheQueryType.VECTOR) {
                     ArrayList unwrapped = new ArrayList();
 
                     for (Object o: data) {
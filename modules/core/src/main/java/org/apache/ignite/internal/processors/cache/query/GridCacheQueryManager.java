@@ -48,6 +48,7 @@ import org.apache.ignite.cache.CacheEntry;
 import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.cache.query.IndexQuery;
 import org.apache.ignite.cache.query.QueryMetrics;
+import org.apache.ignite.cache.query.VectorQuery;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.events.CacheQueryExecutedEvent;
@@ -136,6 +137,7 @@ import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryTy
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SCAN;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SQL_FIELDS;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.TEXT;
+import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.VECTOR;
 import static org.apache.ignite.internal.processors.security.SecurityUtils.securitySubjectId;
 import static org.apache.ignite.internal.processors.task.TaskExecutionOptions.options;
 
@@ -604,6 +606,27 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
 
                     break;
 
+                case VECTOR:
+                    if (cctx.events().isRecordable(EVT_CACHE_QUERY_EXECUTED)) {
+                        cctx.gridEvents().record(new CacheQueryExecutedEvent<>(
+                            cctx.localNode(),
+                            "Vector query executed.",
+                            EVT_CACHE_QUERY_EXECUTED,
+                            CacheQueryType.VECTOR.name(),
+                            cctx.name(),
+                            qry.queryClassName(),
+                            null,
+                            null,
+                            null,
+                            null,
+                            securitySubjectId(cctx),
+                            taskName));
+                    }
+
+                    iter = qryProc.queryVector(cacheName, (VectorQueryDesc)qry.idxQryDesc(), filter(qry));
+
+                    break;
+
                 case SQL_FIELDS:
                     assert false : "SQL fields query is incorrectly processed.";
 
@@ -942,7 +965,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                                 continue;
                         }
                         else {
-                            if (type == TEXT)
+                            if (type == TEXT || type == VECTOR)
                                 // (K, V, score). Value transfers as BinaryObject.
                                 data.add(row0);
                             else
@@ -2442,6 +2465,25 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
             .pageSize(pageSize);
     }
 
+    /**
+     * Creates vector similarity query.
+     *
+     * @param qry User query.
+     * @param keepBinary Keep binary flag.
+     * @return Created query.
+     */
+    public CacheQuery<Map.Entry<K, V>> createVectorQuery(VectorQuery<?, ?> qry, boolean keepBinary) {
+        VectorQueryDesc desc = new VectorQueryDesc(qry.getType(), qry.getField(), qry.getVector(), qry.getK());
+
+        CacheQuery<Map.Entry<K, V>> q = new CacheQuery<>(cctx, VECTOR, desc, null, qry.getType(), null);
+
+        q.keepBinary(keepBinary);
+
+        return q
+            .limit(qry.getK())
+            .pageSize(qry.getPageSize());
+    }
+
     /**
      * Creates index query.
      *
@@ -41,6 +41,7 @@ import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.INDEX;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SCAN;
 import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.SET;
+import static org.apache.ignite.internal.processors.cache.query.GridCacheQueryType.VECTOR;
 
 /**
  * Query request.
@@ -358,7 +359,7 @@ public class GridCacheQueryRequest extends GridCacheIdMessage implements GridCac
         @Nullable Collection<KeyCacheObject> skipKeys
     ) {
         assert type != null || fields;
-        assert clause != null || (type == SCAN || type == SET || type == INDEX);
+        assert clause != null || (type == SCAN || type == SET || type == INDEX || type == VECTOR);
         assert clsName != null || fields || type == SCAN || type == SET;
 
         this.cacheId = cacheId;
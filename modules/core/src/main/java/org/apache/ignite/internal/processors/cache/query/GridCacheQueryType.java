@@ -58,7 +58,12 @@ public enum GridCacheQueryType {
     /**
      * Index query.
      */
-    INDEX;
+    INDEX,
+
+    /**
+     * Vector similarity query.
+     */
+    VECTOR;
 
     /** Enumerated values. */
     private static final GridCacheQueryType[] VALS = values();
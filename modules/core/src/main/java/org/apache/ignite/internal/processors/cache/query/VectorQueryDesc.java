@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query;
+
+import org.apache.ignite.cache.query.VectorQuery;
+
+/**
+ * Internal representation of {@link VectorQuery}. Travels to query nodes the same way as description of
+ * {@code IndexQuery} does.
+ */
+public class VectorQueryDesc extends IndexQueryDesc {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** */
+    private final String field;
+
+    /** */
+    private final float[] vec;
+
+    /** */
+    private final int k;
+
+    /** */
+    public VectorQueryDesc(String valType, String field, float[] vec, int k) {
+        super(null, null, valType);
+
+        this.field = field;
+        this.vec = vec;
+        this.k = k;
+    }
+
+    /** */
+    public String field() {
+        return field;
+    }
+
+    /** */
+    public float[] vector() {
+        return vec;
+    }
+
+    /** */
+    public int k() {
+        return k;
+    }
+
+    /** */
+    @Override public String toString() {
+        return "VectorQuery[" +
+            "valType=" + valType() + ", " +
+            "field=" + field + ", " +
+            "dim=" + vec.length + ", " +
+            "k=" + k + "]";
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query;
+
+import java.util.Iterator;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.vector.HnswGraph;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.CacheObjectUtils;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.util.GridCloseableIteratorAdapter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
+
+/**
+ * Iterator over entries found by vector index. Entries are read by keys of the matches, so entries removed or expired
+ * after the search are skipped. Keys and values are returned in binary form with similarity as the score.
+ */
+public class VectorQueryIterator<K, V> extends GridCloseableIteratorAdapter<IgniteBiTuple<K, V>> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** */
+    private final Iterator<HnswGraph.Match<KeyCacheObject>> matches;
+
+    /** */
+    private ScoredCacheEntry<K, V> next;
+
+    /**
+     * @param cctx Cache context.
+     * @param matches Matches ordered by descending similarity.
+     */
+    public VectorQueryIterator(GridCacheContext<?, ?> cctx, List<HnswGraph.Match<KeyCacheObject>> matches)
+        throws IgniteCheckedException {
+        this.cctx = cctx;
+        this.matches = matches.iterator();
+
+        advance();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteBiTuple<K, V> onNext() throws IgniteCheckedException {
+        ScoredCacheEntry<K, V> res = next;
+
+        advance();
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean onHasNext() {
+        return next != null;
+    }
+
+    /** Reads the entry of the next match. */
+    private void advance() throws IgniteCheckedException {
+        next = null;
+
+        CacheObjectContext coctx = cctx.cacheObjectContext();
+
+        while (matches.hasNext()) {
+            HnswGraph.Match<KeyCacheObject> m = matches.next();
+
+            CacheDataRow row = cctx.offheap().read(cctx, m.key());
+
+            if (row == null || row.value() == null || (row.expireTime() > 0 && row.expireTime() <= U.currentTimeMillis()))
+                continue;
+
+            K key = (K)CacheObjectUtils.unwrapBinaryIfNeeded(coctx, row.key(), true, false, null);
+            V val = (V)CacheObjectUtils.unwrapBinaryIfNeeded(coctx, row.value(), true, false, null);
+
+            next = new ScoredCacheEntry<>(key, val, m.score());
+
+            return;
+        }
+    }
+}
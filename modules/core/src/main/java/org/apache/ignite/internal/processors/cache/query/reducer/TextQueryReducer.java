@@ -24,7 +24,7 @@ import org.apache.ignite.internal.processors.cache.query.ScoredCacheEntry;
 import org.apache.ignite.internal.thread.context.concurrent.IgniteCompletableFuture;
 
 /**
- * Reducer for {@code TextQuery} results.
+ * Reducer for {@code TextQuery} and {@code VectorQuery} results, merges pages of nodes by descending score.
  */
 public class TextQueryReducer<R> extends MergeSortCacheQueryReducer<R> {
     /** */
@@ -132,6 +132,8 @@ import static org.apache.ignite.IgniteSystemProperties.IGNITE_LONG_OPERATIONS_DU
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_MAX_COMPLETED_TX_COUNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SLOW_TX_WARN_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_LOCK_FREE_READ_ONLY;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_ORDERED_LOCKS;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
 import static org.apache.ignite.configuration.TransactionConfiguration.TX_AWARE_QUERIES_SUPPORTED_MODES;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
@@ -178,6 +180,12 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
     /** @see IgniteSystemProperties#IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS */
     public static final int DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS = 1000;
 
+    /** @see IgniteSystemProperties#IGNITE_TX_LOCK_FREE_READ_ONLY */
+    public static final boolean DFLT_TX_LOCK_FREE_READ_ONLY = false;
+
+    /** @see IgniteSystemProperties#IGNITE_TX_ORDERED_LOCKS */
+    public static final boolean DFLT_TX_ORDERED_LOCKS = false;
+
     /** @see IgniteSystemProperties#IGNITE_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT */
     public static final int DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT = 500;
 
@@ -225,6 +233,13 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
     final int deadlockMaxIters =
         IgniteSystemProperties.getInteger(IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS, DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS);
 
+    /** Whether read-only optimistic serializable transactions are committed without locking. */
+    private final boolean lockFreeReadOnly =
+        IgniteSystemProperties.getBoolean(IGNITE_TX_LOCK_FREE_READ_ONLY, DFLT_TX_LOCK_FREE_READ_ONLY);
+
+    /** Whether the keys of pessimistic transaction operations are locked in the global order. */
+    private final boolean orderedLocks = IgniteSystemProperties.getBoolean(IGNITE_TX_ORDERED_LOCKS, DFLT_TX_ORDERED_LOCKS);
+
     /** Committing transactions. */
     private final ThreadLocal<IgniteInternalTx> threadCtx = new ThreadLocal<>();
 
@@ -1602,7 +1617,7 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
             // 11. Update metrics.
             if (!tx.dht() && tx.local()) {
                 if (!tx.system())
-                    cctx.txMetrics().onTxCommit();
+                    cctx.txMetrics().onTxCommit(tx.onePhaseCommit());
 
                 writeStatistics(tx, true);
 
@@ -1725,7 +1740,7 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
             if (!tx.dht() && tx.local()) {
                 if (!tx.system()) {
                     if (commit)
-                        cctx.txMetrics().onTxCommit();
+                        cctx.txMetrics().onTxCommit(tx.onePhaseCommit());
                     else
                         cctx.txMetrics().onTxRollback();
                 }
@@ -2400,6 +2415,20 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
         return deadlockMaxIters > 0;
     }
 
+    /**
+     * @return {@code True} if read-only {@code OPTIMISTIC SERIALIZABLE} transactions are committed without locking.
+     */
+    public boolean lockFreeReadOnly() {
+        return lockFreeReadOnly;
+    }
+
+    /**
+     * @return {@code True} if the keys of pessimistic transaction operations are locked in the global order.
+     */
+    public boolean orderedLocks() {
+        return orderedLocks;
+    }
+
     /**
      * Performs deadlock detection for given keys.
      *
@@ -73,6 +73,9 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
     /** Number of transaction commits. */
     private final IntMetricImpl txCommits;
 
+    /** Number of transaction commits done in one round trip to the single primary node. */
+    private final IntMetricImpl txOnePhaseCommits;
+
     /** Number of transaction rollbacks. */
     private final IntMetricImpl txRollbacks;
 
@@ -106,6 +109,8 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
         MetricRegistryImpl mreg = gridKernalCtx.metric().registry(TX_METRICS);
 
         txCommits = mreg.intMetric("txCommits", "Number of transaction commits.");
+        txOnePhaseCommits = mreg.intMetric("txOnePhaseCommits", "Number of transaction commits done in one round " +
+            "trip to the single primary node of all the transaction keys.");
         txRollbacks = mreg.intMetric("txRollbacks", "Number of transaction rollbacks.");
         txDeadlocks = mreg.intMetric("txDeadlocks", "Number of transaction deadlocks.");
         commitTime = mreg.longMetric("commitTime", "Last commit time.");
@@ -210,11 +215,23 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
 
     /**
      * Transaction commit callback.
+     *
+     * @param onePhase {@code True} if the transaction was committed with the one-phase commit.
      */
-    public void onTxCommit() {
+    public void onTxCommit(boolean onePhase) {
         commitTime.value(U.currentTimeMillis());
 
         txCommits.increment();
+
+        if (onePhase)
+            txOnePhaseCommits.increment();
+    }
+
+    /**
+     * @return Number of transaction commits done in one round trip to the single primary node.
+     */
+    public int txOnePhaseCommits() {
+        return txOnePhaseCommits.value();
     }
 
     /**
@@ -259,6 +276,7 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
     public void reset() {
         commitTime.reset();
         txCommits.reset();
+        txOnePhaseCommits.reset();
         rollbackTime.reset();
         txRollbacks.reset();
         txDeadlocks.reset();
@@ -384,6 +384,45 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         return rowStore.dataRow(cacheId, hash, link, x);
     }
 
+    /**
+     * Reads the found rows in the order of their links, so that the rows of the same data page are read one
+     * after another.
+     */
+    @Override protected void getRows(
+        BPlusIO<CacheSearchRow> io,
+        long pageAddr,
+        int[] idxs,
+        int[] pos,
+        int cnt,
+        Object x,
+        Object[] res
+    ) throws IgniteCheckedException {
+        RowLinkIO rowIo = (RowLinkIO)io;
+
+        long[] links = new long[cnt];
+
+        // Insertion sort, the number of rows is limited by the leaf page capacity.
+        for (int i = 0; i < cnt; i++) {
+            long link = rowIo.getLink(pageAddr, idxs[i]);
+            int idx = idxs[i];
+            int p = pos[i];
+
+            int j = i - 1;
+
+            for (; j >= 0 && links[j] > link; j--) {
+                links[j + 1] = links[j];
+                idxs[j + 1] = idxs[j];
+                pos[j + 1] = pos[j];
+            }
+
+            links[j + 1] = link;
+            idxs[j + 1] = idx;
+            pos[j + 1] = p;
+        }
+
+        super.getRows(io, pageAddr, idxs, pos, cnt, x, res);
+    }
+
     /** {@inheritDoc} */
     @Override protected IoStatisticsHolder statisticsHolder() {
         return grp.statisticsHolderIdx();
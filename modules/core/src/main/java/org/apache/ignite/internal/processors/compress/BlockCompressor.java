@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.IgniteComponentType;
+
+/**
+ * Compressor of the data blocks. Unlike {@link CompressionProcessor} it doesn't depend on the kernal context,
+ * so it is also available to the offline utilities like the standalone WAL iterator.
+ * <p>
+ * Both buffers are required to be direct. The positions of the buffers are advanced by the number of the
+ * consumed and the produced bytes.
+ *
+ * @see IgniteComponentType#BLOCK_COMPRESSION
+ */
+public class BlockCompressor {
+    /**
+     * @return Block compressor.
+     */
+    public static BlockCompressor instance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @throws IgniteCheckedException Always.
+     */
+    private static <T> T fail() throws IgniteCheckedException {
+        throw new IgniteCheckedException("Make sure that ignite-compress module is in classpath.");
+    }
+
+    /**
+     * Checks whether the compression algorithm can be used for the data blocks.
+     *
+     * @param compression Compression algorithm.
+     * @throws IgniteCheckedException If compression is not supported.
+     */
+    public void checkSupported(DiskPageCompression compression) throws IgniteCheckedException {
+        fail();
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @param size Size of the block.
+     * @return Maximum size of the compressed block.
+     * @throws IgniteCheckedException If compression is not supported.
+     */
+    public int maxCompressedSize(DiskPageCompression compression, int size) throws IgniteCheckedException {
+        return fail();
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @param level Compression level.
+     * @param src Block to compress.
+     * @param dst Buffer for the compressed block.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void compress(
+        DiskPageCompression compression,
+        int level,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        fail();
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @param src Compressed block.
+     * @param dst Buffer for the decompressed block, the remaining space must be exactly the decompressed size.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void decompress(
+        DiskPageCompression compression,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        fail();
+    }
+
+    /** */
+    private static class Holder {
+        /** */
+        private static final BlockCompressor INSTANCE;
+
+        static {
+            try {
+                INSTANCE = IgniteComponentType.BLOCK_COMPRESSION.createOptional();
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException(e);
+            }
+        }
+    }
+}
@@ -36,6 +36,9 @@ public class CompressionHandler {
     /** */
     private final int diskPageCompressLevel;
 
+    /** Cache group id. */
+    private final int grpId;
+
     /** */
     private final DiskPageCompression diskPageCompression;
 
@@ -43,8 +46,10 @@ public class CompressionHandler {
     private CompressionHandler(
         CompressionProcessor compressProc,
         DiskPageCompression diskPageCompression,
-        int diskPageCompressLevel
+        int diskPageCompressLevel,
+        int grpId
     ) {
+        this.grpId = grpId;
         this.diskPageCompression = diskPageCompression;
         this.diskPageCompressLevel = diskPageCompressLevel;
         this.compressProc = compressProc;
@@ -55,6 +60,7 @@ public class CompressionHandler {
         diskPageCompression = DiskPageCompression.DISABLED;
         diskPageCompressLevel = 0;
         compressProc = null;
+        grpId = CU.UNDEFINED_CACHE_ID;
     }
 
     /**
@@ -93,7 +99,7 @@ public class CompressionHandler {
         if (blockSize <= 0)
             throw new IgniteCheckedException("Failed to detect storage block size on " + U.osString());
 
-        return compressProc.compressPage(page, store.getPageSize(), blockSize, diskPageCompression, diskPageCompressLevel);
+        return compressProc.compressPage(grpId, page, store.getPageSize(), blockSize, diskPageCompression, diskPageCompressLevel);
     }
 
     /**
@@ -123,6 +129,6 @@ public class CompressionHandler {
 
         comprProc.checkPageCompressionSupported(dbPath.toPath(), dsCfg.getPageSize());
 
-        return new CompressionHandler(comprProc, diskPageCompr, lvl);
+        return new CompressionHandler(comprProc, diskPageCompr, lvl, CU.cacheGroupId(cfg));
     }
 }
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.compress;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteComponentType;
@@ -29,6 +30,7 @@ import org.apache.ignite.internal.processors.GridProcessorAdapter;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.CompactablePageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
@@ -74,6 +76,12 @@ public class CompressionProcessor extends GridProcessorAdapter {
     /** */
     protected static final byte SNAPPY_COMPRESSED_PAGE = 4;
 
+    /** Zstd with the dictionary trained for the cache group of the page. */
+    protected static final byte ZSTD_DICT_COMPRESSED_PAGE = 5;
+
+    /** @see IgniteSystemProperties#IGNITE_DISK_PAGE_COMPRESSION_DICTIONARY */
+    public static final boolean DFLT_DISK_PAGE_COMPRESSION_DICTIONARY = false;
+
     /** Max page size. */
     private final ThreadLocalDirectByteBuffer compactBuf = new ThreadLocalDirectByteBuffer(MAX_PAGE_SIZE, NATIVE_BYTE_ORDER);
 
@@ -197,11 +205,27 @@ public class CompressionProcessor extends GridProcessorAdapter {
         DiskPageCompression compression,
         int compressedSize,
         int compactedSize
+    ) {
+        return setCompressionInfo(page, getCompressionType(compression), compressedSize, compactedSize);
+    }
+
+    /**
+     * @param page Page.
+     * @param compressType Compression type.
+     * @param compressedSize Compressed size.
+     * @param compactedSize Compact size.
+     * @return The given page.
+     */
+    protected static ByteBuffer setCompressionInfo(
+        ByteBuffer page,
+        byte compressType,
+        int compressedSize,
+        int compactedSize
     ) {
         assert compressedSize >= 0 && compressedSize <= Short.MAX_VALUE : compressedSize;
         assert compactedSize >= 0 && compactedSize <= Short.MAX_VALUE : compactedSize;
 
-        PageIO.setCompressionType(page, getCompressionType(compression));
+        PageIO.setCompressionType(page, compressType);
         PageIO.setCompressedSize(page, (short)compressedSize);
         PageIO.setCompactedSize(page, (short)compactedSize);
 
@@ -212,7 +236,7 @@ public class CompressionProcessor extends GridProcessorAdapter {
      * @param compression Compression.
      * @return Level.
      */
-    private static byte getCompressionType(DiskPageCompression compression) {
+    protected static byte getCompressionType(DiskPageCompression compression) {
         if (compression == DiskPageCompression.DISABLED)
             return UNCOMPRESSED_PAGE;
 
@@ -233,6 +257,35 @@ public class CompressionProcessor extends GridProcessorAdapter {
     }
 
     /**
+     * @param grpId Cache group id of the page or {@link CU#UNDEFINED_CACHE_ID} if unknown.
+     * @param compression Compression algorithm.
+     * @return Compression type of the page.
+     */
+    protected byte getCompressionType(int grpId, DiskPageCompression compression) {
+        return getCompressionType(compression);
+    }
+
+    /**
+     * @param page Page buffer.
+     * @param pageSize Page size.
+     * @param blockSize Store block size.
+     * @param compression Compression algorithm.
+     * @param compressLevel Compression level.
+     * @return Possibly compressed buffer.
+     * @throws IgniteCheckedException If failed.
+     */
+    public ByteBuffer compressPage(
+        ByteBuffer page,
+        int pageSize,
+        int blockSize,
+        DiskPageCompression compression,
+        int compressLevel
+    ) throws IgniteCheckedException {
+        return compressPage(CU.UNDEFINED_CACHE_ID, page, pageSize, blockSize, compression, compressLevel);
+    }
+
+    /**
+     * @param grpId Cache group id of the page or {@link CU#UNDEFINED_CACHE_ID} if unknown.
      * @param page Page buffer.
      * @param pageSize Page size.
      * @param blockSize Store block size.
@@ -242,6 +295,7 @@ public class CompressionProcessor extends GridProcessorAdapter {
      * @throws IgniteCheckedException If failed.
      */
     public ByteBuffer compressPage(
+        int grpId,
         ByteBuffer page,
         int pageSize,
         int blockSize,
@@ -269,7 +323,9 @@ public class CompressionProcessor extends GridProcessorAdapter {
             if (compactSize < blockSize || compression == SKIP_GARBAGE)
                 return setCompactionInfo(compactPage, compactSize);
 
-            ByteBuffer compressedPage = doCompressPage(compression, compactPage, compactSize, compressLevel);
+            byte compressType = getCompressionType(grpId, compression);
+
+            ByteBuffer compressedPage = doCompressPage(compressType, grpId, compactPage, compactSize, compressLevel);
 
             assert compressedPage.position() == 0;
             int compressedSize = compressedPage.limit();
@@ -284,7 +340,7 @@ public class CompressionProcessor extends GridProcessorAdapter {
                 return setCompactionInfo(compactPage, compactSize);
             }
 
-            return setCompressionInfo(compressedPage, compression, compressedSize, compactSize);
+            return setCompressionInfo(compressedPage, compressType, compressedSize, compactSize);
         }
         finally {
             page.limit(oldPageLimit);
@@ -319,19 +375,21 @@ public class CompressionProcessor extends GridProcessorAdapter {
     }
 
     /**
-     * @param compression Compression algorithm.
+     * @param compressType Compression type.
+     * @param grpId Cache group id of the page or {@link CU#UNDEFINED_CACHE_ID} if unknown.
      * @param compactPage Compacted page.
      * @param compactSize Compacted page size.
      * @param compressLevel Compression level.
      * @return Compressed page.
      */
     protected ByteBuffer doCompressPage(
-        DiskPageCompression compression,
+        byte compressType,
+        int grpId,
         ByteBuffer compactPage,
         int compactSize,
         int compressLevel
     ) {
-        throw new IllegalStateException("Unsupported compression: " + compression);
+        throw new IllegalStateException("Unsupported compression: " + compressType);
     }
 
     /**
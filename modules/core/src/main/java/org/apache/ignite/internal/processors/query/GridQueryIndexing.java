@@ -134,6 +134,18 @@ public interface GridQueryIndexing {
     public <K, V> GridCloseableIterator<IgniteBiTuple<K, V>> queryLocalText(String schemaName, String cacheName,
         String qry, String typeName, IndexingQueryFilter filter, int limit) throws IgniteCheckedException;
 
+    /**
+     * Checks whether the cache has text indexes to rebuild from the cache data.
+     *
+     * @param cacheName Cache name.
+     * @param createdOnly Whether to check only text indexes created on this start and not restored from
+     *      the persistent storage.
+     * @return {@code True} if the cache has text indexes to rebuild.
+     */
+    public default boolean textIndexesToRebuild(String cacheName, boolean createdOnly) {
+        return false;
+    }
+
     /**
      * Registers cache.
      *
@@ -72,6 +72,8 @@ import org.apache.ignite.internal.cache.query.index.IndexProcessor;
 import org.apache.ignite.internal.cache.query.index.IndexQueryProcessor;
 import org.apache.ignite.internal.cache.query.index.IndexQueryResult;
 import org.apache.ignite.internal.cache.query.index.sorted.maintenance.RebuildIndexWorkflowCallback;
+import org.apache.ignite.internal.cache.query.index.vector.VectorIndex;
+import org.apache.ignite.internal.cache.query.index.vector.VectorIndexDefinition;
 import org.apache.ignite.internal.managers.communication.GridMessageListener;
 import org.apache.ignite.internal.processors.GridProcessorAdapter;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
@@ -98,6 +100,8 @@ import org.apache.ignite.internal.processors.cache.query.GridCacheQueryType;
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
 import org.apache.ignite.internal.processors.cache.query.IndexQueryDesc;
 import org.apache.ignite.internal.processors.cache.query.SqlFieldsQueryEx;
+import org.apache.ignite.internal.processors.cache.query.VectorQueryDesc;
+import org.apache.ignite.internal.processors.cache.query.VectorQueryIterator;
 import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProcessor;
 import org.apache.ignite.internal.processors.odbc.jdbc.JdbcParameterMeta;
 import org.apache.ignite.internal.processors.platform.PlatformContext;
@@ -155,6 +159,7 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.session.SessionContext;
 import org.apache.ignite.spi.discovery.DiscoveryDataBag;
+import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
 import org.apache.ignite.spi.indexing.IndexingQueryFilter;
 import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.Nullable;
@@ -3757,6 +3762,59 @@ public class GridQueryProcessor extends GridProcessorAdapter {
         }
     }
 
+    /**
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param cacheName Cache name.
+     * @param desc Vector query description.
+     * @param filters Ignite specific cache entries filters.
+     * @return Key/value rows with similarity to the query vector as the score, ordered by descending score.
+     * @throws IgniteCheckedException If failed.
+     */
+    public <K, V> GridCloseableIterator<IgniteBiTuple<K, V>> queryVector(
+        String cacheName,
+        VectorQueryDesc desc,
+        @Nullable IndexingQueryFilter filters
+    ) throws IgniteCheckedException {
+        if (!busyLock.enterBusy())
+            throw new IllegalStateException("Failed to execute query (grid is stopping).");
+
+        try {
+            final GridCacheContext<?, ?> cctx = ctx.cache().internalCache(cacheName).context();
+
+            return executeQuery(GridCacheQueryType.VECTOR, desc.valType(), cctx,
+                new IgniteOutClosureX<GridCloseableIterator<IgniteBiTuple<K, V>>>() {
+                    @Override public GridCloseableIterator<IgniteBiTuple<K, V>> applyx() throws IgniteCheckedException {
+                        String typeName = typeName(cacheName, desc.valType());
+
+                        VectorIndex idx = null;
+
+                        for (VectorIndex idx0 : ctx.indexProcessor().indexes(cacheName, VectorIndex.class, false)) {
+                            VectorIndexDefinition def = idx0.indexDefinition();
+
+                            if (def.typeDescriptor().name().equals(typeName) && def.field().equalsIgnoreCase(desc.field())) {
+                                idx = idx0;
+
+                                break;
+                            }
+                        }
+
+                        if (idx == null) {
+                            throw new IgniteCheckedException("Failed to find vector index [cache=" + cacheName +
+                                ", type=" + typeName + ", field=" + desc.field() + ']');
+                        }
+
+                        IndexingQueryCacheFilter filter = filters == null ? null : filters.forCache(cacheName);
+
+                        return new VectorQueryIterator<>(cctx, idx.find(desc.vector(), desc.k(), filter));
+                    }
+                }, true);
+        }
+        finally {
+            busyLock.leaveBusy();
+        }
+    }
+
     /**
      * Gets types for cache.
      *
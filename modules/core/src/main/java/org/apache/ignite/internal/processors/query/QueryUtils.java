@@ -783,7 +783,22 @@ public class QueryUtils {
         String idxName = indexName(typeDesc.tableName(), idx);
         QueryIndexType idxTyp = idx.getIndexType();
 
-        assert idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL;
+        assert idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL || idxTyp == QueryIndexType.HASH
+            || idxTyp == QueryIndexType.BITMAP || idxTyp == QueryIndexType.VECTOR;
+
+        if (idxTyp == QueryIndexType.VECTOR) {
+            if (idx.getFields().size() != 1)
+                throw new IgniteCheckedException("Vector index must have exactly one field [idx=" + idxName + ']');
+
+            String field = F.first(idx.getFields().keySet());
+
+            GridQueryProperty prop = typeDesc.property(typeDesc.aliases().getOrDefault(field, field));
+
+            if (prop != null && prop.type() != float[].class && prop.type() != Object.class) {
+                throw new IgniteCheckedException("Vector index field must be of float[] type [idx=" + idxName +
+                    ", field=" + field + ", type=" + prop.type().getName() + ']');
+            }
+        }
 
         QueryIndexDescriptorImpl res = new QueryIndexDescriptorImpl(typeDesc, idxName, idxTyp, idx.getInlineSize());
 
@@ -814,7 +829,8 @@ public class QueryUtils {
     private static void processIndex(QueryIndex idx, QueryTypeDescriptorImpl d) throws IgniteCheckedException {
         QueryIndexType idxTyp = idx.getIndexType();
 
-        if (idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL) {
+        if (idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL || idxTyp == QueryIndexType.HASH
+            || idxTyp == QueryIndexType.BITMAP || idxTyp == QueryIndexType.VECTOR) {
             QueryIndexDescriptorImpl idxDesc = createIndexDescriptor(d, idx);
 
             d.addIndex(idxDesc);
@@ -194,6 +194,15 @@ public class SchemaManager {
         if (!idxDescFactory.containsKey(QueryIndexType.SORTED))
             idxDescFactory.put(QueryIndexType.SORTED, new SortedIndexDescriptorFactory(log));
 
+        if (!idxDescFactory.containsKey(QueryIndexType.HASH))
+            idxDescFactory.put(QueryIndexType.HASH, new HashIndexDescriptorFactory(log));
+
+        if (!idxDescFactory.containsKey(QueryIndexType.BITMAP))
+            idxDescFactory.put(QueryIndexType.BITMAP, new BitmapIndexDescriptorFactory(log));
+
+        if (!idxDescFactory.containsKey(QueryIndexType.VECTOR))
+            idxDescFactory.put(QueryIndexType.VECTOR, new VectorIndexDescriptorFactory(log));
+
         ctx.systemView().registerView(SQL_SCHEMA_VIEW, SQL_SCHEMA_VIEW_DESC,
             new SqlSchemaViewWalker(),
             schemas.values(),
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.schema.management;
+
+import java.util.LinkedHashMap;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.IndexName;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.client.ClientIndexDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.client.ClientIndexFactory;
+import org.apache.ignite.internal.cache.query.index.vector.VectorIndexDefinition;
+import org.apache.ignite.internal.cache.query.index.vector.VectorIndexFactory;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.query.GridQueryIndexDescriptor;
+import org.apache.ignite.internal.processors.query.GridQueryProperty;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
+import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitor;
+import org.jetbrains.annotations.Nullable;
+
+/** Factory to create vector index descriptors. */
+public class VectorIndexDescriptorFactory extends AbstractIndexDescriptorFactory {
+    /** */
+    private final IgniteLogger log;
+
+    /** */
+    public VectorIndexDescriptorFactory(IgniteLogger log) {
+        this.log = log;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IndexDescriptor create(
+        GridKernalContext ctx,
+        GridQueryIndexDescriptor idxDesc,
+        TableDescriptor tbl,
+        @Nullable SchemaIndexCacheVisitor cacheVisitor
+    ) {
+        GridCacheContextInfo<?, ?> cacheInfo = tbl.cacheInfo();
+        GridQueryTypeDescriptor typeDesc = tbl.type();
+        String idxName = idxDesc.name();
+
+        if (log.isDebugEnabled())
+            log.debug("Creating cache vector index [cacheId=" + cacheInfo.cacheId() + ", idxName=" + idxName + ']');
+
+        LinkedHashMap<String, IndexKeyDefinition> idxCols = indexDescriptorToKeysDefinition(idxDesc, typeDesc);
+
+        IndexName idxFullName = new IndexName(cacheInfo.name(), typeDesc.schemaName(), typeDesc.tableName(), idxName);
+
+        Index idx;
+
+        if (cacheInfo.affinityNode()) {
+            GridCacheContext<?, ?> cctx = cacheInfo.cacheContext();
+
+            GridQueryProperty prop = typeDesc.property(idxCols.keySet().iterator().next());
+
+            VectorIndexDefinition idxDef = new VectorIndexDefinition(typeDesc, cacheInfo, idxFullName, idxCols, prop);
+
+            if (cacheVisitor != null)
+                idx = ctx.indexProcessor().createIndexDynamically(cctx, VectorIndexFactory.INSTANCE, idxDef, cacheVisitor);
+            else
+                idx = ctx.indexProcessor().createIndex(cctx, VectorIndexFactory.INSTANCE, idxDef);
+        }
+        else {
+            ClientIndexDefinition def = new ClientIndexDefinition(idxFullName, idxCols);
+
+            idx = ctx.indexProcessor().createIndex(cacheInfo.cacheContext(), new ClientIndexFactory(), def);
+        }
+
+        return new IndexDescriptor(tbl, idxName, idxDesc.type(), idxCols, false, false, 0, idx);
+    }
+}
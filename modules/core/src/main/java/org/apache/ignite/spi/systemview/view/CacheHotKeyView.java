@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.systemview.view;
+
+import org.apache.ignite.internal.systemview.Order;
+import org.apache.ignite.internal.systemview.SystemViewDescriptor;
+
+import static org.apache.ignite.internal.util.IgniteUtils.toStringSafe;
+
+/**
+ * Hot key detected by the reads of the local node representation for a {@link SystemView}.
+ */
+@SystemViewDescriptor
+public class CacheHotKeyView {
+    /** Cache name. */
+    private final String cacheName;
+
+    /** Cache id. */
+    private final int cacheId;
+
+    /** Partition id. */
+    private final int partId;
+
+    /** Key. */
+    private final Object key;
+
+    /** Number of sampled reads. */
+    private final int samples;
+
+    /**
+     * @param cacheName Cache name.
+     * @param cacheId Cache id.
+     * @param partId Partition id.
+     * @param key Key.
+     * @param samples Number of sampled reads.
+     */
+    public CacheHotKeyView(String cacheName, int cacheId, int partId, Object key, int samples) {
+        this.cacheName = cacheName;
+        this.cacheId = cacheId;
+        this.partId = partId;
+        this.key = key;
+        this.samples = samples;
+    }
+
+    /** @return Cache name. */
+    @Order
+    public String cacheName() {
+        return cacheName;
+    }
+
+    /** @return Cache id. */
+    @Order(1)
+    public int cacheId() {
+        return cacheId;
+    }
+
+    /** @return Partition id. */
+    @Order(2)
+    public int partitionId() {
+        return partId;
+    }
+
+    /** @return Key. */
+    @Order(3)
+    public String key() {
+        return toStringSafe(key);
+    }
+
+    /** @return Number of sampled reads of the key in the current window. */
+    @Order(4)
+    public int samples() {
+        return samples;
+    }
+}
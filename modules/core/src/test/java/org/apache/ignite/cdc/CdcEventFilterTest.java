@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.cdc.CdcMain;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cluster.ClusterState.ACTIVE;
+import static org.apache.ignite.testframework.GridTestUtils.runAsync;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests the filtering of the events on WAL read.
+ */
+public class CdcEventFilterTest extends AbstractCdcTest {
+    /** Keys count. */
+    private static final int KEYS = 100;
+
+    /** Filtered out cache name. */
+    private static final String OTHER_CACHE = "other-cache";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalForceArchiveTimeout(WAL_ARCHIVE_TIMEOUT)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)
+                    .setCdcEnabled(true)));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testCacheFilter() throws Exception {
+        checkFilter(new CdcEventFilter().setCacheNames(DEFAULT_CACHE_NAME), KEYS, KEYS);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testOperationFilter() throws Exception {
+        checkFilter(new CdcEventFilter().setUpdates(false), 0, KEYS);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testCacheAndOperationFilter() throws Exception {
+        checkFilter(new CdcEventFilter().setCacheNames(DEFAULT_CACHE_NAME).setRemovals(false), KEYS, 0);
+    }
+
+    /**
+     * Puts and removes the keys of two caches in the same transactions, so the entries filtered out share the WAL
+     * records with the consumed ones. Checks the events consumed before and after the restart of CDC.
+     *
+     * @param filter Events filter.
+     * @param expUpdates Expected updates of the default cache per round.
+     * @param expRemovals Expected removals of the default cache per round.
+     * @throws Exception If failed.
+     */
+    private void checkFilter(CdcEventFilter filter, int expUpdates, int expRemovals) throws Exception {
+        IgniteConfiguration cfg = getConfiguration("ignite-0");
+
+        IgniteEx ign = startGrid(cfg);
+
+        ign.cluster().state(ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ign.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setAtomicityMode(TRANSACTIONAL));
+
+        IgniteCache<Integer, Integer> other = ign.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(OTHER_CACHE).setAtomicityMode(TRANSACTIONAL));
+
+        for (int round = 0; round < 2; round++) {
+            for (int key = 0; key < KEYS; key++) {
+                try (Transaction tx = ign.transactions().txStart()) {
+                    other.put(key, round);
+                    cache.put(key, round);
+                    other.put(key + KEYS, round);
+
+                    tx.commit();
+                }
+            }
+
+            for (int key = 0; key < KEYS; key++) {
+                try (Transaction tx = ign.transactions().txStart()) {
+                    other.remove(key);
+                    cache.remove(key);
+
+                    tx.commit();
+                }
+            }
+
+            FilteredConsumer cnsmr = new FilteredConsumer(filter);
+
+            CdcConfiguration cdcCfg = new CdcConfiguration();
+
+            cdcCfg.setConsumer(cnsmr);
+
+            CdcMain cdc = new CdcMain(cfg, null, cdcCfg);
+
+            IgniteInternalFuture<?> fut = runAsync(cdc);
+
+            int exp = expUpdates + expRemovals;
+
+            assertTrue(waitForCondition(() -> cnsmr.evts.size() == exp, getTestTimeout()));
+
+            // Waits for the rest of the segment.
+            doSleep(2 * WAL_ARCHIVE_TIMEOUT);
+
+            fut.cancel();
+
+            assertEquals(exp, cnsmr.evts.size());
+
+            int updates = 0;
+
+            for (CdcEvent evt : cnsmr.evts) {
+                assertEquals(CU.cacheId(DEFAULT_CACHE_NAME), evt.cacheId());
+
+                if (evt.value() != null) {
+                    assertEquals(round, evt.value());
+
+                    updates++;
+                }
+            }
+
+            assertEquals(expUpdates, updates);
+        }
+    }
+
+    /** Consumer with the events filter. */
+    private static class FilteredConsumer extends TrackCacheEventsConsumer {
+        /** Events filter. */
+        private final CdcEventFilter filter;
+
+        /** Consumed events. */
+        private final List<CdcEvent> evts = new CopyOnWriteArrayList<>();
+
+        /** @param filter Events filter. */
+        private FilteredConsumer(CdcEventFilter filter) {
+            this.filter = filter;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean onEvents(Iterator<CdcEvent> evts) {
+            evts.forEachRemaining(this.evts::add);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public CdcEventFilter eventFilter() {
+            return filter;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.cdc.CdcMain;
+import org.apache.ignite.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.junit.Test;
+
+import static org.apache.ignite.cluster.ClusterState.ACTIVE;
+import static org.apache.ignite.internal.cdc.CdcMain.LAG_BYTES;
+import static org.apache.ignite.internal.cdc.CdcMain.LAG_EVTS_CNT;
+import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
+import static org.apache.ignite.testframework.GridTestUtils.runAsync;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests the consumption of the events by several threads.
+ */
+public class CdcParallelConsumptionTest extends AbstractCdcTest {
+    /** Keys count. */
+    private static final int KEYS = 1_000;
+
+    /** Updates of a key. */
+    private static final int UPDATES = 5;
+
+    /** Consumer threads count. */
+    private static final int THREADS = 4;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalForceArchiveTimeout(WAL_ARCHIVE_TIMEOUT)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)
+                    .setCdcEnabled(true)));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testPartitionOrder() throws Exception {
+        IgniteConfiguration cfg = getConfiguration("ignite-0");
+
+        IgniteEx ign = startGrid(cfg);
+
+        ign.cluster().state(ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ign.getOrCreateCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 32)));
+
+        for (int i = 0; i < UPDATES; i++) {
+            for (int key = 0; key < KEYS; key++)
+                cache.put(key, i);
+        }
+
+        OrderCheckConsumer cnsmr = new OrderCheckConsumer();
+
+        CdcConfiguration cdcCfg = new CdcConfiguration();
+
+        cdcCfg.setConsumer(cnsmr);
+        cdcCfg.setThreadCount(THREADS);
+
+        CdcMain cdc = new CdcMain(cfg, null, cdcCfg);
+
+        IgniteInternalFuture<?> fut = runAsync(cdc);
+
+        assertTrue(waitForCondition(() -> cnsmr.cnt.get() == KEYS * UPDATES, getTestTimeout()));
+
+        MetricRegistry mreg = getFieldValue(cdc, "mreg");
+
+        assertTrue(waitForCondition(() -> mreg.<LongMetric>findMetric(LAG_EVTS_CNT).value() == 0, getTestTimeout()));
+        assertTrue(mreg.<LongMetric>findMetric(LAG_BYTES).value() >= 0);
+
+        fut.cancel();
+
+        for (int key = 0; key < KEYS; key++) {
+            List<Integer> vals = cnsmr.vals.get(key);
+
+            assertEquals(UPDATES, vals.size());
+
+            for (int i = 0; i < UPDATES; i++)
+                assertEquals((Integer)i, vals.get(i));
+        }
+
+        assertTrue(cnsmr.threads.size() > 1);
+    }
+
+    /** Collects the values of each key in the consumption order. */
+    private static class OrderCheckConsumer extends TrackCacheEventsConsumer {
+        /** Values of the keys. A key is always consumed by the same thread. */
+        private final Map<Integer, List<Integer>> vals = new ConcurrentHashMap<>();
+
+        /** Consumer threads. */
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        /** Events count. */
+        private final AtomicInteger cnt = new AtomicInteger();
+
+        /** {@inheritDoc} */
+        @Override public boolean onEvents(Iterator<CdcEvent> evts) {
+            evts.forEachRemaining(evt -> {
+                vals.computeIfAbsent((Integer)evt.key(), k -> new ArrayList<>()).add((Integer)evt.value());
+
+                threads.add(Thread.currentThread().getName());
+
+                cnt.incrementAndGet();
+            });
+
+            return true;
+        }
+    }
+}
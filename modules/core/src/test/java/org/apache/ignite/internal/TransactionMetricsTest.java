@@ -38,8 +38,10 @@ import org.junit.Test;
 import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.TX_METRICS;
+import static org.apache.ignite.transactions.TransactionConcurrency.OPTIMISTIC;
 import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
 import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
 
 /**
  *
@@ -218,6 +220,49 @@ public class TransactionMetricsTest extends GridCommonAbstractTest {
         commitAllower.countDown();
     }
 
+    /**
+     *
+     */
+    @Test
+    public void testOnePhaseCommitMetric() throws Exception {
+        IgniteEx primaryNode1 = startGrid(0);
+        IgniteEx primaryNode2 = startGrid(1);
+        IgniteEx client = startClientGrid(2);
+
+        awaitPartitionMapExchange();
+
+        MetricRegistry mreg = client.context().metric().registry(TX_METRICS);
+
+        List<Integer> primaryKeys1 = primaryKeys(primaryNode1.cache(DEFAULT_CACHE_NAME), 2);
+        List<Integer> primaryKeys2 = primaryKeys(primaryNode2.cache(DEFAULT_CACHE_NAME), 1);
+
+        IgniteCache<Integer, String> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        //when: all the keys of the transaction belong to one primary node
+        try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            cache.put(primaryKeys1.get(0), "");
+            cache.put(primaryKeys1.get(1), "");
+
+            tx.commit();
+        }
+
+        //then:
+        assertEquals(1, mreg.<IntMetric>findMetric("txCommits").value());
+        assertEquals(1, mreg.<IntMetric>findMetric("txOnePhaseCommits").value());
+
+        //when: the keys of the transaction belong to different primary nodes
+        try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            cache.put(primaryKeys1.get(0), "");
+            cache.put(primaryKeys2.get(0), "");
+
+            tx.commit();
+        }
+
+        //then:
+        assertEquals(2, mreg.<IntMetric>findMetric("txCommits").value());
+        assertEquals(1, mreg.<IntMetric>findMetric("txOnePhaseCommits").value());
+    }
+
     /**
      *
      */
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequest;
+import org.apache.ignite.spi.systemview.view.CacheHotKeyView;
+import org.apache.ignite.spi.systemview.view.SystemView;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_READ_FROM_BACKUP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_SAMPLING_RATE;
+import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.HOT_KEYS_VIEW;
+
+/**
+ * Tests the hot keys detection and the balanced reads of the hot keys.
+ */
+@WithSystemProperty(key = IGNITE_HOT_KEYS_SAMPLING_RATE, value = "1")
+@WithSystemProperty(key = IGNITE_HOT_KEYS_READ_FROM_BACKUP, value = "true")
+public class CacheHotKeysTest extends GridCommonAbstractTest {
+    /** Number of keys. */
+    private static final int KEYS = 100;
+
+    /** Number of reads of the hot key. */
+    private static final int READS = 500;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setReadFromBackup(false)
+                .setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        startClientGrid(2);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testHotKeyReadFromBackup() throws Exception {
+        IgniteEx client = grid(2);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        for (int i = 1; i < KEYS; i++)
+            assertEquals(i, (int)cache.get(i));
+
+        Set<UUID> nodes = ConcurrentHashMap.newKeySet();
+
+        TestRecordingCommunicationSpi.spi(client).closure((node, msg) -> {
+            if (msg instanceof GridNearSingleGetRequest)
+                nodes.add(node.id());
+        });
+
+        for (int i = 0; i < READS; i++)
+            assertEquals(0, (int)cache.get(0));
+
+        TestRecordingCommunicationSpi.spi(client).closure(null);
+
+        // Reads of the hot key are spread between the primary and the backup.
+        Set<UUID> owners = new HashSet<>();
+
+        for (ClusterNode node : client.affinity(DEFAULT_CACHE_NAME).mapKeyToPrimaryAndBackups(0))
+            owners.add(node.id());
+
+        assertEquals(owners, nodes);
+
+        GridCacheContext<?, ?> cctx = client.cachex(DEFAULT_CACHE_NAME).context();
+
+        for (int i = 1; i < KEYS; i++)
+            assertFalse(cctx.hotKeys().hot(cctx.toCacheKeyObject(i), cctx.affinity().partition(i)));
+
+        SystemView<CacheHotKeyView> view = client.context().systemView().view(HOT_KEYS_VIEW);
+
+        assertEquals(1, view.size());
+
+        CacheHotKeyView row = view.iterator().next();
+
+        assertEquals(DEFAULT_CACHE_NAME, row.cacheName());
+        assertEquals(cctx.cacheId(), row.cacheId());
+        assertEquals(cctx.affinity().partition(0), row.partitionId());
+        assertEquals("0", row.key());
+        assertTrue(row.samples() > 0);
+    }
+}
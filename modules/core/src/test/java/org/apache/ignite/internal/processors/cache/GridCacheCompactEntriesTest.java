@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_ENTRY_LOCK_STRIPES;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Tests the compact cache entries which share striped locks.
+ */
+@WithSystemProperty(key = IGNITE_CACHE_ENTRY_LOCK_STRIPES, value = "4")
+public class GridCacheCompactEntriesTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(
+                new CacheConfiguration<>(ATOMIC.name()).setAtomicityMode(ATOMIC).setBackups(1),
+                new CacheConfiguration<>(TRANSACTIONAL.name()).setAtomicityMode(TRANSACTIONAL).setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testConcurrentPutAllAtomic() throws Exception {
+        checkConcurrentPutAll(ATOMIC);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testConcurrentPutAllTransactional() throws Exception {
+        checkConcurrentPutAll(TRANSACTIONAL);
+    }
+
+    /** */
+    @Test
+    public void testLockedByCurrentThread() {
+        GridCacheContext<Object, Object> cctx = grid(0).cachex(TRANSACTIONAL.name()).context();
+
+        GridCacheMapEntry e1 = (GridCacheMapEntry)cctx.cache().entryEx(0);
+        GridCacheMapEntry e2 = null;
+
+        for (int i = 1; e2 == null; i++) {
+            GridCacheMapEntry e = (GridCacheMapEntry)cctx.cache().entryEx(i);
+
+            if (e.sharesLock(e1))
+                e2 = e;
+        }
+
+        e1.lockEntry();
+
+        try {
+            assertTrue(e1.lockedByCurrentThread());
+            assertFalse(e2.lockedByCurrentThread());
+
+            e2.lockEntry();
+
+            try {
+                assertTrue(e1.lockedByCurrentThread());
+                assertTrue(e2.lockedByCurrentThread());
+            }
+            finally {
+                e2.unlockEntry();
+            }
+
+            assertTrue(e1.lockedByCurrentThread());
+            assertFalse(e2.lockedByCurrentThread());
+        }
+        finally {
+            e1.unlockEntry();
+        }
+
+        assertFalse(e1.lockedByCurrentThread());
+    }
+
+    /**
+     * Transactions, explicit locks and removals lock several entries sharing the stripes, the near cache of the client
+     * adds the near and DHT entry pairs. The operations must neither deadlock nor fail the lock owner assertions.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMultipleEntriesWithNearCache() throws Exception {
+        IgniteEx client = startClientGrid(2);
+
+        IgniteCache<Integer, Integer> txCache =
+            client.getOrCreateNearCache(TRANSACTIONAL.name(), new NearCacheConfiguration<>());
+
+        IgniteCache<Integer, Integer> atomicCache =
+            client.getOrCreateNearCache(ATOMIC.name(), new NearCacheConfiguration<>());
+
+        assertFalse(client.cachex(TRANSACTIONAL.name()).context().compactEntries());
+        assertTrue(grid(0).cachex(TRANSACTIONAL.name()).context().compactEntries());
+
+        GridTestUtils.runMultiThreaded(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < 100; i++) {
+                Set<Integer> keys = new TreeSet<>();
+
+                for (int j = 0; j < 5; j++)
+                    keys.add(rnd.nextInt(KEYS));
+
+                try (Transaction tx = client.transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                    for (Integer key : keys)
+                        txCache.put(key, i);
+
+                    txCache.remove(keys.iterator().next());
+
+                    tx.commit();
+                }
+
+                // Single key explicit lock, the keys of the concurrent transactions are locked in the same order.
+                Lock lock = txCache.lock(keys.iterator().next());
+
+                lock.lock();
+
+                try {
+                    for (Integer key : keys)
+                        txCache.get(key);
+                }
+                finally {
+                    lock.unlock();
+                }
+
+                Map<Integer, Integer> batch = new TreeMap<>();
+
+                for (Integer key : keys)
+                    batch.put(key, i);
+
+                atomicCache.putAll(batch);
+
+                atomicCache.removeAll(keys);
+            }
+        }, 8, "multi-entry");
+
+        for (int i = 0; i < KEYS; i++) {
+            txCache.put(i, i);
+            atomicCache.put(i, i);
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertEquals(i, (int)txCache.get(i));
+            assertEquals(i, (int)atomicCache.get(i));
+        }
+    }
+
+    /**
+     * Entries of different keys share a few lock stripes, batches which lock them must not deadlock.
+     *
+     * @param mode Atomicity mode.
+     * @throws Exception If failed.
+     */
+    private void checkConcurrentPutAll(CacheAtomicityMode mode) throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(mode.name());
+
+        assertTrue(grid(0).cachex(mode.name()).context().compactEntries());
+
+        GridTestUtils.runMultiThreaded(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < 200; i++) {
+                Map<Integer, Integer> batch = new TreeMap<>();
+
+                for (int j = 0; j < 10; j++)
+                    batch.put(rnd.nextInt(KEYS), i);
+
+                cache.putAll(batch);
+            }
+        }, 8, "put-all");
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i, (int)cache.get(i));
+    }
+}
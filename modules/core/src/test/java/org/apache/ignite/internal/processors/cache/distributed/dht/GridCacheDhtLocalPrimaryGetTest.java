@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.processors.cache.distributed.dht;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheEntry;
+import org.apache.ignite.cache.CacheMetrics;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.events.Event;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.lang.IgnitePredicate;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.events.EventType.EVT_CACHE_OBJECT_READ;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Tests the single key get of a key the local node is the primary for.
+ */
+public class GridCacheDhtLocalPrimaryGetTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setIncludeEventTypes(EVT_CACHE_OBJECT_READ)
+            .setCacheConfiguration(
+                new CacheConfiguration<>(ATOMIC.name()).setAtomicityMode(ATOMIC).setBackups(1).setStatisticsEnabled(true),
+                new CacheConfiguration<>(TRANSACTIONAL.name()).setAtomicityMode(TRANSACTIONAL).setBackups(1)
+                    .setStatisticsEnabled(true));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testGetAtomic() throws Exception {
+        checkGet(ATOMIC);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testGetTransactional() throws Exception {
+        checkGet(TRANSACTIONAL);
+    }
+
+    /**
+     * @param mode Atomicity mode.
+     * @throws Exception If failed.
+     */
+    private void checkGet(CacheAtomicityMode mode) throws Exception {
+        IgniteEx ignite = grid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(mode.name());
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        AtomicInteger evts = new AtomicInteger();
+
+        IgnitePredicate<Event> lsnr = evt -> {
+            evts.incrementAndGet();
+
+            return true;
+        };
+
+        ignite.events().localListen(lsnr, EVT_CACHE_OBJECT_READ);
+
+        CacheMetrics metrics = cache.localMetrics();
+
+        // Updates of the atomic cache count misses as well.
+        long hits0 = metrics.getCacheHits();
+        long misses0 = metrics.getCacheMisses();
+
+        int hits = 0;
+        int misses = 0;
+
+        for (int i = 0; i < 2 * KEYS; i++) {
+            if (!ignite.affinity(mode.name()).isPrimary(ignite.localNode(), i))
+                continue;
+
+            if (i < KEYS) {
+                hits += 2;
+
+                assertEquals(i, (int)cache.get(i));
+
+                CacheEntry<Integer, Integer> e = cache.getEntry(i);
+
+                assertEquals(i, (int)e.getValue());
+
+                // The backup node reads the key through the get future.
+                assertEquals(grid(1).cache(mode.name()).getEntry(i).version(), e.version());
+            }
+            else {
+                misses += 2;
+
+                assertNull(cache.get(i));
+                assertNull(cache.getEntry(i));
+            }
+        }
+
+        assertTrue(hits > 0 && misses > 0);
+
+        ignite.events().stopLocalListen(lsnr, EVT_CACHE_OBJECT_READ);
+
+        assertEquals(hits, evts.get());
+
+        metrics = cache.localMetrics();
+
+        assertEquals(hits, metrics.getCacheHits() - hits0);
+        assertEquals(misses, metrics.getCacheMisses() - misses0);
+
+        if (mode == TRANSACTIONAL) {
+            int key = primaryKey(cache);
+
+            try (Transaction tx = ignite.transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                assertEquals(key, (int)cache.get(key));
+
+                cache.put(key, -1);
+
+                assertEquals(-1, (int)cache.get(key));
+            }
+
+            assertEquals(key, (int)cache.get(key));
+        }
+    }
+}
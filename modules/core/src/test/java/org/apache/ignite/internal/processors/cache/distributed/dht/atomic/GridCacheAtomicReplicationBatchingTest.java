@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_REPLICATION_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_REPLICATION_BATCH_TIMEOUT;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CachePeekMode.BACKUP;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
+
+/**
+ * Tests the batching of backup updates of a {@code PRIMARY_SYNC} atomic cache.
+ */
+@WithSystemProperty(key = IGNITE_ATOMIC_REPLICATION_BATCH_SIZE, value = "64")
+@WithSystemProperty(key = IGNITE_ATOMIC_REPLICATION_BATCH_TIMEOUT, value = "50")
+public class GridCacheAtomicReplicationBatchingTest extends GridCommonAbstractTest {
+    /** Servers count. */
+    private static final int SRVS = 3;
+
+    /** Partitions count. */
+    private static final int PARTS = 16;
+
+    /** Threads count. */
+    private static final int THREADS = 16;
+
+    /** Keys count per thread. */
+    private static final int KEYS = 200;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(ATOMIC)
+                .setWriteSynchronizationMode(PRIMARY_SYNC)
+                .setBackups(1)
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        startGrids(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testConcurrentPuts() throws Exception {
+        for (int i = 0; i < SRVS; i++) {
+            TestRecordingCommunicationSpi.spi(grid(i)).record(GridDhtAtomicSingleUpdateRequest.class,
+                GridDhtAtomicUpdateRequest.class, GridDhtAtomicUpdateBatchRequest.class);
+        }
+
+        IgniteCache<Integer, Integer> cache = grid(SRVS).cache(DEFAULT_CACHE_NAME);
+
+        putAll(cache);
+
+        int batches = 0;
+        int single = 0;
+
+        for (int i = 0; i < SRVS; i++) {
+            for (Object msg : TestRecordingCommunicationSpi.spi(grid(i)).recordedMessages(true)) {
+                if (msg instanceof GridDhtAtomicUpdateBatchRequest)
+                    batches++;
+                else
+                    single++;
+            }
+        }
+
+        assertEquals(0, single);
+        assertTrue("Backup updates were not batched: " + batches, batches > 0 && batches < THREADS * KEYS / 2);
+
+        checkBackups();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testBackupLeft() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(SRVS).cache(DEFAULT_CACHE_NAME);
+
+        IgniteInternalFuture<?> fut = GridTestUtils.runAsync(() -> putAll(cache));
+
+        doSleep(100);
+
+        UUID leftId = grid(SRVS - 1).localNode().id();
+
+        stopGrid(SRVS - 1);
+
+        fut.get(getTestTimeout());
+
+        awaitPartitionMapExchange();
+
+        checkBackups();
+
+        for (int i = 0; i < SRVS - 1; i++) {
+            GridDhtAtomicReplicationStreams streams =
+                ((GridDhtAtomicCache<?, ?>)grid(i).cachex(DEFAULT_CACHE_NAME).context().dht()).replicationStreams();
+
+            Map<UUID, ?> nodeStreams = GridTestUtils.getFieldValue(streams, "streams");
+
+            assertFalse("Streams of the left node are not removed", nodeStreams.containsKey(leftId));
+        }
+    }
+
+    /**
+     * @param cache Cache.
+     * @throws Exception If failed.
+     */
+    private void putAll(IgniteCache<Integer, Integer> cache) throws Exception {
+        AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int base = idx.getAndIncrement() * KEYS;
+
+            for (int i = 0; i < KEYS; i++)
+                cache.put(base + i, base + i);
+        }, THREADS, "put");
+    }
+
+    /**
+     * Checks that the backups received all the updates and the primaries got all the acknowledgements.
+     *
+     * @throws Exception If failed.
+     */
+    private void checkBackups() throws Exception {
+        for (Ignite node : G.allGrids()) {
+            IgniteEx ignite = (IgniteEx)node;
+
+            if (ignite.configuration().isClientMode())
+                continue;
+
+            assertTrue(GridTestUtils.waitForCondition(
+                () -> ignite.context().cache().context().mvcc().atomicFuturesCount() == 0, getTestTimeout()));
+
+            IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < THREADS * KEYS; i++) {
+                if (ignite.affinity(DEFAULT_CACHE_NAME).isBackup(ignite.cluster().localNode(), i))
+                    assertEquals("Missing backup update [node=" + ignite.name() + ", key=" + i + ']',
+                        (Integer)i, cache.localPeek(i, BACKUP));
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.CacheInterceptorAdapter;
+import org.apache.ignite.cache.CachePartialUpdateException;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_UPDATE_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_UPDATE_BATCH_WINDOW;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+
+/**
+ * Tests the coalescing of concurrent single key puts into an atomic cache.
+ */
+@WithSystemProperty(key = IGNITE_ATOMIC_UPDATE_BATCH_SIZE, value = "32")
+@WithSystemProperty(key = IGNITE_ATOMIC_UPDATE_BATCH_WINDOW, value = "1000")
+public class GridCacheAtomicUpdateBatchingTest extends GridCommonAbstractTest {
+    /** Threads count. */
+    private static final int THREADS = 16;
+
+    /** Keys count per thread. */
+    private static final int KEYS = 100;
+
+    /** Key the interceptor fails to put. */
+    private static final int FAILED_KEY = 13;
+
+    /** Cache with the interceptor. */
+    private static final String INTERCEPTOR_CACHE = "interceptor";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME).setAtomicityMode(ATOMIC).setBackups(1),
+                new CacheConfiguration<Integer, Integer>(INTERCEPTOR_CACHE).setAtomicityMode(ATOMIC)
+                    .setInterceptor(new FailingInterceptor()));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        startGrids(2);
+
+        startClientGrid(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testConcurrentPuts() throws Exception {
+        IgniteEx client = grid(2);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(client);
+
+        spi.record(GridNearAtomicSingleUpdateRequest.class, GridNearAtomicFullUpdateRequest.class);
+
+        AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int base = idx.getAndIncrement() * KEYS;
+
+            for (int i = 0; i < KEYS; i++)
+                cache.put(base + i, base + i);
+        }, THREADS, "put");
+
+        int msgs = spi.recordedMessages(true).size();
+
+        assertTrue("Updates were not coalesced: " + msgs, msgs < THREADS * KEYS / 2);
+
+        for (int i = 0; i < THREADS * KEYS; i++)
+            assertEquals(i, (int)cache.get(i));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testPartialFailure() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(2).cache(INTERCEPTOR_CACHE);
+
+        AtomicInteger idx = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int base = idx.getAndIncrement() * KEYS;
+
+            for (int i = 0; i < KEYS; i++) {
+                try {
+                    cache.put(base + i, base + i);
+                }
+                catch (CachePartialUpdateException e) {
+                    assertEquals(FAILED_KEY, base + i);
+                    assertEquals(1, e.failedKeys().size());
+                    assertTrue(e.failedKeys().contains(FAILED_KEY));
+
+                    failed.incrementAndGet();
+                }
+            }
+        }, THREADS, "put");
+
+        assertEquals(1, failed.get());
+
+        for (int i = 0; i < THREADS * KEYS; i++) {
+            if (i != FAILED_KEY)
+                assertEquals(i, (int)cache.get(i));
+        }
+    }
+
+    /**
+     * Interceptor failing to put {@link #FAILED_KEY}.
+     */
+    private static class FailingInterceptor extends CacheInterceptorAdapter<Integer, Integer> {
+        /** {@inheritDoc} */
+        @Override public Integer onBeforePut(Cache.Entry<Integer, Integer> entry, Integer newVal) {
+            if (entry.getKey() == FAILED_KEY)
+                throw new IgniteException("Failed to put key: " + FAILED_KEY);
+
+            return newVal;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.near;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.CacheMetricsImpl;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_REPLICATION_BATCH_SIZE;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CachePeekMode.NEAR;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
+
+/**
+ * Tests the near cache admission filter and the near cache updates batching.
+ */
+public class GridCacheNearAdmissionTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 20;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testColdKeysNotCached() throws Exception {
+        IgniteEx client = startClientGrid(2);
+
+        IgniteCache<Integer, Integer> cache = nearCache(client, FULL_SYNC, 3);
+
+        CacheMetricsImpl metrics = client.cachex(DEFAULT_CACHE_NAME).metrics0();
+
+        for (int i = 0; i < KEYS; i++)
+            grid(0).cache(DEFAULT_CACHE_NAME).put(i, i);
+
+        for (int i = 0; i < KEYS; i++) {
+            assertEquals(i, (int)cache.get(i));
+            assertNull(cache.localPeek(i, NEAR));
+        }
+
+        // Cold keys have no readers and the updates are not sent to the client.
+        for (int i = 0; i < KEYS; i++)
+            grid(0).cache(DEFAULT_CACHE_NAME).put(i, -i);
+
+        assertEquals(0, metrics.getNearInvalidations());
+        assertEquals(KEYS, metrics.getNearAdmissionRejects());
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(-i, (int)cache.get(i));
+
+        for (int i = 0; i < KEYS; i++) {
+            assertEquals(-i, (int)cache.get(i));
+            assertEquals(-i, (int)cache.localPeek(i, NEAR));
+        }
+
+        for (int i = 0; i < KEYS; i++)
+            grid(0).cache(DEFAULT_CACHE_NAME).put(i, i);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i, (int)cache.localPeek(i, NEAR));
+
+        assertEquals(KEYS, metrics.getNearInvalidations());
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_ATOMIC_REPLICATION_BATCH_SIZE, value = "8")
+    public void testBatchedNearUpdates() throws Exception {
+        IgniteEx client = startClientGrid(2);
+
+        IgniteCache<Integer, Integer> cache = nearCache(client, PRIMARY_SYNC, 0);
+
+        for (int i = 0; i < KEYS; i++)
+            grid(0).cache(DEFAULT_CACHE_NAME).put(i, i);
+
+        for (int i = 0; i < KEYS; i++) {
+            assertEquals(i, (int)cache.get(i));
+            assertEquals(i, (int)cache.localPeek(i, NEAR));
+        }
+
+        for (int i = 0; i < KEYS; i++)
+            grid(0).cache(DEFAULT_CACHE_NAME).put(i, -i);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            for (int i = 0; i < KEYS; i++) {
+                Integer val = cache.localPeek(i, NEAR);
+
+                if (val != null && val != -i)
+                    return false;
+            }
+
+            return true;
+        }, getTestTimeout()));
+    }
+
+    /**
+     * @param client Client node.
+     * @param syncMode Write synchronization mode.
+     * @param admissionFreq Near cache admission frequency.
+     * @return Near cache.
+     */
+    private IgniteCache<Integer, Integer> nearCache(
+        IgniteEx client,
+        CacheWriteSynchronizationMode syncMode,
+        int admissionFreq
+    ) {
+        grid(0).createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(ATOMIC)
+            .setWriteSynchronizationMode(syncMode)
+            .setStatisticsEnabled(true)
+            .setBackups(1));
+
+        return client.createNearCache(DEFAULT_CACHE_NAME,
+            new NearCacheConfiguration<Integer, Integer>().setNearAdmissionFrequency(admissionFreq));
+    }
+}
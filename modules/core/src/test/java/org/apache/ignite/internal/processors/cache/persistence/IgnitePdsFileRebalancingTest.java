@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemandMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_FILE_REBALANCE_ENABLED;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+
+/**
+ * Tests rebalancing of the partitions by files.
+ */
+@WithSystemProperty(key = IGNITE_PDS_FILE_REBALANCE_ENABLED, value = "true")
+public class IgnitePdsFileRebalancingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int PARTS = 16;
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setCommunicationSpi(new TestRecordingCommunicationSpi());
+
+        cfg.setConsistentId(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setWalSegmentSize(4 * 1024 * 1024)
+            .setMaxWalArchiveSize(DataStorageConfiguration.UNLIMITED_WAL_ARCHIVE)
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(200L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(TRANSACTIONAL)
+            .setBackups(1)
+            .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testRebalanceByFiles() throws Exception {
+        checkRebalance(false);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testRebalanceByFilesUnderLoad() throws Exception {
+        checkRebalance(true);
+    }
+
+    /**
+     * Checkpoints between the copy of the partition files and the historical catch-up would remove the checkpoint
+     * the catch-up starts from, unless the supplier keeps the WAL reserved.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE, value = "2")
+    public void testCheckpointsBeforeCatchUp() throws Exception {
+        IgniteEx crd = startGrids(2);
+
+        crd.cluster().state(ClusterState.ACTIVE);
+        crd.cluster().baselineAutoAdjustEnabled(false);
+
+        IgniteCache<Integer, Integer> cache = crd.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        forceCheckpoint();
+
+        IgniteEx joined = startGrid(2);
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(joined);
+
+        spi.record((node, msg) -> msg instanceof GridDhtPartitionDemandMessage);
+
+        spi.blockMessages((node, msg) -> msg instanceof GridDhtPartitionDemandMessage && isCatchUp((GridDhtPartitionDemandMessage)msg));
+
+        resetBaselineTopology();
+
+        spi.waitForBlocked();
+
+        for (int i = 0; i < 5; i++) {
+            for (int k = 0; k < KEYS; k += 10)
+                cache.put(k, k + i);
+
+            forceCheckpoint();
+        }
+
+        spi.stopBlock();
+
+        awaitPartitionMapExchange();
+
+        boolean caughtUp = false;
+
+        for (Object msg : spi.recordedMessages(false)) {
+            GridDhtPartitionDemandMessage demand = (GridDhtPartitionDemandMessage)msg;
+
+            caughtUp |= isCatchUp(demand);
+
+            // The partitions are rebalanced by files, the fallback to the full rebalancing is not expected.
+            if (!demand.files() && demand.partitions() != null)
+                assertTrue(demand.partitions().fullSet().isEmpty());
+        }
+
+        assertTrue(caughtUp);
+
+        for (GridDhtLocalPartition part : joined.cachex(DEFAULT_CACHE_NAME).context().topology().localPartitions())
+            assertEquals(OWNING, part.state());
+
+        assertPartitionsSame(idleVerify(crd, DEFAULT_CACHE_NAME));
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i % 10 == 0 ? i + 4 : i, (int)joined.<Integer, Integer>cache(DEFAULT_CACHE_NAME).get(i));
+    }
+
+    /**
+     * @param demand Demand message.
+     * @return {@code True} if the message demands the historical catch-up of the installed partition files.
+     */
+    private static boolean isCatchUp(GridDhtPartitionDemandMessage demand) {
+        return !demand.files() && demand.partitions() != null && !demand.partitions().historicalSet().isEmpty();
+    }
+
+    /**
+     * @param load {@code True} to update the cache while rebalancing.
+     * @throws Exception If failed.
+     */
+    private void checkRebalance(boolean load) throws Exception {
+        IgniteEx crd = startGrids(2);
+
+        crd.cluster().state(ClusterState.ACTIVE);
+        crd.cluster().baselineAutoAdjustEnabled(false);
+
+        IgniteCache<Integer, Integer> cache = crd.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        forceCheckpoint();
+
+        IgniteEx joined = startGrid(2);
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(joined);
+
+        spi.record((node, msg) -> msg instanceof GridDhtPartitionDemandMessage && ((GridDhtPartitionDemandMessage)msg).files());
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        IgniteInternalFuture<?> loadFut = GridTestUtils.runAsync(() -> {
+            int i = 0;
+
+            while (load && !stop.get())
+                cache.put(i++ % KEYS, i);
+        });
+
+        resetBaselineTopology();
+
+        awaitPartitionMapExchange();
+
+        stop.set(true);
+
+        loadFut.get();
+
+        List<Object> fileDemands = spi.recordedMessages(false);
+
+        assertFalse(fileDemands.isEmpty());
+
+        for (GridDhtLocalPartition part : joined.cachex(DEFAULT_CACHE_NAME).context().topology().localPartitions())
+            assertEquals(OWNING, part.state());
+
+        assertPartitionsSame(idleVerify(crd, DEFAULT_CACHE_NAME));
+
+        for (int i = 0; i < KEYS; i++)
+            assertNotNull(joined.cache(DEFAULT_CACHE_NAME).get(i));
+    }
+}
@@ -41,6 +41,11 @@ import org.apache.ignite.failure.StopNodeFailureHandler;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.encryption.AbstractEncryptionTest;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointRecoveryFileStorage;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
@@ -276,6 +281,36 @@ public class IgnitePdsCheckpointRecoveryTest extends GridCommonAbstractTest {
             assertEquals((Integer)i, cache0.get(i));
     }
 
+    /** */
+    @Test
+    public void testNoPageRecordsInWal() throws Exception {
+        spoilFilePattern = FileTreeTestUtils.partitionFilePattern();
+
+        IgniteEx ignite = initIgnite();
+
+        forceCheckpoint();
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, -i);
+
+        int dataRecs = 0;
+
+        try (WALIterator it = ignite.context().cache().context().wal().replay(null)) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().get2();
+
+                assertFalse(rec.toString(), rec instanceof PageDeltaRecord || rec instanceof PageSnapshot);
+
+                if (rec instanceof DataRecord)
+                    dataRecs++;
+            }
+        }
+
+        assertTrue(dataRecs > 0);
+    }
+
     /** */
     private IgniteEx initIgnite() throws Exception {
         IgniteEx ignite = startGrid(0);
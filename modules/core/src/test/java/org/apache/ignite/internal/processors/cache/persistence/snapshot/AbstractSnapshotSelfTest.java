@@ -836,6 +836,7 @@ public abstract class AbstractSnapshotSelfTest extends GridCommonAbstractTest {
             false,
             false,
             false,
+            false,
             snpSndr
         );
 
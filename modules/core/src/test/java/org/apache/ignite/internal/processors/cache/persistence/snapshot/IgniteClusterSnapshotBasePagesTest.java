@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.io.File;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.management.cache.IdleVerifyResult;
+import org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree.partFileOfPages;
+import static org.apache.ignite.testframework.GridTestUtils.assertThrowsAnyCause;
+
+/**
+ * Tests the snapshots saving the pages changed since the base snapshot.
+ */
+public class IgniteClusterSnapshotBasePagesTest extends AbstractSnapshotSelfTest {
+    /** Nodes count. */
+    private static final int GRID_CNT = 2;
+
+    /** Updated keys count. */
+    private static final int UPDATED_KEYS = 10;
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testRestoreFromPages() throws Exception {
+        IgniteEx ignite = startGridsWithCache(GRID_CNT, dfltCacheCfg, CACHE_KEYS_RANGE);
+
+        IgniteCache<Integer, Object> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        snp(ignite).createSnapshot("snp0").get(TIMEOUT);
+
+        for (int i = 0; i < UPDATED_KEYS; i++)
+            cache.put(i, -i);
+
+        snp(ignite).createSnapshot("snp1", null, "snp0").get(TIMEOUT);
+
+        assertPagesSaved("snp1");
+
+        for (int i = 0; i < UPDATED_KEYS; i++)
+            cache.put(i + UPDATED_KEYS, -i - UPDATED_KEYS);
+
+        snp(ignite).createSnapshot("snp2", null, "snp1").get(TIMEOUT);
+
+        assertPagesSaved("snp2");
+
+        IdleVerifyResult res = snp(ignite).checkSnapshot("snp2", null).get(TIMEOUT).idleVerifyResult();
+
+        assertTrue(F.isEmpty(res.exceptions()));
+        assertPartitionsSame(res);
+
+        cache.destroy();
+
+        awaitPartitionMapExchange();
+
+        ignite.snapshot().restoreSnapshot("snp2", null).get(TIMEOUT);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < CACHE_KEYS_RANGE; i++)
+            assertEquals(i < 2 * UPDATED_KEYS ? -i : i, cache.get(i));
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testBaseSnapshotNotFound() throws Exception {
+        IgniteEx ignite = startGridsWithCache(GRID_CNT, dfltCacheCfg, CACHE_KEYS_RANGE);
+
+        assertThrowsAnyCause(log, () -> snp(ignite).createSnapshot("snp1", null, "snp0").get(TIMEOUT),
+            IgniteException.class, "Base snapshot with given name doesn't exist on local node");
+    }
+
+    /**
+     * Checks that the partitions of the snapshot are saved as the pages changed since the base snapshot.
+     *
+     * @param snpName Snapshot name.
+     */
+    private void assertPagesSaved(String snpName) {
+        int pagesFiles = 0;
+
+        for (int i = 0; i < GRID_CNT; i++) {
+            SnapshotFileTree sft = new SnapshotFileTree(grid(i).context(), snpName, null);
+
+            List<File> pages = sft.existingCachePartitionPagesFiles(sft.defaultCacheStorage(dfltCacheCfg));
+
+            for (File f : pages)
+                assertFalse(f.getAbsolutePath(), partFileOfPages(f).exists());
+
+            pagesFiles += pages.size();
+        }
+
+        // Encrypted cache groups are always saved as the whole partition files.
+        if (encryption)
+            assertEquals(0, pagesFiles);
+        else
+            assertTrue(pagesFiles > 0);
+    }
+}
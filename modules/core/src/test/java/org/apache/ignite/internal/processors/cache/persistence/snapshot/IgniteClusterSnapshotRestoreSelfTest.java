@@ -55,7 +55,11 @@ import org.apache.ignite.internal.TestRecordingCommunicationSpi;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.management.cache.IdleVerifyResult;
 import org.apache.ignite.internal.processors.cache.DynamicCacheChangeBatch;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemandMessage;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsSingleMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
@@ -66,6 +70,7 @@ import org.apache.ignite.internal.util.distributed.SingleNodeMessage;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.G;
 import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteFuture;
 import org.apache.ignite.spi.IgniteSpiException;
@@ -126,6 +131,61 @@ public class IgniteClusterSnapshotRestoreSelfTest extends IgniteClusterSnapshotR
         assertCacheKeys(ignite.cache(DEFAULT_CACHE_NAME), keysCnt);
     }
 
+    /**
+     * Checks that the partitions missing locally are loaded by the rebalancing instead of the snapshot files transfer
+     * if the caches are started early.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRestoreEarlyStart() throws Exception {
+        dfltCacheCfg.setBackups(1);
+
+        startGridsWithSnapshot(2, CACHE_KEYS_RANGE, false);
+
+        // The new node has no snapshot data, its partitions are stored in the snapshot by the other owners.
+        IgniteEx newNode = startGrid(optimize(getConfiguration(getTestIgniteInstanceName(2)).setCacheConfiguration()));
+
+        resetBaselineTopology();
+
+        awaitPartitionMapExchange();
+
+        for (Ignite g : G.allGrids())
+            TestRecordingCommunicationSpi.spi(g).record(SnapshotFilesRequestMessage.class);
+
+        TestRecordingCommunicationSpi newNodeSpi = TestRecordingCommunicationSpi.spi(newNode);
+
+        int grpId = CU.cacheId(DEFAULT_CACHE_NAME);
+
+        newNodeSpi.blockMessages((node, msg) ->
+            msg instanceof GridDhtPartitionDemandMessage && ((GridDhtPartitionDemandMessage)msg).groupId() == grpId);
+
+        snp(newNode).restoreSnapshot(SNAPSHOT_NAME, null, null, 0, false, true).get(TIMEOUT);
+
+        newNodeSpi.waitForBlocked();
+
+        GridDhtPartitionTopology top = newNode.cachex(DEFAULT_CACHE_NAME).context().topology();
+
+        assertTrue(top.localPartitions().stream().anyMatch(part -> part.state() == GridDhtPartitionState.MOVING));
+
+        newNodeSpi.stopBlock();
+
+        awaitPartitionMapExchange(true, true, null, true);
+
+        for (Ignite g : G.allGrids()) {
+            // With the full snapshot every partition is stored by another owner, so nothing is transferred.
+            if (!onlyPrimary)
+                assertTrue(TestRecordingCommunicationSpi.spi(g).recordedMessages(true).isEmpty());
+
+            for (GridDhtLocalPartition part : ((IgniteEx)g).cachex(DEFAULT_CACHE_NAME).context().topology().localPartitions())
+                assertEquals(GridDhtPartitionState.OWNING, part.state());
+
+            assertCacheKeys(g.cache(DEFAULT_CACHE_NAME), CACHE_KEYS_RANGE);
+        }
+
+        assertPartitionsSame(idleVerify(newNode, DEFAULT_CACHE_NAME));
+    }
+
     /**
      * @throws Exception If failed.
      */
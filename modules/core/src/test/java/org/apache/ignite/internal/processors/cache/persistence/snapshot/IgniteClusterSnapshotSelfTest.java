@@ -71,6 +71,7 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactor
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.filename.SnapshotFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.processors.configuration.distributed.DistributedChangeableProperty;
 import org.apache.ignite.internal.processors.metric.impl.ObjectGauge;
 import org.apache.ignite.internal.util.distributed.DistributedProcess;
 import org.apache.ignite.internal.util.distributed.FullMessage;
@@ -98,6 +99,7 @@ import static org.apache.ignite.events.EventType.EVT_CLUSTER_SNAPSHOT_FINISHED;
 import static org.apache.ignite.events.EventType.EVT_CLUSTER_SNAPSHOT_STARTED;
 import static org.apache.ignite.internal.events.DiscoveryCustomEvent.EVT_DISCOVERY_CUSTOM_EVT;
 import static org.apache.ignite.internal.processors.cache.distributed.rebalancing.GridCacheRebalancingSyncSelfTest.checkPartitionMapExchangeFinished;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.SNAPSHOT_LOW_IMPACT_DMS_KEY;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.SNAPSHOT_METRICS;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.SNP_IN_PROGRESS_ERR_MSG;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.SNP_NODE_STOPPING_ERR_MSG;
@@ -926,6 +928,55 @@ public class IgniteClusterSnapshotSelfTest extends AbstractSnapshotSelfTest {
             Collections.singletonList(SNAPSHOT_NAME), snpList.value());
     }
 
+    /** @throws Exception If fails. */
+    @Test
+    public void testClusterSnapshotLowImpactMode() throws Exception {
+        CountDownLatch deltaApply = new CountDownLatch(1);
+        CountDownLatch deltaBlock = new CountDownLatch(1);
+        IgniteEx ignite = startGridsWithCache(1, dfltCacheCfg, CACHE_KEYS_RANGE);
+
+        DistributedChangeableProperty<Boolean> lowImpact =
+            ignite.context().distributedConfiguration().property(SNAPSHOT_LOW_IMPACT_DMS_KEY);
+
+        lowImpact.propagate(true);
+
+        assertTrue(waitForCondition(() -> Boolean.TRUE.equals(lowImpact.get()), TIMEOUT));
+
+        MetricRegistry mreg = ignite.context().metric().registry(SNAPSHOT_METRICS);
+
+        LongMetric rateLimitedSize = mreg.findMetric("CurrentSnapshotRateLimitedSize");
+        LongMetric throttleTime = mreg.findMetric("CurrentSnapshotThrottleTime");
+        LongMetric cpYieldTime = mreg.findMetric("CurrentSnapshotCheckpointYieldTime");
+        LongMetric cowSize = mreg.findMetric("CurrentSnapshotCopyOnWriteSize");
+
+        assertEquals(-1, rateLimitedSize.value());
+        assertEquals(-1, throttleTime.value());
+        assertEquals(-1, cpYieldTime.value());
+        assertEquals(-1, cowSize.value());
+
+        // Snapshot process will be blocked when delta partition files processing starts.
+        snp(ignite).localSnapshotSenderFactory(
+            blockingLocalSnapshotSender(ignite, deltaApply, deltaBlock));
+
+        IgniteFuture<Void> fut = snp(ignite).createSnapshot(SNAPSHOT_NAME, null, false, onlyPrimary);
+
+        U.await(deltaApply);
+
+        // The partition files are copied by blocks yielding to the checkpoint even if the rate is not limited.
+        assertTrue(rateLimitedSize.value() > 0);
+        assertEquals(0, throttleTime.value());
+        assertTrue(cpYieldTime.value() >= 0);
+        assertTrue(cowSize.value() >= 0);
+
+        deltaBlock.countDown();
+
+        fut.get(TIMEOUT);
+
+        assertTrue(waitForCondition(() -> rateLimitedSize.value() == -1, TIMEOUT));
+
+        checkSnapshot(SNAPSHOT_NAME, null);
+    }
+
     /** @throws Exception If fails. */
     @Test
     public void testClusterSnapshotIncorrectNameFails() throws Exception {
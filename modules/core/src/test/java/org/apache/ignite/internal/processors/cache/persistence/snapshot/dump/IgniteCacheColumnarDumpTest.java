@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot.dump;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.SnapshotMetadata;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.Column;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.ColumnType;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.RowGroup;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.AbstractCacheDumpTest.DMP_NAME;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.AbstractCacheDumpTest.dump;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.AbstractCacheDumpTest.invokeCheckCommand;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.KEY_COL;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpReader.VAL_COL;
+import static org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpWriter.ROW_GROUP_SIZE;
+import static org.apache.ignite.testframework.GridTestUtils.assertThrows;
+
+/**
+ * Tests the dump storing the entries column-wise.
+ */
+public class IgniteCacheColumnarDumpTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS_CNT = 10_000;
+
+    /** Partitions count. Each partition has several row groups. */
+    private static final int PARTS = 2;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testColumnarDump() throws Exception {
+        checkDump(false);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testCompressedColumnarDump() throws Exception {
+        checkDump(true);
+    }
+
+    /**
+     * @param compress If {@code true} then compress the column chunks.
+     * @throws Exception If failed.
+     */
+    private void checkDump(boolean compress) throws Exception {
+        IgniteEx ign = startGrids(2);
+
+        IgniteCache<Integer, Account> cache = ign.createCache(new CacheConfiguration<Integer, Account>(DEFAULT_CACHE_NAME)
+            .setBackups(1)
+            .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, new Account(i, "name" + i, i * 0.5));
+
+        ign.context().cache().context().snapshotMgr().createColumnarDump(DMP_NAME, null, compress).get(getTestTimeout());
+
+        assertEquals("The check procedure has finished, no conflicts have been found.\n\n", invokeCheckCommand(ign, DMP_NAME));
+
+        int grp = CU.cacheId(DEFAULT_CACHE_NAME);
+
+        try (Dump dump = dump(ign, DMP_NAME)) {
+            for (SnapshotMetadata meta : dump.metadata()) {
+                String node = meta.folderName();
+
+                Set<Integer> keys = new HashSet<>();
+
+                for (int part : dump.partitions(node, grp)) {
+                    assertThrows(log, () -> dump.iterator(node, grp, part, null), IgniteException.class, "can't be iterated");
+
+                    try (ColumnarDumpReader reader = dump.columnarReader(node, grp, part)) {
+                        assertTrue(reader.rowGroups().size() > 1);
+
+                        for (RowGroup rowGrp : reader.rowGroups()) {
+                            assertTrue(rowGrp.rows() <= ROW_GROUP_SIZE);
+                            assertNull(rowGrp.column(VAL_COL));
+
+                            Column id = rowGrp.column("id");
+
+                            assertEquals(ColumnType.INT, id.type());
+                            assertEquals(0, id.nullCount());
+                            assertTrue((Integer)id.min() >= 0);
+                            assertTrue((Integer)id.max() < KEYS_CNT);
+
+                            assertEquals(ColumnType.STRING, rowGrp.column("name").type());
+                            assertEquals(ColumnType.DOUBLE, rowGrp.column("balance").type());
+                        }
+
+                        Iterator<Object[]> rows = reader.rows(Arrays.asList(KEY_COL, "id", "balance", "unknown"), null);
+
+                        while (rows.hasNext()) {
+                            Object[] row = rows.next();
+
+                            int key = (Integer)row[0];
+
+                            assertEquals(key, row[1]);
+                            assertEquals(key * 0.5, row[2]);
+                            assertNull(row[3]);
+
+                            assertTrue(keys.add(key));
+                        }
+
+                        // All the row groups are skipped by the statistics.
+                        assertFalse(reader.rows(Arrays.asList("name"), g -> (Integer)g.column("id").max() >= KEYS_CNT).hasNext());
+                    }
+                }
+
+                assertEquals(KEYS_CNT, keys.size());
+            }
+        }
+    }
+
+    /** */
+    private static class Account {
+        /** */
+        private final int id;
+
+        /** */
+        private final String name;
+
+        /** */
+        private final double balance;
+
+        /** */
+        private Account(int id, String name, double balance) {
+            this.id = id;
+            this.name = name;
+            this.balance = balance;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxPrepareRequest;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.transactions.TransactionOptimisticException;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_LOCK_FREE_READ_ONLY;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.transactions.TransactionConcurrency.OPTIMISTIC;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
+
+/**
+ * Tests read-only {@code OPTIMISTIC SERIALIZABLE} transactions committed without locking.
+ */
+@WithSystemProperty(key = IGNITE_TX_LOCK_FREE_READ_ONLY, value = "true")
+public class TxLockFreeReadOnlyTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 50;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(TRANSACTIONAL)
+                .setWriteSynchronizationMode(FULL_SYNC)
+                .setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        startClientGrid(2);
+
+        for (int i = 0; i < KEYS; i++)
+            grid(0).cache(DEFAULT_CACHE_NAME).put(i, i);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testCommitWithoutPrepare() throws Exception {
+        IgniteEx client = grid(2);
+
+        TestRecordingCommunicationSpi.spi(client).record(GridNearTxPrepareRequest.class);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            Map<Integer, Integer> vals = cache.getAll(keys());
+
+            assertEquals(KEYS, vals.size());
+
+            tx.commit();
+        }
+
+        assertTrue(TestRecordingCommunicationSpi.spi(client).recordedMessages(true).isEmpty());
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testChangedEntry() throws Exception {
+        IgniteEx client = grid(2);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        GridTestUtils.assertThrows(log, () -> {
+            try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+                cache.getAll(keys());
+
+                grid(0).cache(DEFAULT_CACHE_NAME).put(KEYS / 2, -1);
+
+                tx.commit();
+            }
+
+            return null;
+        }, TransactionOptimisticException.class, null);
+
+        grid(0).cache(DEFAULT_CACHE_NAME).put(KEYS / 2, KEYS / 2);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testLockedEntry() throws Exception {
+        IgniteEx client = grid(2);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch unlock = new CountDownLatch(1);
+
+        IgniteInternalFuture<?> writer = GridTestUtils.runAsync(() -> {
+            try (Transaction tx = grid(0).transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                grid(0).cache(DEFAULT_CACHE_NAME).get(0);
+
+                locked.countDown();
+
+                unlock.await();
+
+                tx.commit();
+            }
+
+            return null;
+        });
+
+        try {
+            locked.await();
+
+            // The locked entry may be already updated by the writer on another node, so the reads are not consistent.
+            GridTestUtils.assertThrows(log, () -> {
+                try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+                    assertEquals(KEYS, cache.getAll(keys()).size());
+
+                    tx.commit();
+                }
+
+                return null;
+            }, TransactionOptimisticException.class, null);
+        }
+        finally {
+            unlock.countDown();
+        }
+
+        writer.get(getTestTimeout());
+
+        try (Transaction tx = client.transactions().txStart(OPTIMISTIC, SERIALIZABLE)) {
+            assertEquals(KEYS, cache.getAll(keys()).size());
+
+            tx.commit();
+        }
+    }
+
+    /**
+     * @return Keys.
+     */
+    private static Set<Integer> keys() {
+        Set<Integer> keys = new TreeSet<>();
+
+        for (int i = 0; i < KEYS; i++)
+            keys.add(i);
+
+        return keys;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearLockRequest;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_ORDERED_LOCKS;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Tests pessimistic transactions locking their keys in the global order.
+ */
+@WithSystemProperty(key = IGNITE_TX_ORDERED_LOCKS, value = "true")
+@WithSystemProperty(key = IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS, value = "0")
+public class TxOrderedLocksTest extends GridCommonAbstractTest {
+    /** Servers count. */
+    private static final int SRVS = 3;
+
+    /** Keys count. */
+    private static final int KEYS = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(TRANSACTIONAL)
+                .setWriteSynchronizationMode(FULL_SYNC)
+                .setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testRequestPerPrimary() throws Exception {
+        IgniteEx client = grid(SRVS);
+
+        TestRecordingCommunicationSpi.spi(client).record(GridNearLockRequest.class);
+
+        Map<Integer, Integer> vals = new LinkedHashMap<>();
+        Set<ClusterNode> primaries = new HashSet<>();
+
+        for (int i = 0; i < KEYS; i++) {
+            vals.put(i, i);
+
+            primaries.add(client.affinity(DEFAULT_CACHE_NAME).mapKeyToNode(i));
+        }
+
+        try (Transaction tx = client.transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+            client.cache(DEFAULT_CACHE_NAME).putAll(vals);
+
+            tx.commit();
+        }
+
+        assertEquals(primaries.size(), TestRecordingCommunicationSpi.spi(client).recordedMessages(true).size());
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testNoDeadlocks() throws Exception {
+        AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            IgniteEx ignite = grid(idx.getAndIncrement() % (SRVS + 1));
+
+            IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < 20; i++) {
+                List<Integer> keys = new ArrayList<>();
+
+                for (int k = 0; k < KEYS; k++)
+                    keys.add(k);
+
+                // Unordered keys lock in different orders in different threads without the global order.
+                Collections.shuffle(keys, ThreadLocalRandom.current());
+
+                Map<Integer, Integer> vals = new LinkedHashMap<>();
+
+                for (Integer k : keys.subList(0, KEYS / 2))
+                    vals.put(k, i);
+
+                try (Transaction tx = ignite.transactions().txStart(PESSIMISTIC, REPEATABLE_READ, 30_000, 0)) {
+                    cache.putAll(vals);
+
+                    tx.commit();
+                }
+            }
+        }, 8, "tx");
+    }
+}
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Random;
 import java.util.Set;
@@ -2494,6 +2495,59 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         assertNoLocks();
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testFindAll() throws IgniteCheckedException {
+        MAX_PER_PAGE = 5;
+
+        for (boolean canGetRow : new boolean[] {false, true}) {
+            TestTree tree = createTestTree(canGetRow);
+
+            assertTrue(tree.findAll(Arrays.asList(1L, 2L), null).stream().allMatch(Objects::isNull));
+
+            long cnt = 1_000;
+
+            for (long x = 0; x < cnt; x += 2)
+                tree.put(x);
+
+            List<Long> rows = new ArrayList<>();
+
+            for (long x = -1; x <= cnt; x++)
+                rows.add(x);
+
+            checkFindAll(tree, rows);
+
+            // Unsorted rows with duplicates.
+            Collections.shuffle(rows, new Random(0));
+
+            rows.addAll(rows.subList(0, 100));
+
+            checkFindAll(tree, rows);
+
+            assertTrue(tree.findAll(Collections.emptyList(), null).isEmpty());
+
+            tree.destroy();
+        }
+
+        assertNoLocks();
+    }
+
+    /**
+     * @param tree Tree.
+     * @param rows Lookup rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void checkFindAll(TestTree tree, List<Long> rows) throws IgniteCheckedException {
+        List<Long> res = tree.findAll(rows, null);
+
+        assertEquals(rows.size(), res.size());
+
+        for (int i = 0; i < rows.size(); i++)
+            assertEquals(String.valueOf(rows.get(i)), tree.findOne(rows.get(i)), res.get(i));
+    }
+
     /**
      * @throws Exception If failed.
      */
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PrimitiveIterator;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.internal.cache.query.index.bitmap.BitmapIndexTree;
+import org.apache.ignite.internal.cache.query.index.bitmap.RoaringBitmap;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
+import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseListImpl;
+import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BitmapIndexTree} and {@link RoaringBitmap}.
+ */
+public class BitmapIndexTreeSelfTest extends GridCommonAbstractTest {
+    /** */
+    private static final int PAGE_SIZE = 512;
+
+    /** */
+    private static final long MB = 1024 * 1024;
+
+    /** */
+    private static final int CACHE_ID = 100500;
+
+    /** */
+    private static final int PARTS = 4;
+
+    /** */
+    private static final int HASHES = 4;
+
+    /** */
+    private static final int CNT = 20_000;
+
+    /** */
+    private PageMemory pageMem;
+
+    /** */
+    private ReuseList reuseList;
+
+    /** */
+    private PageLockTrackerManager lockTrackerMgr;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        DataRegionConfiguration plcCfg = new DataRegionConfiguration()
+            .setInitialSize(256 * MB)
+            .setMaxSize(256 * MB);
+
+        pageMem = new PageMemoryNoStoreImpl(log,
+            new UnsafeMemoryProvider(log),
+            null,
+            PAGE_SIZE,
+            plcCfg,
+            new DataRegionMetricsImpl(plcCfg, new GridTestKernalContext(log())),
+            true);
+
+        pageMem.start();
+
+        lockTrackerMgr = new PageLockTrackerManager("testIgniteInstance", "testBitmapManager", log);
+
+        lockTrackerMgr.start();
+
+        reuseList = new ReuseListImpl(CACHE_ID, "test", pageMem, null, 0, true, lockTrackerMgr,
+            new GridTestKernalContext(log), null, PageIdAllocator.FLAG_IDX);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        try {
+            if (pageMem != null)
+                assertEquals(0, ((PageMemoryNoStoreImpl)pageMem).acquiredPages());
+        }
+        finally {
+            if (pageMem != null)
+                pageMem.stop(true);
+
+            if (lockTrackerMgr != null)
+                lockTrackerMgr.stop();
+        }
+    }
+
+    /**
+     * @return New tree.
+     * @throws IgniteCheckedException If failed.
+     */
+    private BitmapIndexTree createTree() throws IgniteCheckedException {
+        long metaPageId = pageMem.allocatePage(CACHE_ID, PageIdAllocator.INDEX_PARTITION, PageIdAllocator.FLAG_IDX);
+
+        return new BitmapIndexTree("test", CACHE_ID, null, pageMem, null, new AtomicLong(), metaPageId, reuseList,
+            null, lockTrackerMgr, true, IoStatisticsHolderNoOp.INSTANCE);
+    }
+
+    /**
+     * @return Random row ID of a data row.
+     */
+    private static long randomRowId() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        long pageId = PageIdUtils.pageId(rnd.nextInt(PARTS), PageIdAllocator.FLAG_DATA, rnd.nextInt(1, 1024));
+
+        return BitmapIndexTree.rowId(PageIdUtils.link(pageId, rnd.nextInt(1, 32)));
+    }
+
+    /** */
+    @Test
+    public void testRowIdLink() {
+        for (int i = 0; i < 1000; i++) {
+            long rowId = randomRowId();
+            long link = BitmapIndexTree.link(rowId);
+
+            assertEquals(rowId, BitmapIndexTree.rowId(link));
+
+            int part = PageIdUtils.partId(PageIdUtils.pageId(link));
+
+            assertTrue(rowId >= BitmapIndexTree.partitionLowerBound(part));
+            assertTrue(rowId <= BitmapIndexTree.partitionUpperBound(part));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAddFindRemove() throws Exception {
+        BitmapIndexTree tree = createTree();
+
+        Map<Integer, NavigableSet<Long>> expected = new HashMap<>();
+
+        for (int i = 0; i < CNT; i++) {
+            int hash = ThreadLocalRandom.current().nextInt(HASHES);
+            long rowId = randomRowId();
+
+            assertEquals(expected.computeIfAbsent(hash, h -> new TreeSet<>()).add(rowId), tree.add(hash, rowId));
+        }
+
+        checkTree(tree, expected);
+
+        for (NavigableSet<Long> rowIds : expected.values()) {
+            for (Long rowId : new ArrayList<>(rowIds)) {
+                if (ThreadLocalRandom.current().nextBoolean())
+                    rowIds.remove(rowId);
+            }
+        }
+
+        for (int hash = 0; hash < HASHES; hash++) {
+            NavigableSet<Long> rowIds = expected.computeIfAbsent(hash, h -> new TreeSet<>());
+
+            for (long rowId : toList(tree.bitmap(hash, 0L, Long.MAX_VALUE))) {
+                if (!rowIds.contains(rowId)) {
+                    assertTrue(tree.remove(hash, rowId));
+                    assertFalse(tree.remove(hash, rowId));
+                }
+            }
+        }
+
+        checkTree(tree, expected);
+
+        for (int hash = 0; hash < HASHES; hash++) {
+            for (long rowId : expected.get(hash))
+                assertTrue(tree.remove(hash, rowId));
+        }
+
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.cardinality());
+
+        tree.destroyWithContainers();
+    }
+
+    /**
+     * Checks container conversions between array and bitmap representations.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDenseChunk() throws Exception {
+        BitmapIndexTree tree = createTree();
+
+        int chunkSize = 1 << tree.chunkBits();
+
+        NavigableSet<Long> expected = new TreeSet<>();
+
+        for (long rowId = 0; rowId < chunkSize; rowId += 2) {
+            assertTrue(tree.add(0, rowId));
+
+            expected.add(rowId);
+        }
+
+        checkBitmap(expected, tree.bitmap(0, 0L, Long.MAX_VALUE));
+
+        for (long rowId = 0; rowId < chunkSize; rowId += 2) {
+            if (rowId % 8 != 0) {
+                assertTrue(tree.remove(0, rowId));
+
+                expected.remove(rowId);
+            }
+        }
+
+        checkBitmap(expected, tree.bitmap(0, 0L, Long.MAX_VALUE));
+        checkBitmap(expected.subSet(10L, true, 100L, true), tree.bitmap(0, 10L, 100L));
+
+        assertTrue(tree.destroyWithContainers() > 0);
+    }
+
+    /** */
+    @Test
+    public void testRoaringBitmapOrAnd() {
+        for (int chunkBits : new int[] {6, 11, 16}) {
+            NavigableSet<Long> set1 = new TreeSet<>();
+            NavigableSet<Long> set2 = new TreeSet<>();
+
+            RoaringBitmap bitmap1 = new RoaringBitmap(chunkBits);
+            RoaringBitmap bitmap2 = new RoaringBitmap(chunkBits);
+
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < CNT; i++) {
+                // Dense and sparse regions.
+                long rowId = rnd.nextBoolean() ? rnd.nextLong(4 << chunkBits) : rnd.nextLong(1L << 40);
+
+                if (rnd.nextBoolean()) {
+                    set1.add(rowId);
+                    bitmap1.add(rowId);
+                }
+                else {
+                    set2.add(rowId);
+                    bitmap2.add(rowId);
+                }
+            }
+
+            checkBitmap(set1, bitmap1);
+            checkBitmap(set2, bitmap2);
+
+            NavigableSet<Long> union = new TreeSet<>(set1);
+            union.addAll(set2);
+
+            NavigableSet<Long> intersection = new TreeSet<>(set1);
+            intersection.retainAll(set2);
+
+            checkBitmap(union, bitmap1.or(bitmap2));
+            checkBitmap(intersection, bitmap1.and(bitmap2));
+            checkBitmap(set1, bitmap1.and(bitmap1.or(bitmap2)));
+
+            for (long rowId : set1)
+                assertTrue(bitmap1.contains(rowId));
+        }
+    }
+
+    /** */
+    private void checkTree(BitmapIndexTree tree, Map<Integer, NavigableSet<Long>> expected)
+        throws IgniteCheckedException {
+        long total = 0;
+
+        for (int hash = 0; hash < HASHES; hash++) {
+            NavigableSet<Long> rowIds = expected.getOrDefault(hash, new TreeSet<>());
+
+            total += rowIds.size();
+
+            checkBitmap(rowIds, tree.bitmap(hash, 0L, Long.MAX_VALUE));
+
+            for (int part = 0; part < PARTS; part++) {
+                long lower = BitmapIndexTree.partitionLowerBound(part);
+                long upper = BitmapIndexTree.partitionUpperBound(part);
+
+                checkBitmap(rowIds.subSet(lower, true, upper, true), tree.bitmap(hash, lower, upper));
+            }
+        }
+
+        assertEquals(total, tree.cardinality());
+    }
+
+    /** */
+    private static void checkBitmap(NavigableSet<Long> expected, RoaringBitmap bitmap) {
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertEquals(expected.isEmpty(), bitmap.isEmpty());
+
+        assertEquals(new ArrayList<>(expected), toList(bitmap));
+    }
+
+    /** */
+    private static List<Long> toList(RoaringBitmap bitmap) {
+        List<Long> res = new ArrayList<>();
+
+        for (PrimitiveIterator.OfLong it = bitmap.iterator(); it.hasNext(); )
+            res.add(it.nextLong());
+
+        return res;
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.database;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.internal.cache.query.index.hash.ExtendibleHashTable;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
+import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseListImpl;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ExtendibleHashTable}.
+ */
+public class ExtendibleHashTableSelfTest extends GridCommonAbstractTest {
+    /** */
+    private static final int PAGE_SIZE = 512;
+
+    /** */
+    private static final long MB = 1024 * 1024;
+
+    /** */
+    private static final int CACHE_ID = 100500;
+
+    /** */
+    private static final int CNT = 20_000;
+
+    /** */
+    private PageMemory pageMem;
+
+    /** */
+    private ReuseList reuseList;
+
+    /** */
+    private PageLockTrackerManager lockTrackerMgr;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        DataRegionConfiguration plcCfg = new DataRegionConfiguration()
+            .setInitialSize(256 * MB)
+            .setMaxSize(256 * MB);
+
+        pageMem = new PageMemoryNoStoreImpl(log,
+            new UnsafeMemoryProvider(log),
+            null,
+            PAGE_SIZE,
+            plcCfg,
+            new DataRegionMetricsImpl(plcCfg, new GridTestKernalContext(log())),
+            true);
+
+        pageMem.start();
+
+        lockTrackerMgr = new PageLockTrackerManager("testIgniteInstance", "testHashManager", log);
+
+        lockTrackerMgr.start();
+
+        reuseList = new ReuseListImpl(CACHE_ID, "test", pageMem, null, 0, true, lockTrackerMgr,
+            new GridTestKernalContext(log), null, PageIdAllocator.FLAG_IDX);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        try {
+            if (pageMem != null)
+                assertEquals(0, ((PageMemoryNoStoreImpl)pageMem).acquiredPages());
+        }
+        finally {
+            if (pageMem != null)
+                pageMem.stop(true);
+
+            if (lockTrackerMgr != null)
+                lockTrackerMgr.stop();
+        }
+    }
+
+    /**
+     * @param metaPageId Meta page ID.
+     * @param initNew Init new flag.
+     * @return Hash table.
+     * @throws IgniteCheckedException If failed.
+     */
+    private ExtendibleHashTable createTable(long metaPageId, boolean initNew) throws IgniteCheckedException {
+        return new ExtendibleHashTable("test", CACHE_ID, null, pageMem, null, lockTrackerMgr, reuseList, metaPageId,
+            initNew, IoStatisticsHolderNoOp.INSTANCE);
+    }
+
+    /**
+     * @return New hash table.
+     * @throws IgniteCheckedException If failed.
+     */
+    private ExtendibleHashTable createTable() throws IgniteCheckedException {
+        return createTable(pageMem.allocatePage(CACHE_ID, PageIdAllocator.INDEX_PARTITION, PageIdAllocator.FLAG_IDX), true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutFindRemove() throws Exception {
+        ExtendibleHashTable tbl = createTable();
+
+        Map<Long, Integer> items = new HashMap<>();
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (long link = 1; link <= CNT; link++) {
+            int hash = rnd.nextInt();
+
+            assertTrue(tbl.put(hash, link, false));
+
+            items.put(link, hash);
+        }
+
+        assertEquals(CNT, tbl.size());
+        assertTrue("Directory must grow: " + tbl.globalDepth(), tbl.globalDepth() > 5);
+
+        checkContains(tbl, items);
+
+        for (long link = 1; link <= CNT; link += 2) {
+            assertTrue(tbl.remove(items.remove(link), link));
+            assertFalse(tbl.remove(rnd.nextInt(), link));
+        }
+
+        assertEquals(items.size(), tbl.size());
+
+        checkContains(tbl, items);
+
+        for (Map.Entry<Long, Integer> e : items.entrySet())
+            assertTrue(tbl.remove(e.getValue(), e.getKey()));
+
+        assertEquals(0, tbl.size());
+
+        assertTrue(tbl.destroy() > 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameHash() throws Exception {
+        ExtendibleHashTable tbl = createTable();
+
+        int hash = 42;
+
+        // Hashes differ in the bits above the maximum directory depth only, so they can't be split into buckets.
+        int hash2 = hash + (1 << ExtendibleHashTable.MAX_GLOBAL_DEPTH);
+
+        for (long link = 1; link <= CNT / 10; link++) {
+            assertTrue(tbl.put(hash, link, false));
+            assertTrue(tbl.put(hash2, -link, false));
+        }
+
+        assertEquals(CNT / 5, tbl.size());
+
+        GridLongList found = tbl.find(hash);
+
+        assertEquals(CNT / 10, found.size());
+
+        for (long link = 1; link <= CNT / 10; link++)
+            assertTrue(found.contains(link));
+
+        assertEquals(CNT / 10, tbl.find(hash2).size());
+
+        for (long link = 1; link <= CNT / 10; link++) {
+            assertTrue(tbl.remove(hash, link));
+            assertTrue(tbl.remove(hash2, -link));
+        }
+
+        assertEquals(0, tbl.find(hash).size());
+        assertEquals(0, tbl.find(hash2).size());
+        assertEquals(0, tbl.size());
+
+        tbl.destroy();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCheckExisting() throws Exception {
+        ExtendibleHashTable tbl = createTable();
+
+        for (long link = 1; link <= CNT; link++)
+            assertTrue(tbl.put((int)link, link, true));
+
+        for (long link = 1; link <= CNT; link++)
+            assertFalse(tbl.put((int)link, link, true));
+
+        assertEquals(CNT, tbl.size());
+
+        tbl.destroy();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRestore() throws Exception {
+        ExtendibleHashTable tbl = createTable();
+
+        Map<Long, Integer> items = new HashMap<>();
+
+        for (long link = 1; link <= CNT; link++) {
+            int hash = (int)(link * 0x9E3779B9L);
+
+            tbl.put(hash, link, false);
+
+            items.put(link, hash);
+        }
+
+        ExtendibleHashTable restored = createTable(tbl.metaPageId(), false);
+
+        assertFalse(restored.created());
+        assertEquals(tbl.globalDepth(), restored.globalDepth());
+        assertEquals(CNT, restored.size());
+
+        checkContains(restored, items);
+
+        restored.destroy();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentPutRemove() throws Exception {
+        ExtendibleHashTable tbl = createTable();
+
+        AtomicInteger cnt = new AtomicInteger();
+
+        int threads = 8;
+
+        GridTestUtils.runMultiThreaded(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            Set<Long> links = new HashSet<>();
+
+            for (int i = 0; i < CNT / threads; i++) {
+                long link = cnt.incrementAndGet();
+
+                assertTrue(tbl.put(hash(link), link, true));
+
+                links.add(link);
+
+                if (rnd.nextInt(4) == 0) {
+                    long rmv = links.iterator().next();
+
+                    assertTrue(tbl.remove(hash(rmv), rmv));
+
+                    links.remove(rmv);
+                }
+            }
+
+            for (long link : links)
+                assertTrue(tbl.find(hash(link)).contains(link));
+
+            return null;
+        }, threads, "hash-idx");
+
+        tbl.destroy();
+    }
+
+    /**
+     * @param link Link.
+     * @return Hash for the link with a lot of collisions.
+     */
+    private static int hash(long link) {
+        return (int)(link % 5000);
+    }
+
+    /**
+     * @param tbl Hash table.
+     * @param items Expected items.
+     * @throws IgniteCheckedException If failed.
+     */
+    private static void checkContains(ExtendibleHashTable tbl, Map<Long, Integer> items) throws IgniteCheckedException {
+        for (Map.Entry<Long, Integer> e : items.entrySet())
+            assertTrue("Not found: " + e, tbl.find(e.getValue()).contains(e.getKey()));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.database;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.cache.query.index.vector.HnswGraph;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link HnswGraph}.
+ */
+public class HnswGraphSelfTest extends GridCommonAbstractTest {
+    /** */
+    private static final int DIM = 32;
+
+    /** */
+    private static final int CNT = 5_000;
+
+    /** */
+    private static final int K = 10;
+
+    /** */
+    private final Random rnd = new Random(42);
+
+    /** */
+    @Test
+    public void testRecall() {
+        HnswGraph<Integer> graph = new HnswGraph<>(16, 128);
+
+        float[][] vecs = new float[CNT][];
+
+        for (int i = 0; i < CNT; i++) {
+            vecs[i] = HnswGraph.normalize(randomVector());
+
+            graph.put(i, vecs[i]);
+        }
+
+        assertEquals(CNT, graph.size());
+
+        assertTrue(recall(graph, vecs, null) > 0.9);
+    }
+
+    /** */
+    @Test
+    public void testReplaceAndRemove() {
+        HnswGraph<Integer> graph = new HnswGraph<>(4, 16);
+
+        float[] x = {1, 0, 0};
+        float[] y = {0, 1, 0};
+
+        graph.put(1, x);
+        graph.put(2, HnswGraph.normalize(new float[] {1, 1, 0}));
+
+        List<HnswGraph.Match<Integer>> res = graph.search(x, 1, 10);
+
+        assertEquals(1, res.size());
+        assertEquals(1, (int)res.get(0).key());
+        assertEquals(1f, res.get(0).score(), 1e-6f);
+
+        graph.put(1, y);
+
+        assertEquals(2, graph.size());
+
+        res = graph.search(x, 2, 10);
+
+        assertEquals(2, (int)res.get(0).key());
+        assertEquals(1, (int)res.get(1).key());
+        assertEquals(0f, res.get(1).score(), 1e-6f);
+
+        assertTrue(graph.remove(2));
+        assertFalse(graph.remove(2));
+
+        res = graph.search(x, 2, 10);
+
+        assertEquals(1, res.size());
+        assertEquals(1, (int)res.get(0).key());
+
+        assertTrue(graph.remove(1));
+
+        assertTrue(graph.search(x, 2, 10).isEmpty());
+        assertEquals(0, graph.size());
+    }
+
+    /** */
+    @Test
+    public void testRemoveMost() {
+        HnswGraph<Integer> graph = new HnswGraph<>(16, 128);
+
+        float[][] vecs = new float[CNT][];
+
+        for (int i = 0; i < CNT; i++) {
+            vecs[i] = HnswGraph.normalize(randomVector());
+
+            graph.put(i, vecs[i]);
+        }
+
+        Set<Integer> live = new HashSet<>();
+
+        for (int i = 0; i < CNT; i++) {
+            if (i % 5 == 0)
+                live.add(i);
+            else
+                assertTrue(graph.remove(i));
+        }
+
+        assertEquals(live.size(), graph.size());
+
+        for (int i = 0; i < 20; i++) {
+            for (HnswGraph.Match<Integer> m : graph.search(HnswGraph.normalize(randomVector()), K, 64))
+                assertTrue(live.contains(m.key()));
+        }
+
+        assertTrue(recall(graph, vecs, live) > 0.9);
+    }
+
+    /** */
+    @Test
+    public void testNormalize() {
+        float[] vec = HnswGraph.normalize(new float[] {3, 4});
+
+        assertEquals(0.6f, vec[0], 1e-6f);
+        assertEquals(0.8f, vec[1], 1e-6f);
+
+        assertTrue(Arrays.equals(new float[2], HnswGraph.normalize(new float[2])));
+    }
+
+    /**
+     * @param graph Graph.
+     * @param vecs Indexed vectors.
+     * @param live Keys of live vectors, {@code null} if all vectors are live.
+     * @return Average share of exact top-{@link #K} found by the graph.
+     */
+    private double recall(HnswGraph<Integer> graph, float[][] vecs, Set<Integer> live) {
+        int qryCnt = 50;
+        int found = 0;
+
+        for (int q = 0; q < qryCnt; q++) {
+            float[] qry = HnswGraph.normalize(randomVector());
+
+            Set<Integer> exact = IntStream.range(0, vecs.length)
+                .filter(i -> live == null || live.contains(i))
+                .boxed()
+                .sorted((i1, i2) -> Float.compare(dot(qry, vecs[i2]), dot(qry, vecs[i1])))
+                .limit(K)
+                .collect(Collectors.toSet());
+
+            List<HnswGraph.Match<Integer>> res = graph.search(qry, K, 64);
+
+            assertEquals(K, res.size());
+
+            for (int i = 1; i < res.size(); i++)
+                assertTrue(res.get(i - 1).score() >= res.get(i).score());
+
+            for (HnswGraph.Match<Integer> m : res) {
+                if (exact.contains(m.key()))
+                    found++;
+            }
+        }
+
+        double recall = (double)found / (qryCnt * K);
+
+        log.info("Recall: " + recall);
+
+        return recall;
+    }
+
+    /** */
+    private float[] randomVector() {
+        float[] vec = new float[DIM];
+
+        for (int i = 0; i < DIM; i++)
+            vec[i] = (float)rnd.nextGaussian();
+
+        return vec;
+    }
+
+    /** */
+    private static float dot(float[] a, float[] b) {
+        float res = 0;
+
+        for (int i = 0; i < a.length; i++)
+            res += a[i] * b[i];
+
+        return res;
+    }
+}
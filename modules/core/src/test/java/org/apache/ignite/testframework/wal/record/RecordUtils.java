@@ -43,6 +43,8 @@ import org.apache.ignite.internal.pagemem.wal.record.SnapshotRecord;
 import org.apache.ignite.internal.pagemem.wal.record.SwitchSegmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BitmapIndexContainerAddRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BitmapIndexContainerRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.ClusterSnapshotRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertFragmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertRecord;
@@ -52,6 +54,8 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageUpdateRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixLeftmostChildRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixRemoveId;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketInsertRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InsertRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageAddRootRecord;
@@ -92,6 +96,8 @@ import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.transactions.TransactionState;
 
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BITMAP_INDEX_CONTAINER_ADD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BITMAP_INDEX_CONTAINER_REMOVE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_EXISTING_PAGE_SPLIT;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_FIX_COUNT;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_FIX_LEFTMOST_CHILD;
@@ -131,6 +137,8 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_RECORD_V2;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.EXCHANGE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.HEADER_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.HASH_INDEX_BUCKET_INSERT;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.HASH_INDEX_BUCKET_REMOVE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.INCREMENTAL_SNAPSHOT_FINISH_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.INCREMENTAL_SNAPSHOT_START_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.INDEX_META_PAGE_DELTA_RECORD;
@@ -276,6 +284,10 @@ public class RecordUtils {
             buildUnsupportedWalRecord(MVCC_DATA_PAGE_NEW_TX_STATE_HINT_UPDATED_RECORD));
 
         put(RESERVED_IDX2, buildUnsupportedWalRecord(RESERVED_IDX2));
+        put(HASH_INDEX_BUCKET_INSERT, RecordUtils::buildHashIndexBucketInsertRecord);
+        put(HASH_INDEX_BUCKET_REMOVE, RecordUtils::buildHashIndexBucketRemoveRecord);
+        put(BITMAP_INDEX_CONTAINER_ADD, RecordUtils::buildBitmapIndexContainerAddRecord);
+        put(BITMAP_INDEX_CONTAINER_REMOVE, RecordUtils::buildBitmapIndexContainerRemoveRecord);
     }
 
     /** */
@@ -439,6 +451,26 @@ public class RecordUtils {
         return new PagesListAddPageRecord(1, 1, 1);
     }
 
+    /** **/
+    public static HashIndexBucketInsertRecord buildHashIndexBucketInsertRecord() {
+        return new HashIndexBucketInsertRecord(1, 1, 1, 1);
+    }
+
+    /** **/
+    public static HashIndexBucketRemoveRecord buildHashIndexBucketRemoveRecord() {
+        return new HashIndexBucketRemoveRecord(1, 1, 1);
+    }
+
+    /** **/
+    public static BitmapIndexContainerAddRecord buildBitmapIndexContainerAddRecord() {
+        return new BitmapIndexContainerAddRecord(1, 1, 1);
+    }
+
+    /** **/
+    public static BitmapIndexContainerRemoveRecord buildBitmapIndexContainerRemoveRecord() {
+        return new BitmapIndexContainerRemoveRecord(1, 1, 1);
+    }
+
     /** **/
     public static PagesListRemovePageRecord buildPagesListRemovePageRecord() {
         return new PagesListRemovePageRecord(1, 1, 1);
@@ -49,6 +49,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheAffinityMapperSelfTe
 import org.apache.ignite.internal.processors.cache.GridCacheAffinityRoutingSelfTest;
 import org.apache.ignite.internal.processors.cache.GridCacheAsyncOperationsLimitSelfTest;
 import org.apache.ignite.internal.processors.cache.GridCacheClearAllSelfTest;
+import org.apache.ignite.internal.processors.cache.GridCacheCompactEntriesTest;
 import org.apache.ignite.internal.processors.cache.GridCacheConcurrentMapSelfTest;
 import org.apache.ignite.internal.processors.cache.GridCacheConfigurationConsistencySelfTest;
 import org.apache.ignite.internal.processors.cache.GridCacheConfigurationValidationSelfTest;
@@ -159,6 +160,7 @@ public class IgniteCacheTestSuite {
 
         // Common tests.
         GridTestUtils.addTestIfNeeded(suite, GridCacheConcurrentMapSelfTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, GridCacheCompactEntriesTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, GridCacheAffinityMapperSelfTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, CacheAffinityCallSelfTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, GridCacheAffinityRoutingSelfTest.class, ignoredTests);
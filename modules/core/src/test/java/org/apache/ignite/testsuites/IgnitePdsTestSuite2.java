@@ -21,7 +21,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.apache.ignite.cdc.CdcCacheConfigOnRestartTest;
+import org.apache.ignite.cdc.CdcEventFilterTest;
 import org.apache.ignite.cdc.CdcNonDefaultWorkDirTest;
+import org.apache.ignite.cdc.CdcParallelConsumptionTest;
 import org.apache.ignite.cdc.CdcPushMetricsExporterTest;
 import org.apache.ignite.cdc.CdcSelfTest;
 import org.apache.ignite.cdc.RestartWithWalForceArchiveTimeoutTest;
@@ -74,7 +76,9 @@ public class IgnitePdsTestSuite2 {
      */
     public static void addRealPageStoreTests(List<Class<?>> suite, Collection<Class> ignoredTests) {
         GridTestUtils.addTestIfNeeded(suite, CdcCacheConfigOnRestartTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, CdcEventFilterTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, CdcNonDefaultWorkDirTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, CdcParallelConsumptionTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, CdcPushMetricsExporterTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, CdcSelfTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, CheckpointListenerForRegionTest.class, ignoredTests);
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.BufferedFileIOTest;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.IgniteCacheColumnarDumpTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.IgniteCacheDumpDataStructuresTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.IgniteCacheDumpFilterTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.IgniteCacheDumpSelf2Test;
@@ -50,5 +51,6 @@ public class IgniteSnapshotTestSuite4 {
         GridTestUtils.addTestIfNeeded(suite, IgniteConcurrentCacheDumpTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, IgniteCacheDumpFilterTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, BufferedFileIOTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, IgniteCacheColumnarDumpTest.class, ignoredTests);
     }
 }
@@ -26,6 +26,7 @@ import org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetect
 import org.apache.ignite.internal.processors.cache.transactions.TxDeadlockOnEntryToStringTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxOptimisticDeadlockDetectionCrossCacheTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxOptimisticDeadlockDetectionTest;
+import org.apache.ignite.internal.processors.cache.transactions.TxOrderedLocksTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxPessimisticDeadlockDetectionCrossCacheTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxPessimisticDeadlockDetectionTest;
 import org.junit.runner.RunWith;
@@ -46,7 +47,8 @@ import org.junit.runners.Suite;
     TxDeadlockDetectionNoHangsTest.class,
     TxDeadlockDetectionUnmasrhalErrorsTest.class,
     TxDeadlockDetectionMessageMarshallingTest.class,
-    TxDeadlockOnEntryToStringTest.class
+    TxDeadlockOnEntryToStringTest.class,
+    TxOrderedLocksTest.class
 })
 public class TxDeadlockDetectionTestSuite {
 }
@@ -21,12 +21,15 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
@@ -180,7 +183,7 @@ public class H2SchemaManager implements SchemaChangeListener {
                 ", tblName=" + typeDesc.tableName() + ']');
         }
 
-        dropTable(tbl.tableDescriptor());
+        dropTable(tbl.tableDescriptor(), destroy);
         dataTables.remove(tbl.identifier(), tbl);
     }
 
@@ -188,8 +191,9 @@ public class H2SchemaManager implements SchemaChangeListener {
      * Drops table form h2 database and clear all related indexes (h2 text, lucene).
      *
      * @param tbl Table to unregister.
+     * @param destroy Cache destroy flag.
      */
-    private void dropTable(H2TableDescriptor tbl) {
+    private void dropTable(H2TableDescriptor tbl, boolean destroy) {
         assert tbl != null;
 
         if (log.isDebugEnabled())
@@ -217,7 +221,7 @@ public class H2SchemaManager implements SchemaChangeListener {
             }
         }
 
-        tbl.onDrop();
+        tbl.onDrop(destroy);
     }
 
     /** {@inheritDoc} */
@@ -285,7 +289,10 @@ public class H2SchemaManager implements SchemaChangeListener {
     @Override public void onIndexCreated(String schemaName, String tblName, String idxName, IndexDescriptor idxDesc) {
         GridH2Table tbl = dataTable(schemaName, tblName);
 
-        if (tbl == null)
+        // H2 engine has no scans over hash, bitmap and vector indexes, they are available via Calcite engine,
+        // IndexQuery and VectorQuery.
+        if (tbl == null || idxDesc.type() == QueryIndexType.HASH || idxDesc.type() == QueryIndexType.BITMAP
+            || idxDesc.type() == QueryIndexType.VECTOR)
             return;
 
         try {
@@ -446,6 +453,16 @@ public class H2SchemaManager implements SchemaChangeListener {
         return null;
     }
 
+    /**
+     * @param cacheName Cache name.
+     * @return Tables of the cache.
+     */
+    public Collection<GridH2Table> dataTablesForCache(String cacheName) {
+        return dataTables.values().stream()
+            .filter(tbl -> F.eq(tbl.cacheName(), cacheName))
+            .collect(Collectors.toList());
+    }
+
     /**
      * Find H2 table by it's identifier.
      *
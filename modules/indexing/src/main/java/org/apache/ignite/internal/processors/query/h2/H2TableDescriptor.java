@@ -30,7 +30,6 @@ import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
 import org.apache.ignite.internal.processors.query.h2.opt.GridLuceneIndex;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
-import org.apache.ignite.internal.util.typedef.internal.U;
 import org.h2.index.Index;
 import org.h2.result.SortOrder;
 import org.h2.table.IndexColumn;
@@ -207,21 +206,12 @@ public class H2TableDescriptor {
      * Create text (lucene) index if needed.
      */
     public void createTextIndex(GridH2Table tbl) {
-        if (type().valueClass() == String.class
-            && !idx.distributedConfiguration().isDisableCreateLuceneIndexForStringValueType()) {
-            try {
-                luceneIdx = new GridLuceneIndex(idx.kernalContext(), tbl.cacheName(), type);
-            }
-            catch (IgniteCheckedException e1) {
-                throw new IgniteException(e1);
-            }
-        }
-
-        GridQueryIndexDescriptor textIdx = type.textIndex();
+        boolean strVal = type().valueClass() == String.class
+            && !idx.distributedConfiguration().isDisableCreateLuceneIndexForStringValueType();
 
-        if (textIdx != null) {
+        if (strVal || type.textIndex() != null) {
             try {
-                luceneIdx = new GridLuceneIndex(idx.kernalContext(), tbl.cacheName(), type);
+                luceneIdx = new GridLuceneIndex(idx.kernalContext(), cacheInfo, type);
             }
             catch (IgniteCheckedException e1) {
                 throw new IgniteException(e1);
@@ -231,10 +221,17 @@ public class H2TableDescriptor {
 
     /**
      * Handle drop.
+     *
+     * @param destroy Cache destroy flag, if {@code true} the persistent data of the text index is removed.
      */
-    void onDrop() {
+    void onDrop(boolean destroy) {
         tbl.destroy();
 
-        U.closeQuiet(luceneIdx);
+        if (luceneIdx != null) {
+            if (destroy)
+                luceneIdx.destroy();
+            else
+                luceneIdx.close();
+        }
     }
 }
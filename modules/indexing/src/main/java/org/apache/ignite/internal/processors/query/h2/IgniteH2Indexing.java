@@ -92,6 +92,7 @@ import org.apache.ignite.internal.processors.query.h2.dml.DmlUtils;
 import org.apache.ignite.internal.processors.query.h2.dml.UpdateMode;
 import org.apache.ignite.internal.processors.query.h2.dml.UpdatePlan;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
+import org.apache.ignite.internal.processors.query.h2.opt.GridLuceneIndex;
 import org.apache.ignite.internal.processors.query.h2.opt.QueryContext;
 import org.apache.ignite.internal.processors.query.h2.opt.QueryContextRegistry;
 import org.apache.ignite.internal.processors.query.h2.sql.GridSqlStatement;
@@ -315,7 +316,8 @@ public class IgniteH2Indexing implements GridQueryIndexing {
             if (expireTime == 0L)
                 expireTime = Long.MAX_VALUE;
 
-            tbl.tableDescriptor().luceneIndex().store(row.key(), row.value(), row.version(), expireTime);
+            tbl.tableDescriptor().luceneIndex().store(row.key(), row.value(), row.version(), expireTime,
+                row.partition());
         }
 
         tbl.update(row, prevRow);
@@ -336,11 +338,23 @@ public class IgniteH2Indexing implements GridQueryIndexing {
             return;
 
         if (tbl.tableDescriptor().luceneIndex() != null)
-            tbl.tableDescriptor().luceneIndex().remove(row.key());
+            tbl.tableDescriptor().luceneIndex().remove(row.key(), row.partition());
 
         tbl.remove(row);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean textIndexesToRebuild(String cacheName, boolean createdOnly) {
+        for (GridH2Table tbl : schemaMgr.dataTablesForCache(cacheName)) {
+            GridLuceneIndex luceneIdx = tbl.tableDescriptor().luceneIndex();
+
+            if (luceneIdx != null && (!createdOnly || luceneIdx.created()))
+                return true;
+        }
+
+        return false;
+    }
+
     /** {@inheritDoc} */
     @Override public <K, V> GridCloseableIterator<IgniteBiTuple<K, V>> queryLocalText(String schemaName,
         String cacheName, String qry, String typeName, IndexingQueryFilter filters, int limit) throws IgniteCheckedException {
@@ -17,25 +17,35 @@
 
 package org.apache.ignite.internal.processors.query.h2.opt;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointListener;
 import org.apache.ignite.internal.processors.cache.query.ScoredCacheEntry;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.query.GridQueryIndexDescriptor;
 import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
-import org.apache.ignite.internal.util.GridAtomicLong;
 import org.apache.ignite.internal.util.GridCloseableIteratorAdapter;
 import org.apache.ignite.internal.util.lang.GridCloseableIterator;
 import org.apache.ignite.internal.util.offheap.unsafe.GridUnsafeMemory;
+import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
 import org.apache.ignite.spi.indexing.IndexingQueryFilter;
+import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
@@ -44,7 +54,6 @@ import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
@@ -53,8 +62,11 @@ import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ReaderManager;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.util.BytesRef;
 import org.h2.util.JdbcUtils;
 import org.jetbrains.annotations.Nullable;
@@ -64,8 +76,14 @@ import static org.apache.ignite.internal.processors.query.QueryUtils.VAL_FIELD_N
 
 /**
  * Lucene fulltext index.
+ * <p>
+ * Index is split into segments by partition the same way as other query indexes (see
+ * {@link org.apache.ignite.configuration.CacheConfiguration#getQueryParallelism()}), segments are searched in parallel
+ * and their top hits are merged by score. For persistent caches every segment is stored in the cache storage directory
+ * and is committed on each checkpoint, so updates which are not covered by the last commit are restored from WAL
+ * and the index does not need to be rebuilt on node restart.
  */
-public class GridLuceneIndex implements AutoCloseable {
+public class GridLuceneIndex implements CheckpointListener, AutoCloseable {
     /** Field name for string representation of value. */
     public static final String VAL_STR_FIELD_NAME = "_gg_val_str__";
 
@@ -75,49 +93,51 @@ public class GridLuceneIndex implements AutoCloseable {
     /** Field name for value expiration time. */
     public static final String EXPIRATION_TIME_FIELD_NAME = "_gg_expires__";
 
+    /** Prefix of the text index directory within the cache storage directory. */
+    public static final String TEXT_IDX_DIR_PREFIX = "text-idx-";
+
     /** */
     private final String cacheName;
 
     /** */
     private final GridQueryTypeDescriptor type;
 
-    /** */
-    private final IndexWriter writer;
-
     /** */
     private final String[] idxdFields;
 
     /** */
-    private final AtomicLong updateCntr = new GridAtomicLong();
+    private final Analyzer analyzer = new StandardAnalyzer();
 
-    /** */
-    private final GridLuceneDirectory dir;
+    /** Index segments. */
+    private final Segment[] segments;
+
+    /** Persistent storage directory, {@code null} for in-memory index. */
+    @Nullable private final File storeDir;
+
+    /** {@code False} if the index was restored from the persistent storage. */
+    private final boolean created;
 
     /** */
     private final GridKernalContext ctx;
 
+    /** */
+    private final IgniteLogger log;
+
     /**
      * Constructor.
      *
      * @param ctx Kernal context.
-     * @param cacheName Cache name.
+     * @param cacheInfo Cache context info.
      * @param type Type descriptor.
      * @throws IgniteCheckedException If failed.
      */
-    public GridLuceneIndex(GridKernalContext ctx, @Nullable String cacheName, GridQueryTypeDescriptor type)
+    public GridLuceneIndex(GridKernalContext ctx, GridCacheContextInfo<?, ?> cacheInfo, GridQueryTypeDescriptor type)
         throws IgniteCheckedException {
         this.ctx = ctx;
-        this.cacheName = cacheName;
         this.type = type;
 
-        dir = new GridLuceneDirectory(new GridUnsafeMemory(0));
-
-        try {
-            writer = new IndexWriter(dir, new IndexWriterConfig(new StandardAnalyzer()));
-        }
-        catch (IOException e) {
-            throw new IgniteCheckedException(e);
-        }
+        cacheName = cacheInfo.name();
+        log = ctx.log(GridLuceneIndex.class);
 
         GridQueryIndexDescriptor idx = type.textIndex();
 
@@ -135,6 +155,44 @@ public class GridLuceneIndex implements AutoCloseable {
         }
 
         idxdFields[idxdFields.length - 1] = VAL_STR_FIELD_NAME;
+
+        boolean persistent = cacheInfo.affinityNode()
+            && ctx.cache().context().database() instanceof GridCacheDatabaseSharedManager
+            && CU.isPersistentCache(cacheInfo.config(), ctx.config().getDataStorageConfiguration());
+
+        storeDir = persistent ? new File(ctx.pdsFolderResolver().fileTree().defaultCacheStorage(cacheInfo.config()),
+            TEXT_IDX_DIR_PREFIX + U.maskForFileName(cacheName) + '-' + U.maskForFileName(type.tableName())) : null;
+
+        segments = new Segment[Math.max(cacheInfo.config().getQueryParallelism(), 1)];
+
+        boolean restored = storeDir != null;
+
+        try {
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = new Segment(i);
+
+                restored &= segments[i].restored;
+            }
+        }
+        catch (IOException e) {
+            close();
+
+            throw new IgniteCheckedException("Failed to open text index [cache=" + cacheName +
+                ", type=" + type.name() + ", dir=" + storeDir + ']', e);
+        }
+
+        created = !restored;
+
+        if (storeDir != null)
+            ((GridCacheDatabaseSharedManager)ctx.cache().context().database()).addCheckpointListener(this);
+    }
+
+    /**
+     * @return {@code True} if the index was created on this start and is to be built from the cache data,
+     *      {@code false} if it was restored from the persistent storage.
+     */
+    public boolean created() {
+        return created;
     }
 
     /**
@@ -147,6 +205,14 @@ public class GridLuceneIndex implements AutoCloseable {
         return ctx.cache().internalCache(cacheName).context().cacheObjectContext();
     }
 
+    /**
+     * @param part Partition.
+     * @return Index segment for the partition.
+     */
+    private Segment segment(int part) {
+        return segments[segments.length == 1 ? 0 : part % segments.length];
+    }
+
     /**
      * Stores given data in this fulltext index.
      *
@@ -154,10 +220,12 @@ public class GridLuceneIndex implements AutoCloseable {
      * @param v Value.
      * @param ver Version.
      * @param expires Expiration time.
+     * @param part Partition.
      * @throws IgniteCheckedException If failed.
      */
     @SuppressWarnings("ConstantConditions")
-    public void store(CacheObject k, CacheObject v, GridCacheVersion ver, long expires) throws IgniteCheckedException {
+    public void store(CacheObject k, CacheObject v, GridCacheVersion ver, long expires, int part)
+        throws IgniteCheckedException {
         CacheObjectContext coctx = objectContext();
 
         Object key = k.isPlatformType() ? k.value(coctx, false) : k;
@@ -185,6 +253,8 @@ public class GridLuceneIndex implements AutoCloseable {
 
         BytesRef keyByteRef = new BytesRef(k.valueBytes(coctx));
 
+        IndexWriter writer = segment(part).writer;
+
         try {
             final Term term = new Term(KEY_FIELD_NAME, keyByteRef);
 
@@ -209,28 +279,23 @@ public class GridLuceneIndex implements AutoCloseable {
         catch (IOException e) {
             throw new IgniteCheckedException(e);
         }
-        finally {
-            updateCntr.incrementAndGet();
-        }
     }
 
     /**
      * Removes entry for given key from this index.
      *
      * @param key Key.
+     * @param part Partition.
      * @throws IgniteCheckedException If failed.
      */
-    public void remove(CacheObject key) throws IgniteCheckedException {
+    public void remove(CacheObject key, int part) throws IgniteCheckedException {
         try {
-            writer.deleteDocuments(new Term(KEY_FIELD_NAME,
+            segment(part).writer.deleteDocuments(new Term(KEY_FIELD_NAME,
                 new BytesRef(key.valueBytes(objectContext()))));
         }
         catch (IOException e) {
             throw new IgniteCheckedException(e);
         }
-        finally {
-            updateCntr.incrementAndGet();
-        }
     }
 
     /**
@@ -244,33 +309,21 @@ public class GridLuceneIndex implements AutoCloseable {
      */
     public <K, V> GridCloseableIterator<IgniteBiTuple<K, V>> query(String qry,
         IndexingQueryFilter filters, int limit) throws IgniteCheckedException {
-        IndexReader reader;
-
-        try {
-            long updates = updateCntr.get();
-
-            if (updates != 0) {
-                writer.commit();
-
-                updateCntr.addAndGet(-updates);
-            }
-
-            //We can cache reader\searcher and change this to 'openIfChanged'
-            reader = DirectoryReader.open(writer);
-        }
-        catch (IOException e) {
-            throw new IgniteCheckedException(e);
-        }
-
-        IndexSearcher searcher;
+        DirectoryReader[] readers = new DirectoryReader[segments.length];
+        IndexSearcher[] searchers = new IndexSearcher[segments.length];
 
         TopDocs docs;
 
         try {
-            searcher = new IndexSearcher(reader);
+            for (int i = 0; i < segments.length; i++) {
+                // Near real-time reader, sees all the updates without commit.
+                segments[i].readers.maybeRefresh();
+
+                readers[i] = segments[i].readers.acquire();
+                searchers[i] = new IndexSearcher(readers[i]);
+            }
 
-            MultiFieldQueryParser parser = new MultiFieldQueryParser(idxdFields,
-                writer.getAnalyzer());
+            MultiFieldQueryParser parser = new MultiFieldQueryParser(idxdFields, analyzer);
 
 //            parser.setAllowLeadingWildcard(true);
 
@@ -282,10 +335,10 @@ public class GridLuceneIndex implements AutoCloseable {
                 .add(filter, BooleanClause.Occur.FILTER)
                 .build();
 
-            docs = searcher.search(booleanQry, limit > 0 ? limit : Integer.MAX_VALUE);
+            docs = search(searchers, booleanQry, limit > 0 ? limit : Integer.MAX_VALUE);
         }
         catch (Exception e) {
-            U.closeQuiet(reader);
+            release(readers);
 
             throw new IgniteCheckedException(e);
         }
@@ -295,13 +348,188 @@ public class GridLuceneIndex implements AutoCloseable {
         if (filters != null)
             fltr = filters.forCache(cacheName);
 
-        return new It<>(reader, searcher, docs.scoreDocs, fltr);
+        return new It<>(readers, searchers, docs.scoreDocs, fltr);
+    }
+
+    /**
+     * Searches segments in parallel and merges their top hits by score.
+     *
+     * @param searchers Segment searchers.
+     * @param qry Query.
+     * @param limit Hits limit.
+     * @return Merged top hits, {@link ScoreDoc#shardIndex} is the segment of the hit.
+     * @throws Exception If failed.
+     */
+    private TopDocs search(IndexSearcher[] searchers, Query qry, int limit) throws Exception {
+        if (searchers.length == 1) {
+            TopDocs docs = searchers[0].search(qry, limit);
+
+            for (ScoreDoc doc : docs.scoreDocs)
+                doc.shardIndex = 0;
+
+            return docs;
+        }
+
+        ExecutorService exec = ctx.pools().getIndexingExecutorService();
+
+        List<Future<TopDocs>> futs = new ArrayList<>(searchers.length);
+
+        // The first segment is searched in the current thread.
+        for (int i = 1; i < searchers.length; i++) {
+            IndexSearcher searcher = searchers[i];
+
+            Future<TopDocs> fut = null;
+
+            if (exec != null) {
+                try {
+                    fut = exec.submit(() -> searcher.search(qry, limit));
+                }
+                catch (RejectedExecutionException ignored) {
+                    // No-op, will be searched in the current thread.
+                }
+            }
+
+            futs.add(fut);
+        }
+
+        TopDocs[] res = new TopDocs[searchers.length];
+
+        res[0] = searchers[0].search(qry, limit);
+
+        for (int i = 1; i < searchers.length; i++) {
+            Future<TopDocs> fut = futs.get(i - 1);
+
+            res[i] = fut != null ? fut.get() : searchers[i].search(qry, limit);
+        }
+
+        return TopDocs.merge(limit, res);
+    }
+
+    /**
+     * @param readers Readers to release.
+     */
+    private void release(DirectoryReader[] readers) {
+        for (int i = 0; i < readers.length; i++) {
+            if (readers[i] == null)
+                continue;
+
+            try {
+                segments[i].readers.release(readers[i]);
+            }
+            catch (IOException e) {
+                U.warn(log, "Failed to release text index reader [cache=" + cacheName + ", type=" + type.name() +
+                    ", err=" + e.getMessage() + ']');
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void beforeCheckpointBegin(Context cpCtx) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMarkCheckpointBegin(Context cpCtx) {
+        // No-op.
+    }
+
+    /**
+     * Commits all the updates made before the checkpoint write lock was released. Updates made after that are
+     * committed as well, they are idempotent and are applied once again on WAL replay.
+     */
+    @Override public void onCheckpointBegin(Context cpCtx) throws IgniteCheckedException {
+        for (Segment seg : segments) {
+            if (seg == null || !seg.writer.hasUncommittedChanges())
+                continue;
+
+            try {
+                seg.writer.commit();
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to commit text index [cache=" + cacheName +
+                    ", type=" + type.name() + ", segment=" + seg.id + ']', e);
+            }
+        }
     }
 
     /** {@inheritDoc} */
     @Override public void close() {
-        U.closeQuiet(writer);
-        U.close(dir, ctx.log(GridLuceneIndex.class));
+        if (storeDir != null)
+            ((GridCacheDatabaseSharedManager)ctx.cache().context().database()).removeCheckpointListener(this);
+
+        for (Segment seg : segments) {
+            if (seg != null)
+                seg.close();
+        }
+    }
+
+    /**
+     * Closes the index and removes its persistent storage.
+     */
+    public void destroy() {
+        close();
+
+        if (storeDir != null)
+            U.delete(storeDir);
+    }
+
+    /**
+     * Partition-local part of the index.
+     */
+    private class Segment {
+        /** */
+        private final int id;
+
+        /** */
+        private final Directory dir;
+
+        /** */
+        private final IndexWriter writer;
+
+        /** */
+        private final ReaderManager readers;
+
+        /** {@code True} if the segment was restored from the persistent storage. */
+        private final boolean restored;
+
+        /**
+         * @param id Segment ID.
+         * @throws IOException If failed.
+         */
+        private Segment(int id) throws IOException {
+            this.id = id;
+
+            dir = storeDir != null ? FSDirectory.open(new File(storeDir, String.valueOf(id)).toPath())
+                : new GridLuceneDirectory(new GridUnsafeMemory(0));
+
+            restored = storeDir != null && DirectoryReader.indexExists(dir);
+
+            writer = new IndexWriter(dir, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+
+            if (!restored && storeDir != null)
+                writer.commit();
+
+            readers = new ReaderManager(writer, true, false);
+        }
+
+        /** */
+        private void close() {
+            U.closeQuiet(readers);
+
+            if (storeDir != null && writer.isOpen()) {
+                try {
+                    writer.commit();
+                }
+                catch (IOException e) {
+                    U.warn(log, "Failed to commit text index on close [cache=" + cacheName + ", type=" + type.name() +
+                        ", segment=" + id + ", err=" + e.getMessage() + ']');
+                }
+            }
+
+            U.closeQuiet(writer);
+            U.close(dir, log);
+        }
     }
 
     /**
@@ -312,10 +540,10 @@ public class GridLuceneIndex implements AutoCloseable {
         private static final long serialVersionUID = 0L;
 
         /** */
-        private final IndexReader reader;
+        private final DirectoryReader[] readers;
 
         /** */
-        private final IndexSearcher searcher;
+        private final IndexSearcher[] searchers;
 
         /** */
         private final ScoreDoc[] docs;
@@ -335,16 +563,16 @@ public class GridLuceneIndex implements AutoCloseable {
         /**
          * Constructor.
          *
-         * @param reader Reader.
-         * @param searcher Searcher.
+         * @param readers Segment readers.
+         * @param searchers Segment searchers.
          * @param docs Docs.
          * @param filters Filters over result.
          * @throws IgniteCheckedException if failed.
          */
-        private It(IndexReader reader, IndexSearcher searcher, ScoreDoc[] docs, IndexingQueryCacheFilter filters)
-            throws IgniteCheckedException {
-            this.reader = reader;
-            this.searcher = searcher;
+        private It(DirectoryReader[] readers, IndexSearcher[] searchers, ScoreDoc[] docs,
+            IndexingQueryCacheFilter filters) throws IgniteCheckedException {
+            this.readers = readers;
+            this.searchers = searchers;
             this.docs = docs;
             this.filters = filters;
 
@@ -379,7 +607,7 @@ public class GridLuceneIndex implements AutoCloseable {
                 float score;
 
                 try {
-                    doc = searcher.doc(docs[idx].doc);
+                    doc = searchers[docs[idx].shardIndex].doc(docs[idx].doc);
                     score = docs[idx].score;
 
                     idx++;
@@ -426,7 +654,7 @@ public class GridLuceneIndex implements AutoCloseable {
 
         /** {@inheritDoc} */
         @Override protected void onClose() throws IgniteCheckedException {
-            U.closeQuiet(reader);
+            release(readers);
         }
     }
 }
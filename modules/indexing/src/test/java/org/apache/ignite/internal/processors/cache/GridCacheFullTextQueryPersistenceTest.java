@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.List;
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.TextQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.junit.Test;
+
+/**
+ * Checks that text index of a persistent cache survives node restart.
+ */
+public class GridCacheFullTextQueryPersistenceTest extends GridCacheFullTextQueryAbstractTest {
+    /** */
+    private static final int CNT = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+
+        for (CacheConfiguration<?, ?> ccfg : cfg.getCacheConfiguration())
+            ccfg.setQueryParallelism(4);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testRestartWithoutRebuild() throws Exception {
+        IgniteEx ign = startGrid(0);
+
+        ign.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Person> cache = cache();
+
+        for (int i = 0; i < CNT; i++)
+            cache.put(i, new Person(i % 2 == 0 ? "even" + i : "odd" + i));
+
+        assertTrue(ign.context().query().getIndexing().textIndexesToRebuild(PERSON_CACHE, true));
+
+        forceCheckpoint();
+
+        // Updates after the checkpoint.
+        for (int i = 0; i < CNT; i += 10)
+            cache.put(i, new Person("tenth" + i));
+
+        cache.remove(1);
+
+        stopAllGrids();
+
+        ign = startGrid(0);
+
+        ign.cluster().state(ClusterState.ACTIVE);
+
+        awaitPartitionMapExchange();
+
+        assertFalse(ign.context().query().getIndexing().textIndexesToRebuild(PERSON_CACHE, true));
+
+        assertEquals(CNT / 10, query("tenth*").size());
+        assertEquals(CNT / 2 - 1, query("odd*").size());
+
+        List<Cache.Entry<Integer, Person>> res = query("even2");
+
+        assertEquals(1, res.size());
+        assertEquals(2, (int)res.get(0).getKey());
+    }
+
+    /**
+     * @param clause Query clause.
+     * @return Query result.
+     */
+    private List<Cache.Entry<Integer, Person>> query(String clause) {
+        return cache().query(new TextQuery<Integer, Person>(Person.class, clause).setPageSize(CNT)).getAll();
+    }
+}
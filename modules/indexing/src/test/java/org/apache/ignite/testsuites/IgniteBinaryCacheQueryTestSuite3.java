@@ -47,6 +47,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheFullTextQueryFailove
 import org.apache.ignite.internal.processors.cache.GridCacheFullTextQueryLimitTest;
 import org.apache.ignite.internal.processors.cache.GridCacheFullTextQueryMultithreadedSelfTest;
 import org.apache.ignite.internal.processors.cache.GridCacheFullTextQueryPagesTest;
+import org.apache.ignite.internal.processors.cache.GridCacheFullTextQueryPersistenceTest;
 import org.apache.ignite.internal.processors.cache.GridCacheFullTextQuerySelfTest;
 import org.apache.ignite.internal.processors.cache.GridCacheQueryIndexingDisabledSelfTest;
 import org.apache.ignite.internal.processors.cache.GridCacheQuerySqlFieldInlineSizeSelfTest;
@@ -191,6 +192,7 @@ import org.junit.runners.Suite;
     GridCacheFullTextQuerySelfTest.class,
     GridCacheFullTextQueryMultithreadedSelfTest.class,
     GridCacheFullTextQueryPagesTest.class,
+    GridCacheFullTextQueryPersistenceTest.class,
     GridCacheFullTextQueryLimitTest.class,
     IgniteCacheFullTextQueryNodeJoiningSelfTest.class,
 